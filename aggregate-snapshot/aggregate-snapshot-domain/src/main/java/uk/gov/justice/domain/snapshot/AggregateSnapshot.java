@@ -1,14 +1,13 @@
 package uk.gov.justice.domain.snapshot;
 
 import static java.lang.String.format;
-import static org.apache.commons.lang3.SerializationUtils.serialize;
+import static uk.gov.justice.domain.snapshot.JavaSnapshotSerializer.JAVA_FORMAT;
+import static uk.gov.justice.domain.snapshot.SnapshotSerializers.builtInSnapshotSerializerFor;
 
 import uk.gov.justice.domain.aggregate.Aggregate;
 import uk.gov.justice.services.core.aggregate.exception.AggregateChangeDetectedException;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.UUID;
@@ -25,11 +24,15 @@ public class AggregateSnapshot<T extends Aggregate> implements Serializable {
     private final Long positionInStream;
     private final String type;
     private final byte[] aggregateByteRepresentation;
+    private final String format;
     private ZonedDateTime createdAt;
 
-    @SuppressWarnings("unchecked")
     public AggregateSnapshot(final UUID streamId, final Long versionId, final T aggregate) {
-        this(streamId, versionId, (Class<T>) aggregate.getClass(), serialize(aggregate));
+        this(streamId, versionId, aggregate, new JavaSnapshotSerializer());
+    }
+
+    public AggregateSnapshot(final UUID streamId, final Long versionId, final T aggregate, final SnapshotSerializer snapshotSerializer) {
+        this(streamId, versionId, aggregate.getClass().getName(), snapshotSerializer.serialize(aggregate), snapshotSerializer.format());
     }
 
     public AggregateSnapshot(final UUID streamId, final Long versionId, final Class<T> type, final byte[] aggregateByteRepresentation) {
@@ -37,10 +40,15 @@ public class AggregateSnapshot<T extends Aggregate> implements Serializable {
     }
 
     public AggregateSnapshot(final UUID streamId, final Long versionId, final String type, final byte[] aggregateByteRepresentation) {
+        this(streamId, versionId, type, aggregateByteRepresentation, JAVA_FORMAT);
+    }
+
+    public AggregateSnapshot(final UUID streamId, final Long versionId, final String type, final byte[] aggregateByteRepresentation, final String format) {
         this.streamId = streamId;
         this.positionInStream = versionId;
         this.type = type;
         this.aggregateByteRepresentation = aggregateByteRepresentation;
+        this.format = format;
     }
 
     /**
@@ -53,7 +61,16 @@ public class AggregateSnapshot<T extends Aggregate> implements Serializable {
      * @param createdAt this is the date coming from the DB.
      */
     public AggregateSnapshot(final UUID streamId, final Long versionId, final String type, final byte[] aggregateByteRepresentation, final ZonedDateTime createdAt) {
-        this(streamId, versionId, type, aggregateByteRepresentation);
+        this(streamId, versionId, type, aggregateByteRepresentation, JAVA_FORMAT, createdAt);
+    }
+
+    /**
+     * As above, for snapshot rows that carry the format the aggregate was serialized with
+     *
+     * @param format the tag of the {@link SnapshotSerializer} that wrote aggregateByteRepresentation
+     */
+    public AggregateSnapshot(final UUID streamId, final Long versionId, final String type, final byte[] aggregateByteRepresentation, final String format, final ZonedDateTime createdAt) {
+        this(streamId, versionId, type, aggregateByteRepresentation, format);
         this.createdAt = createdAt;
     }
 
@@ -73,14 +90,25 @@ public class AggregateSnapshot<T extends Aggregate> implements Serializable {
         return aggregateByteRepresentation;
     }
 
+    public String getFormat() {
+        return format;
+    }
+
     public ZonedDateTime getCreatedAt() {
         return createdAt;
     }
 
-    @SuppressWarnings("unchecked")
     public T getAggregate(final ObjectInputStreamStrategy streamStrategy) throws AggregateChangeDetectedException {
-        try (final ObjectInputStream objectInputStream = streamStrategy.objectInputStreamOf(new ByteArrayInputStream(aggregateByteRepresentation))) {
-            return (T) Class.forName(getType()).cast(objectInputStream.readObject());
+        final SnapshotSerializer snapshotSerializer = builtInSnapshotSerializerFor(format)
+                .orElseThrow(() -> new AggregateChangeDetectedException(format("No SnapshotSerializer found for snapshot format '%s' of Aggregate %s", format, type), positionInStream, createdAt));
+
+        return getAggregate(snapshotSerializer, streamStrategy);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getAggregate(final SnapshotSerializer snapshotSerializer, final ObjectInputStreamStrategy streamStrategy) throws AggregateChangeDetectedException {
+        try {
+            return (T) Class.forName(getType()).cast(snapshotSerializer.deserialize(aggregateByteRepresentation, streamStrategy));
         } catch (SerializationException | ClassNotFoundException | IOException e) {
             throw new AggregateChangeDetectedException(format("Failed to deserialise Aggregate into %s. Cause: %s", type, e.getLocalizedMessage()), positionInStream, createdAt);
         }
@@ -99,6 +127,7 @@ public class AggregateSnapshot<T extends Aggregate> implements Serializable {
                 .append(positionInStream, that.positionInStream)
                 .append(type, that.type)
                 .append(aggregateByteRepresentation, that.aggregateByteRepresentation)
+                .append(format, that.format)
                 .isEquals();
     }
 
@@ -109,6 +138,7 @@ public class AggregateSnapshot<T extends Aggregate> implements Serializable {
                 .append(positionInStream)
                 .append(type)
                 .append(aggregateByteRepresentation)
+                .append(format)
                 .toHashCode();
     }
 
@@ -0,0 +1,58 @@
+package uk.gov.justice.domain.snapshot;
+
+import static java.util.zip.Deflater.BEST_SPEED;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.lang3.SerializationException;
+
+/**
+ * Java serialization of the aggregate, compressed with deflate as it is written. This only makes
+ * snapshots smaller: the aggregate goes through the same java serialization as the 'java' format,
+ * plus the cost of compressing and inflating it, so it is no faster to save or load on its own.
+ * Aggregates that hold a lot of repetitive state (lists of ids, names, event payloads) typically
+ * shrink several times over, which pays off where the size of the snapshot table or the bytes
+ * read per load from a remote database matter more than CPU.
+ */
+public class CompressedJavaSnapshotSerializer implements SnapshotSerializer {
+
+    public static final String JAVA_COMPRESSED_FORMAT = "java-compressed";
+
+    @Override
+    public String format() {
+        return JAVA_COMPRESSED_FORMAT;
+    }
+
+    @Override
+    public byte[] serialize(final Aggregate aggregate) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final Deflater deflater = new Deflater(BEST_SPEED);
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(new DeflaterOutputStream(byteArrayOutputStream, deflater))) {
+            objectOutputStream.writeObject(aggregate);
+        } catch (final IOException e) {
+            throw new SerializationException(e);
+        } finally {
+            deflater.end();
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(final byte[] aggregateByteRepresentation, final ObjectInputStreamStrategy streamStrategy) throws IOException, ClassNotFoundException {
+        try (final InputStream inflaterInputStream = new InflaterInputStream(new ByteArrayInputStream(aggregateByteRepresentation));
+             final ObjectInputStream objectInputStream = streamStrategy.objectInputStreamOf(inflaterInputStream)) {
+            return objectInputStream.readObject();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.justice.domain.snapshot;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 
 public class DefaultObjectInputStreamStrategy implements ObjectInputStreamStrategy {
@@ -9,4 +10,9 @@ public class DefaultObjectInputStreamStrategy implements ObjectInputStreamStrate
     public ObjectInputStream objectInputStreamOf(final ByteArrayInputStream bis) throws IOException {
         return new ObjectInputStream(bis);
     }
+
+    @Override
+    public ObjectInputStream objectInputStreamOf(final InputStream inputStream) throws IOException {
+        return new ObjectInputStream(inputStream);
+    }
 }
@@ -0,0 +1,80 @@
+package uk.gov.justice.domain.snapshot;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.PropertyAccessor.ALL;
+import static com.fasterxml.jackson.annotation.PropertyAccessor.FIELD;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static com.fasterxml.jackson.databind.SerializationFeature.FAIL_ON_EMPTY_BEANS;
+import static java.lang.String.format;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.commons.lang3.SerializationException;
+
+/**
+ * Json serialization of the aggregate's fields with Jackson, written as a two element array of
+ * the aggregate class name and the aggregate itself.
+ *
+ * The aggregate is read and written field by field, without needing getters or setters, but its
+ * state must map to json through the declared field types: the aggregate and the classes it holds
+ * need a no argument constructor, and fields declared as Object or an interface are not written
+ * with their concrete class. A snapshot that cannot be read back (for instance after a field is
+ * renamed) fails like any other changed aggregate and the aggregate is rebuilt from its events.
+ *
+ * The ObjectInputStreamStrategy is not used; the aggregate class is loaded with Class.forName in
+ * the same way AggregateSnapshot loads the snapshot type.
+ */
+public class JacksonSnapshotSerializer implements SnapshotSerializer {
+
+    public static final String JACKSON_FORMAT = "jackson";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setVisibility(ALL, NONE)
+            .setVisibility(FIELD, ANY)
+            .disable(FAIL_ON_EMPTY_BEANS);
+
+    @Override
+    public String format() {
+        return JACKSON_FORMAT;
+    }
+
+    @Override
+    public byte[] serialize(final Aggregate aggregate) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(byteArrayOutputStream)) {
+            jsonGenerator.writeStartArray();
+            jsonGenerator.writeString(aggregate.getClass().getName());
+            objectMapper.writeValue(jsonGenerator, aggregate);
+            jsonGenerator.writeEndArray();
+        } catch (final IOException e) {
+            throw new SerializationException(e);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(final byte[] aggregateByteRepresentation, final ObjectInputStreamStrategy streamStrategy) throws IOException, ClassNotFoundException {
+        try (final JsonParser jsonParser = objectMapper.getFactory().createParser(aggregateByteRepresentation)) {
+            if (jsonParser.nextToken() != START_ARRAY || jsonParser.nextToken() != VALUE_STRING) {
+                throw new JsonParseException(jsonParser, format("Expected the aggregate class name at the start of a '%s' snapshot", JACKSON_FORMAT));
+            }
+
+            final Class<?> aggregateClass = Class.forName(jsonParser.getText());
+            jsonParser.nextToken();
+
+            return objectMapper.readValue(jsonParser, aggregateClass);
+        }
+    }
+}
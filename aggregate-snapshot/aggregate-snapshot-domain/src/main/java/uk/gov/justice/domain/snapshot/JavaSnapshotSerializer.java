@@ -0,0 +1,35 @@
+package uk.gov.justice.domain.snapshot;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+/**
+ * Plain java serialization of the aggregate. This is the format of all snapshots written before
+ * the format column was added to the snapshot table.
+ */
+public class JavaSnapshotSerializer implements SnapshotSerializer {
+
+    public static final String JAVA_FORMAT = "java";
+
+    @Override
+    public String format() {
+        return JAVA_FORMAT;
+    }
+
+    @Override
+    public byte[] serialize(final Aggregate aggregate) {
+        return SerializationUtils.serialize(aggregate);
+    }
+
+    @Override
+    public Object deserialize(final byte[] aggregateByteRepresentation, final ObjectInputStreamStrategy streamStrategy) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream objectInputStream = streamStrategy.objectInputStreamOf(new ByteArrayInputStream(aggregateByteRepresentation))) {
+            return objectInputStream.readObject();
+        }
+    }
+}
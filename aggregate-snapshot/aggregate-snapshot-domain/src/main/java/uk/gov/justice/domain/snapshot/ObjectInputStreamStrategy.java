@@ -2,9 +2,19 @@ package uk.gov.justice.domain.snapshot;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 
 public interface ObjectInputStreamStrategy {
 
     ObjectInputStream objectInputStreamOf(final ByteArrayInputStream bis) throws IOException;
+
+    /**
+     * Creates the ObjectInputStream over a stream that is not already held in memory, such as the
+     * inflated bytes of a compressed snapshot. Strategies that can wrap any InputStream should
+     * override this so the bytes are not first copied into a byte array.
+     */
+    default ObjectInputStream objectInputStreamOf(final InputStream inputStream) throws IOException {
+        return objectInputStreamOf(new ByteArrayInputStream(inputStream.readAllBytes()));
+    }
 }
@@ -0,0 +1,35 @@
+package uk.gov.justice.domain.snapshot;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.IOException;
+
+/**
+ * Converts an {@link Aggregate} to and from the bytes stored in the snapshot table.
+ *
+ * Each implementation is identified by a format tag which is stored alongside the bytes, so
+ * snapshots written in one format can still be read after the configured format is changed.
+ */
+public interface SnapshotSerializer {
+
+    /**
+     * @return the tag stored in the format column of the snapshot table for snapshots written by
+     * this serializer
+     */
+    String format();
+
+    /**
+     * @param aggregate the aggregate to serialize
+     * @return the byte representation of the aggregate
+     * @throws org.apache.commons.lang3.SerializationException if the aggregate cannot be serialized
+     */
+    byte[] serialize(final Aggregate aggregate);
+
+    /**
+     * @param aggregateByteRepresentation bytes previously produced by {@link #serialize(Aggregate)}
+     * @param streamStrategy              creates the ObjectInputStream used to resolve the
+     *                                    aggregate classes
+     * @return the deserialized aggregate
+     */
+    Object deserialize(final byte[] aggregateByteRepresentation, final ObjectInputStreamStrategy streamStrategy) throws IOException, ClassNotFoundException;
+}
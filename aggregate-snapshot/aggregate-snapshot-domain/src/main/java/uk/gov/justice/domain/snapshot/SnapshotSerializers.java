@@ -0,0 +1,29 @@
+package uk.gov.justice.domain.snapshot;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The snapshot serializers that ship with the event store and so are always available to read a
+ * snapshot, whatever format is configured for writing.
+ */
+public final class SnapshotSerializers {
+
+    private static final List<SnapshotSerializer> BUILT_IN_SNAPSHOT_SERIALIZERS = List.of(
+            new JavaSnapshotSerializer(),
+            new CompressedJavaSnapshotSerializer(),
+            new JacksonSnapshotSerializer());
+
+    private SnapshotSerializers() {
+    }
+
+    public static List<SnapshotSerializer> builtInSnapshotSerializers() {
+        return BUILT_IN_SNAPSHOT_SERIALIZERS;
+    }
+
+    public static Optional<SnapshotSerializer> builtInSnapshotSerializerFor(final String format) {
+        return BUILT_IN_SNAPSHOT_SERIALIZERS.stream()
+                .filter(snapshotSerializer -> snapshotSerializer.format().equals(format))
+                .findFirst();
+    }
+}
@@ -32,6 +32,41 @@ public class AggregateSnapshotTest {
         assertThat(snapshot.getPositionInStream(), is(VERSION_ID));
         assertThat(snapshot.getType(), is(TYPE));
         assertThat(snapshot.getAggregateByteRepresentation(), is(SerializationUtils.serialize(aggregate)));
+        assertThat(snapshot.getFormat(), is("java"));
+    }
+
+    @Test
+    public void shouldCreateAnAggregateSnapshotUsingTheGivenSerializer() throws Exception {
+        final TestAggregate aggregate = new TestAggregate("STATE1");
+        final CompressedJavaSnapshotSerializer snapshotSerializer = new CompressedJavaSnapshotSerializer();
+
+        final AggregateSnapshot<TestAggregate> snapshot = new AggregateSnapshot<>(STREAM_ID, VERSION_ID, aggregate, snapshotSerializer);
+
+        assertThat(snapshot.getType(), is(TYPE));
+        assertThat(snapshot.getFormat(), is("java-compressed"));
+        assertThat(snapshot.getAggregate(snapshotSerializer, streamStrategy), is(aggregate));
+    }
+
+    @Test
+    public void shouldGetAnAggregateSnapshotStoredInABuiltInFormat() throws Exception {
+        final TestAggregate aggregate = new TestAggregate("STATE1");
+        final byte[] compressedAggregate = new CompressedJavaSnapshotSerializer().serialize(aggregate);
+
+        final AggregateSnapshot<TestAggregate> snapshot = new AggregateSnapshot<>(STREAM_ID, VERSION_ID, TYPE, compressedAggregate, "java-compressed");
+
+        assertThat(snapshot.getAggregate(streamStrategy), is(aggregate));
+    }
+
+    @Test
+    public void shouldThrowAAggregateChangeDetectedExceptionIfTheFormatIsNotBuiltIn() throws Exception {
+        final AggregateSnapshot<TestAggregate> snapshot = new AggregateSnapshot<>(STREAM_ID, VERSION_ID, TYPE, new byte[0], "unknown-format");
+
+        try {
+            snapshot.getAggregate(streamStrategy);
+            fail();
+        } catch (final AggregateChangeDetectedException e) {
+            assertThat(e.getLocalizedMessage(), is("No SnapshotSerializer found for snapshot format 'unknown-format' of Aggregate uk.gov.justice.domain.snapshot.AggregateSnapshotTest$TestAggregate"));
+        }
     }
 
     @Test
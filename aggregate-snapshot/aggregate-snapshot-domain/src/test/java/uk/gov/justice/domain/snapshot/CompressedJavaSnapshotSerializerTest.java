@@ -0,0 +1,107 @@
+package uk.gov.justice.domain.snapshot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+public class CompressedJavaSnapshotSerializerTest {
+
+    private final CompressedJavaSnapshotSerializer compressedJavaSnapshotSerializer = new CompressedJavaSnapshotSerializer();
+
+    @Test
+    public void shouldHaveJavaCompressedFormat() throws Exception {
+        assertThat(compressedJavaSnapshotSerializer.format(), is("java-compressed"));
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeAggregate() throws Exception {
+        final RepetitiveAggregate aggregate = new RepetitiveAggregate(100);
+
+        final byte[] aggregateByteRepresentation = compressedJavaSnapshotSerializer.serialize(aggregate);
+
+        final RepetitiveAggregate deserializedAggregate = (RepetitiveAggregate) compressedJavaSnapshotSerializer.deserialize(aggregateByteRepresentation, new DefaultObjectInputStreamStrategy());
+        assertThat(deserializedAggregate.names, is(aggregate.names));
+    }
+
+    @Test
+    public void shouldDeserializeFromTheInflatingStreamWithoutCopyingItIntoAByteArray() throws Exception {
+        final RepetitiveAggregate aggregate = new RepetitiveAggregate(100);
+        final ObjectInputStreamStrategy streamStrategy = mock(ObjectInputStreamStrategy.class);
+
+        when(streamStrategy.objectInputStreamOf(any(InflaterInputStream.class))).thenAnswer(invocation -> new ObjectInputStream(invocation.getArgument(0)));
+
+        final RepetitiveAggregate deserializedAggregate = (RepetitiveAggregate) compressedJavaSnapshotSerializer.deserialize(compressedJavaSnapshotSerializer.serialize(aggregate), streamStrategy);
+
+        assertThat(deserializedAggregate.names, is(aggregate.names));
+        verify(streamStrategy, never()).objectInputStreamOf(any(ByteArrayInputStream.class));
+    }
+
+    @Test
+    public void shouldBeSmallerThanPlainJavaSerialization() throws Exception {
+        final RepetitiveAggregate aggregate = new RepetitiveAggregate(1000);
+
+        final byte[] compressed = compressedJavaSnapshotSerializer.serialize(aggregate);
+
+        assertThat(compressed.length, is(lessThan(SerializationUtils.serialize(aggregate).length / 2)));
+    }
+
+    @Test
+    public void shouldThrowSerializationExceptionIfAggregateNotSerializable() throws Exception {
+        assertThrows(SerializationException.class, () -> compressedJavaSnapshotSerializer.serialize(new NotSerializableAggregate()));
+    }
+
+    @Test
+    public void shouldFailToDeserializeBytesThatAreNotCompressed() throws Exception {
+        final byte[] uncompressed = SerializationUtils.serialize(new RepetitiveAggregate(1));
+
+        assertThrows(ZipException.class, () -> compressedJavaSnapshotSerializer.deserialize(uncompressed, new DefaultObjectInputStreamStrategy()));
+    }
+
+    public static class RepetitiveAggregate implements Aggregate {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> names = new ArrayList<>();
+
+        public RepetitiveAggregate(final int numberOfNames) {
+            for (int i = 0; i < numberOfNames; i++) {
+                names.add("name of the defendant in the case " + i);
+            }
+        }
+
+        @Override
+        public Object apply(final Object event) {
+            return event;
+        }
+    }
+
+    public static class NotSerializableAggregate implements Aggregate {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unused")
+        private final Object notSerializable = new Object();
+
+        @Override
+        public Object apply(final Object event) {
+            return event;
+        }
+    }
+}
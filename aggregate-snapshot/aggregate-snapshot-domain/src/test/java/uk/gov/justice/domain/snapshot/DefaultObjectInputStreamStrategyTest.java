@@ -4,9 +4,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
@@ -35,6 +37,18 @@ public class DefaultObjectInputStreamStrategyTest {
         assertThat(objectInputStream.readObject(), is("This is a String"));
     }
 
+    @Test
+    public void shouldCreateAnObjectInputStreamOverAnyInputStream() throws Exception {
+
+        final byte[] stringAsObjectByteArray = asObjectByteArray("This is a String");
+        final InputStream inputStream = new BufferedInputStream(new ByteArrayInputStream(stringAsObjectByteArray));
+
+        final ObjectInputStream objectInputStream = defaultObjectInputStreamStrategy.objectInputStreamOf(inputStream);
+
+        assertThat(objectInputStream.readObject(), is("This is a String"));
+        assertThat(inputStream.available(), is(0));
+    }
+
     @SuppressWarnings("SameParameterValue")
     private byte[] asObjectByteArray(final String aString) throws IOException {
         final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
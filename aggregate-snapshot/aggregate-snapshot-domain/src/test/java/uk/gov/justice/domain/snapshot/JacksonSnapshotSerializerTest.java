@@ -0,0 +1,118 @@
+package uk.gov.justice.domain.snapshot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+public class JacksonSnapshotSerializerTest {
+
+    private final JacksonSnapshotSerializer jacksonSnapshotSerializer = new JacksonSnapshotSerializer();
+
+    @Test
+    public void shouldHaveJacksonFormat() throws Exception {
+        assertThat(jacksonSnapshotSerializer.format(), is("jackson"));
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeAggregate() throws Exception {
+        final CaseAggregate aggregate = new CaseAggregate();
+        aggregate.apply(new Defendant("Fred", ZonedDateTime.parse("2024-03-01T10:15:30Z")));
+        aggregate.apply(new Defendant("Wilma", ZonedDateTime.parse("2024-03-02T11:15:30Z")));
+
+        final byte[] aggregateByteRepresentation = jacksonSnapshotSerializer.serialize(aggregate);
+
+        final Object deserializedAggregate = jacksonSnapshotSerializer.deserialize(aggregateByteRepresentation, new DefaultObjectInputStreamStrategy());
+
+        assertThat(deserializedAggregate, is(instanceOf(CaseAggregate.class)));
+        final List<Defendant> defendants = ((CaseAggregate) deserializedAggregate).defendants;
+        assertThat(defendants.size(), is(2));
+        assertThat(defendants.get(0).name, is("Fred"));
+        assertThat(defendants.get(0).addedAt.toInstant(), is(ZonedDateTime.parse("2024-03-01T10:15:30Z").toInstant()));
+        assertThat(defendants.get(1).name, is("Wilma"));
+        assertThat(((CaseAggregate) deserializedAggregate).numberOfAppliedEvents, is(2));
+    }
+
+    @Test
+    public void shouldWriteTheAggregateClassNameAndItsFieldsAsJson() throws Exception {
+        final CaseAggregate aggregate = new CaseAggregate();
+
+        final String json = new String(jacksonSnapshotSerializer.serialize(aggregate), UTF_8);
+
+        assertThat(json, is("[\"" + CaseAggregate.class.getName() + "\",{\"defendants\":[],\"numberOfAppliedEvents\":0}]"));
+    }
+
+    @Test
+    public void shouldThrowSerializationExceptionIfAggregateCannotBeMappedToJson() throws Exception {
+        assertThrows(SerializationException.class, () -> jacksonSnapshotSerializer.serialize(new SelfReferencingAggregate()));
+    }
+
+    @Test
+    public void shouldFailToDeserializeBytesWithoutTheAggregateClassName() throws Exception {
+        final byte[] javaSerialized = SerializationUtils.serialize(new CaseAggregate());
+
+        assertThrows(IOException.class, () -> jacksonSnapshotSerializer.deserialize(javaSerialized, new DefaultObjectInputStreamStrategy()));
+    }
+
+    @Test
+    public void shouldFailToDeserializeAnAggregateWhoseClassNoLongerExists() throws Exception {
+        final byte[] aggregateByteRepresentation = "[\"uk.gov.justice.domain.snapshot.NoSuchAggregate\",{}]".getBytes(UTF_8);
+
+        assertThrows(ClassNotFoundException.class, () -> jacksonSnapshotSerializer.deserialize(aggregateByteRepresentation, new DefaultObjectInputStreamStrategy()));
+    }
+
+    public static class CaseAggregate implements Aggregate {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Defendant> defendants = new ArrayList<>();
+        private int numberOfAppliedEvents;
+
+        @Override
+        public Object apply(final Object event) {
+            if (event instanceof Defendant defendant) {
+                defendants.add(defendant);
+            }
+            numberOfAppliedEvents++;
+            return event;
+        }
+    }
+
+    public static class Defendant {
+
+        private String name;
+        private ZonedDateTime addedAt;
+
+        @SuppressWarnings("unused")
+        private Defendant() {
+        }
+
+        public Defendant(final String name, final ZonedDateTime addedAt) {
+            this.name = name;
+            this.addedAt = addedAt;
+        }
+    }
+
+    public static class SelfReferencingAggregate implements Aggregate {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unused")
+        private final Object self = this;
+
+        @Override
+        public Object apply(final Object event) {
+            return event;
+        }
+    }
+}
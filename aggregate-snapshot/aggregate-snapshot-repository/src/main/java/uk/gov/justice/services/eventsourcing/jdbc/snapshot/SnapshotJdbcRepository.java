@@ -36,9 +36,10 @@ public class SnapshotJdbcRepository implements SnapshotRepository {
     private static final String COL_VERSION_ID = "version_id";
     private static final String COL_TYPE = "type";
     private static final String COL_AGGREGATE = "aggregate";
+    private static final String COL_FORMAT = "format";
     private static final String COL_CREATED_AT = "created_at";
     private static final String SQL_FIND_LATEST_BY_STREAM_ID = "SELECT * FROM snapshot WHERE stream_id=? AND type=? ORDER BY version_id DESC LIMIT 1";
-    private static final String SQL_UPSERT_SNAPSHOT = "INSERT INTO snapshot AS s (stream_id, version_id, type, aggregate, created_at ) VALUES(?, ?, ?, ?, ?) ON CONFLICT ON CONSTRAINT stream_id_version_id_type DO UPDATE SET aggregate =?, created_at = ? WHERE s.created_at<=?";
+    private static final String SQL_UPSERT_SNAPSHOT = "INSERT INTO snapshot AS s (stream_id, version_id, type, aggregate, format, created_at ) VALUES(?, ?, ?, ?, ?, ?) ON CONFLICT ON CONSTRAINT stream_id_version_id_type DO UPDATE SET aggregate =?, format = ?, created_at = ? WHERE s.created_at<=?";
     private static final String DELETE_ALL_SNAPSHOTS_FOR_STREAM_ID_AND_CLASS = "delete from snapshot where stream_id =? and type=?";
     private static final String DELETE_ALL_SNAPSHOTS_OF_STREAM_ID_AND_CLASS_AND_LESS_THAN_POSITION_IN_STREAM = "delete from snapshot where stream_id =? and type=? and version_id<?";
     private static final String SQL_CURRENT_SNAPSHOT_VERSION_ID = "SELECT version_id FROM snapshot WHERE stream_id=? AND type=? ORDER BY version_id DESC LIMIT 1";
@@ -66,10 +67,12 @@ public class SnapshotJdbcRepository implements SnapshotRepository {
             ps.setLong(2, aggregateSnapshot.getPositionInStream());
             ps.setString(3, aggregateSnapshot.getType());
             ps.setBytes(4, aggregateSnapshot.getAggregateByteRepresentation());
-            ps.setTimestamp(5, now);
-            ps.setBytes(6, aggregateSnapshot.getAggregateByteRepresentation());
-            ps.setTimestamp(7, now);
-            ps.setTimestamp(8, now);
+            ps.setString(5, aggregateSnapshot.getFormat());
+            ps.setTimestamp(6, now);
+            ps.setBytes(7, aggregateSnapshot.getAggregateByteRepresentation());
+            ps.setString(8, aggregateSnapshot.getFormat());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
 
             ps.executeUpdate();
 
@@ -163,6 +166,7 @@ public class SnapshotJdbcRepository implements SnapshotRepository {
                 resultSet.getLong(COL_VERSION_ID),
                 resultSet.getString(COL_TYPE),
                 resultSet.getBytes(COL_AGGREGATE),
+                resultSet.getString(COL_FORMAT),
                 fromSqlTimestamp(resultSet.getTimestamp(COL_CREATED_AT)));
     }
 
@@ -51,6 +51,7 @@ public class SnapshotJdbcRepositoryJdbcIT {
     private static final String FETCH_ALL_SNAPSHOTS_QUERY = "SELECT * FROM snapshot";
     private static final String REMOVE_ALL_SNAPSHOTS_SQL = "DELETE FROM snapshot";
     private static final String FIND_CREATED_TIME_BY_VERSION_ID = "SELECT created_at FROM snapshot where stream_id = ? and version_id = ?";
+    private static final String INSERT_SNAPSHOT_WITHOUT_FORMAT = "INSERT INTO snapshot (stream_id, version_id, type, aggregate, created_at) VALUES(?, ?, ?, ?, ?)";
     private static final Long VERSION_ID = 5L;
     private static final Class<RecordingAggregate> TYPE = RecordingAggregate.class;
     private static final Class<DifferentAggregate> OTHER_TYPE = DifferentAggregate.class;
@@ -97,6 +98,41 @@ public class SnapshotJdbcRepositoryJdbcIT {
         assertThat(createdTime.get(), is(toSqlTimestamp(now)));
     }
 
+    @Test
+    public void shouldStoreAndRetrieveSnapshotFormat() throws Exception {
+        when(clock.now()).thenReturn(now);
+
+        final UUID streamId = randomUUID();
+        final AggregateSnapshot aggregateSnapshot = new AggregateSnapshot(streamId, VERSION_ID, TYPE.getName(), AGGREGATE, "java-compressed");
+
+        assertTrue(snapshotJdbcRepository.storeSnapshot(aggregateSnapshot));
+
+        final Optional<AggregateSnapshot<RecordingAggregate>> snapshot = snapshotJdbcRepository.getLatestSnapshot(streamId, TYPE);
+
+        assertThat(snapshot.isPresent(), is(true));
+        assertThat(snapshot.get().getFormat(), is("java-compressed"));
+        assertThat(snapshot.get(), is(aggregateSnapshot));
+    }
+
+    @Test
+    public void shouldDefaultToJavaFormatForSnapshotsInsertedWithoutFormat() throws Exception {
+        final UUID streamId = randomUUID();
+        try (final Connection connection = eventStoreDataSourceProvider.getDefaultDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SNAPSHOT_WITHOUT_FORMAT)) {
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setLong(2, VERSION_ID);
+            preparedStatement.setString(3, TYPE.getName());
+            preparedStatement.setBytes(4, AGGREGATE);
+            preparedStatement.setTimestamp(5, toSqlTimestamp(now));
+            preparedStatement.executeUpdate();
+        }
+
+        final Optional<AggregateSnapshot<RecordingAggregate>> snapshot = snapshotJdbcRepository.getLatestSnapshot(streamId, TYPE);
+
+        assertThat(snapshot.isPresent(), is(true));
+        assertThat(snapshot.get().getFormat(), is("java"));
+    }
+
     @Test
     void shouldUpsert() {
         when(clock.now()).thenReturn(now);
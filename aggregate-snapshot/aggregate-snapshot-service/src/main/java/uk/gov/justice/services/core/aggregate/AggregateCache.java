@@ -0,0 +1,235 @@
+package uk.gov.justice.services.core.aggregate;
+
+import static javax.transaction.Status.STATUS_COMMITTED;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.domain.snapshot.VersionedAggregate;
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.EventRepository;
+import uk.gov.justice.services.eventsourcing.source.core.EventStreamClearedEvent;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.slf4j.Logger;
+
+/**
+ * Bounded, node local cache of recently used aggregates, keyed by stream id and aggregate class,
+ * so that a hot aggregate does not have to be loaded from its snapshot and replayed on every
+ * command.
+ *
+ * As command handlers mutate the aggregates they are given, a cached aggregate is handed out to
+ * one caller only: it is taken out of the cache on read, and put back at its new version once the
+ * transaction using it commits. A concurrent command on the same stream misses and loads the
+ * aggregate from its snapshot instead. A cached aggregate is only ever used as a starting point:
+ * any events appended after its version, on this or any other node, are still read from the
+ * event_log and applied to it, and it is dropped if the event_log no longer holds the event at its
+ * version.
+ *
+ * Aggregates cached within a transaction are held against that transaction and only published
+ * to the cache once it commits. Entries are dropped when least recently used once the cache is
+ * full, when older than the configured time to live, when their stream is cleared and when an
+ * append to their stream fails with an OptimisticLockingRetryException.
+ */
+@ApplicationScoped
+public class AggregateCache {
+
+    private static final String PENDING_AGGREGATES_KEY = AggregateCache.class.getName() + ".pendingAggregates";
+
+    @Inject
+    private AggregateCacheConfig aggregateCacheConfig;
+
+    @Inject
+    private AggregateCacheMetrics aggregateCacheMetrics;
+
+    @Inject
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Inject
+    private EventRepository eventRepository;
+
+    @Inject
+    private UtcClock clock;
+
+    @Inject
+    private Logger logger;
+
+    private boolean enabled;
+    private Duration timeToLive;
+    private Map<AggregateCacheKey, CachedAggregate> cachedAggregates;
+
+    @PostConstruct
+    public void postConstruct() {
+        this.enabled = aggregateCacheConfig.isAggregateCacheEnabled();
+        this.timeToLive = aggregateCacheConfig.getAggregateCacheTtl();
+        final int maxSize = aggregateCacheConfig.getAggregateCacheMaxSize();
+        this.cachedAggregates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<AggregateCacheKey, CachedAggregate> eldest) {
+                final boolean full = size() > maxSize;
+                if (full) {
+                    aggregateCacheMetrics.evicted();
+                }
+                return full;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes the cached aggregate of the stream out of the cache, along with the position in the
+     * stream of the last event applied to it. The caller owns the aggregate until it is put back.
+     *
+     * @param streamId the id of the stream
+     * @param clazz    the type of aggregate
+     * @return the cached aggregate and its version, or empty if not cached
+     */
+    public <T extends Aggregate> Optional<VersionedAggregate<T>> get(final UUID streamId, final Class<T> clazz) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        final Optional<CachedAggregate> cachedAggregate = takeCachedAggregate(new AggregateCacheKey(streamId, clazz));
+        if (cachedAggregate.isEmpty()) {
+            aggregateCacheMetrics.miss();
+            return Optional.empty();
+        }
+
+        final long versionId = cachedAggregate.get().versionId();
+        if (versionId > 0 && !eventRepository.eventExistsAtPosition(streamId, versionId)) {
+            logger.debug("No event at version {} of cached aggregate {} of stream {}, dropping it from the aggregate cache", versionId, clazz.getName(), streamId);
+            aggregateCacheMetrics.miss();
+            return Optional.empty();
+        }
+
+        aggregateCacheMetrics.hit();
+        return Optional.of(new VersionedAggregate<>(versionId, clazz.cast(cachedAggregate.get().aggregate())));
+    }
+
+    /**
+     * Holds the aggregate against the current transaction, to be published to the cache at the
+     * given version when the transaction commits. A later put of the same aggregate in the same
+     * transaction replaces the version it is published at.
+     *
+     * @param streamId  the id of the stream
+     * @param versionId the position in the stream of the last event applied to the aggregate
+     * @param aggregate the aggregate
+     */
+    public <T extends Aggregate> void put(final UUID streamId, final long versionId, final T aggregate) {
+        if (!enabled) {
+            return;
+        }
+
+        final CachedAggregate cachedAggregate = new CachedAggregate(versionId, aggregate, clock.now());
+
+        try {
+            Map<AggregateCacheKey, CachedAggregate> pendingAggregates = pendingAggregates();
+            if (pendingAggregates == null) {
+                pendingAggregates = new HashMap<>();
+                transactionSynchronizationRegistry.putResource(PENDING_AGGREGATES_KEY, pendingAggregates);
+                transactionSynchronizationRegistry.registerInterposedSynchronization(new AggregateCacheSynchronization(pendingAggregates));
+            }
+            pendingAggregates.put(new AggregateCacheKey(streamId, aggregate.getClass()), cachedAggregate);
+        } catch (final IllegalStateException e) {
+            logger.debug("No active transaction, not caching aggregate of stream {}", streamId);
+        }
+    }
+
+    /**
+     * Drops all cached aggregates of the stream, including any held against the current
+     * transaction
+     *
+     * @param streamId the id of the stream
+     */
+    public void invalidate(final UUID streamId) {
+        if (enabled) {
+            final Map<AggregateCacheKey, CachedAggregate> pendingAggregates = pendingAggregates();
+            if (pendingAggregates != null) {
+                pendingAggregates.keySet().removeIf(aggregateCacheKey -> aggregateCacheKey.streamId().equals(streamId));
+            }
+            removeCachedAggregatesOf(streamId);
+        }
+    }
+
+    void onEventStreamCleared(@Observes final EventStreamClearedEvent eventStreamClearedEvent) {
+        invalidate(eventStreamClearedEvent.getStreamId());
+    }
+
+    private synchronized void removeCachedAggregatesOf(final UUID streamId) {
+        cachedAggregates.keySet().removeIf(aggregateCacheKey -> aggregateCacheKey.streamId().equals(streamId));
+    }
+
+    private synchronized Optional<CachedAggregate> takeCachedAggregate(final AggregateCacheKey aggregateCacheKey) {
+        final CachedAggregate cachedAggregate = cachedAggregates.remove(aggregateCacheKey);
+        if (cachedAggregate == null) {
+            return Optional.empty();
+        }
+
+        if (cachedAggregate.cachedAt().plus(timeToLive).isBefore(clock.now())) {
+            aggregateCacheMetrics.evicted();
+            return Optional.empty();
+        }
+
+        return Optional.of(cachedAggregate);
+    }
+
+    private synchronized void publish(final Map<AggregateCacheKey, CachedAggregate> committedAggregates) {
+        committedAggregates.forEach((aggregateCacheKey, cachedAggregate) -> cachedAggregates.merge(
+                aggregateCacheKey,
+                cachedAggregate,
+                (current, committed) -> committed.versionId() >= current.versionId() ? committed : current));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<AggregateCacheKey, CachedAggregate> pendingAggregates() {
+        try {
+            return (Map<AggregateCacheKey, CachedAggregate>) transactionSynchronizationRegistry.getResource(PENDING_AGGREGATES_KEY);
+        } catch (final IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private record AggregateCacheKey(UUID streamId, Class<?> aggregateClass) {
+    }
+
+    private record CachedAggregate(long versionId, Aggregate aggregate, ZonedDateTime cachedAt) {
+    }
+
+    private class AggregateCacheSynchronization implements Synchronization {
+
+        private final Map<AggregateCacheKey, CachedAggregate> pendingAggregates;
+
+        private AggregateCacheSynchronization(final Map<AggregateCacheKey, CachedAggregate> pendingAggregates) {
+            this.pendingAggregates = pendingAggregates;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            // No-op
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            if (status == STATUS_COMMITTED) {
+                publish(pendingAggregates);
+            } else {
+                pendingAggregates.keySet().forEach(aggregateCacheKey -> removeCachedAggregatesOf(aggregateCacheKey.streamId()));
+            }
+        }
+    }
+}
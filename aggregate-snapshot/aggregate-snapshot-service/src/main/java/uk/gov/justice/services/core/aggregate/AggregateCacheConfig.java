@@ -0,0 +1,38 @@
+package uk.gov.justice.services.core.aggregate;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.time.Duration;
+
+import javax.inject.Inject;
+
+public class AggregateCacheConfig {
+
+    @Inject
+    @Value(key = "aggregate.cache.enabled", defaultValue = "false")
+    private String aggregateCacheEnabled;
+
+    @Inject
+    @Value(key = "aggregate.cache.max.size", defaultValue = "1000")
+    private String aggregateCacheMaxSize;
+
+    @Inject
+    @Value(key = "aggregate.cache.ttl.seconds", defaultValue = "300")
+    private String aggregateCacheTtlSeconds;
+
+    public boolean isAggregateCacheEnabled() {
+        return parseBoolean(aggregateCacheEnabled);
+    }
+
+    public int getAggregateCacheMaxSize() {
+        return parseInt(aggregateCacheMaxSize);
+    }
+
+    public Duration getAggregateCacheTtl() {
+        return Duration.ofSeconds(parseLong(aggregateCacheTtlSeconds));
+    }
+}
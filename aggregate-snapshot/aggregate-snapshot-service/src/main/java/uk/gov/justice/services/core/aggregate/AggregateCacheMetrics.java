@@ -0,0 +1,51 @@
+package uk.gov.justice.services.core.aggregate;
+
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.AGGREGATE_CACHE_EVICTIONS_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.AGGREGATE_CACHE_HITS_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.AGGREGATE_CACHE_MISSES_COUNTER_NAME;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hit, miss and eviction counts of the node local {@link AggregateCache}
+ */
+@ApplicationScoped
+public class AggregateCacheMetrics {
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private Counter hitsCounter;
+    private Counter missesCounter;
+    private Counter evictionsCounter;
+
+    @PostConstruct
+    public void registerMeters() {
+        hitsCounter = Counter.builder(AGGREGATE_CACHE_HITS_COUNTER_NAME)
+                .description("Number of aggregates found in the aggregate cache")
+                .register(meterRegistry);
+        missesCounter = Counter.builder(AGGREGATE_CACHE_MISSES_COUNTER_NAME)
+                .description("Number of aggregates not found in the aggregate cache and so loaded from their snapshot and events")
+                .register(meterRegistry);
+        evictionsCounter = Counter.builder(AGGREGATE_CACHE_EVICTIONS_COUNTER_NAME)
+                .description("Number of aggregates dropped from the aggregate cache as least recently used or expired")
+                .register(meterRegistry);
+    }
+
+    public void hit() {
+        hitsCounter.increment();
+    }
+
+    public void miss() {
+        missesCounter.increment();
+    }
+
+    public void evicted() {
+        evictionsCounter.increment();
+    }
+}
@@ -37,15 +37,22 @@ public class SnapshotAwareAggregateService implements AggregateService {
     @Inject
     private AsyncSnapshotService asyncSnapshotService;
 
+    @Inject
+    private AggregateCache aggregateCache;
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Aggregate> T get(final EventStream stream, final Class<T> clazz) {
         logger.trace("SnapshotAwareAggregateService Recreating aggregate for instance {} of aggregate type {}", stream.getId(), clazz);
 
-        final Optional<VersionedAggregate<T>> versionedAggregate = latestOrChangedAggregateAndEvents(stream, clazz);
+        final Optional<VersionedAggregate<T>> versionedAggregate = cachedOrLatestOrChangedAggregate(stream, clazz);
 
         final T aggregate = aggregateOf(stream, clazz, versionedAggregate);
 
+        if (aggregateCache.isEnabled()) {
+            aggregateCache.put(stream.getId(), stream.size(), aggregate);
+        }
+
         if (stream instanceof SnapshotAwareEnvelopeEventStream) {
             ((SnapshotAwareEnvelopeEventStream) stream).registerAggregates(clazz, aggregate);
         }
@@ -69,6 +76,15 @@ public class SnapshotAwareAggregateService implements AggregateService {
         return versionedAggregate.getVersionId() + 1L;
     }
 
+    private <T extends Aggregate> Optional<VersionedAggregate<T>> cachedOrLatestOrChangedAggregate(final EventStream stream, final Class<T> clazz) {
+        final Optional<VersionedAggregate<T>> cachedAggregate = aggregateCache.get(stream.getId(), clazz);
+        if (cachedAggregate.isPresent()) {
+            return cachedAggregate;
+        }
+
+        return latestOrChangedAggregateAndEvents(stream, clazz);
+    }
+
     private <T extends Aggregate> Optional<VersionedAggregate<T>> latestOrChangedAggregateAndEvents(final EventStream stream, final Class<T> clazz) {
         try {
             return snapshotService.getLatestVersionedAggregate(stream.getId(), clazz);
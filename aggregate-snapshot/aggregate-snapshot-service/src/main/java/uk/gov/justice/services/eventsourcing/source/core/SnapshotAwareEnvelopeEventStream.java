@@ -3,6 +3,8 @@ package uk.gov.justice.services.eventsourcing.source.core;
 import static uk.gov.justice.services.eventsourcing.source.core.Tolerance.CONSECUTIVE;
 
 import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.services.core.aggregate.AggregateCache;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotService;
 import uk.gov.justice.services.messaging.JsonEnvelope;
@@ -15,12 +17,14 @@ import java.util.stream.Stream;
 public class SnapshotAwareEnvelopeEventStream<T extends Aggregate> extends EnvelopeEventStream implements EventStream {
 
     private final SnapshotService snapshotService;
+    private final AggregateCache aggregateCache;
 
     private final Map<Class<T>, T> aggregatesMap = new ConcurrentHashMap<>();
 
-    SnapshotAwareEnvelopeEventStream(final UUID id, final EventStreamManager eventStreamManager, final SnapshotService snapshotService, final String eventSourceName) {
+    SnapshotAwareEnvelopeEventStream(final UUID id, final EventStreamManager eventStreamManager, final SnapshotService snapshotService, final AggregateCache aggregateCache, final String eventSourceName) {
         super(id, eventSourceName, eventStreamManager);
         this.snapshotService = snapshotService;
+        this.aggregateCache = aggregateCache;
     }
 
     public void registerAggregates(final Class<T> aggregateClass, final T aggregate) {
@@ -29,20 +33,42 @@ public class SnapshotAwareEnvelopeEventStream<T extends Aggregate> extends Envel
 
     @Override
     public long append(final Stream<JsonEnvelope> events, final Tolerance tolerance) throws EventStreamException {
-        final long currentVersion = super.append(events, tolerance);
+        final long currentVersion;
+        try {
+            currentVersion = super.append(events, tolerance);
+        } catch (final OptimisticLockingRetryException e) {
+            aggregateCache.invalidate(getId());
+            throw e;
+        }
         if (tolerance == CONSECUTIVE) {
             createAggregateSnapshotsFor(currentVersion);
+            cacheAggregatesAt(currentVersion);
+        } else {
+            aggregateCache.invalidate(getId());
         }
         return currentVersion;
     }
 
     @Override
     public long appendAfter(final Stream<JsonEnvelope> events, final long version) throws EventStreamException {
-        final long currentVersion = super.appendAfter(events, version);
+        final long currentVersion;
+        try {
+            currentVersion = super.appendAfter(events, version);
+        } catch (final OptimisticLockingRetryException e) {
+            aggregateCache.invalidate(getId());
+            throw e;
+        }
         createAggregateSnapshotsFor(currentVersion);
+        cacheAggregatesAt(currentVersion);
         return currentVersion;
     }
 
+    private void cacheAggregatesAt(final long currentVersion) {
+        for (final Aggregate aggregate : aggregatesMap.values()) {
+            aggregateCache.put(this.getId(), currentVersion, aggregate);
+        }
+    }
+
     private void createAggregateSnapshotsFor(final long currentVersion) {
         for (final Aggregate aggregate : aggregatesMap.values()) {
             snapshotService.attemptAggregateStore(this.getId(), currentVersion, aggregate);
@@ -1,5 +1,6 @@
 package uk.gov.justice.services.eventsourcing.source.core;
 
+import uk.gov.justice.services.core.aggregate.AggregateCache;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.EventRepository;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotService;
 
@@ -13,16 +14,19 @@ public class SnapshotAwareEventSource implements EventSource {
 
     private final EventStreamManager eventStreamManager;
     private final SnapshotService snapshotService;
+    private final AggregateCache aggregateCache;
     private final EventRepository eventRepository;
     private final String eventSourceName;
 
     public SnapshotAwareEventSource(final EventStreamManager eventStreamManager,
                                     final EventRepository eventRepository,
                                     final SnapshotService snapshotService,
+                                    final AggregateCache aggregateCache,
                                     final String eventSourceName) {
         this.eventStreamManager = eventStreamManager;
         this.eventRepository = eventRepository;
         this.snapshotService = snapshotService;
+        this.aggregateCache = aggregateCache;
         this.eventSourceName = eventSourceName;
     }
 
@@ -32,6 +36,7 @@ public class SnapshotAwareEventSource implements EventSource {
                 streamId,
                 eventStreamManager,
                 snapshotService,
+                aggregateCache,
                 eventSourceName);
     }
 
@@ -1,5 +1,6 @@
 package uk.gov.justice.services.eventsourcing.source.core;
 
+import uk.gov.justice.services.core.aggregate.AggregateCache;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.EventRepository;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotService;
 
@@ -16,12 +17,16 @@ public class SnapshotAwareEventSourceFactory {
     @Inject
     private SnapshotService snapshotService;
 
+    @Inject
+    private AggregateCache aggregateCache;
+
     public EventSource create(final String eventSourceName) {
 
         return new SnapshotAwareEventSource(
                 eventStreamManager,
                 eventRepository,
                 snapshotService,
+                aggregateCache,
                 eventSourceName);
     }
 }
@@ -1,9 +1,12 @@
 package uk.gov.justice.services.eventsourcing.source.core.snapshot;
 
+import static java.lang.String.format;
+
 import uk.gov.justice.domain.aggregate.Aggregate;
 import uk.gov.justice.domain.snapshot.AggregateSnapshot;
 import uk.gov.justice.domain.snapshot.DefaultObjectInputStreamStrategy;
 import uk.gov.justice.domain.snapshot.ObjectInputStreamStrategy;
+import uk.gov.justice.domain.snapshot.SnapshotSerializer;
 import uk.gov.justice.domain.snapshot.VersionedAggregate;
 import uk.gov.justice.services.core.aggregate.exception.AggregateChangeDetectedException;
 import uk.gov.justice.services.eventsourcing.jdbc.snapshot.SnapshotRepository;
@@ -33,6 +36,9 @@ public class DefaultSnapshotService implements SnapshotService {
     @Inject
     SnapshotStrategy snapshotStrategy;
 
+    @Inject
+    SnapshotSerializerProvider snapshotSerializerProvider;
+
     private ObjectInputStreamStrategy streamStrategy = new DefaultObjectInputStreamStrategy();
 
     public void setStreamStrategy(ObjectInputStreamStrategy streamStrategy) {
@@ -45,7 +51,7 @@ public class DefaultSnapshotService implements SnapshotService {
         if (snapshotStrategy.shouldCreateSnapshot(streamVersionId, currentSnapshotVersion)) {
             try {
                 logger.trace("Storing snapshot of aggregate: {}, streamId: {}, version: {}", aggregate.getClass().getSimpleName(), streamId, streamVersionId);
-                final AggregateSnapshot<T> aggregateSnapshot = new AggregateSnapshot<>(streamId, streamVersionId, aggregate);//createdAt is added before saving
+                final AggregateSnapshot<T> aggregateSnapshot = new AggregateSnapshot<>(streamId, streamVersionId, aggregate, snapshotSerializerProvider.getWriteSerializer());//createdAt is added before saving
                 final boolean storedSuccessfully = snapshotRepository.storeSnapshot(aggregateSnapshot);
                 if (storedSuccessfully) {
                     snapshotRepository.removeAllSnapshotsOlderThan(aggregateSnapshot);
@@ -60,7 +66,7 @@ public class DefaultSnapshotService implements SnapshotService {
     public <T extends Aggregate> boolean storeAggregateSimply(final UUID streamId, final long streamVersionId, final T aggregate) {
         try {
             logger.debug("Storing snapshot of aggregate: {}, streamId: {}, version: {}", aggregate.getClass().getSimpleName(), streamId, streamVersionId);
-            final AggregateSnapshot<T> aggregateSnapshot = new AggregateSnapshot<>(streamId, streamVersionId, aggregate);//createdAt is added before saving
+            final AggregateSnapshot<T> aggregateSnapshot = new AggregateSnapshot<>(streamId, streamVersionId, aggregate, snapshotSerializerProvider.getWriteSerializer());//createdAt is added before saving
             final boolean storedSuccessfully = snapshotRepository.storeSnapshot(aggregateSnapshot);
             logger.debug("Stored successfully {}", storedSuccessfully);
             return storedSuccessfully;
@@ -71,6 +77,17 @@ public class DefaultSnapshotService implements SnapshotService {
         return false;
     }
 
+    /**
+     * Stores a snapshot whose aggregate has already been serialized, without consulting the
+     * snapshot strategy or removing older snapshots.
+     */
+    public <T extends Aggregate> boolean storeSnapshotSimply(final AggregateSnapshot<T> aggregateSnapshot) {
+        logger.debug("Storing snapshot of aggregate: {}, streamId: {}, version: {}", aggregateSnapshot.getType(), aggregateSnapshot.getStreamId(), aggregateSnapshot.getPositionInStream());
+        final boolean storedSuccessfully = snapshotRepository.storeSnapshot(aggregateSnapshot);
+        logger.debug("Stored successfully {}", storedSuccessfully);
+        return storedSuccessfully;
+    }
+
     @Override
     public <T extends Aggregate> Optional<VersionedAggregate<T>> getLatestVersionedAggregate(final UUID streamId, final Class<T> clazz)
             throws AggregateChangeDetectedException {
@@ -80,7 +97,12 @@ public class DefaultSnapshotService implements SnapshotService {
 
         if (aggregateSnapshot.isPresent()) {
             final AggregateSnapshot<T> snapshotValue = aggregateSnapshot.get();
-            final VersionedAggregate<T> versionedAggregate = new VersionedAggregate<T>(snapshotValue.getPositionInStream(), snapshotValue.getAggregate(streamStrategy));
+            final SnapshotSerializer snapshotSerializer = snapshotSerializerProvider.serializerFor(snapshotValue.getFormat())
+                    .orElseThrow(() -> new AggregateChangeDetectedException(
+                            format("No SnapshotSerializer found for snapshot format '%s' of Aggregate %s", snapshotValue.getFormat(), snapshotValue.getType()),
+                            snapshotValue.getPositionInStream(),
+                            snapshotValue.getCreatedAt()));
+            final VersionedAggregate<T> versionedAggregate = new VersionedAggregate<T>(snapshotValue.getPositionInStream(), snapshotValue.getAggregate(snapshotSerializer, streamStrategy));
             return Optional.of(versionedAggregate);
         }
 
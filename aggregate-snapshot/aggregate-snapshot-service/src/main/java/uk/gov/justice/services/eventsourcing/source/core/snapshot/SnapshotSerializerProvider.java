@@ -0,0 +1,49 @@
+package uk.gov.justice.services.eventsourcing.source.core.snapshot;
+
+import static java.lang.String.format;
+import static uk.gov.justice.domain.snapshot.SnapshotSerializers.builtInSnapshotSerializerFor;
+
+import uk.gov.justice.domain.snapshot.SnapshotSerializer;
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.util.Optional;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+/**
+ * Looks up the {@link SnapshotSerializer} for a snapshot format. The built in 'java',
+ * 'java-compressed' and 'jackson' serializers are always available; further formats can be plugged
+ * in by deploying a CDI bean that implements {@link SnapshotSerializer}.
+ *
+ * New snapshots are written in the format configured by 'snapshot.serializer.format'; existing
+ * snapshots are read in whatever format is stored against them.
+ */
+@ApplicationScoped
+public class SnapshotSerializerProvider {
+
+    @Inject
+    @Any
+    Instance<SnapshotSerializer> snapshotSerializers;
+
+    @Inject
+    @Value(key = "snapshot.serializer.format", defaultValue = "java")
+    String snapshotSerializerFormat;
+
+    public SnapshotSerializer getWriteSerializer() {
+        return serializerFor(snapshotSerializerFormat)
+                .orElseThrow(() -> new IllegalStateException(format("No SnapshotSerializer found for configured snapshot format '%s'", snapshotSerializerFormat)));
+    }
+
+    public Optional<SnapshotSerializer> serializerFor(final String format) {
+        for (final SnapshotSerializer snapshotSerializer : snapshotSerializers) {
+            if (snapshotSerializer.format().equals(format)) {
+                return Optional.of(snapshotSerializer);
+            }
+        }
+
+        return builtInSnapshotSerializerFor(format);
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.justice.services.eventsourcing.source.core.snapshot.async;
 
 import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.domain.snapshot.AggregateSnapshot;
+import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotSerializerProvider;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.event.SnapshotDeleterRequestEvent;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.event.SnapshotSaverRequestEvent;
 
@@ -11,8 +13,6 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
-import org.apache.commons.lang3.SerializationUtils;
-
 @ApplicationScoped
 public class AsyncSnapshotService {
 
@@ -22,9 +22,13 @@ public class AsyncSnapshotService {
     @Inject
     private Event<SnapshotDeleterRequestEvent> aggregateSnapshotDeletionRequestFirer;
 
+    @Inject
+    private SnapshotSerializerProvider snapshotSerializerProvider;
+
     public <T extends Aggregate> void saveAggregateSnapshot(final UUID uuid, final Long positionInStream, final T aggregate) {
-        final T clonedAggregate = SerializationUtils.clone(aggregate);// deep copy
-        final SnapshotSaverRequestEvent snapshotDeletionRunner = new SnapshotSaverRequestEvent(uuid, positionInStream, clonedAggregate);
+        // serialized here rather than in the background, so later changes to the aggregate are not captured
+        final AggregateSnapshot<T> aggregateSnapshot = new AggregateSnapshot<>(uuid, positionInStream, aggregate, snapshotSerializerProvider.getWriteSerializer());
+        final SnapshotSaverRequestEvent snapshotDeletionRunner = new SnapshotSaverRequestEvent(aggregateSnapshot);
         aggregateSnapshotSaverRequestEventFirer.fireAsync(snapshotDeletionRunner);
     }
 
@@ -19,7 +19,7 @@ public class SnapshotSaverObserver {
     public boolean onSaveReceived(@ObservesAsync final SnapshotSaverRequestEvent aggregateSnapshotSaverRequestEvent) {
         logger.trace("About to save snapshot {}", aggregateSnapshotSaverRequestEvent);
         try {
-            final boolean storedOK = snapshotService.storeAggregateSimply(aggregateSnapshotSaverRequestEvent.getStreamId(), aggregateSnapshotSaverRequestEvent.getPositionInStream(), aggregateSnapshotSaverRequestEvent.getAggregate());
+            final boolean storedOK = snapshotService.storeSnapshotSimply(aggregateSnapshotSaverRequestEvent.getAggregateSnapshot());
             logger.info("Successfully saved in background snapshot {}", aggregateSnapshotSaverRequestEvent);
             return storedOK;
         } catch (Exception e) {
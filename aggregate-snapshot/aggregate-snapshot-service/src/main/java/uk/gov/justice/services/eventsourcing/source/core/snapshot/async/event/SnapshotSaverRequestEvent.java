@@ -1,31 +1,27 @@
 package uk.gov.justice.services.eventsourcing.source.core.snapshot.async.event;
 
-import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.domain.snapshot.AggregateSnapshot;
 
 import java.util.StringJoiner;
 import java.util.UUID;
 
 public class SnapshotSaverRequestEvent {
-    private final UUID streamId;
-    private final long positionInStream;
-    private final Aggregate aggregate;
-
-    public SnapshotSaverRequestEvent(final UUID uuid, final long positionInStream, final Aggregate aggregate) {
-        this.streamId = uuid;
-        this.positionInStream = positionInStream;
-        this.aggregate = aggregate;
+    private final AggregateSnapshot<?> aggregateSnapshot;
+
+    public SnapshotSaverRequestEvent(final AggregateSnapshot<?> aggregateSnapshot) {
+        this.aggregateSnapshot = aggregateSnapshot;
     }
 
     public UUID getStreamId() {
-        return streamId;
+        return aggregateSnapshot.getStreamId();
     }
 
     public long getPositionInStream() {
-        return positionInStream;
+        return aggregateSnapshot.getPositionInStream();
     }
 
-    public Aggregate getAggregate() {
-        return aggregate;
+    public AggregateSnapshot<?> getAggregateSnapshot() {
+        return aggregateSnapshot;
     }
 
     @Override
@@ -33,7 +29,8 @@ public class SnapshotSaverRequestEvent {
         return new StringJoiner(", ", SnapshotSaverRequestEvent.class.getSimpleName() + "[", "]")
                 .add("streamId=" + getStreamId())
                 .add("positionInStream=" + getPositionInStream())
-                .add("aggregate=" + (getAggregate() == null ? "" : getAggregate().getClass().getName()))
+                .add("aggregate=" + aggregateSnapshot.getType())
+                .add("format=" + aggregateSnapshot.getFormat())
                 .toString();
     }
 }
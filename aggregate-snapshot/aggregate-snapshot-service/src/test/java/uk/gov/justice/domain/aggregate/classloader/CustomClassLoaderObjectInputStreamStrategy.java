@@ -4,6 +4,7 @@ import uk.gov.justice.domain.snapshot.ObjectInputStreamStrategy;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -20,4 +21,9 @@ public class CustomClassLoaderObjectInputStreamStrategy implements ObjectInputSt
     public ObjectInputStream objectInputStreamOf(final ByteArrayInputStream bis) throws IOException {
         return new CustomObjectInputStream(bis, classLoader);
     }
+
+    @Override
+    public ObjectInputStream objectInputStreamOf(final InputStream inputStream) throws IOException {
+        return new CustomObjectInputStream(inputStream, classLoader);
+    }
 }
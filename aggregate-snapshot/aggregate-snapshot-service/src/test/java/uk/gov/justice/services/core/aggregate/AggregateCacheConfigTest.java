@@ -0,0 +1,43 @@
+package uk.gov.justice.services.core.aggregate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AggregateCacheConfigTest {
+
+    @InjectMocks
+    private AggregateCacheConfig aggregateCacheConfig;
+
+    @Test
+    public void shouldGetWhetherAggregatesShouldBeCached() throws Exception {
+
+        setField(aggregateCacheConfig, "aggregateCacheEnabled", "true");
+        assertThat(aggregateCacheConfig.isAggregateCacheEnabled(), is(true));
+
+        setField(aggregateCacheConfig, "aggregateCacheEnabled", "false");
+        assertThat(aggregateCacheConfig.isAggregateCacheEnabled(), is(false));
+    }
+
+    @Test
+    public void shouldGetTheMaximumNumberOfCachedAggregates() throws Exception {
+
+        setField(aggregateCacheConfig, "aggregateCacheMaxSize", "250");
+        assertThat(aggregateCacheConfig.getAggregateCacheMaxSize(), is(250));
+    }
+
+    @Test
+    public void shouldGetTheTimeToLiveOfCachedAggregates() throws Exception {
+
+        setField(aggregateCacheConfig, "aggregateCacheTtlSeconds", "60");
+        assertThat(aggregateCacheConfig.getAggregateCacheTtl(), is(Duration.ofSeconds(60)));
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.justice.services.core.aggregate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.AGGREGATE_CACHE_EVICTIONS_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.AGGREGATE_CACHE_HITS_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.AGGREGATE_CACHE_MISSES_COUNTER_NAME;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+public class AggregateCacheMetricsTest {
+
+    private final AggregateCacheMetrics aggregateCacheMetrics = new AggregateCacheMetrics();
+
+    @Test
+    public void shouldCountHitsMissesAndEvictions() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(aggregateCacheMetrics, "meterRegistry", meterRegistry);
+        aggregateCacheMetrics.registerMeters();
+
+        aggregateCacheMetrics.hit();
+        aggregateCacheMetrics.hit();
+        aggregateCacheMetrics.miss();
+        aggregateCacheMetrics.evicted();
+
+        assertThat(meterRegistry.get(AGGREGATE_CACHE_HITS_COUNTER_NAME).counter().count(), is(2.0));
+        assertThat(meterRegistry.get(AGGREGATE_CACHE_MISSES_COUNTER_NAME).counter().count(), is(1.0));
+        assertThat(meterRegistry.get(AGGREGATE_CACHE_EVICTIONS_COUNTER_NAME).counter().count(), is(1.0));
+    }
+}
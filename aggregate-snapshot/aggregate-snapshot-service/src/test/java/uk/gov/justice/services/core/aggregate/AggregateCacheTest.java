@@ -0,0 +1,292 @@
+package uk.gov.justice.services.core.aggregate;
+
+import static java.util.UUID.randomUUID;
+import static javax.transaction.Status.STATUS_COMMITTED;
+import static javax.transaction.Status.STATUS_ROLLEDBACK;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.domain.aggregate.TestAggregate;
+import uk.gov.justice.domain.event.EventA;
+import uk.gov.justice.domain.snapshot.VersionedAggregate;
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.EventRepository;
+import uk.gov.justice.services.eventsourcing.source.core.EventStreamClearedEvent;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class AggregateCacheTest {
+
+    @Mock
+    private AggregateCacheConfig aggregateCacheConfig;
+
+    @Mock
+    private AggregateCacheMetrics aggregateCacheMetrics;
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UtcClock clock;
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private AggregateCache aggregateCache;
+
+    private final ZonedDateTime now = new UtcClock().now();
+
+    @Test
+    public void shouldNeitherCacheNorFindAggregatesIfCachingDisabled() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        when(aggregateCacheConfig.isAggregateCacheEnabled()).thenReturn(false);
+        aggregateCache.postConstruct();
+
+        aggregateCache.put(streamId, 1L, new TestAggregate());
+
+        assertThat(aggregateCache.isEnabled(), is(false));
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+        verifyNoInteractions(transactionSynchronizationRegistry, aggregateCacheMetrics);
+    }
+
+    @Test
+    public void shouldReturnEmptyAndRecordMissIfAggregateNotCached() throws Exception {
+
+        givenCachingEnabledWithMaxSize(10);
+
+        assertThat(aggregateCache.get(randomUUID(), TestAggregate.class), is(Optional.empty()));
+        verify(aggregateCacheMetrics).miss();
+    }
+
+    @Test
+    public void shouldHandOutTheCachedAggregateToOneCallerOnlyOnceTheTransactionCommits() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final TestAggregate aggregate = aggregateWithEventsApplied(2);
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, aggregate);
+        completeTransaction(STATUS_COMMITTED);
+
+        when(eventRepository.eventExistsAtPosition(streamId, 7L)).thenReturn(true);
+
+        final Optional<VersionedAggregate<TestAggregate>> versionedAggregate = aggregateCache.get(streamId, TestAggregate.class);
+
+        assertThat(versionedAggregate.isPresent(), is(true));
+        assertThat(versionedAggregate.get().getVersionId(), is(7L));
+        assertThat(versionedAggregate.get().getAggregate(), is(sameInstance(aggregate)));
+        verify(aggregateCacheMetrics).hit();
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+        verify(aggregateCacheMetrics).miss();
+    }
+
+    @Test
+    public void shouldDropTheCachedAggregateIfTheEventLogNoLongerHoldsTheEventAtItsVersion() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, new TestAggregate());
+        completeTransaction(STATUS_COMMITTED);
+
+        when(eventRepository.eventExistsAtPosition(streamId, 7L)).thenReturn(false);
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+        verify(aggregateCacheMetrics).miss();
+        verify(aggregateCacheMetrics, never()).hit();
+        verify(logger).debug("No event at version {} of cached aggregate {} of stream {}, dropping it from the aggregate cache", 7L, TestAggregate.class.getName(), streamId);
+    }
+
+    @Test
+    public void shouldNotCacheTheAggregateIfTheTransactionRollsBack() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, new TestAggregate());
+        completeTransaction(STATUS_ROLLEDBACK);
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldKeepTheLaterVersionWhenTransactionsCommitOutOfOrder() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 9L, aggregateWithEventsApplied(9));
+        completeTransaction(STATUS_COMMITTED);
+        putInTransaction(streamId, 7L, aggregateWithEventsApplied(7));
+        completeTransaction(STATUS_COMMITTED);
+
+        when(eventRepository.eventExistsAtPosition(streamId, 9L)).thenReturn(true);
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class).get().getVersionId(), is(9L));
+    }
+
+    @Test
+    public void shouldExpireCachedAggregatesOlderThanTheTimeToLive() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, new TestAggregate());
+        completeTransaction(STATUS_COMMITTED);
+
+        when(clock.now()).thenReturn(now.plusMinutes(5).plusSeconds(1));
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+        verify(aggregateCacheMetrics).evicted();
+        verify(aggregateCacheMetrics).miss();
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedAggregateWhenFull() throws Exception {
+
+        final UUID streamId_1 = randomUUID();
+        final UUID streamId_2 = randomUUID();
+
+        givenCachingEnabledWithMaxSize(1);
+        putInTransaction(streamId_1, 1L, new TestAggregate());
+        completeTransaction(STATUS_COMMITTED);
+        putInTransaction(streamId_2, 2L, new TestAggregate());
+        completeTransaction(STATUS_COMMITTED);
+
+        when(eventRepository.eventExistsAtPosition(streamId_2, 2L)).thenReturn(true);
+
+        assertThat(aggregateCache.get(streamId_2, TestAggregate.class).isPresent(), is(true));
+        assertThat(aggregateCache.get(streamId_1, TestAggregate.class), is(Optional.empty()));
+        verify(aggregateCacheMetrics).evicted();
+    }
+
+    @Test
+    public void shouldDropAllCachedAggregatesOfAStreamWhenInvalidated() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, new TestAggregate());
+        completeTransaction(STATUS_COMMITTED);
+
+        aggregateCache.invalidate(streamId);
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldDropAllCachedAggregatesOfAStreamWhenTheStreamIsCleared() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, new TestAggregate());
+        completeTransaction(STATUS_COMMITTED);
+
+        aggregateCache.onEventStreamCleared(new EventStreamClearedEvent(streamId));
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    public void shouldDropAggregatesHeldAgainstTheCurrentTransactionWhenInvalidated() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        putInTransaction(streamId, 7L, new TestAggregate());
+
+        final ArgumentCaptor<Object> pendingAggregatesCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(transactionSynchronizationRegistry).putResource(anyString(), pendingAggregatesCaptor.capture());
+        when(transactionSynchronizationRegistry.getResource(anyString())).thenReturn(pendingAggregatesCaptor.getValue());
+
+        aggregateCache.invalidate(streamId);
+
+        assertThat(((Map<?, ?>) pendingAggregatesCaptor.getValue()).isEmpty(), is(true));
+
+        completeTransaction(STATUS_COMMITTED);
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldNotCacheTheAggregateIfThereIsNoActiveTransaction() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        givenCachingEnabledWithMaxSize(10);
+        when(transactionSynchronizationRegistry.getResource(anyString())).thenReturn(null);
+        doThrow(new IllegalStateException("No transaction")).when(transactionSynchronizationRegistry).putResource(anyString(), any());
+
+        aggregateCache.put(streamId, 7L, new TestAggregate());
+
+        assertThat(aggregateCache.get(streamId, TestAggregate.class), is(Optional.empty()));
+        verify(logger).debug("No active transaction, not caching aggregate of stream {}", streamId);
+        verify(transactionSynchronizationRegistry, never()).registerInterposedSynchronization(any(Synchronization.class));
+    }
+
+    private void givenCachingEnabledWithMaxSize(final int maxSize) {
+        when(aggregateCacheConfig.isAggregateCacheEnabled()).thenReturn(true);
+        when(aggregateCacheConfig.getAggregateCacheMaxSize()).thenReturn(maxSize);
+        when(aggregateCacheConfig.getAggregateCacheTtl()).thenReturn(Duration.ofMinutes(5));
+        aggregateCache.postConstruct();
+    }
+
+    private void putInTransaction(final UUID streamId, final long versionId, final TestAggregate aggregate) {
+        when(transactionSynchronizationRegistry.getResource(anyString())).thenReturn(null);
+        when(clock.now()).thenReturn(now);
+
+        aggregateCache.put(streamId, versionId, aggregate);
+
+        verify(transactionSynchronizationRegistry, times(1)).putResource(anyString(), any());
+    }
+
+    private void completeTransaction(final int status) {
+        final ArgumentCaptor<Synchronization> synchronizationCaptor = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactionSynchronizationRegistry, times(1)).registerInterposedSynchronization(synchronizationCaptor.capture());
+        synchronizationCaptor.getValue().afterCompletion(status);
+        clearInvocations(transactionSynchronizationRegistry);
+    }
+
+    private TestAggregate aggregateWithEventsApplied(final int numberOfEvents) {
+        final TestAggregate aggregate = new TestAggregate();
+        for (int index = 0; index < numberOfEvents; index++) {
+            aggregate.apply(new EventA("event " + index));
+        }
+        return aggregate;
+    }
+}
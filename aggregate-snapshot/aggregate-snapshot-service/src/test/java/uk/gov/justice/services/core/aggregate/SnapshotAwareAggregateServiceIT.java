@@ -51,7 +51,9 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.PublishQueueReposit
 import uk.gov.justice.services.eventsourcing.repository.jdbc.PublishQueuesDataAccess;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventConverter;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventStreamReadConfig;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.eventstream.EventStreamJdbcRepository;
+import uk.gov.justice.services.eventsourcing.source.core.EventAppendConfig;
 import uk.gov.justice.services.eventsourcing.source.core.EventAppendTriggerService;
 import uk.gov.justice.services.eventsourcing.source.core.EventAppender;
 import uk.gov.justice.services.eventsourcing.source.core.EventSource;
@@ -68,6 +70,7 @@ import uk.gov.justice.services.eventsourcing.source.core.SnapshotAwareEventSourc
 import uk.gov.justice.services.eventsourcing.source.core.SystemEventService;
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.DefaultSnapshotService;
+import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotSerializerProvider;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.DefaultSnapshotStrategy;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.AsyncSnapshotService;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.SnapshotDeleterObserver;
@@ -193,6 +196,11 @@ public class SnapshotAwareAggregateServiceIT {
             DefaultSnapshotStrategy.class,
             ValueProducer.class,
             DefaultSnapshotService.class,
+            SnapshotSerializerProvider.class,
+            AggregateCache.class,
+            AggregateCacheConfig.class,
+            AggregateCacheMetrics.class,
+            TestMeterRegistryProducer.class,
             UtcClock.class,
             TestServiceContextNameProvider.class,
             GlobalValueProducer.class,
@@ -213,12 +221,14 @@ public class SnapshotAwareAggregateServiceIT {
             SubscriptionSorter.class,
             JdbcBasedEventRepository.class,
             EventJdbcRepository.class,
+            EventStreamReadConfig.class,
             OpenEjbEventStoreDataSourceProvider.class,
             EventStreamJdbcRepository.class,
             MaxRetryProvider.class,
             EventSourceNameProvider.class,
             TestSimpleTransactionSynchronizationRegistry.class,
             EventAppendTriggerService.class,
+            EventAppendConfig.class,
             EventStreamManager.class,
 
             JndiAppNameProvider.class,
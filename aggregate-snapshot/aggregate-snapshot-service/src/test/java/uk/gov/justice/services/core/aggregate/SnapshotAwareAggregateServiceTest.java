@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
@@ -75,6 +76,9 @@ public class SnapshotAwareAggregateServiceTest {
     @Mock
     private AsyncSnapshotService asyncSnapshotService;
 
+    @Mock
+    private AggregateCache aggregateCache;
+
     @Spy
     private DefaultAggregateService defaultAggregateService;
 
@@ -291,4 +295,48 @@ public class SnapshotAwareAggregateServiceTest {
         assertThat(aggregate1.recordedEvents(), hasItems(eventA, eventB, eventC));
         verifyNoMoreInteractions(asyncSnapshotService);
     }
+
+    @Test
+    public void shouldReplayOnlyEventsAfterTheCachedVersionOnCacheHit() throws AggregateChangeDetectedException {
+        final UUID streamId = randomUUID();
+        final TestAggregate cachedAggregate = new TestAggregate();
+        final long cachedVersion = 5L;
+        final JsonEnvelope jsonEventA = envelope().with(metadataWithRandomUUID("eventA")).withPayloadOf("value1", "name1").build();
+        final EventA eventA = new EventA("A1");
+
+        registerEvent(EventA.class, "eventA");
+
+        when(eventStream.getId()).thenReturn(streamId);
+        when(aggregateCache.get(streamId, TestAggregate.class)).thenReturn(Optional.of(new VersionedAggregate<>(cachedVersion, cachedAggregate)));
+        when(eventStream.readFrom(cachedVersion + 1)).thenReturn(of(jsonEventA));
+        when(jsonObjectToObjectConverter.convert(jsonEventA.payloadAsJsonObject(), EventA.class)).thenReturn(eventA);
+        when(aggregateCache.isEnabled()).thenReturn(true);
+        when(eventStream.size()).thenReturn(cachedVersion + 1);
+
+        final TestAggregate aggregate = aggregateService.get(eventStream, TestAggregate.class);
+
+        assertThat(aggregate, equalTo(cachedAggregate));
+        assertThat(aggregate.recordedEvents(), hasItems(eventA));
+        verify(aggregateCache).put(streamId, cachedVersion + 1, aggregate);
+        verifyNoInteractions(snapshotService);
+    }
+
+    @Test
+    public void shouldCacheAggregateLoadedFromSnapshotOnCacheMiss() throws AggregateChangeDetectedException {
+        final UUID streamId = randomUUID();
+        final TestAggregate snapshotAggregate = new TestAggregate();
+        final long snapshotVersion = 2L;
+
+        when(eventStream.getId()).thenReturn(streamId);
+        when(aggregateCache.get(streamId, TestAggregate.class)).thenReturn(Optional.empty());
+        when(snapshotService.getLatestVersionedAggregate(streamId, TestAggregate.class)).thenReturn(Optional.of(new VersionedAggregate<>(snapshotVersion, snapshotAggregate)));
+        when(eventStream.readFrom(snapshotVersion + 1)).thenReturn(Stream.empty());
+        when(aggregateCache.isEnabled()).thenReturn(true);
+        when(eventStream.size()).thenReturn(snapshotVersion);
+
+        final TestAggregate aggregate = aggregateService.get(eventStream, TestAggregate.class);
+
+        assertThat(aggregate, equalTo(snapshotAggregate));
+        verify(aggregateCache).put(streamId, snapshotVersion, aggregate);
+    }
 }
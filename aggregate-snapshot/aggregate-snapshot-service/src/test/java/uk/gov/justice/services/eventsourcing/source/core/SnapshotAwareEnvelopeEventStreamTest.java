@@ -5,6 +5,10 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -12,6 +16,8 @@ import static uk.gov.justice.services.test.utils.core.messaging.JsonEnvelopeBuil
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithDefaults;
 
 import uk.gov.justice.domain.aggregate.TestAggregate;
+import uk.gov.justice.services.core.aggregate.AggregateCache;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotService;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
@@ -37,11 +43,14 @@ public class SnapshotAwareEnvelopeEventStreamTest {
     @Mock
     private SnapshotService snapshotService;
 
+    @Mock
+    private AggregateCache aggregateCache;
+
     private SnapshotAwareEnvelopeEventStream eventStream;
 
     @BeforeEach
     public void setup() {
-        eventStream = new SnapshotAwareEnvelopeEventStream(STREAM_ID, eventStreamManager, snapshotService, EVENT_SOURCE_NAME);
+        eventStream = new SnapshotAwareEnvelopeEventStream(STREAM_ID, eventStreamManager, snapshotService, aggregateCache, EVENT_SOURCE_NAME);
     }
 
     @Test
@@ -118,6 +127,7 @@ public class SnapshotAwareEnvelopeEventStreamTest {
         eventStream.append(streamOfEvents);
 
         verify(snapshotService).attemptAggregateStore(STREAM_ID, streamVersionAfterAppending, aggregate);
+        verify(aggregateCache).put(STREAM_ID, streamVersionAfterAppending, aggregate);
 
     }
 
@@ -129,6 +139,8 @@ public class SnapshotAwareEnvelopeEventStreamTest {
         eventStream.append(Stream.of(envelope().build()), Tolerance.NON_CONSECUTIVE);
 
         verifyNoInteractions(snapshotService);
+        verify(aggregateCache).invalidate(STREAM_ID);
+        verify(aggregateCache, never()).put(any(UUID.class), anyLong(), any(TestAggregate.class));
 
     }
 
@@ -145,6 +157,7 @@ public class SnapshotAwareEnvelopeEventStreamTest {
         eventStream.append(streamOfEvents, Tolerance.CONSECUTIVE);
 
         verify(snapshotService).attemptAggregateStore(STREAM_ID, streamVersionAfterAppending, aggregate);
+        verify(aggregateCache).put(STREAM_ID, streamVersionAfterAppending, aggregate);
 
     }
 
@@ -162,7 +175,35 @@ public class SnapshotAwareEnvelopeEventStreamTest {
         eventStream.appendAfter(streamOfEvents, streamVersionToAppendAfter);
 
         verify(snapshotService).attemptAggregateStore(STREAM_ID, streamVersionAfterAppending, aggregate);
+        verify(aggregateCache).put(STREAM_ID, streamVersionAfterAppending, aggregate);
 
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldInvalidateCachedAggregatesOfStreamOnOptimisticLockingFailureWhenAppending() throws Exception {
+        final OptimisticLockingRetryException optimisticLockingRetryException = new OptimisticLockingRetryException("Ooops");
+        final Stream<JsonEnvelope> streamOfEvents = Stream.of(envelope().build());
+        when(eventStreamManager.append(STREAM_ID, streamOfEvents)).thenThrow(optimisticLockingRetryException);
+
+        final OptimisticLockingRetryException thrown = assertThrows(OptimisticLockingRetryException.class, () -> eventStream.append(streamOfEvents));
+
+        assertThat(thrown, is(optimisticLockingRetryException));
+        verify(aggregateCache).invalidate(STREAM_ID);
+        verifyNoInteractions(snapshotService);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldInvalidateCachedAggregatesOfStreamOnOptimisticLockingFailureWhenAppendingAfterPosition() throws Exception {
+        final OptimisticLockingRetryException optimisticLockingRetryException = new OptimisticLockingRetryException("Ooops");
+        final Stream<JsonEnvelope> streamOfEvents = Stream.of(envelope().build());
+        when(eventStreamManager.appendAfter(STREAM_ID, streamOfEvents, 16L)).thenThrow(optimisticLockingRetryException);
+
+        final OptimisticLockingRetryException thrown = assertThrows(OptimisticLockingRetryException.class, () -> eventStream.appendAfter(streamOfEvents, 16L));
+
+        assertThat(thrown, is(optimisticLockingRetryException));
+        verify(aggregateCache).invalidate(STREAM_ID);
+        verifyNoInteractions(snapshotService);
+    }
 }
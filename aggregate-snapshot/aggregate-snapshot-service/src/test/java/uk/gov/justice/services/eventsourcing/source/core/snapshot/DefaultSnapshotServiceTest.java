@@ -4,6 +4,7 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
@@ -14,7 +15,11 @@ import static org.mockito.Mockito.when;
 
 import uk.gov.justice.domain.aggregate.NoSerializableTestAggregate;
 import uk.gov.justice.domain.aggregate.TestAggregate;
+import uk.gov.justice.domain.event.EventA;
 import uk.gov.justice.domain.snapshot.AggregateSnapshot;
+import uk.gov.justice.domain.snapshot.DefaultObjectInputStreamStrategy;
+import uk.gov.justice.domain.snapshot.CompressedJavaSnapshotSerializer;
+import uk.gov.justice.domain.snapshot.JavaSnapshotSerializer;
 import uk.gov.justice.domain.snapshot.VersionedAggregate;
 import uk.gov.justice.services.common.util.UtcClock;
 import uk.gov.justice.services.core.aggregate.exception.AggregateChangeDetectedException;
@@ -45,6 +50,9 @@ public class DefaultSnapshotServiceTest {
     @Mock
     private SnapshotStrategy snapshotStrategy;
 
+    @Mock
+    private SnapshotSerializerProvider snapshotSerializerProvider;
+
     @Mock
     private Logger logger;
 
@@ -82,6 +90,7 @@ public class DefaultSnapshotServiceTest {
 
     @Test
     public void shouldCreateAndRemoveOldSnapshotsOnSuccessfulCreateIfStrategyMandatesCreation() {
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(new JavaSnapshotSerializer());
         final TestAggregate aggregate = new TestAggregate();
         final Long currentSnapshotVersion = 0l;
         final Long currentAggregateVersionId = 26l;
@@ -104,6 +113,7 @@ public class DefaultSnapshotServiceTest {
 
     @Test
     public void shouldNotRemoveOldSnapshotsWhenSnapshotStoreFails() {
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(new JavaSnapshotSerializer());
         final TestAggregate aggregate = new TestAggregate();
         final Long currentSnapshotVersion = 0l;
         final Long currentAggregateVersionId = 26l;
@@ -132,6 +142,7 @@ public class DefaultSnapshotServiceTest {
 
     @Test
     public void shouldNotCreateSnapshotWhenStrategyMandatesCreationButFailsSerialization() {
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(new JavaSnapshotSerializer());
         final NoSerializableTestAggregate aggregate = new NoSerializableTestAggregate();
         final Long currentSnapshotVersion = 16l;
         final Long currentAggregateVersionId = 36l;
@@ -146,6 +157,7 @@ public class DefaultSnapshotServiceTest {
 
     @Test
     public void shouldStoreSnapshotSimply() {
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(new JavaSnapshotSerializer());
         final TestAggregate aggregate = new TestAggregate();
         final Long currentSnapshotVersion = 16l;
         when(snapshotRepository.storeSnapshot(any(AggregateSnapshot.class))).thenReturn(true);
@@ -162,6 +174,7 @@ public class DefaultSnapshotServiceTest {
 
     @Test
     public void storeSnapshotSimplyShouldReturnFalseOnSQLException() {
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(new JavaSnapshotSerializer());
         final SerializationException exception = new SerializationException("Cannot save");
         final TestAggregate aggregate = new TestAggregate();
         final Long currentSnapshotVersion = 16l;
@@ -176,4 +189,63 @@ public class DefaultSnapshotServiceTest {
         verify(logger).error("Error creating snapshot for %s".formatted(STREAM_ID), exception);
         verifyNoMoreInteractions(logger, snapshotRepository);
     }
+
+    @Test
+    public void shouldStoreSnapshotsInTheConfiguredFormat() throws Exception {
+        final TestAggregate aggregate = new TestAggregate();
+        aggregate.apply(new EventA("some event"));
+        final CompressedJavaSnapshotSerializer compressedJavaSnapshotSerializer = new CompressedJavaSnapshotSerializer();
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(compressedJavaSnapshotSerializer);
+        when(snapshotRepository.storeSnapshot(any(AggregateSnapshot.class))).thenReturn(true);
+
+        snapshotService.storeAggregateSimply(STREAM_ID, 16L, aggregate);
+
+        verify(snapshotRepository).storeSnapshot(snapshotArgumentCaptor.capture());
+        final AggregateSnapshot<TestAggregate> aggregateSnapshot = snapshotArgumentCaptor.getValue();
+        assertThat(aggregateSnapshot.getFormat(), is("java-compressed"));
+        assertThat(aggregateSnapshot.getAggregate(compressedJavaSnapshotSerializer, new DefaultObjectInputStreamStrategy()).numberOfAppliedEvents(), is(1));
+    }
+
+    @Test
+    public void shouldStoreAlreadySerializedSnapshotSimply() {
+        final AggregateSnapshot<TestAggregate> aggregateSnapshot = new AggregateSnapshot<>(STREAM_ID, 16L, new TestAggregate());
+        when(snapshotRepository.storeSnapshot(aggregateSnapshot)).thenReturn(true);
+
+        assertThat(snapshotService.storeSnapshotSimply(aggregateSnapshot), is(true));
+
+        verify(logger).debug("Storing snapshot of aggregate: {}, streamId: {}, version: {}", TestAggregate.class.getName(), STREAM_ID, 16L);
+        verify(logger).debug("Stored successfully {}", true);
+        verifyNoMoreInteractions(logger, snapshotRepository);
+    }
+
+    @Test
+    public void shouldReadSnapshotsUsingTheSerializerOfTheirStoredFormat() throws Exception {
+        final TestAggregate aggregate = new TestAggregate();
+        aggregate.apply(new EventA("some event"));
+        final CompressedJavaSnapshotSerializer compressedJavaSnapshotSerializer = new CompressedJavaSnapshotSerializer();
+        final AggregateSnapshot<TestAggregate> aggregateSnapshot = new AggregateSnapshot<>(STREAM_ID, 16L, aggregate, compressedJavaSnapshotSerializer);
+
+        when(snapshotRepository.getLatestSnapshot(STREAM_ID, TestAggregate.class)).thenReturn(Optional.of(aggregateSnapshot));
+        when(snapshotSerializerProvider.serializerFor("java-compressed")).thenReturn(Optional.of(compressedJavaSnapshotSerializer));
+
+        final Optional<VersionedAggregate<TestAggregate>> versionedAggregate = snapshotService.getLatestVersionedAggregate(STREAM_ID, TestAggregate.class);
+
+        assertThat(versionedAggregate.isPresent(), is(true));
+        assertThat(versionedAggregate.get().getVersionId(), is(16L));
+        assertThat(versionedAggregate.get().getAggregate().numberOfAppliedEvents(), is(1));
+    }
+
+    @Test
+    public void shouldThrowAggregateChangeDetectedExceptionIfNoSerializerFoundForSnapshotFormat() {
+        final AggregateSnapshot<TestAggregate> aggregateSnapshot = new AggregateSnapshot<>(STREAM_ID, 16L, TestAggregate.class.getName(), new byte[0], "unknown-format");
+
+        when(snapshotRepository.getLatestSnapshot(STREAM_ID, TestAggregate.class)).thenReturn(Optional.of(aggregateSnapshot));
+        when(snapshotSerializerProvider.serializerFor("unknown-format")).thenReturn(Optional.empty());
+
+        final AggregateChangeDetectedException aggregateChangeDetectedException = assertThrows(
+                AggregateChangeDetectedException.class,
+                () -> snapshotService.getLatestVersionedAggregate(STREAM_ID, TestAggregate.class));
+
+        assertThat(aggregateChangeDetectedException.getMessage(), is("No SnapshotSerializer found for snapshot format 'unknown-format' of Aggregate uk.gov.justice.domain.aggregate.TestAggregate"));
+    }
 }
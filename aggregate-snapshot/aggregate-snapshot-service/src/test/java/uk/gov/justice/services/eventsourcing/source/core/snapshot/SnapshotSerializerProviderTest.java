@@ -0,0 +1,81 @@
+package uk.gov.justice.services.eventsourcing.source.core.snapshot;
+
+import static java.util.Collections.emptyIterator;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.domain.snapshot.CompressedJavaSnapshotSerializer;
+import uk.gov.justice.domain.snapshot.JavaSnapshotSerializer;
+import uk.gov.justice.domain.snapshot.SnapshotSerializer;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.enterprise.inject.Instance;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SnapshotSerializerProviderTest {
+
+    @Mock
+    private Instance<SnapshotSerializer> snapshotSerializers;
+
+    @InjectMocks
+    private SnapshotSerializerProvider snapshotSerializerProvider;
+
+    @Test
+    public void shouldUseJavaSerializationForWritingByDefault() throws Exception {
+
+        snapshotSerializerProvider.snapshotSerializerFormat = "java";
+        when(snapshotSerializers.iterator()).thenReturn(emptyIterator());
+
+        assertThat(snapshotSerializerProvider.getWriteSerializer(), is(instanceOf(JavaSnapshotSerializer.class)));
+    }
+
+    @Test
+    public void shouldUseTheConfiguredFormatForWriting() throws Exception {
+
+        snapshotSerializerProvider.snapshotSerializerFormat = "java-compressed";
+        when(snapshotSerializers.iterator()).thenReturn(emptyIterator());
+
+        assertThat(snapshotSerializerProvider.getWriteSerializer(), is(instanceOf(CompressedJavaSnapshotSerializer.class)));
+    }
+
+    @Test
+    public void shouldFindCustomSerializersDeployedAsCdiBeans() throws Exception {
+
+        final SnapshotSerializer customSnapshotSerializer = mock(SnapshotSerializer.class);
+        when(customSnapshotSerializer.format()).thenReturn("custom");
+        when(snapshotSerializers.iterator()).thenReturn(List.of(customSnapshotSerializer).iterator());
+
+        assertThat(snapshotSerializerProvider.serializerFor("custom"), is(Optional.of(customSnapshotSerializer)));
+    }
+
+    @Test
+    public void shouldReturnEmptyIfNoSerializerFoundForFormat() throws Exception {
+
+        when(snapshotSerializers.iterator()).thenReturn(emptyIterator());
+
+        assertThat(snapshotSerializerProvider.serializerFor("unknown-format"), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldFailIfNoSerializerFoundForTheConfiguredFormat() throws Exception {
+
+        snapshotSerializerProvider.snapshotSerializerFormat = "unknown-format";
+        when(snapshotSerializers.iterator()).thenReturn(emptyIterator());
+
+        final IllegalStateException illegalStateException = assertThrows(IllegalStateException.class, () -> snapshotSerializerProvider.getWriteSerializer());
+
+        assertThat(illegalStateException.getMessage(), is("No SnapshotSerializer found for configured snapshot format 'unknown-format'"));
+    }
+}
@@ -1,10 +1,19 @@
 package uk.gov.justice.services.eventsourcing.source.core.snapshot.async;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import uk.gov.justice.domain.aggregate.TestAggregate;
+import uk.gov.justice.domain.event.EventA;
+import uk.gov.justice.domain.snapshot.AggregateSnapshot;
+import uk.gov.justice.domain.snapshot.DefaultObjectInputStreamStrategy;
+import uk.gov.justice.domain.snapshot.CompressedJavaSnapshotSerializer;
+import uk.gov.justice.domain.snapshot.JavaSnapshotSerializer;
 import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.eventsourcing.source.core.snapshot.SnapshotSerializerProvider;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.event.SnapshotDeleterRequestEvent;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.event.SnapshotSaverRequestEvent;
 
@@ -14,6 +23,8 @@ import javax.enterprise.event.Event;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,6 +36,10 @@ class AsyncSnapshotServiceTest {
     private Event<SnapshotSaverRequestEvent> aggregateSnapshotSaverRequestEventFirer;
     @Mock
     private Event<SnapshotDeleterRequestEvent> aggregateSnapshotDeletionRequestFirer;
+    @Mock
+    private SnapshotSerializerProvider snapshotSerializerProvider;
+    @Captor
+    private ArgumentCaptor<SnapshotSaverRequestEvent> snapshotSaverRequestEventCaptor;
 
     @InjectMocks
     private AsyncSnapshotService snapshotService;
@@ -32,10 +47,32 @@ class AsyncSnapshotServiceTest {
 
     @Test
     void shouldSaveAggregateSnapshot() {
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(new JavaSnapshotSerializer());
         snapshotService.saveAggregateSnapshot(UUID.randomUUID(), 1L, new TestAggregate());
         verify(aggregateSnapshotSaverRequestEventFirer).fireAsync(any(SnapshotSaverRequestEvent.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSerializeAggregateBeforeFiringSoLaterChangesAreNotSaved() throws Exception {
+        final UUID streamId = UUID.randomUUID();
+        final TestAggregate aggregate = new TestAggregate();
+        final CompressedJavaSnapshotSerializer compressedJavaSnapshotSerializer = new CompressedJavaSnapshotSerializer();
+        when(snapshotSerializerProvider.getWriteSerializer()).thenReturn(compressedJavaSnapshotSerializer);
+
+        snapshotService.saveAggregateSnapshot(streamId, 2L, aggregate);
+        aggregate.apply(new EventA("applied after the snapshot was requested"));
+
+        verify(aggregateSnapshotSaverRequestEventFirer).fireAsync(snapshotSaverRequestEventCaptor.capture());
+        final SnapshotSaverRequestEvent snapshotSaverRequestEvent = snapshotSaverRequestEventCaptor.getValue();
+        final AggregateSnapshot<TestAggregate> aggregateSnapshot = (AggregateSnapshot<TestAggregate>) snapshotSaverRequestEvent.getAggregateSnapshot();
+
+        assertThat(snapshotSaverRequestEvent.getStreamId(), is(streamId));
+        assertThat(snapshotSaverRequestEvent.getPositionInStream(), is(2L));
+        assertThat(aggregateSnapshot.getFormat(), is("java-compressed"));
+        assertThat(aggregateSnapshot.getAggregate(compressedJavaSnapshotSerializer, new DefaultObjectInputStreamStrategy()).numberOfAppliedEvents(), is(0));
+    }
+
     @Test
     void shouldRemoveAggregateSnapshot() {
         snapshotService.removeAggregateSnapshot(UUID.randomUUID(), TestAggregate.class, 1L, new UtcClock().now());
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.domain.aggregate.TestAggregate;
+import uk.gov.justice.domain.snapshot.AggregateSnapshot;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.DefaultSnapshotService;
 import uk.gov.justice.services.eventsourcing.source.core.snapshot.async.event.SnapshotSaverRequestEvent;
 
@@ -30,11 +31,11 @@ class SnapshotSaverObserverTest {
     private SnapshotSaverObserver snapshotSaverObserver;
 
     final TestAggregate testAggregate = new TestAggregate();
-    final SnapshotSaverRequestEvent event = new SnapshotSaverRequestEvent(UUID.randomUUID(), 1L, testAggregate);
+    final SnapshotSaverRequestEvent event = new SnapshotSaverRequestEvent(new AggregateSnapshot<>(UUID.randomUUID(), 1L, testAggregate));
 
     @Test
     void shouldSave() {
-        when(snapshotService.storeAggregateSimply(event.getStreamId(), event.getPositionInStream(), event.getAggregate())).thenReturn(true);
+        when(snapshotService.storeSnapshotSimply(event.getAggregateSnapshot())).thenReturn(true);
 
         final boolean savedOK = snapshotSaverObserver.onSaveReceived(event);
 
@@ -48,7 +49,7 @@ class SnapshotSaverObserverTest {
     @Test
     void shouldReturnFalseOnException() {
         final RuntimeException exception = new RuntimeException("Failed save snapshot");
-        when(snapshotService.storeAggregateSimply(event.getStreamId(), event.getPositionInStream(), event.getAggregate())).thenThrow(exception);
+        when(snapshotService.storeSnapshotSimply(event.getAggregateSnapshot())).thenThrow(exception);
 
         final boolean savedOK = snapshotSaverObserver.onSaveReceived(event);
 
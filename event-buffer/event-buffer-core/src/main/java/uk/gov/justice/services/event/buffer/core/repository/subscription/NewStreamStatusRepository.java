@@ -8,6 +8,7 @@ import java.sql.Timestamp;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import javax.inject.Inject;
@@ -21,6 +22,7 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static javax.transaction.Transactional.TxType.MANDATORY;
+import static javax.transaction.Transactional.TxType.REQUIRES_NEW;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
 
 @SuppressWarnings("java:S1192")
@@ -79,6 +81,47 @@ public class NewStreamStatusRepository {
              LIMIT 1
              FOR NO KEY UPDATE OF ss SKIP LOCKED
             """;
+    private static final String SELECT_OLDEST_HEALTHY_STREAM_IDS_SQL = """
+             SELECT ss.stream_id
+             FROM stream_status ss
+             LEFT JOIN stream_error_retry ser
+                 ON ser.stream_id = ss.stream_id
+                 AND ser.source = ss.source
+                 AND ser.component = ss.component
+             WHERE ss.source = ?
+               AND ss.component = ?
+               AND ss.position < ss.latest_known_position
+               AND (
+                 ss.stream_error_id IS NULL
+                 OR ser.stream_id IS NULL
+                 OR (ser.retry_count < ? AND ser.next_retry_time <= now())
+               )
+             ORDER BY ss.discovered_at ASC
+             LIMIT ?
+             FOR NO KEY UPDATE OF ss SKIP LOCKED
+            """;
+    private static final String SELECT_HEALTHY_STREAM_BY_ID_SQL = """
+             SELECT
+                 ss.stream_id,
+                 ss.position,
+                 ss.latest_known_position,
+                 ss.stream_error_id
+             FROM stream_status ss
+             LEFT JOIN stream_error_retry ser
+                 ON ser.stream_id = ss.stream_id
+                 AND ser.source = ss.source
+                 AND ser.component = ss.component
+             WHERE ss.stream_id = ?
+               AND ss.source = ?
+               AND ss.component = ?
+               AND ss.position < ss.latest_known_position
+               AND (
+                 ss.stream_error_id IS NULL
+                 OR ser.stream_id IS NULL
+                 OR (ser.retry_count < ? AND ser.next_retry_time <= now())
+               )
+             FOR NO KEY UPDATE OF ss SKIP LOCKED
+            """;
     private static final String FIND_ALL_SQL = """
                 SELECT
                     stream_id,
@@ -151,6 +194,42 @@ public class NewStreamStatusRepository {
             WHERE stream_status.latest_known_position < EXCLUDED.latest_known_position
             """;
 
+    private static final String UPSERT_LATEST_KNOWN_POSITIONS = """
+              INSERT INTO stream_status (
+                stream_id,
+                position,
+                source,
+                component,
+                discovered_at,
+                latest_known_position,
+                is_up_to_date
+            )
+            SELECT discovered.stream_id, ?, ?, ?, ?, discovered.latest_known_position, false
+            FROM unnest(?::uuid[], ?::bigint[]) AS discovered(stream_id, latest_known_position)
+            ON CONFLICT (stream_id, source, component) DO UPDATE SET
+                    latest_known_position = EXCLUDED.latest_known_position,
+                    is_up_to_date = false
+            """;
+
+    private static final String UPSERT_LATEST_KNOWN_POSITIONS_IF_INCREASED = """
+              INSERT INTO stream_status (
+                stream_id,
+                position,
+                source,
+                component,
+                discovered_at,
+                latest_known_position,
+                is_up_to_date
+            )
+            SELECT discovered.stream_id, ?, ?, ?, ?, discovered.latest_known_position, false
+            FROM unnest(?::uuid[], ?::bigint[]) AS discovered(stream_id, latest_known_position)
+            ON CONFLICT (stream_id, source, component) DO UPDATE SET
+                    latest_known_position = EXCLUDED.latest_known_position,
+                    is_up_to_date = false
+            WHERE stream_status.latest_known_position < EXCLUDED.latest_known_position
+            RETURNING stream_id
+            """;
+
     private static final String SET_IS_UP_TO_DATE_SQL = """
             UPDATE stream_status
             SET is_up_to_date = ?
@@ -270,6 +349,79 @@ public class NewStreamStatusRepository {
         return empty();
     }
 
+    /**
+     * Finds the ids of up to 'limit' of the oldest streams with events to process, skipping
+     * streams locked by a worker and errored streams not yet due a retry.
+     *
+     * Runs in its own transaction, so the streams found are not left locked: each is handed to a
+     * worker which then locks it with {@link #lockStreamToProcess}.
+     */
+    @Transactional(REQUIRES_NEW)
+    public List<UUID> findOldestStreamIdsToProcess(final String source, final String component, final Integer maxRetries, final int limit) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_OLDEST_HEALTHY_STREAM_IDS_SQL)) {
+
+            preparedStatement.setString(1, source);
+            preparedStatement.setString(2, component);
+            preparedStatement.setInt(3, maxRetries);
+            preparedStatement.setInt(4, limit);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+
+                final List<UUID> streamIds = new ArrayList<>(limit);
+                while (resultSet.next()) {
+                    streamIds.add((UUID) resultSet.getObject("stream_id"));
+                }
+
+                return streamIds;
+            }
+
+        } catch (final SQLException e) {
+            throw new StreamStatusException(format(
+                    "Failed to select streams to process from stream_status table; source '%s', component '%s",
+                    source,
+                    component),
+                    e);
+        }
+    }
+
+    /**
+     * Locks the stream if it still has events to process, is not locked by another worker and,
+     * if errored, is due a retry.
+     */
+    public Optional<LockedStreamStatus> lockStreamToProcess(final UUID streamId, final String source, final String component, final Integer maxRetries) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_HEALTHY_STREAM_BY_ID_SQL)) {
+
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setString(2, source);
+            preparedStatement.setString(3, component);
+            preparedStatement.setInt(4, maxRetries);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+
+                if (resultSet.next()) {
+                    final Long position = resultSet.getLong("position");
+                    final Long latestKnownPosition = resultSet.getLong("latest_known_position");
+                    final UUID streamErrorId = resultSet.getObject("stream_error_id", UUID.class);
+                    return of(new LockedStreamStatus(streamId, position, latestKnownPosition, ofNullable(streamErrorId)));
+                }
+            }
+
+        } catch (final SQLException e) {
+            throw new StreamStatusException(format(
+                    "Failed to lock stream to process in stream_status table; stream_id '%s', source '%s', component '%s",
+                    streamId,
+                    source,
+                    component),
+                    e);
+        }
+
+        return empty();
+    }
+
     public StreamUpdateContext lockStreamAndGetStreamUpdateContext(final UUID streamId, final String source, final String componentName, final long incomingEventPosition) {
 
         try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
@@ -421,6 +573,97 @@ public class NewStreamStatusRepository {
         }
     }
 
+    /**
+     * Inserts or sets the latest_known_position of many streams of a source and component with a
+     * single statement, setting is_up_to_date to false. As with upsertLatestKnownPosition, existing
+     * rows are always updated, whatever their current latest_known_position.
+     *
+     * @param latestKnownPositions the latest known position of each stream, by stream id
+     */
+    public void upsertLatestKnownPositions(final Map<UUID, Long> latestKnownPositions, final String source, final String componentName,
+                                           final ZonedDateTime discoveredAt) {
+
+        if (latestKnownPositions.isEmpty()) {
+            return;
+        }
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(UPSERT_LATEST_KNOWN_POSITIONS)) {
+
+            setLatestKnownPositionsParameters(preparedStatement, connection, latestKnownPositions, source, componentName, discoveredAt);
+
+            preparedStatement.executeUpdate();
+        } catch (final SQLException e) {
+            throw new StreamStatusException(format(
+                    "Failed to upsert stream_status latest_known_position of %d streams; source '%s', component '%s'",
+                    latestKnownPositions.size(),
+                    source,
+                    componentName),
+                    e);
+        }
+    }
+
+    /**
+     * Inserts or advances the latest_known_position of many streams of a source and component with
+     * a single statement. Rows whose latest_known_position is already at or beyond the given
+     * position are left untouched.
+     *
+     * @param latestKnownPositions the latest known position of each stream, by stream id
+     * @return the ids of the streams inserted or advanced
+     */
+    public List<UUID> upsertLatestKnownPositionsIfIncreased(final Map<UUID, Long> latestKnownPositions, final String source, final String componentName,
+                                                           final ZonedDateTime discoveredAt) {
+
+        if (latestKnownPositions.isEmpty()) {
+            return List.of();
+        }
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(UPSERT_LATEST_KNOWN_POSITIONS_IF_INCREASED)) {
+
+            setLatestKnownPositionsParameters(preparedStatement, connection, latestKnownPositions, source, componentName, discoveredAt);
+
+            final List<UUID> advancedStreamIds = new ArrayList<>();
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    advancedStreamIds.add((UUID) resultSet.getObject("stream_id"));
+                }
+            }
+
+            return advancedStreamIds;
+        } catch (final SQLException e) {
+            throw new StreamStatusException(format(
+                    "Failed to upsert stream_status latest_known_position of %d streams; source '%s', component '%s'",
+                    latestKnownPositions.size(),
+                    source,
+                    componentName),
+                    e);
+        }
+    }
+
+    /**
+     * Stream ids are sorted before binding so that concurrent bulk upserts lock rows in the same
+     * order
+     */
+    private void setLatestKnownPositionsParameters(
+            final PreparedStatement preparedStatement,
+            final Connection connection,
+            final Map<UUID, Long> latestKnownPositions,
+            final String source,
+            final String componentName,
+            final ZonedDateTime discoveredAt) throws SQLException {
+
+        final List<UUID> streamIds = latestKnownPositions.keySet().stream().sorted().toList();
+        final Long[] positions = streamIds.stream().map(latestKnownPositions::get).toArray(Long[]::new);
+
+        preparedStatement.setLong(1, INITIAL_POSITION_IN_STREAM);
+        preparedStatement.setString(2, source);
+        preparedStatement.setString(3, componentName);
+        preparedStatement.setTimestamp(4, toSqlTimestamp(discoveredAt));
+        preparedStatement.setArray(5, connection.createArrayOf("uuid", streamIds.toArray()));
+        preparedStatement.setArray(6, connection.createArrayOf("bigint", positions));
+    }
+
     public void updateLatestKnownPositionAndIsUpToDateToFalse(final UUID streamId, final String source, final String componentName, final long latestKnownPosition) {
 
         try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
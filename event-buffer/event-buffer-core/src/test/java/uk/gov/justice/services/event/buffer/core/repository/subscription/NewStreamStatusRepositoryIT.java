@@ -1,6 +1,8 @@
 package uk.gov.justice.services.event.buffer.core.repository.subscription;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
@@ -240,6 +242,83 @@ public class NewStreamStatusRepositoryIT {
         assertThat(updatedStreamStatus.get().isUpToDate(), is(false));
     }
 
+    @Test
+    public void shouldInsertOrSetLatestKnownPositionsOfManyStreamsWhetherOrNotTheyHaveIncreased() throws Exception {
+
+        final DataSource viewStoreDataSource = new TestJdbcDataSourceProvider().getViewStoreDataSource(FRAMEWORK);
+        when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+        final String source = "some-source";
+        final String componentName = "some-component-name";
+        final ZonedDateTime discoveredAt = new UtcClock().now();
+
+        final UUID newStreamId = randomUUID();
+        final UUID alreadyKnownStreamId = randomUUID();
+
+        newStreamStatusRepository.insertIfNotExists(alreadyKnownStreamId, source, componentName, discoveredAt, true);
+        newStreamStatusRepository.upsertLatestKnownPosition(alreadyKnownStreamId, source, componentName, 10L, discoveredAt);
+        newStreamStatusRepository.setUpToDate(true, alreadyKnownStreamId, source, componentName);
+
+        newStreamStatusRepository.upsertLatestKnownPositions(
+                Map.of(newStreamId, 3L, alreadyKnownStreamId, 10L),
+                source,
+                componentName,
+                discoveredAt);
+
+        final StreamStatus newStreamStatus = newStreamStatusRepository.find(newStreamId, source, componentName).orElseThrow();
+        assertThat(newStreamStatus.position(), is(0L));
+        assertThat(newStreamStatus.latestKnownPosition(), is(3L));
+        assertThat(newStreamStatus.isUpToDate(), is(false));
+
+        final StreamStatus alreadyKnownStreamStatus = newStreamStatusRepository.find(alreadyKnownStreamId, source, componentName).orElseThrow();
+        assertThat(alreadyKnownStreamStatus.latestKnownPosition(), is(10L));
+        assertThat(alreadyKnownStreamStatus.isUpToDate(), is(false));
+    }
+
+    @Test
+    public void shouldInsertOrAdvanceLatestKnownPositionsOfManyStreamsAndReturnThoseAdvanced() throws Exception {
+
+        final DataSource viewStoreDataSource = new TestJdbcDataSourceProvider().getViewStoreDataSource(FRAMEWORK);
+        when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+        final String source = "some-source";
+        final String componentName = "some-component-name";
+        final ZonedDateTime discoveredAt = new UtcClock().now();
+
+        final UUID newStreamId = randomUUID();
+        final UUID behindStreamId = randomUUID();
+        final UUID alreadyKnownStreamId = randomUUID();
+
+        newStreamStatusRepository.insertIfNotExists(behindStreamId, source, componentName, discoveredAt, true);
+        newStreamStatusRepository.insertIfNotExists(alreadyKnownStreamId, source, componentName, discoveredAt, true);
+        newStreamStatusRepository.upsertLatestKnownPosition(alreadyKnownStreamId, source, componentName, 10L, discoveredAt);
+        newStreamStatusRepository.setUpToDate(true, alreadyKnownStreamId, source, componentName);
+
+        final List<UUID> advancedStreamIds = newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                Map.of(newStreamId, 3L, behindStreamId, 7L, alreadyKnownStreamId, 10L),
+                source,
+                componentName,
+                discoveredAt);
+
+        assertThat(advancedStreamIds.size(), is(2));
+        assertThat(advancedStreamIds.containsAll(List.of(newStreamId, behindStreamId)), is(true));
+
+        final StreamStatus newStreamStatus = newStreamStatusRepository.find(newStreamId, source, componentName).orElseThrow();
+        assertThat(newStreamStatus.position(), is(0L));
+        assertThat(newStreamStatus.latestKnownPosition(), is(3L));
+        assertThat(newStreamStatus.isUpToDate(), is(false));
+
+        final StreamStatus behindStreamStatus = newStreamStatusRepository.find(behindStreamId, source, componentName).orElseThrow();
+        assertThat(behindStreamStatus.latestKnownPosition(), is(7L));
+        assertThat(behindStreamStatus.isUpToDate(), is(false));
+
+        final StreamStatus alreadyKnownStreamStatus = newStreamStatusRepository.find(alreadyKnownStreamId, source, componentName).orElseThrow();
+        assertThat(alreadyKnownStreamStatus.latestKnownPosition(), is(10L));
+        assertThat(alreadyKnownStreamStatus.isUpToDate(), is(true));
+
+        assertThat(newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(Map.of(), source, componentName, discoveredAt).isEmpty(), is(true));
+    }
+
     @Test
     public void shouldUpdateLatestPositionAndIsUpToDateOfAStream() throws Exception {
 
@@ -801,5 +880,117 @@ public class NewStreamStatusRepositoryIT {
             assertThat(result.isPresent(), is(true));
             assertThat(result.get().streamId(), is(streamId2));
         }
+    
+        @Test
+        public void shouldFindIdsOfTheOldestStreamsToProcessUpToTheLimit() {
+
+            final DataSource viewStoreDataSource = new TestJdbcDataSourceProvider().getViewStoreDataSource(FRAMEWORK);
+            when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+            final String source = "listing";
+            final String componentName = "event-listener";
+            final ZonedDateTime now = new UtcClock().now();
+
+            final UUID streamA = randomUUID();
+            final UUID streamB = randomUUID();
+            final UUID streamC = randomUUID();
+            final UUID upToDateStream = randomUUID();
+
+            final List<UUID> allStreams = List.of(upToDateStream, streamA, streamB, streamC);
+            for (int i = 0; i < allStreams.size(); i++) {
+                final UUID streamId = allStreams.get(i);
+                newStreamStatusRepository.insertIfNotExists(streamId, source, componentName, now.minusDays(4 - i), false);
+                newStreamStatusRepository.updateCurrentPosition(streamId, source, componentName, 5L);
+                newStreamStatusRepository.upsertLatestKnownPosition(streamId, source, componentName, 10L, now);
+            }
+            newStreamStatusRepository.updateCurrentPosition(upToDateStream, source, componentName, 10L);
+
+            assertThat(newStreamStatusRepository.findOldestStreamIdsToProcess(source, componentName, MAX_RETRIES, 2), is(List.of(streamA, streamB)));
+            assertThat(newStreamStatusRepository.findOldestStreamIdsToProcess(source, componentName, MAX_RETRIES, 10), is(List.of(streamA, streamB, streamC)));
+            assertThat(newStreamStatusRepository.findOldestStreamIdsToProcess("other-source", componentName, MAX_RETRIES, 10).isEmpty(), is(true));
+        }
+
+        @Test
+        public void shouldSkipStreamsLockedByAnotherWorkerWhenFindingAndLockingStreamsToProcess() throws Exception {
+
+            final DataSource viewStoreDataSource = new TestJdbcDataSourceProvider().getViewStoreDataSource(FRAMEWORK);
+            when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+            final String source = "listing";
+            final String componentName = "event-listener";
+            final ZonedDateTime now = new UtcClock().now();
+
+            final UUID lockedStream = randomUUID();
+            final UUID unlockedStream = randomUUID();
+
+            newStreamStatusRepository.insertIfNotExists(lockedStream, source, componentName, now.minusDays(2), false);
+            newStreamStatusRepository.insertIfNotExists(unlockedStream, source, componentName, now.minusDays(1), false);
+            newStreamStatusRepository.upsertLatestKnownPosition(lockedStream, source, componentName, 10L, now);
+            newStreamStatusRepository.upsertLatestKnownPosition(unlockedStream, source, componentName, 10L, now);
+
+            try (final Connection otherWorkerConnection = viewStoreDataSource.getConnection()) {
+                otherWorkerConnection.setAutoCommit(false);
+                assertThat(lockStreamStatusRow(otherWorkerConnection, lockedStream, source, componentName), is(true));
+
+                assertThat(newStreamStatusRepository.findOldestStreamIdsToProcess(source, componentName, MAX_RETRIES, 10), is(List.of(unlockedStream)));
+                assertThat(newStreamStatusRepository.lockStreamToProcess(lockedStream, source, componentName, MAX_RETRIES), is(empty()));
+
+                otherWorkerConnection.rollback();
+            }
+
+            final Optional<LockedStreamStatus> result = newStreamStatusRepository.lockStreamToProcess(lockedStream, source, componentName, MAX_RETRIES);
+            assertThat(result.isPresent(), is(true));
+            assertThat(result.get().streamId(), is(lockedStream));
+            assertThat(result.get().position(), is(0L));
+            assertThat(result.get().latestKnownPosition(), is(10L));
+            assertThat(result.get().streamErrorId(), is(empty()));
+        }
+
+        @Test
+        public void shouldNotLockStreamsNoLongerReadyToProcess() throws Exception {
+
+            final DataSource viewStoreDataSource = new TestJdbcDataSourceProvider().getViewStoreDataSource(FRAMEWORK);
+            when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+            final StreamErrorRetryRepository streamErrorRetryRepository = new StreamErrorRetryRepository();
+            setField(streamErrorRetryRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
+
+            final String source = "listing";
+            final String componentName = "event-listener";
+            final ZonedDateTime now = new UtcClock().now();
+
+            final UUID upToDateStream = randomUUID();
+            final UUID retryNotDueStream = randomUUID();
+            final UUID streamErrorId = randomUUID();
+
+            for (final UUID streamId : List.of(upToDateStream, retryNotDueStream)) {
+                newStreamStatusRepository.insertIfNotExists(streamId, source, componentName, now.minusDays(1), false);
+                newStreamStatusRepository.updateCurrentPosition(streamId, source, componentName, 5L);
+                newStreamStatusRepository.upsertLatestKnownPosition(streamId, source, componentName, 10L, now);
+            }
+            newStreamStatusRepository.updateCurrentPosition(upToDateStream, source, componentName, 10L);
+
+            try (final Connection connection = viewStoreDataSource.getConnection()) {
+                streamErrorPersistence.save(aStreamError(streamErrorId, randomUUID(), retryNotDueStream, 6L, componentName, source), connection);
+                streamStatusErrorPersistence.markStreamAsErrored(retryNotDueStream, streamErrorId, 6L, componentName, source, connection);
+            }
+            streamErrorRetryRepository.upsert(new StreamErrorRetry(retryNotDueStream, source, componentName, 2L, now.plusHours(2)));
+
+            assertThat(newStreamStatusRepository.findOldestStreamIdsToProcess(source, componentName, MAX_RETRIES, 10).isEmpty(), is(true));
+            assertThat(newStreamStatusRepository.lockStreamToProcess(upToDateStream, source, componentName, MAX_RETRIES), is(empty()));
+            assertThat(newStreamStatusRepository.lockStreamToProcess(retryNotDueStream, source, componentName, MAX_RETRIES), is(empty()));
+        }
+
+        private boolean lockStreamStatusRow(final Connection connection, final UUID streamId, final String source, final String componentName) throws Exception {
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(
+                    "SELECT stream_id FROM stream_status WHERE stream_id = ? AND source = ? AND component = ? FOR NO KEY UPDATE")) {
+                preparedStatement.setObject(1, streamId);
+                preparedStatement.setString(2, source);
+                preparedStatement.setString(3, componentName);
+                try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        }
     }
 }
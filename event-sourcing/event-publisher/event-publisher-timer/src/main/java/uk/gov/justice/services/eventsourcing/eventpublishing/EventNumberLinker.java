@@ -27,12 +27,15 @@ public class EventNumberLinker {
     @Inject
     private EventLinkingWorkerConfig eventLinkingWorkerConfig;
 
+    @Inject
+    private LinkingBatchSize linkingBatchSize;
+
     @Inject
     private UserTransaction userTransaction;
 
     public List<EventDetailsToLink> findAndLinkEventsInBatch() {
 
-        final int batchSize = eventLinkingWorkerConfig.getBatchSize();
+        final int batchSize = linkingBatchSize.getBatchSize();
 
         try (final Connection connection = linkEventsInEventLogDatabaseAccess.getEventStoreConnection()) {
             final int transactionTimeoutSeconds = eventLinkingWorkerConfig.getTransactionTimeoutSeconds();
@@ -47,27 +50,16 @@ public class EventNumberLinker {
                 return Collections.emptyList();
             }
 
-            final List<EventDetailsToLink> events = linkEventsInEventLogDatabaseAccess.findBatchOfNextEventsToLink(connection, batchSize);
+            final List<EventDetailsToLink> events = eventLinkingWorkerConfig.shouldLinkInSingleStatement()
+                    ? linkEventsInSingleStatement(connection, batchSize)
+                    : linkEventsInSeparateStatements(connection, batchSize);
+            linkingBatchSize.batchLinked(batchSize, events.size());
 
             if (events.isEmpty()) {
                 userTransaction.rollback();
                 return Collections.emptyList();
             }
 
-            long eventNumber = linkEventsInEventLogDatabaseAccess.findCurrentHighestEventNumberInEventLogTable(connection);
-
-            final List<UUID> eventIds = new ArrayList<>(events.size());
-            final List<LinkedEventData> linkDataList = new ArrayList<>(events.size());
-            for (final EventDetailsToLink event : events) {
-                final long previousEventNumber = eventNumber;
-                eventNumber = previousEventNumber + 1;
-                linkDataList.add(new LinkedEventData(event.eventId(), eventNumber, previousEventNumber));
-                eventIds.add(event.eventId());
-            }
-
-            linkEventsInEventLogDatabaseAccess.linkEventsBatch(connection, linkDataList);
-            linkEventsInEventLogDatabaseAccess.insertBatchIntoPublishQueue(connection, eventIds);
-
             userTransaction.commit();
 
             return events;
@@ -81,4 +73,43 @@ public class EventNumberLinker {
             throw new EventNumberLinkingException("Exception occurred while linking events in batch", e);
         }
     }
-}
\ No newline at end of file
+
+    private List<EventDetailsToLink> linkEventsInSingleStatement(final Connection connection, final int batchSize) {
+        return linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(
+                connection,
+                batchSize,
+                eventLinkingWorkerConfig.shouldUseEventNumberCounter());
+    }
+
+    private List<EventDetailsToLink> linkEventsInSeparateStatements(final Connection connection, final int batchSize) {
+
+        final List<EventDetailsToLink> events = linkEventsInEventLogDatabaseAccess.findBatchOfNextEventsToLink(connection, batchSize);
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        final boolean useEventNumberCounter = eventLinkingWorkerConfig.shouldUseEventNumberCounter();
+        long eventNumber = useEventNumberCounter
+                ? linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, events.size()) - events.size()
+                : linkEventsInEventLogDatabaseAccess.findCurrentHighestEventNumberInEventLogTable(connection);
+
+        final List<UUID> eventIds = new ArrayList<>(events.size());
+        final List<LinkedEventData> linkDataList = new ArrayList<>(events.size());
+        for (final EventDetailsToLink event : events) {
+            final long previousEventNumber = eventNumber;
+            eventNumber = previousEventNumber + 1;
+            linkDataList.add(new LinkedEventData(event.eventId(), eventNumber, previousEventNumber));
+            eventIds.add(event.eventId());
+        }
+
+        linkEventsInEventLogDatabaseAccess.linkEventsBatch(connection, linkDataList);
+        linkEventsInEventLogDatabaseAccess.insertBatchIntoPublishQueue(connection, eventIds);
+
+        if (!useEventNumberCounter) {
+            // keep the counter current so the counter mode can be switched on at any time
+            linkEventsInEventLogDatabaseAccess.updateEventNumberCounter(connection, eventNumber);
+        }
+
+        return events;
+    }
+}
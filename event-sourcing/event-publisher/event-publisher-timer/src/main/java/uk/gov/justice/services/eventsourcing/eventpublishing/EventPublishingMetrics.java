@@ -0,0 +1,60 @@
+package uk.gov.justice.services.eventsourcing.eventpublishing;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.EVENTS_PUBLISHED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.PUBLISH_BATCH_SIZE_SUMMARY_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.PUBLISH_BATCH_TIMER_NAME;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+
+/**
+ * Per batch throughput metrics for the event publisher: how long each batch took to publish,
+ * how many events were in each batch and the total number of events published.
+ */
+@ApplicationScoped
+public class EventPublishingMetrics {
+
+    @Inject
+    private Logger logger;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private Timer batchTimer;
+    private DistributionSummary batchSizeSummary;
+    private Counter eventsPublishedCounter;
+
+    @PostConstruct
+    public void registerMeters() {
+        batchTimer = Timer.builder(PUBLISH_BATCH_TIMER_NAME)
+                .description("Time taken to publish one batch of events from the publish_queue")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder(PUBLISH_BATCH_SIZE_SUMMARY_NAME)
+                .description("Number of events published in each batch")
+                .register(meterRegistry);
+        eventsPublishedCounter = Counter.builder(EVENTS_PUBLISHED_COUNTER_NAME)
+                .description("Total number of events published to the event topic")
+                .register(meterRegistry);
+    }
+
+    public void batchPublished(final int batchSize, final long durationNanos) {
+        batchTimer.record(durationNanos, NANOSECONDS);
+        batchSizeSummary.record(batchSize);
+        eventsPublishedCounter.increment(batchSize);
+
+        if (logger.isDebugEnabled() && durationNanos > 0) {
+            logger.debug("Published batch of {} events in {} ms ({} events/s)",
+                    batchSize,
+                    NANOSECONDS.toMillis(durationNanos),
+                    batchSize * 1_000_000_000L / durationNanos);
+        }
+    }
+}
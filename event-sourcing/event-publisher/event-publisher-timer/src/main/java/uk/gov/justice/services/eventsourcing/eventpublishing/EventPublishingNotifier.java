@@ -19,7 +19,7 @@ public class EventPublishingNotifier {
     private Logger logger;
 
     @Inject
-    private LinkedEventPublisher linkedEventPublisher;
+    private EventPublishingWorker eventPublishingWorker;
 
     @Resource
     private ManagedExecutorService managedExecutorService;
@@ -44,7 +44,7 @@ public class EventPublishingNotifier {
             while (!Thread.currentThread().isInterrupted()) {
                 try {
                     workSignal.take();
-                    while (linkedEventPublisher.publishNextNewEvent()) {}
+                    while (eventPublishingWorker.publishNextNewEvents()) {}
                 } catch (final InterruptedException e) {
                     Thread.currentThread().interrupt();
                 } catch (final Exception e) {
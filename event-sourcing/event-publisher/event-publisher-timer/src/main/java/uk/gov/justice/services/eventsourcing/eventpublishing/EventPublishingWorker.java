@@ -1,5 +1,6 @@
 package uk.gov.justice.services.eventsourcing.eventpublishing;
 
+import uk.gov.justice.services.eventsourcing.eventpublishing.configuration.EventPublishingWorkerConfig;
 import uk.gov.justice.services.eventsourcing.util.jee.timer.SufficientTimeRemainingCalculator;
 
 import javax.inject.Inject;
@@ -9,12 +10,30 @@ public class EventPublishingWorker {
     @Inject
     private LinkedEventPublisher linkedEventPublisher;
 
+    @Inject
+    private EventPublishingWorkerConfig eventPublishingWorkerConfig;
+
     public void publishNewEvents(final SufficientTimeRemainingCalculator sufficientTimeRemainingCalculator) {
 
         boolean continueRunning = true;
         while (continueRunning) {
             continueRunning = sufficientTimeRemainingCalculator.hasSufficientProcessingTimeRemaining()
-                              && linkedEventPublisher.publishNextNewEvent();
+                              && publishNextNewEvents();
+        }
+    }
+
+    /**
+     * Publishes the next event, or the next batch of events if a batch size greater
+     * than one is configured, each in its own transaction.
+     *
+     * @return true if any events were published
+     */
+    public boolean publishNextNewEvents() {
+        final int batchSize = eventPublishingWorkerConfig.getBatchSize();
+        if (batchSize > 1) {
+            return linkedEventPublisher.publishNextBatchOfNewEvents(batchSize);
         }
+
+        return linkedEventPublisher.publishNextNewEvent();
     }
 }
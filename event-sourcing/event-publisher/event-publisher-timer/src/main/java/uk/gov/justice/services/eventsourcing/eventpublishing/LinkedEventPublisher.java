@@ -1,6 +1,7 @@
 package uk.gov.justice.services.eventsourcing.eventpublishing;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toSet;
 import static javax.transaction.Transactional.TxType.REQUIRES_NEW;
 
 import uk.gov.justice.services.eventsourcing.publishedevent.EventPublishingException;
@@ -9,7 +10,9 @@ import uk.gov.justice.services.eventsourcing.publisher.jms.EventPublisher;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -26,6 +29,9 @@ public class LinkedEventPublisher {
     @Inject
     private LinkedJsonEnvelopeCreator linkedJsonEnvelopeCreator;
 
+    @Inject
+    private EventPublishingMetrics eventPublishingMetrics;
+
     @Transactional(REQUIRES_NEW)
     public boolean publishNextNewEvent() {
 
@@ -49,4 +55,40 @@ public class LinkedEventPublisher {
 
         return false;
     }
+
+    /**
+     * Pops up to batchSize event ids from the publish_queue in one statement, loads the events
+     * in one query and publishes them in event_number order before flagging them all as published.
+     * The whole batch shares a single transaction, so a failure part way through puts every id
+     * back on the publish_queue.
+     *
+     * @param batchSize the maximum number of events to publish
+     * @return true if any events were published
+     */
+    @Transactional(REQUIRES_NEW)
+    public boolean publishNextBatchOfNewEvents(final int batchSize) {
+
+        final long startNanos = System.nanoTime();
+        final List<UUID> eventIds = eventPublishingRepository.popNextEventIdsFromPublishQueue(batchSize);
+        if (eventIds.isEmpty()) {
+            return false;
+        }
+
+        final List<LinkedEvent> linkedEvents = eventPublishingRepository.findEventsFromEventLog(eventIds);
+        if (linkedEvents.size() != eventIds.size()) {
+            final Set<UUID> foundEventIds = linkedEvents.stream().map(LinkedEvent::getId).collect(toSet());
+            final List<UUID> missingEventIds = eventIds.stream().filter(eventId -> !foundEventIds.contains(eventId)).toList();
+            throw new EventPublishingException(format("Failed to find LinkedEvents in event_log with ids %s when ids exist in publish_queue table", missingEventIds));
+        }
+
+        for (final LinkedEvent linkedEvent : linkedEvents) {
+            final JsonEnvelope linkedJsonEnvelope = linkedJsonEnvelopeCreator.createLinkedJsonEnvelopeFrom(linkedEvent);
+            eventPublisher.publish(linkedJsonEnvelope);
+        }
+
+        eventPublishingRepository.setIsPublishedFlag(eventIds, true);
+        eventPublishingMetrics.batchPublished(eventIds.size(), System.nanoTime() - startNanos);
+
+        return true;
+    }
 }
@@ -0,0 +1,49 @@
+package uk.gov.justice.services.eventsourcing.eventpublishing;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import uk.gov.justice.services.eventsourcing.eventpublishing.configuration.EventLinkingWorkerConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * Adapts the number of events linked per transaction to the size of the unlinked backlog.
+ * Each full batch doubles the next batch, up to 'event.linking.worker.max.batch.size';
+ * a batch less than half full halves it again, down to 'event.linking.worker.batch.size'.
+ */
+@ApplicationScoped
+public class LinkingBatchSize {
+
+    private static final int NOT_SET = 0;
+
+    @Inject
+    private EventLinkingWorkerConfig eventLinkingWorkerConfig;
+
+    private final AtomicInteger currentBatchSize = new AtomicInteger(NOT_SET);
+
+    public int getBatchSize() {
+        final int batchSize = currentBatchSize.get();
+        if (batchSize == NOT_SET) {
+            return eventLinkingWorkerConfig.getBatchSize();
+        }
+
+        return batchSize;
+    }
+
+    public void batchLinked(final int batchSize, final int numberOfEventsLinked) {
+        final int minBatchSize = eventLinkingWorkerConfig.getBatchSize();
+        final int maxBatchSize = eventLinkingWorkerConfig.getMaxBatchSize();
+
+        if (numberOfEventsLinked >= batchSize) {
+            currentBatchSize.set(min(batchSize * 2, maxBatchSize));
+        } else if (numberOfEventsLinked < batchSize / 2) {
+            currentBatchSize.set(max(batchSize / 2, minBatchSize));
+        } else {
+            currentBatchSize.set(max(min(batchSize, maxBatchSize), minBatchSize));
+        }
+    }
+}
@@ -7,6 +7,7 @@ import uk.gov.justice.services.common.configuration.Value;
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
 import static java.lang.Long.parseLong;
+import static java.lang.Math.max;
 
 public class EventLinkingWorkerConfig {
 
@@ -28,6 +29,18 @@ public class EventLinkingWorkerConfig {
     @Value(key = "event.linking.worker.batch.size", defaultValue = "10")
     private String batchSize;
 
+    @Inject
+    @Value(key = "event.linking.worker.max.batch.size", defaultValue = "10")
+    private String maxBatchSize;
+
+    @Inject
+    @Value(key = "event.linking.worker.event.number.counter.enabled", defaultValue = "false")
+    private String eventNumberCounterEnabled;
+
+    @Inject
+    @Value(key = "event.linking.worker.single.statement.enabled", defaultValue = "false")
+    private String singleStatementLinkingEnabled;
+
     @Inject
     @Value(key = "event.linking.worker.transaction.timeout.seconds", defaultValue = DEFAULT_TIMEOUT_SECONDS)
     private String transactionTimeoutSeconds;
@@ -60,6 +73,22 @@ public class EventLinkingWorkerConfig {
         return parseInt(batchSize);
     }
 
+    /**
+     * The largest batch the linker may grow to while there is a backlog of unlinked events.
+     * Never less than the configured batch size, so by default the batch size does not grow.
+     */
+    public int getMaxBatchSize() {
+        return max(parseInt(maxBatchSize), getBatchSize());
+    }
+
+    public boolean shouldUseEventNumberCounter() {
+        return parseBoolean(eventNumberCounterEnabled);
+    }
+
+    public boolean shouldLinkInSingleStatement() {
+        return parseBoolean(singleStatementLinkingEnabled);
+    }
+
     public int getTransactionTimeoutSeconds() {
         return parseInt(transactionTimeoutSeconds);
     }
@@ -1,6 +1,7 @@
 package uk.gov.justice.services.eventsourcing.eventpublishing.configuration;
 
 import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
 import static java.lang.Long.parseLong;
 
 import uk.gov.justice.services.common.configuration.Value;
@@ -27,6 +28,10 @@ public class EventPublishingWorkerConfig {
     @Value(key = "event.publishing.worker.notified", defaultValue = "false")
     private String eventPublisherNotified;
 
+    @Inject
+    @Value(key = "event.publishing.worker.batch.size", defaultValue = "1")
+    private String batchSize;
+
     public boolean shouldWorkerNotified() {
         return parseBoolean(eventPublisherNotified);
     }
@@ -42,4 +47,8 @@ public class EventPublishingWorkerConfig {
     public long getTimeBetweenRunsMilliseconds() {
         return parseLong(timeBetweenRunsMilliseconds);
     }
-}
\ No newline at end of file
+
+    public int getBatchSize() {
+        return parseInt(batchSize);
+    }
+}
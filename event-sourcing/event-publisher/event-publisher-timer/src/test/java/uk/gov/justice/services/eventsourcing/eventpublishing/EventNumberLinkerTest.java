@@ -24,6 +24,7 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -43,6 +44,9 @@ public class EventNumberLinkerTest {
     @Mock
     private AdvisoryLockDataAccess advisoryLockDataAccess;
 
+    @Mock
+    private LinkingBatchSize linkingBatchSize;
+
     @Mock
     private UserTransaction userTransaction;
 
@@ -62,7 +66,7 @@ public class EventNumberLinkerTest {
         final UUID eventId2 = randomUUID();
         final UUID eventId3 = randomUUID();
 
-        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(linkingBatchSize.getBatchSize()).thenReturn(10);
         when(eventLinkingWorkerConfig.getTransactionTimeoutSeconds()).thenReturn(300);
         when(eventLinkingWorkerConfig.getLocalStatementTimeoutSeconds()).thenReturn(10);
         when(linkEventsInEventLogDatabaseAccess.getEventStoreConnection()).thenReturn(connection);
@@ -91,8 +95,11 @@ public class EventNumberLinkerTest {
         inOrder.verify(linkEventsInEventLogDatabaseAccess).findCurrentHighestEventNumberInEventLogTable(connection);
         inOrder.verify(linkEventsInEventLogDatabaseAccess).linkEventsBatch(org.mockito.ArgumentMatchers.eq(connection), linkDataCaptor.capture());
         inOrder.verify(linkEventsInEventLogDatabaseAccess).insertBatchIntoPublishQueue(connection, List.of(eventId1, eventId2, eventId3));
+        inOrder.verify(linkEventsInEventLogDatabaseAccess).updateEventNumberCounter(connection, 25L);
         inOrder.verify(userTransaction).commit();
 
+        verify(linkingBatchSize).batchLinked(10, 3);
+
         final List<LinkedEventData> captured = linkDataCaptor.getValue();
         assertThat(captured.size(), is(3));
         assertThat(captured.get(0), is(new LinkedEventData(eventId1, 23L, 22L)));
@@ -100,10 +107,73 @@ public class EventNumberLinkerTest {
         assertThat(captured.get(2), is(new LinkedEventData(eventId3, 25L, 24L)));
     }
 
+    @Test
+    public void shouldReserveEventNumbersFromEventNumberCounterInsteadOfFindingHighestEventNumberIfEnabled() throws Exception {
+
+        final UUID eventId1 = randomUUID();
+        final UUID eventId2 = randomUUID();
+
+        when(linkingBatchSize.getBatchSize()).thenReturn(10);
+        when(eventLinkingWorkerConfig.getTransactionTimeoutSeconds()).thenReturn(300);
+        when(eventLinkingWorkerConfig.getLocalStatementTimeoutSeconds()).thenReturn(10);
+        when(eventLinkingWorkerConfig.shouldUseEventNumberCounter()).thenReturn(true);
+        when(linkEventsInEventLogDatabaseAccess.getEventStoreConnection()).thenReturn(connection);
+        when(advisoryLockDataAccess.tryNonBlockingTransactionLevelAdvisoryLock(connection, ADVISORY_LOCK_KEY)).thenReturn(true);
+        final List<EventDetailsToLink> batch = List.of(
+                new EventDetailsToLink(eventId1, randomUUID(), 1),
+                new EventDetailsToLink(eventId2, randomUUID(), 1));
+
+        when(linkEventsInEventLogDatabaseAccess.findBatchOfNextEventsToLink(connection, 10)).thenReturn(batch);
+        when(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 2)).thenReturn(24L);
+
+        assertThat(eventNumberLinker.findAndLinkEventsInBatch(), is(batch));
+
+        final InOrder inOrder = inOrder(userTransaction, linkEventsInEventLogDatabaseAccess);
+        inOrder.verify(linkEventsInEventLogDatabaseAccess).reserveEventNumbers(connection, 2);
+        inOrder.verify(linkEventsInEventLogDatabaseAccess).linkEventsBatch(org.mockito.ArgumentMatchers.eq(connection), linkDataCaptor.capture());
+        inOrder.verify(linkEventsInEventLogDatabaseAccess).insertBatchIntoPublishQueue(connection, List.of(eventId1, eventId2));
+        inOrder.verify(userTransaction).commit();
+
+        verify(linkEventsInEventLogDatabaseAccess, never()).findCurrentHighestEventNumberInEventLogTable(connection);
+        verify(linkEventsInEventLogDatabaseAccess, never()).updateEventNumberCounter(org.mockito.ArgumentMatchers.eq(connection), anyLong());
+
+        final List<LinkedEventData> captured = linkDataCaptor.getValue();
+        assertThat(captured.get(0), is(new LinkedEventData(eventId1, 23L, 22L)));
+        assertThat(captured.get(1), is(new LinkedEventData(eventId2, 24L, 23L)));
+    }
+
+    @Test
+    public void shouldLinkAndEnqueueBatchOfEventsInSingleStatementIfEnabled() throws Exception {
+
+        final List<EventDetailsToLink> batch = List.of(
+                new EventDetailsToLink(randomUUID(), randomUUID(), 1),
+                new EventDetailsToLink(randomUUID(), randomUUID(), 2));
+
+        when(linkingBatchSize.getBatchSize()).thenReturn(10);
+        when(eventLinkingWorkerConfig.getTransactionTimeoutSeconds()).thenReturn(300);
+        when(eventLinkingWorkerConfig.getLocalStatementTimeoutSeconds()).thenReturn(10);
+        when(eventLinkingWorkerConfig.shouldLinkInSingleStatement()).thenReturn(true);
+        when(eventLinkingWorkerConfig.shouldUseEventNumberCounter()).thenReturn(true);
+        when(linkEventsInEventLogDatabaseAccess.getEventStoreConnection()).thenReturn(connection);
+        when(advisoryLockDataAccess.tryNonBlockingTransactionLevelAdvisoryLock(connection, ADVISORY_LOCK_KEY)).thenReturn(true);
+        when(linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, 10, true)).thenReturn(batch);
+
+        assertThat(eventNumberLinker.findAndLinkEventsInBatch(), is(batch));
+
+        final InOrder inOrder = inOrder(userTransaction, linkEventsInEventLogDatabaseAccess, advisoryLockDataAccess, linkingBatchSize);
+        inOrder.verify(userTransaction).begin();
+        inOrder.verify(advisoryLockDataAccess).tryNonBlockingTransactionLevelAdvisoryLock(connection, ADVISORY_LOCK_KEY);
+        inOrder.verify(linkEventsInEventLogDatabaseAccess).linkAndEnqueueBatchOfEvents(connection, 10, true);
+        inOrder.verify(linkingBatchSize).batchLinked(10, 2);
+        inOrder.verify(userTransaction).commit();
+
+        verify(linkEventsInEventLogDatabaseAccess, never()).findBatchOfNextEventsToLink(connection, 10);
+    }
+
     @Test
     public void shouldReturnZeroIfAdvisoryLockNotAvailable() throws Exception {
 
-        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(linkingBatchSize.getBatchSize()).thenReturn(10);
         when(eventLinkingWorkerConfig.getTransactionTimeoutSeconds()).thenReturn(300);
         when(eventLinkingWorkerConfig.getLocalStatementTimeoutSeconds()).thenReturn(10);
         when(linkEventsInEventLogDatabaseAccess.getEventStoreConnection()).thenReturn(connection);
@@ -113,12 +183,13 @@ public class EventNumberLinkerTest {
 
         verify(userTransaction).rollback();
         verify(linkEventsInEventLogDatabaseAccess, never()).findBatchOfNextEventsToLink(connection, 10);
+        verify(linkingBatchSize, never()).batchLinked(10, 0);
     }
 
     @Test
     public void shouldReturnEmptyIfNoUnlinkedEvents() throws Exception {
 
-        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(linkingBatchSize.getBatchSize()).thenReturn(10);
         when(eventLinkingWorkerConfig.getTransactionTimeoutSeconds()).thenReturn(300);
         when(eventLinkingWorkerConfig.getLocalStatementTimeoutSeconds()).thenReturn(10);
         when(linkEventsInEventLogDatabaseAccess.getEventStoreConnection()).thenReturn(connection);
@@ -128,13 +199,14 @@ public class EventNumberLinkerTest {
         assertThat(eventNumberLinker.findAndLinkEventsInBatch(), is(emptyList()));
 
         verify(userTransaction).rollback();
+        verify(linkingBatchSize).batchLinked(10, 0);
         verify(linkEventsInEventLogDatabaseAccess, never()).findCurrentHighestEventNumberInEventLogTable(connection);
     }
 
     @Test
     public void shouldRollbackOnException() throws Exception {
 
-        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(linkingBatchSize.getBatchSize()).thenReturn(10);
         when(eventLinkingWorkerConfig.getTransactionTimeoutSeconds()).thenReturn(300);
         doThrow(new RuntimeException("Test")).when(userTransaction).begin();
 
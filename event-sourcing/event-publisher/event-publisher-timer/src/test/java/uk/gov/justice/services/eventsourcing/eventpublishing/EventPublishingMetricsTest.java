@@ -0,0 +1,43 @@
+package uk.gov.justice.services.eventsourcing.eventpublishing;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.EVENTS_PUBLISHED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.PUBLISH_BATCH_SIZE_SUMMARY_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.PUBLISH_BATCH_TIMER_NAME;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class EventPublishingMetricsTest {
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private EventPublishingMetrics eventPublishingMetrics;
+
+    @Test
+    public void shouldRecordTimeSizeAndCountOfEachPublishedBatch() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(eventPublishingMetrics, "meterRegistry", meterRegistry);
+        eventPublishingMetrics.registerMeters();
+
+        eventPublishingMetrics.batchPublished(10, MILLISECONDS.toNanos(20));
+        eventPublishingMetrics.batchPublished(4, MILLISECONDS.toNanos(10));
+
+        assertThat(meterRegistry.get(PUBLISH_BATCH_TIMER_NAME).timer().count(), is(2L));
+        assertThat(meterRegistry.get(PUBLISH_BATCH_TIMER_NAME).timer().totalTime(MILLISECONDS), is(30.0));
+        assertThat(meterRegistry.get(PUBLISH_BATCH_SIZE_SUMMARY_NAME).summary().max(), is(10.0));
+        assertThat(meterRegistry.get(EVENTS_PUBLISHED_COUNTER_NAME).counter().count(), is(14.0));
+    }
+}
@@ -22,7 +22,7 @@ import javax.enterprise.concurrent.ManagedExecutorService;
 class EventPublishingNotifierTest {
 
     @Mock
-    private LinkedEventPublisher linkedEventPublisher;
+    private EventPublishingWorker eventPublishingWorker;
 
     @Mock
     private ManagedExecutorService managedExecutorService;
@@ -51,7 +51,7 @@ class EventPublishingNotifierTest {
 
     @Test
     void shouldProcessEventsWhenRunning() {
-        when(linkedEventPublisher.publishNextNewEvent())
+        when(eventPublishingWorker.publishNextNewEvents())
                 .thenReturn(true)
                 .thenAnswer(invocation -> {
                     Thread.currentThread().interrupt();
@@ -64,12 +64,12 @@ class EventPublishingNotifierTest {
         verify(managedExecutorService).submit(captor.capture());
         captor.getValue().run();
 
-        verify(linkedEventPublisher, times(2)).publishNextNewEvent();
+        verify(eventPublishingWorker, times(2)).publishNextNewEvents();
     }
 
     @Test
     void shouldResetStartedFlagWhenThreadExits() {
-        when(linkedEventPublisher.publishNextNewEvent())
+        when(eventPublishingWorker.publishNextNewEvents())
                 .thenAnswer(invocation -> {
                     Thread.currentThread().interrupt();
                     return false;
@@ -0,0 +1,85 @@
+package uk.gov.justice.services.eventsourcing.eventpublishing;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.eventsourcing.eventpublishing.configuration.EventPublishingWorkerConfig;
+import uk.gov.justice.services.eventsourcing.util.jee.timer.SufficientTimeRemainingCalculator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class EventPublishingWorkerTest {
+
+    @Mock
+    private LinkedEventPublisher linkedEventPublisher;
+
+    @Mock
+    private EventPublishingWorkerConfig eventPublishingWorkerConfig;
+
+    @InjectMocks
+    private EventPublishingWorker eventPublishingWorker;
+
+    @Test
+    public void shouldPublishEventsOneAtATimeUntilNoneLeftIfBatchSizeIsOne() throws Exception {
+
+        final SufficientTimeRemainingCalculator sufficientTimeRemainingCalculator = mock(SufficientTimeRemainingCalculator.class);
+
+        when(eventPublishingWorkerConfig.getBatchSize()).thenReturn(1);
+        when(sufficientTimeRemainingCalculator.hasSufficientProcessingTimeRemaining()).thenReturn(true);
+        when(linkedEventPublisher.publishNextNewEvent()).thenReturn(true, true, false);
+
+        eventPublishingWorker.publishNewEvents(sufficientTimeRemainingCalculator);
+
+        verify(linkedEventPublisher, times(3)).publishNextNewEvent();
+        verify(linkedEventPublisher, never()).publishNextBatchOfNewEvents(anyInt());
+    }
+
+    @Test
+    public void shouldPublishEventsInBatchesUntilNoneLeftIfBatchSizeIsGreaterThanOne() throws Exception {
+
+        final SufficientTimeRemainingCalculator sufficientTimeRemainingCalculator = mock(SufficientTimeRemainingCalculator.class);
+
+        when(eventPublishingWorkerConfig.getBatchSize()).thenReturn(50);
+        when(sufficientTimeRemainingCalculator.hasSufficientProcessingTimeRemaining()).thenReturn(true);
+        when(linkedEventPublisher.publishNextBatchOfNewEvents(50)).thenReturn(true, false);
+
+        eventPublishingWorker.publishNewEvents(sufficientTimeRemainingCalculator);
+
+        verify(linkedEventPublisher, times(2)).publishNextBatchOfNewEvents(50);
+        verify(linkedEventPublisher, never()).publishNextNewEvent();
+    }
+
+    @Test
+    public void shouldStopPublishingWhenTimeRunsOut() throws Exception {
+
+        final SufficientTimeRemainingCalculator sufficientTimeRemainingCalculator = mock(SufficientTimeRemainingCalculator.class);
+
+        when(eventPublishingWorkerConfig.getBatchSize()).thenReturn(50);
+        when(sufficientTimeRemainingCalculator.hasSufficientProcessingTimeRemaining()).thenReturn(true, false);
+        when(linkedEventPublisher.publishNextBatchOfNewEvents(50)).thenReturn(true);
+
+        eventPublishingWorker.publishNewEvents(sufficientTimeRemainingCalculator);
+
+        verify(linkedEventPublisher, times(1)).publishNextBatchOfNewEvents(50);
+    }
+
+    @Test
+    public void shouldReturnWhetherAnyEventsWerePublished() throws Exception {
+
+        when(eventPublishingWorkerConfig.getBatchSize()).thenReturn(1);
+        when(linkedEventPublisher.publishNextNewEvent()).thenReturn(false);
+
+        assertThat(eventPublishingWorker.publishNextNewEvents(), is(false));
+    }
+}
@@ -7,6 +7,8 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -21,6 +23,7 @@ import uk.gov.justice.services.eventsourcing.publisher.jms.EventPublisher;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -42,6 +45,9 @@ public class LinkedEventPublisherTest {
     @Mock
     private LinkedJsonEnvelopeCreator linkedJsonEnvelopeCreator;
 
+    @Mock
+    private EventPublishingMetrics eventPublishingMetrics;
+
     @InjectMocks
     private LinkedEventPublisher linkedEventPublisher;
 
@@ -114,4 +120,69 @@ public class LinkedEventPublisherTest {
 
         verify(eventPublishingRepository, never()).setIsPublishedFlag(eventId, true);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldPopBatchOfEventIdsFromPublishQueueAndPublishTheEventsInEventNumberOrder() throws Exception {
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+
+        final LinkedEvent linkedEvent_1 = mock(LinkedEvent.class);
+        final LinkedEvent linkedEvent_2 = mock(LinkedEvent.class);
+        final JsonEnvelope linkedJsonEnvelope_1 = mock(JsonEnvelope.class);
+        final JsonEnvelope linkedJsonEnvelope_2 = mock(JsonEnvelope.class);
+
+        final List<UUID> eventIds = List.of(eventId_2, eventId_1);
+
+        when(eventPublishingRepository.popNextEventIdsFromPublishQueue(10)).thenReturn(eventIds);
+        when(eventPublishingRepository.findEventsFromEventLog(eventIds)).thenReturn(List.of(linkedEvent_1, linkedEvent_2));
+        when(linkedJsonEnvelopeCreator.createLinkedJsonEnvelopeFrom(linkedEvent_1)).thenReturn(linkedJsonEnvelope_1);
+        when(linkedJsonEnvelopeCreator.createLinkedJsonEnvelopeFrom(linkedEvent_2)).thenReturn(linkedJsonEnvelope_2);
+
+        assertThat(linkedEventPublisher.publishNextBatchOfNewEvents(10), is(true));
+
+        final InOrder inOrder = inOrder(
+                eventPublisher,
+                eventPublishingRepository,
+                eventPublishingMetrics);
+
+        inOrder.verify(eventPublisher).publish(linkedJsonEnvelope_1);
+        inOrder.verify(eventPublisher).publish(linkedJsonEnvelope_2);
+        inOrder.verify(eventPublishingRepository).setIsPublishedFlag(eventIds, true);
+        inOrder.verify(eventPublishingMetrics).batchPublished(eq(2), anyLong());
+    }
+
+    @Test
+    public void shouldDoNothingIfNoBatchOfEventIdsFoundInPublishQueue() throws Exception {
+
+        when(eventPublishingRepository.popNextEventIdsFromPublishQueue(10)).thenReturn(List.of());
+
+        assertThat(linkedEventPublisher.publishNextBatchOfNewEvents(10), is(false));
+
+        verifyNoMoreInteractions(eventPublishingRepository);
+        verifyNoInteractions(eventPublisher);
+        verifyNoInteractions(eventPublishingMetrics);
+    }
+
+    @Test
+    public void shouldThrowEventPublishingExceptionIfAnyEventIdOfBatchFoundInPublishQueueDoesNotExistInEventLog() throws Exception {
+
+        final UUID eventId_1 = fromString("933248cd-a5d4-417c-b28c-709ab009ab50");
+        final UUID eventId_2 = fromString("2c3f5a4e-18e4-4b3a-9c43-71c5e93ee51c");
+
+        final LinkedEvent linkedEvent_1 = mock(LinkedEvent.class);
+        final List<UUID> eventIds = List.of(eventId_1, eventId_2);
+
+        when(linkedEvent_1.getId()).thenReturn(eventId_1);
+        when(eventPublishingRepository.popNextEventIdsFromPublishQueue(10)).thenReturn(eventIds);
+        when(eventPublishingRepository.findEventsFromEventLog(eventIds)).thenReturn(List.of(linkedEvent_1));
+
+        final EventPublishingException eventPublishingException = assertThrows(
+                EventPublishingException.class,
+                () -> linkedEventPublisher.publishNextBatchOfNewEvents(10));
+
+        assertThat(eventPublishingException.getMessage(), is("Failed to find LinkedEvents in event_log with ids [2c3f5a4e-18e4-4b3a-9c43-71c5e93ee51c] when ids exist in publish_queue table"));
+
+        verifyNoInteractions(eventPublisher);
+        verify(eventPublishingRepository, never()).setIsPublishedFlag(eventIds, true);
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.justice.services.eventsourcing.eventpublishing;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.eventsourcing.eventpublishing.configuration.EventLinkingWorkerConfig;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LinkingBatchSizeTest {
+
+    @Mock
+    private EventLinkingWorkerConfig eventLinkingWorkerConfig;
+
+    @InjectMocks
+    private LinkingBatchSize linkingBatchSize;
+
+    @Test
+    public void shouldStartWithTheConfiguredBatchSize() throws Exception {
+
+        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+
+        assertThat(linkingBatchSize.getBatchSize(), is(10));
+    }
+
+    @Test
+    public void shouldDoubleBatchSizeOnEachFullBatchUpToTheMaxBatchSize() throws Exception {
+
+        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(eventLinkingWorkerConfig.getMaxBatchSize()).thenReturn(50);
+
+        linkingBatchSize.batchLinked(10, 10);
+        assertThat(linkingBatchSize.getBatchSize(), is(20));
+
+        linkingBatchSize.batchLinked(20, 20);
+        assertThat(linkingBatchSize.getBatchSize(), is(40));
+
+        linkingBatchSize.batchLinked(40, 40);
+        assertThat(linkingBatchSize.getBatchSize(), is(50));
+
+        linkingBatchSize.batchLinked(50, 50);
+        assertThat(linkingBatchSize.getBatchSize(), is(50));
+    }
+
+    @Test
+    public void shouldHalveBatchSizeWhenLessThanHalfABatchIsLinkedDownToTheConfiguredBatchSize() throws Exception {
+
+        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(eventLinkingWorkerConfig.getMaxBatchSize()).thenReturn(80);
+
+        linkingBatchSize.batchLinked(80, 3);
+        assertThat(linkingBatchSize.getBatchSize(), is(40));
+
+        linkingBatchSize.batchLinked(40, 0);
+        assertThat(linkingBatchSize.getBatchSize(), is(20));
+
+        linkingBatchSize.batchLinked(20, 0);
+        assertThat(linkingBatchSize.getBatchSize(), is(10));
+
+        linkingBatchSize.batchLinked(10, 0);
+        assertThat(linkingBatchSize.getBatchSize(), is(10));
+    }
+
+    @Test
+    public void shouldKeepBatchSizeWhenAtLeastHalfABatchIsLinked() throws Exception {
+
+        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(eventLinkingWorkerConfig.getMaxBatchSize()).thenReturn(80);
+
+        linkingBatchSize.batchLinked(40, 25);
+        assertThat(linkingBatchSize.getBatchSize(), is(40));
+    }
+
+    @Test
+    public void shouldNeverGrowIfMaxBatchSizeIsTheConfiguredBatchSize() throws Exception {
+
+        when(eventLinkingWorkerConfig.getBatchSize()).thenReturn(10);
+        when(eventLinkingWorkerConfig.getMaxBatchSize()).thenReturn(10);
+
+        linkingBatchSize.batchLinked(10, 10);
+        assertThat(linkingBatchSize.getBatchSize(), is(10));
+    }
+}
@@ -59,4 +59,32 @@ public class EventLinkingWorkerConfigTest {
         setField(eventLinkingWorkerConfig, "eventLinkerNotified", "false");
         assertThat(eventLinkingWorkerConfig.shouldWorkerNotified(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetMaxBatchSizeButNeverLessThanBatchSize() throws Exception {
+        setField(eventLinkingWorkerConfig, "batchSize", "20");
+        setField(eventLinkingWorkerConfig, "maxBatchSize", "500");
+        assertThat(eventLinkingWorkerConfig.getMaxBatchSize(), is(500));
+
+        setField(eventLinkingWorkerConfig, "maxBatchSize", "10");
+        assertThat(eventLinkingWorkerConfig.getMaxBatchSize(), is(20));
+    }
+
+    @Test
+    public void shouldGetEventNumberCounterEnabled() throws Exception {
+        setField(eventLinkingWorkerConfig, "eventNumberCounterEnabled", "true");
+        assertThat(eventLinkingWorkerConfig.shouldUseEventNumberCounter(), is(true));
+
+        setField(eventLinkingWorkerConfig, "eventNumberCounterEnabled", "false");
+        assertThat(eventLinkingWorkerConfig.shouldUseEventNumberCounter(), is(false));
+    }
+
+    @Test
+    public void shouldGetSingleStatementLinkingEnabled() throws Exception {
+        setField(eventLinkingWorkerConfig, "singleStatementLinkingEnabled", "true");
+        assertThat(eventLinkingWorkerConfig.shouldLinkInSingleStatement(), is(true));
+
+        setField(eventLinkingWorkerConfig, "singleStatementLinkingEnabled", "false");
+        assertThat(eventLinkingWorkerConfig.shouldLinkInSingleStatement(), is(false));
+    }
+}
@@ -41,4 +41,10 @@ public class EventPublishingWorkerConfigTest {
         setField(eventPublishingWorkerConfig, "eventPublisherNotified", "false");
         assertThat(eventPublishingWorkerConfig.shouldWorkerNotified(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetTheBatchSize() throws Exception {
+        setField(eventPublishingWorkerConfig, "batchSize", "250");
+        assertThat(eventPublishingWorkerConfig.getBatchSize(), is(250));
+    }
+}
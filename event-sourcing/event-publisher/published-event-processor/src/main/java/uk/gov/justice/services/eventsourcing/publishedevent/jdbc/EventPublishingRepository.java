@@ -9,11 +9,14 @@ import uk.gov.justice.services.eventsourcing.publishedevent.EventPublishingExcep
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventsourcing.source.core.EventStoreDataSourceProvider;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,6 +53,37 @@ public class EventPublishingRepository {
                 )
                 RETURNING event_log_id
                 """;
+    static final String FIND_EVENTS_FROM_EVENT_LOG_SQL = """
+                SELECT
+                    id,
+                    stream_id,
+                    position_in_stream,
+                    name,
+                    payload,
+                    metadata,
+                    date_created,
+                    event_number,
+                    previous_event_number
+                FROM event_log
+                WHERE id = ANY(?)
+                ORDER BY event_number
+                """;
+    static final String UPDATE_IS_PUBLISHED_FLAG_FOR_EVENTS_SQL = """
+            UPDATE event_log
+            SET is_published = ?
+            WHERE id = ANY(?)
+            """;
+    static final String REMOVE_NEXT_BATCH_OF_EVENT_IDS_FROM_PUBLISH_QUEUE_SQL = """
+                DELETE FROM publish_queue
+                WHERE event_log_id IN (
+                    SELECT event_log_id
+                    FROM publish_queue
+                    ORDER BY date_queued
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING event_log_id
+                """;
     static final String DELETE_FROM_PUBLISH_QUEUE_SQL = """
                 DELETE FROM publish_queue where event_log_id = ?
                 """;
@@ -129,4 +163,84 @@ public class EventPublishingRepository {
             throw new EventPublishingException(format("Failed to update 'is_published' on event_log for event id '%s'", eventId), e);
         }
     }
+
+    /**
+     * Loads all of the given events from the event_log with one query, ordered by event_number
+     *
+     * @param eventIds the ids of the events to load
+     * @return the events found, in event_number order
+     */
+    public List<LinkedEvent> findEventsFromEventLog(final List<UUID> eventIds) {
+
+        try (final Connection connection = eventStoreDataSourceProvider.getDefaultDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(FIND_EVENTS_FROM_EVENT_LOG_SQL)) {
+
+            final Array eventIdArray = connection.createArrayOf("uuid", eventIds.toArray());
+            preparedStatement.setArray(1, eventIdArray);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+
+                final List<LinkedEvent> linkedEvents = new ArrayList<>(eventIds.size());
+                while (resultSet.next()) {
+                    linkedEvents.add(new LinkedEvent(
+                            resultSet.getObject("id", UUID.class),
+                            resultSet.getObject("stream_id", UUID.class),
+                            resultSet.getObject("position_in_stream", Long.class),
+                            resultSet.getString("name"),
+                            resultSet.getString("metadata"),
+                            resultSet.getString("payload"),
+                            fromSqlTimestamp(resultSet.getTimestamp("date_created")),
+                            resultSet.getObject("event_number", Long.class),
+                            resultSet.getObject("previous_event_number", Long.class)
+                    ));
+                }
+
+                return linkedEvents;
+            }
+
+        } catch (final SQLException e) {
+            throw new EventPublishingException(format("Failed to find batch of %d events in event_log", eventIds.size()), e);
+        }
+    }
+
+    /**
+     * Removes up to batchSize of the oldest event ids from the publish_queue in one statement,
+     * skipping any rows locked by other publishers
+     *
+     * @param batchSize the maximum number of event ids to remove
+     * @return the removed event ids
+     */
+    public List<UUID> popNextEventIdsFromPublishQueue(final int batchSize) {
+
+        try (final Connection connection = eventStoreDataSourceProvider.getDefaultDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(REMOVE_NEXT_BATCH_OF_EVENT_IDS_FROM_PUBLISH_QUEUE_SQL)) {
+
+            preparedStatement.setInt(1, batchSize);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                final List<UUID> eventIds = new ArrayList<>(batchSize);
+                while (resultSet.next()) {
+                    eventIds.add(resultSet.getObject(1, UUID.class));
+                }
+
+                return eventIds;
+            }
+
+        } catch (final SQLException e) {
+            throw new EventPublishingException("Failed to find next batch of event ids from publish_queue table", e);
+        }
+    }
+
+    public void setIsPublishedFlag(final List<UUID> eventIds, final boolean isPublished) {
+
+        try(final Connection connection = eventStoreDataSourceProvider.getDefaultDataSource().getConnection();
+            final PreparedStatement preparedStatement = connection.prepareStatement(UPDATE_IS_PUBLISHED_FLAG_FOR_EVENTS_SQL)) {
+            preparedStatement.setBoolean(1, isPublished);
+            preparedStatement.setArray(2, connection.createArrayOf("uuid", eventIds.toArray()));
+            preparedStatement.executeUpdate();
+
+        } catch (final SQLException e) {
+            throw new EventPublishingException(format("Failed to update 'is_published' on event_log for batch of %d events", eventIds.size()), e);
+        }
+    }
 }
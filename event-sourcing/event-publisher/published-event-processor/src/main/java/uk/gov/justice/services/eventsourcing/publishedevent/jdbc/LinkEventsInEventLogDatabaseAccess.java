@@ -7,6 +7,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import javax.inject.Inject;
 import org.slf4j.Logger;
@@ -14,6 +15,7 @@ import uk.gov.justice.services.common.util.UtcClock;
 import uk.gov.justice.services.eventsourcing.publishedevent.EventPublishingException;
 import uk.gov.justice.services.eventsourcing.source.core.EventStoreDataSourceProvider;
 
+import static java.lang.String.format;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
 
 public class LinkEventsInEventLogDatabaseAccess {
@@ -31,6 +33,27 @@ public class LinkEventsInEventLogDatabaseAccess {
                 FROM event_log
                 """;
 
+    static final String RESERVE_EVENT_NUMBERS_SQL = """
+                UPDATE event_number_counter
+                SET last_event_number = last_event_number + ?
+                WHERE id = 1
+                RETURNING last_event_number
+                """;
+
+    static final String INITIALISE_EVENT_NUMBER_COUNTER_SQL = """
+                INSERT INTO event_number_counter (id, last_event_number)
+                SELECT 1, COALESCE(MAX(event_number), 0) + ?
+                FROM event_log
+                ON CONFLICT (id) DO NOTHING
+                RETURNING last_event_number
+                """;
+
+    static final String UPDATE_EVENT_NUMBER_COUNTER_SQL = """
+                INSERT INTO event_number_counter (id, last_event_number)
+                VALUES (1, ?)
+                ON CONFLICT (id) DO UPDATE SET last_event_number = EXCLUDED.last_event_number
+                """;
+
     static final String SELECT_BATCH_OF_UNLINKED_EVENTS = """
                 SELECT id, stream_id, position_in_stream
                 FROM event_log
@@ -43,6 +66,50 @@ public class LinkEventsInEventLogDatabaseAccess {
             INSERT INTO publish_queue (event_log_id, date_queued) VALUES (?, ?)
             """;
 
+    private static final String LINK_AND_ENQUEUE_BATCH_OF_EVENTS_TEMPLATE = """
+                WITH next_events AS (
+                    SELECT id, date_created, position_in_stream
+                    FROM event_log
+                    WHERE event_number IS NULL
+                    ORDER BY date_created
+                    LIMIT ?
+                ),
+                numbered_events AS (
+                    SELECT id, row_number() OVER (ORDER BY date_created, position_in_stream) AS batch_position
+                    FROM next_events
+                ),
+                highest_event_number AS (
+                    SELECT %s AS event_number
+                ),
+                linked_events AS (
+                    UPDATE event_log
+                    SET
+                        event_number = highest_event_number.event_number + numbered_events.batch_position,
+                        previous_event_number = highest_event_number.event_number + numbered_events.batch_position - 1
+                    FROM numbered_events, highest_event_number
+                    WHERE event_log.id = numbered_events.id
+                    RETURNING event_log.id, event_log.stream_id, event_log.position_in_stream, event_log.event_number
+                ),
+                queued_events AS (
+                    INSERT INTO publish_queue (event_log_id, date_queued)
+                    SELECT id, ? FROM linked_events
+                ),
+                updated_counter AS (
+                    INSERT INTO event_number_counter (id, last_event_number)
+                    SELECT 1, MAX(event_number) FROM linked_events HAVING COUNT(*) > 0
+                    ON CONFLICT (id) DO UPDATE SET last_event_number = EXCLUDED.last_event_number
+                )
+                SELECT id, stream_id, position_in_stream
+                FROM linked_events
+                ORDER BY event_number
+                """;
+
+    static final String LINK_AND_ENQUEUE_BATCH_OF_EVENTS_SQL = LINK_AND_ENQUEUE_BATCH_OF_EVENTS_TEMPLATE.formatted(
+            "(SELECT COALESCE(MAX(event_number), 0) FROM event_log)");
+
+    static final String LINK_AND_ENQUEUE_BATCH_OF_EVENTS_USING_COUNTER_SQL = LINK_AND_ENQUEUE_BATCH_OF_EVENTS_TEMPLATE.formatted(
+            "COALESCE((SELECT last_event_number FROM event_number_counter WHERE id = 1), (SELECT MAX(event_number) FROM event_log), 0)");
+
     private static final Long DEFAULT_FIRST_PREVIOUS_EVENT_NUMBER = 0L;
 
     @Inject
@@ -85,6 +152,41 @@ public class LinkEventsInEventLogDatabaseAccess {
         }
     }
 
+    /**
+     * Reserves the next numberOfEvents event numbers by incrementing the single row in the
+     * event_number_counter table, so no MAX(event_number) scan of the event_log is needed.
+     * Should the row be missing it is created from the current highest event number.
+     * Must be called in the same transaction as the linking so a rollback also rolls back
+     * the reservation, keeping event numbers gap free.
+     *
+     * @param connection the connection of the linking transaction
+     * @param numberOfEvents how many event numbers to reserve
+     * @return the highest of the reserved event numbers
+     */
+    public long reserveEventNumbers(final Connection connection, final int numberOfEvents) {
+        try {
+            final Optional<Long> lastEventNumber = executeEventNumberCounterUpdate(connection, RESERVE_EVENT_NUMBERS_SQL, numberOfEvents);
+            if (lastEventNumber.isPresent()) {
+                return lastEventNumber.get();
+            }
+
+            return executeEventNumberCounterUpdate(connection, INITIALISE_EVENT_NUMBER_COUNTER_SQL, numberOfEvents)
+                    .orElseThrow(() -> new EventPublishingException("Failed to initialise event_number_counter table"));
+
+        } catch (final SQLException e) {
+            throw new EventPublishingException(format("Failed to reserve %d event numbers from event_number_counter table", numberOfEvents), e);
+        }
+    }
+
+    public void updateEventNumberCounter(final Connection connection, final long lastEventNumber) {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(UPDATE_EVENT_NUMBER_COUNTER_SQL)) {
+            preparedStatement.setLong(1, lastEventNumber);
+            preparedStatement.executeUpdate();
+        } catch (final SQLException e) {
+            throw new EventPublishingException("Failed to update event_number_counter table", e);
+        }
+    }
+
     public List<EventDetailsToLink> findBatchOfNextEventsToLink(final Connection connection, final int batchSize) {
         try (final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_BATCH_OF_UNLINKED_EVENTS)) {
             preparedStatement.setInt(1, batchSize);
@@ -104,6 +206,38 @@ public class LinkEventsInEventLogDatabaseAccess {
         }
     }
 
+    /**
+     * Selects, numbers, links and enqueues the next batch of unlinked events in a single data
+     * modifying statement, so a batch costs one round-trip rather than four.
+     *
+     * @param connection the connection of the linking transaction
+     * @param batchSize the maximum number of events to link
+     * @param useEventNumberCounter true to continue numbering from the event_number_counter table
+     *                              rather than from MAX(event_number)
+     * @return the linked events in event_number order
+     */
+    public List<EventDetailsToLink> linkAndEnqueueBatchOfEvents(final Connection connection, final int batchSize, final boolean useEventNumberCounter) {
+
+        final String sql = useEventNumberCounter ? LINK_AND_ENQUEUE_BATCH_OF_EVENTS_USING_COUNTER_SQL : LINK_AND_ENQUEUE_BATCH_OF_EVENTS_SQL;
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setInt(1, batchSize);
+            preparedStatement.setTimestamp(2, toSqlTimestamp(clock.now()));
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                final List<EventDetailsToLink> events = new ArrayList<>(batchSize);
+                while (resultSet.next()) {
+                    events.add(new EventDetailsToLink(
+                            resultSet.getObject("id", UUID.class),
+                            resultSet.getObject("stream_id", UUID.class),
+                            resultSet.getLong("position_in_stream")));
+                }
+                return events;
+            }
+        } catch (final SQLException e) {
+            throw new EventPublishingException("Failed to link and enqueue batch of events in a single statement", e);
+        }
+    }
+
     public void linkEventsBatch(final Connection connection, final List<LinkedEventData> linkDataList) {
         try (final PreparedStatement preparedStatement = connection.prepareStatement(UPDATE_EVENT_NUMBERS_FOR_EVENT)) {
             for (final LinkedEventData linkData : linkDataList) {
@@ -130,4 +264,18 @@ public class LinkEventsInEventLogDatabaseAccess {
             throw new EventPublishingException("Failed to batch insert events into publish_queue table", e);
         }
     }
-}
\ No newline at end of file
+
+    private Optional<Long> executeEventNumberCounterUpdate(final Connection connection, final String sql, final int numberOfEvents) throws SQLException {
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setInt(1, numberOfEvents);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    return Optional.of(resultSet.getLong(1));
+                }
+
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -149,6 +150,75 @@ public class EventPublishingRepositoryIT {
         assertThat(getIsPublishedFlag(eventId), is(of(true)));
     }
 
+    @Test
+    public void shouldGetBatchOfLinkedEventsFromEventLogTableInEventNumberOrder() throws Exception {
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(eventStoreDataSource);
+
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+        final UUID eventId_3 = randomUUID();
+
+        final UUID streamId = randomUUID();
+
+        insertEvent(eventId_1, streamId, 1);
+        insertEvent(eventId_2, streamId, 2);
+        insertEvent(eventId_3, streamId, 3);
+
+        final List<LinkedEvent> linkedEvents = eventPublishingRepository.findEventsFromEventLog(List.of(eventId_3, eventId_1));
+
+        assertThat(linkedEvents.size(), is(2));
+        assertThat(linkedEvents.get(0).getId(), is(eventId_1));
+        assertThat(linkedEvents.get(0).getEventNumber(), is(of(1L)));
+        assertThat(linkedEvents.get(0).getPayload(), is("some-payload-1"));
+        assertThat(linkedEvents.get(1).getId(), is(eventId_3));
+        assertThat(linkedEvents.get(1).getEventNumber(), is(of(3L)));
+        assertThat(linkedEvents.get(1).getPreviousEventNumber(), is(2L));
+    }
+
+    @Test
+    public void shouldPopBatchOfEventIdsFromPublishQueue() throws Exception {
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(eventStoreDataSource);
+        final ZonedDateTime dateCreated = new UtcClock().now();
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+        final UUID eventId_3 = randomUUID();
+
+        insertIntoPublishQueue(eventId_1, dateCreated);
+        insertIntoPublishQueue(eventId_2, dateCreated);
+        insertIntoPublishQueue(eventId_3, dateCreated);
+
+        final List<UUID> firstBatch = eventPublishingRepository.popNextEventIdsFromPublishQueue(2);
+        assertThat(firstBatch.size(), is(2));
+        assertThat(firstBatch.contains(eventId_1), is(true));
+        assertThat(firstBatch.contains(eventId_2), is(true));
+
+        assertThat(eventPublishingRepository.popNextEventIdsFromPublishQueue(2), is(List.of(eventId_3)));
+        assertThat(eventPublishingRepository.popNextEventIdsFromPublishQueue(2), is(List.of()));
+    }
+
+    @Test
+    public void shouldSetIsPublishedFlagForBatchOfEvents() throws Exception {
+
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+        final UUID eventId_3 = randomUUID();
+        final UUID streamId = randomUUID();
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(eventStoreDataSource);
+
+        insertEvent(eventId_1, streamId, 1);
+        insertEvent(eventId_2, streamId, 2);
+        insertEvent(eventId_3, streamId, 3);
+
+        eventPublishingRepository.setIsPublishedFlag(List.of(eventId_1, eventId_3), false);
+
+        assertThat(getIsPublishedFlag(eventId_1), is(of(false)));
+        assertThat(getIsPublishedFlag(eventId_2), is(of(true)));
+        assertThat(getIsPublishedFlag(eventId_3), is(of(false)));
+    }
+
     private void insertEvent(final UUID eventId, final UUID streamId, final int eventNumber) throws Exception {
 
         final String sql = """
@@ -13,8 +13,11 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository.FIND_EVENTS_FROM_EVENT_LOG_SQL;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository.FIND_EVENT_FROM_EVENT_LOG_SQL;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository.REMOVE_NEXT_BATCH_OF_EVENT_IDS_FROM_PUBLISH_QUEUE_SQL;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository.REMOVE_NEXT_EVENT_ID_FROM_PUBLISH_QUEUE_SQL;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository.UPDATE_IS_PUBLISHED_FLAG_FOR_EVENTS_SQL;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository.UPDATE_IS_PUBLISHED_FLAG_SQL;
 
 import uk.gov.justice.services.common.util.UtcClock;
@@ -22,11 +25,13 @@ import uk.gov.justice.services.eventsourcing.publishedevent.EventPublishingExcep
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventsourcing.source.core.EventStoreDataSourceProvider;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -302,4 +307,153 @@ public class EventPublishingRepositoryTest {
         inOrder.verify(preparedStatement).close();
         inOrder.verify(connection).close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindBatchOfEventsInEventLogTable() throws Exception {
+
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+        final UUID streamId = randomUUID();
+        final ZonedDateTime createdAt = new UtcClock().now();
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        final Array eventIdArray = mock(Array.class);
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(FIND_EVENTS_FROM_EVENT_LOG_SQL)).thenReturn(preparedStatement);
+        when(connection.createArrayOf("uuid", new Object[]{eventId_1, eventId_2})).thenReturn(eventIdArray);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        when(resultSet.getObject("id", UUID.class)).thenReturn(eventId_1, eventId_2);
+        when(resultSet.getObject("stream_id", UUID.class)).thenReturn(streamId, streamId);
+        when(resultSet.getObject("position_in_stream", Long.class)).thenReturn(1L, 2L);
+        when(resultSet.getString("name")).thenReturn("name_1", "name_2");
+        when(resultSet.getString("metadata")).thenReturn("metadata_1", "metadata_2");
+        when(resultSet.getString("payload")).thenReturn("payload_1", "payload_2");
+        when(resultSet.getTimestamp("date_created")).thenReturn(toSqlTimestamp(createdAt), toSqlTimestamp(createdAt));
+        when(resultSet.getObject("event_number", Long.class)).thenReturn(23L, 24L);
+        when(resultSet.getObject("previous_event_number", Long.class)).thenReturn(22L, 23L);
+
+        final List<LinkedEvent> linkedEvents = eventPublishingRepository.findEventsFromEventLog(List.of(eventId_1, eventId_2));
+
+        assertThat(linkedEvents.size(), is(2));
+        assertThat(linkedEvents.get(0).getId(), is(eventId_1));
+        assertThat(linkedEvents.get(0).getPositionInStream(), is(1L));
+        assertThat(linkedEvents.get(0).getName(), is("name_1"));
+        assertThat(linkedEvents.get(0).getEventNumber(), is(of(23L)));
+        assertThat(linkedEvents.get(0).getPreviousEventNumber(), is(22L));
+        assertThat(linkedEvents.get(1).getId(), is(eventId_2));
+        assertThat(linkedEvents.get(1).getPayload(), is("payload_2"));
+        assertThat(linkedEvents.get(1).getEventNumber(), is(of(24L)));
+        assertThat(linkedEvents.get(1).getPreviousEventNumber(), is(23L));
+
+        final InOrder inOrder = inOrder(preparedStatement, resultSet, connection);
+
+        inOrder.verify(preparedStatement).setArray(1, eventIdArray);
+        inOrder.verify(preparedStatement).executeQuery();
+        inOrder.verify(resultSet).close();
+        inOrder.verify(preparedStatement).close();
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    public void shouldThrowEventPublishingExceptionIfFindingBatchOfEventsFails() throws Exception {
+
+        final SQLException sqlException = new SQLException("Ooops");
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(FIND_EVENTS_FROM_EVENT_LOG_SQL)).thenThrow(sqlException);
+
+        final EventPublishingException eventPublishingException = assertThrows(
+                EventPublishingException.class,
+                () -> eventPublishingRepository.findEventsFromEventLog(List.of(randomUUID(), randomUUID())));
+
+        assertThat(eventPublishingException.getCause(), is(sqlException));
+        assertThat(eventPublishingException.getMessage(), is("Failed to find batch of 2 events in event_log"));
+    }
+
+    @Test
+    public void shouldPopBatchOfEventIdsFromPublishQueue() throws Exception {
+
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(REMOVE_NEXT_BATCH_OF_EVENT_IDS_FROM_PUBLISH_QUEUE_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1, UUID.class)).thenReturn(eventId_1, eventId_2);
+
+        assertThat(eventPublishingRepository.popNextEventIdsFromPublishQueue(10), is(List.of(eventId_1, eventId_2)));
+
+        final InOrder inOrder = inOrder(preparedStatement, resultSet, connection);
+
+        inOrder.verify(preparedStatement).setInt(1, 10);
+        inOrder.verify(preparedStatement).executeQuery();
+        inOrder.verify(resultSet).close();
+        inOrder.verify(preparedStatement).close();
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    public void shouldThrowEventPublishingExceptionIfPoppingBatchOfEventIdsFails() throws Exception {
+
+        final SQLException sqlException = new SQLException("Ooops");
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(REMOVE_NEXT_BATCH_OF_EVENT_IDS_FROM_PUBLISH_QUEUE_SQL)).thenThrow(sqlException);
+
+        final EventPublishingException eventPublishingException = assertThrows(
+                EventPublishingException.class,
+                () -> eventPublishingRepository.popNextEventIdsFromPublishQueue(10));
+
+        assertThat(eventPublishingException.getCause(), is(sqlException));
+        assertThat(eventPublishingException.getMessage(), is("Failed to find next batch of event ids from publish_queue table"));
+    }
+
+    @Test
+    public void shouldSetIsPublishedFlagForBatchOfEvents() throws Exception {
+
+        final UUID eventId_1 = randomUUID();
+        final UUID eventId_2 = randomUUID();
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final Array eventIdArray = mock(Array.class);
+
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(UPDATE_IS_PUBLISHED_FLAG_FOR_EVENTS_SQL)).thenReturn(preparedStatement);
+        when(connection.createArrayOf("uuid", new Object[]{eventId_1, eventId_2})).thenReturn(eventIdArray);
+
+        eventPublishingRepository.setIsPublishedFlag(List.of(eventId_1, eventId_2), true);
+
+        final InOrder inOrder = inOrder(preparedStatement, connection);
+
+        inOrder.verify(preparedStatement).setBoolean(1, true);
+        inOrder.verify(preparedStatement).setArray(2, eventIdArray);
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).close();
+        inOrder.verify(connection).close();
+    }
+}
@@ -137,6 +137,109 @@ public class LinkEventsInEventLogDatabaseAccessIT {
         }
     }
 
+    @Test
+    public void shouldInitialiseEventNumberCounterFromHighestEventNumberAndThenReserveEventNumbersFromIt() throws Exception {
+
+        final ZonedDateTime oneMinuteAgo = new UtcClock().now().minusMinutes(1);
+        insertLinkedEventIntoEventLogTable(randomUUID(), 1L, 0L, oneMinuteAgo.plusSeconds(1), 1);
+        insertLinkedEventIntoEventLogTable(randomUUID(), 2L, 1L, oneMinuteAgo.plusSeconds(2), 2);
+
+        try (final Connection connection = eventStoreDataSource.getConnection()) {
+            assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 3), is(5L));
+            assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 10), is(15L));
+        }
+    }
+
+    @Test
+    public void shouldUpdateEventNumberCounter() throws Exception {
+
+        try (final Connection connection = eventStoreDataSource.getConnection()) {
+            linkEventsInEventLogDatabaseAccess.updateEventNumberCounter(connection, 23L);
+            assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 1), is(24L));
+
+            linkEventsInEventLogDatabaseAccess.updateEventNumberCounter(connection, 42L);
+            assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 2), is(44L));
+        }
+    }
+
+    @Test
+    public void shouldLinkAndEnqueueBatchOfEventsInSingleStatement() throws Exception {
+
+        final UUID eventId1 = randomUUID();
+        final UUID eventId2 = randomUUID();
+        final UUID eventId3 = randomUUID();
+
+        final ZonedDateTime oneMinuteAgo = new UtcClock().now().minusMinutes(1);
+        insertLinkedEventIntoEventLogTable(randomUUID(), 1L, 0L, oneMinuteAgo.plusSeconds(1), 1);
+        insertUnlinkedEventIntoEventLogTable(eventId1, oneMinuteAgo.plusSeconds(2), 2);
+        insertUnlinkedEventIntoEventLogTable(eventId2, oneMinuteAgo.plusSeconds(3), 3);
+        insertUnlinkedEventIntoEventLogTable(eventId3, oneMinuteAgo.plusSeconds(4), 4);
+
+        when(clock.now()).thenReturn(new UtcClock().now());
+
+        try (final Connection connection = eventStoreDataSource.getConnection()) {
+            final List<EventDetailsToLink> linkedEvents = linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, 2, false);
+
+            assertThat(linkedEvents.size(), is(2));
+            assertThat(linkedEvents.get(0).eventId(), is(eventId1));
+            assertThat(linkedEvents.get(1).eventId(), is(eventId2));
+        }
+
+        assertEventNumbers(eventId1, 2L, 1L);
+        assertEventNumbers(eventId2, 3L, 2L);
+        assertThat(countInPublishQueue(eventId1, eventId2, eventId3), is(2));
+
+        try (final Connection connection = eventStoreDataSource.getConnection()) {
+            final List<EventDetailsToLink> linkedEvents = linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, 2, true);
+
+            assertThat(linkedEvents.size(), is(1));
+            assertThat(linkedEvents.get(0).eventId(), is(eventId3));
+
+            assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 1), is(5L));
+        }
+
+        assertEventNumbers(eventId3, 4L, 3L);
+        assertThat(countInPublishQueue(eventId1, eventId2, eventId3), is(3));
+    }
+
+    @Test
+    public void shouldLinkNothingInSingleStatementIfNoUnlinkedEvents() throws Exception {
+
+        final ZonedDateTime oneMinuteAgo = new UtcClock().now().minusMinutes(1);
+        insertLinkedEventIntoEventLogTable(randomUUID(), 1L, 0L, oneMinuteAgo.plusSeconds(1), 1);
+
+        when(clock.now()).thenReturn(new UtcClock().now());
+
+        try (final Connection connection = eventStoreDataSource.getConnection()) {
+            assertThat(linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, 10, false).isEmpty(), is(true));
+        }
+    }
+
+    private void assertEventNumbers(final UUID eventId, final long eventNumber, final long previousEventNumber) throws Exception {
+        final String sql = "SELECT event_number, previous_event_number FROM event_log WHERE id = ?";
+        try (final Connection connection = eventStoreDataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setObject(1, eventId);
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                assertThat(resultSet.next(), is(true));
+                assertThat(resultSet.getLong("event_number"), is(eventNumber));
+                assertThat(resultSet.getLong("previous_event_number"), is(previousEventNumber));
+            }
+        }
+    }
+
+    private int countInPublishQueue(final UUID... eventIds) throws Exception {
+        final String sql = "SELECT count(*) FROM publish_queue WHERE event_log_id = ANY(?)";
+        try (final Connection connection = eventStoreDataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setArray(1, connection.createArrayOf("uuid", eventIds));
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     private void insertUnlinkedEventIntoEventLogTable(
             final UUID eventId,
             final ZonedDateTime dateCreated,
@@ -4,14 +4,20 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.INITIALISE_EVENT_NUMBER_COUNTER_SQL;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.INSERT_EVENT_INTO_PUBLISH_QUEUE_QUERY;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.LINK_AND_ENQUEUE_BATCH_OF_EVENTS_SQL;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.LINK_AND_ENQUEUE_BATCH_OF_EVENTS_USING_COUNTER_SQL;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.RESERVE_EVENT_NUMBERS_SQL;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.SELECT_BATCH_OF_UNLINKED_EVENTS;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.SELECT_HIGHEST_LINKED_EVENT_NUMBER_SQL;
 import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.UPDATE_EVENT_NUMBERS_FOR_EVENT;
+import static uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess.UPDATE_EVENT_NUMBER_COUNTER_SQL;
 
 import org.slf4j.Logger;
 import uk.gov.justice.services.common.util.UtcClock;
@@ -167,4 +173,112 @@ public class LinkEventsInEventLogDatabaseAccessTest {
         inOrder.verify(preparedStatement).addBatch();
         inOrder.verify(preparedStatement).executeBatch();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReserveEventNumbersFromEventNumberCounter() throws Exception {
+
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(connection.prepareStatement(RESERVE_EVENT_NUMBERS_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(33L);
+
+        assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 10), is(33L));
+
+        final InOrder inOrder = inOrder(preparedStatement, resultSet);
+        inOrder.verify(preparedStatement).setInt(1, 10);
+        inOrder.verify(preparedStatement).executeQuery();
+        inOrder.verify(resultSet).close();
+        inOrder.verify(preparedStatement).close();
+
+        verify(connection, never()).prepareStatement(INITIALISE_EVENT_NUMBER_COUNTER_SQL);
+    }
+
+    @Test
+    public void shouldInitialiseEventNumberCounterIfNoCounterRowExists() throws Exception {
+
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement reservePreparedStatement = mock(PreparedStatement.class);
+        final PreparedStatement initialisePreparedStatement = mock(PreparedStatement.class);
+        final ResultSet reserveResultSet = mock(ResultSet.class);
+        final ResultSet initialiseResultSet = mock(ResultSet.class);
+
+        when(connection.prepareStatement(RESERVE_EVENT_NUMBERS_SQL)).thenReturn(reservePreparedStatement);
+        when(reservePreparedStatement.executeQuery()).thenReturn(reserveResultSet);
+        when(reserveResultSet.next()).thenReturn(false);
+        when(connection.prepareStatement(INITIALISE_EVENT_NUMBER_COUNTER_SQL)).thenReturn(initialisePreparedStatement);
+        when(initialisePreparedStatement.executeQuery()).thenReturn(initialiseResultSet);
+        when(initialiseResultSet.next()).thenReturn(true);
+        when(initialiseResultSet.getLong(1)).thenReturn(12L);
+
+        assertThat(linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, 2), is(12L));
+
+        verify(reservePreparedStatement).setInt(1, 2);
+        verify(initialisePreparedStatement).setInt(1, 2);
+    }
+
+    @Test
+    public void shouldUpdateEventNumberCounter() throws Exception {
+
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        when(connection.prepareStatement(UPDATE_EVENT_NUMBER_COUNTER_SQL)).thenReturn(preparedStatement);
+
+        linkEventsInEventLogDatabaseAccess.updateEventNumberCounter(connection, 42L);
+
+        final InOrder inOrder = inOrder(preparedStatement);
+        inOrder.verify(preparedStatement).setLong(1, 42L);
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).close();
+    }
+
+    @Test
+    public void shouldLinkAndEnqueueBatchOfEventsInSingleStatement() throws Exception {
+
+        final UUID eventId = randomUUID();
+        final UUID streamId = randomUUID();
+        final ZonedDateTime now = new UtcClock().now();
+
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(clock.now()).thenReturn(now);
+        when(connection.prepareStatement(LINK_AND_ENQUEUE_BATCH_OF_EVENTS_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject("id", UUID.class)).thenReturn(eventId);
+        when(resultSet.getObject("stream_id", UUID.class)).thenReturn(streamId);
+        when(resultSet.getLong("position_in_stream")).thenReturn(3L);
+
+        final List<EventDetailsToLink> events = linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, 10, false);
+
+        assertThat(events, is(List.of(new EventDetailsToLink(eventId, streamId, 3L))));
+
+        final InOrder inOrder = inOrder(preparedStatement, resultSet);
+        inOrder.verify(preparedStatement).setInt(1, 10);
+        inOrder.verify(preparedStatement).setTimestamp(2, toSqlTimestamp(now));
+        inOrder.verify(preparedStatement).executeQuery();
+        inOrder.verify(resultSet).close();
+        inOrder.verify(preparedStatement).close();
+    }
+
+    @Test
+    public void shouldUseEventNumberCounterWhenLinkingInSingleStatementIfRequested() throws Exception {
+
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(clock.now()).thenReturn(new UtcClock().now());
+        when(connection.prepareStatement(LINK_AND_ENQUEUE_BATCH_OF_EVENTS_USING_COUNTER_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false);
+
+        assertThat(linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, 10, true), is(List.of()));
+    }
+}
@@ -1,5 +1,8 @@
 package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
 
-public record StreamStatusAdvancedEvent(String source, String component) {
+public record StreamStatusAdvancedEvent(String source, String component, int numberOfStreams) {
 
-}
\ No newline at end of file
+    public StreamStatusAdvancedEvent(final String source, final String component) {
+        this(source, component, 1);
+    }
+}
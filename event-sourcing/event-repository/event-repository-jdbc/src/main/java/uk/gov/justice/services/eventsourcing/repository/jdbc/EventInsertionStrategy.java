@@ -8,7 +8,9 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPo
 import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapper;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 public class EventInsertionStrategy {
 
@@ -35,12 +37,7 @@ public class EventInsertionStrategy {
     }
 
     public void insert(final PreparedStatementWrapper preparedStatementWrapper, final Event event) throws SQLException, InvalidPositionException {
-        if (event.getPositionInStream() == null) {
-            throw new InvalidPositionException(format(
-                    "Failed to insert event into event log table. Event has NULL positionInStream: event id '%s', streamId '%s'",
-                    event.getId(),
-                    event.getStreamId()));
-        }
+        verifyPositionInStream(event);
 
         preparedStatementWrapper.setObject(1, event.getId());
         preparedStatementWrapper.setObject(2, event.getStreamId());
@@ -52,11 +49,60 @@ public class EventInsertionStrategy {
         final int updatedRows = preparedStatementWrapper.executeUpdate();
 
         if (updatedRows == 0) {
-            throw new OptimisticLockingRetryException(
-                    format("%s while storing positionInStream '%d' of stream '%s'",
-                            OptimisticLockingRetryException.class.getSimpleName(),
-                            event.getPositionInStream(),
-                            event.getStreamId()));
+            throw optimisticLockingRetryExceptionFor(event);
+        }
+    }
+
+    /**
+     * Inserts all of the given events using a single JDBC batch on the one prepared statement.
+     * Each row of the batch keeps its own 'ON CONFLICT DO NOTHING' so an event whose position
+     * already exists in the stream is reported by a zero update count for that row, which is
+     * raised as an {@link OptimisticLockingRetryException}.
+     *
+     * Note: the batch must not be rewritten into a multi-row insert by the driver
+     * (reWriteBatchedInserts) as the per row update counts are then lost
+     *
+     * @param preparedStatement prepared with the {@link #insertStatement()}
+     * @param events the events to insert, in stream position order
+     */
+    public void insertBatch(final PreparedStatement preparedStatement, final List<Event> events) throws SQLException, InvalidPositionException {
+
+        for (final Event event : events) {
+            verifyPositionInStream(event);
+
+            preparedStatement.setObject(1, event.getId());
+            preparedStatement.setObject(2, event.getStreamId());
+            preparedStatement.setLong(3, event.getPositionInStream());
+            preparedStatement.setString(4, event.getName());
+            preparedStatement.setString(5, event.getMetadata());
+            preparedStatement.setString(6, event.getPayload());
+            preparedStatement.setTimestamp(7, toSqlTimestamp(event.getCreatedAt()));
+            preparedStatement.addBatch();
+        }
+
+        final int[] updatedRows = preparedStatement.executeBatch();
+
+        for (int index = 0; index < updatedRows.length; index++) {
+            if (updatedRows[index] == 0) {
+                throw optimisticLockingRetryExceptionFor(events.get(index));
+            }
+        }
+    }
+
+    private void verifyPositionInStream(final Event event) throws InvalidPositionException {
+        if (event.getPositionInStream() == null) {
+            throw new InvalidPositionException(format(
+                    "Failed to insert event into event log table. Event has NULL positionInStream: event id '%s', streamId '%s'",
+                    event.getId(),
+                    event.getStreamId()));
         }
     }
+
+    private OptimisticLockingRetryException optimisticLockingRetryExceptionFor(final Event event) {
+        return new OptimisticLockingRetryException(
+                format("%s while storing positionInStream '%d' of stream '%s'",
+                        OptimisticLockingRetryException.class.getSimpleName(),
+                        event.getPositionInStream(),
+                        event.getStreamId()));
+    }
 }
@@ -3,6 +3,7 @@ package uk.gov.justice.services.eventsourcing.repository.jdbc;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.StoreEventRequestFailedException;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -55,6 +56,15 @@ public interface EventRepository {
      */
     void storeEvent(final JsonEnvelope envelope) throws StoreEventRequestFailedException;
 
+    /**
+     * Stores all of the given envelopes into their event stream with a single batched insert.
+     *
+     * @param envelopes the envelopes containing the events and the metadata, in position order.
+     * @throws StoreEventRequestFailedException If there was a failure in storing the events, this
+     *                                          will wrap the underlying cause.
+     */
+    void storeEvents(final List<JsonEnvelope> envelopes) throws StoreEventRequestFailedException;
+
     /**
      * Returns the position for the given stream id.
      *
@@ -63,6 +73,15 @@ public interface EventRepository {
      */
     long getStreamSize(final UUID streamId);
 
+    /**
+     * Checks whether the given stream has an event at exactly the given position.
+     *
+     * @param streamId id of the stream.
+     * @param position the position to check.
+     * @return true if the stream has an event at the position.
+     */
+    boolean eventExistsAtPosition(final UUID streamId, final long position);
+
     /**
      * Returns stream of envelope streams. Envelopes in the nested stream are ordered by position
      * ascending
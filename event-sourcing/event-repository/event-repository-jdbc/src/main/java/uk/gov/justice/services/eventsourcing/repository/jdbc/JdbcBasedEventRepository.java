@@ -1,5 +1,7 @@
 package uk.gov.justice.services.eventsourcing.repository.jdbc;
 
+import static java.util.stream.Collectors.toList;
+
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.Event;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventConverter;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository;
@@ -100,11 +102,30 @@ public class JdbcBasedEventRepository implements EventRepository {
         }
     }
 
+    @Override
+    @Transactional(dontRollbackOn = OptimisticLockingRetryException.class)
+    public void storeEvents(final List<JsonEnvelope> envelopes) throws StoreEventRequestFailedException {
+        try {
+            final List<Event> events = envelopes.stream()
+                    .map(eventConverter::eventOf)
+                    .collect(toList());
+            logger.trace("Storing batch of {} events", events.size());
+            eventJdbcRepository.insertBatch(events);
+        } catch (InvalidPositionException ex) {
+            throw new StoreEventRequestFailedException(String.format("Could not store batch of %d events", envelopes.size()), ex);
+        }
+    }
+
     @Override
     public long getStreamSize(final UUID streamId) {
         return eventJdbcRepository.getStreamSize(streamId);
     }
 
+    @Override
+    public boolean eventExistsAtPosition(final UUID streamId, final long position) {
+        return eventJdbcRepository.eventExistsAtPosition(streamId, position);
+    }
+
     @Override
     public Stream<Stream<JsonEnvelope>> getStreamOfAllEventStreams() {
         final Stream<UUID> streamIds = eventJdbcRepository.getStreamIds();
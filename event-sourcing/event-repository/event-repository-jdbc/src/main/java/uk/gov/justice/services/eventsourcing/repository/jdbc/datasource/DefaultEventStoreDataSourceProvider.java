@@ -5,14 +5,27 @@ import uk.gov.justice.services.jdbc.persistence.JdbcDataSourceProvider;
 import uk.gov.justice.subscription.domain.eventsource.EventSourceDefinition;
 import uk.gov.justice.subscription.registry.EventSourceDefinitionRegistry;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
 import javax.ejb.Singleton;
 import javax.inject.Inject;
 import javax.sql.DataSource;
 
+/**
+ * Looks up the default event store DataSource once and then returns it without locking, as it is
+ * used for every event read and written. Only the first lookup takes a Lock, which, unlike a
+ * monitor or the container's default write lock, does not pin a virtual thread's carrier thread.
+ */
 @Singleton
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
 public class DefaultEventStoreDataSourceProvider implements EventStoreDataSourceProvider {
 
-    private DataSource dataSource;
+    private final Lock lookupLock = new ReentrantLock();
+
+    private volatile DataSource dataSource;
 
     @Inject
     private EventSourceDefinitionRegistry eventSourceDefinitionRegistry;
@@ -21,10 +34,17 @@ public class DefaultEventStoreDataSourceProvider implements EventStoreDataSource
     private JdbcDataSourceProvider jdbcDataSourceProvider;
 
     @Override
-    public synchronized DataSource getDefaultDataSource() {
+    public DataSource getDefaultDataSource() {
 
         if (null == dataSource) {
-            dataSource = getDataSourceFromJndi();
+            lookupLock.lock();
+            try {
+                if (null == dataSource) {
+                    dataSource = getDataSourceFromJndi();
+                }
+            } finally {
+                lookupLock.unlock();
+            }
         }
 
         return dataSource;
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.transaction.Transactional;
@@ -38,27 +39,40 @@ public class EventDiscoveryRepository {
             """;
     public static final String SELECT_EVENT_NUMBER = "SELECT event_number FROM event_log WHERE id = ?";
 
+    static final int STREAM_POSITIONS_FETCH_SIZE = 1000;
+
     @Inject
     private EventStoreDataSourceProvider eventStoreDataSourceProvider;
 
     @Transactional(REQUIRED)
     public List<StreamPosition> getLatestStreamPositionsBetween(final long firstEventNumber, final long lastEventNumber) {
 
+        final List<StreamPosition> streamPositions = new ArrayList<>();
+        forEachLatestStreamPositionBetween(firstEventNumber, lastEventNumber, streamPositions::add);
+
+        return streamPositions;
+    }
+
+    /**
+     * Passes the latest position of each stream having events between the event numbers to the
+     * consumer as it is read, fetching rows from the database in batches rather than all at once
+     */
+    @Transactional(REQUIRED)
+    public void forEachLatestStreamPositionBetween(final long firstEventNumber, final long lastEventNumber, final Consumer<StreamPosition> streamPositionConsumer) {
+
         try (final Connection connection = eventStoreDataSourceProvider.getDefaultDataSource().getConnection();
              final PreparedStatement preparedStatement = connection.prepareStatement(GET_HIGHEST_POSITION_IN_STREAM_FOR_EACH_STREAM_BETWEEN_EVENT_NUMBERS_SQL)) {
             preparedStatement.setLong(1, firstEventNumber);
             preparedStatement.setLong(2, lastEventNumber);
+            preparedStatement.setFetchSize(STREAM_POSITIONS_FETCH_SIZE);
 
             try (final ResultSet resultSet = preparedStatement.executeQuery()) {
-                final List<StreamPosition> streamPositions = new ArrayList<>();
                 while (resultSet.next()) {
                     final UUID streamId = resultSet.getObject("stream_id", UUID.class);
                     final Long positionInStream = resultSet.getObject("max_position_in_stream", Long.class);
 
-                    streamPositions.add(new StreamPosition(streamId, positionInStream));
+                    streamPositionConsumer.accept(new StreamPosition(streamId, positionInStream));
                 }
-
-                return streamPositions;
             }
         } catch (final SQLException e) {
             throw new EventStoreEventDiscoveryException(format("Failed to get latest stream positions between eventNumbers '%d' and '%d'", firstEventNumber, lastEventNumber), e);
@@ -50,13 +50,16 @@ public class EventConverter {
     }
 
     /**
-     * Creates an {@link JsonEnvelope} from {@link Event}
+     * Creates an {@link JsonEnvelope} from {@link Event}. The payload of the event is not parsed
+     * until it is first asked for, so events that are only looked at by their metadata, or are
+     * skipped, never have their payload parsed.
      *
      * @param event event to be converted into an envelope.
      * @return an envelope created from event.
      */
     public JsonEnvelope envelopeOf(final Event event) {
-        return defaultJsonEnvelopeProvider.envelopeFrom(metadataOf(event), payloadOf(event));
+        final Metadata metadata = metadataOf(event);
+        return new LazyPayloadJsonEnvelope(metadata, () -> defaultJsonEnvelopeProvider.envelopeFrom(metadata, payloadOf(event)));
     }
 
     /**
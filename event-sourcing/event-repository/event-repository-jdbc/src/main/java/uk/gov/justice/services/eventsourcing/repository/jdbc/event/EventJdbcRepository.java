@@ -2,6 +2,7 @@ package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
 
 
 import static java.lang.String.format;
+import static java.util.Collections.reverse;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
@@ -21,6 +22,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -42,8 +45,30 @@ public class EventJdbcRepository {
     static final String SQL_FIND_ALL = "SELECT * FROM event_log ORDER BY position_in_stream ASC";
     static final String SQL_FIND_BY_ID = "SELECT stream_id, position_in_stream, name, payload, metadata, date_created FROM event_log WHERE id = ?";
     static final String SQL_FIND_BY_STREAM_ID = "SELECT * FROM event_log WHERE stream_id=? ORDER BY position_in_stream ASC";
-    static final String SQL_FIND_BY_STREAM_ID_AND_POSITION = "SELECT * FROM event_log WHERE stream_id=? AND position_in_stream>=? ORDER BY position_in_stream ASC";
+    static final String SQL_STREAM_BY_STREAM_ID_AFTER_POSITION = """
+            SELECT id, stream_id, position_in_stream, name, payload, metadata, date_created, event_number
+            FROM event_log
+            WHERE stream_id = ?
+            AND position_in_stream > ?
+            ORDER BY position_in_stream ASC""";
+    static final String SQL_FIND_PAGE_BY_STREAM_ID_AFTER_POSITION = """
+            SELECT id, stream_id, position_in_stream, name, payload, metadata, date_created, event_number
+            FROM event_log
+            WHERE stream_id = ?
+            AND position_in_stream > ?
+            ORDER BY position_in_stream ASC
+            LIMIT ?""";
+    static final String SQL_FIND_BY_STREAM_ID_AND_POSITION = """
+            SELECT id, stream_id, position_in_stream, name, payload, metadata, date_created, event_number
+            FROM event_log
+            WHERE stream_id = ?
+            AND position_in_stream >= ?
+            ORDER BY position_in_stream ASC""";
     static final String SQL_FIND_BY_STREAM_ID_AND_POSITION_BY_PAGE = "SELECT * FROM event_log WHERE stream_id=? AND position_in_stream>=? ORDER BY position_in_stream ASC LIMIT ?";
+    static final String SQL_FIND_BY_STREAM_ID_UP_TO_POSITION_BY_PAGE = "SELECT * FROM event_log WHERE stream_id=? AND position_in_stream<=? ORDER BY position_in_stream DESC LIMIT ?";
+    static final String SQL_EVENT_EXISTS_AT_POSITION = "SELECT 1 FROM event_log WHERE stream_id=? AND position_in_stream=?";
+    static final String SQL_EVENT_EXISTS_FROM_POSITION = "SELECT 1 FROM event_log WHERE stream_id=? AND position_in_stream>=? LIMIT 1";
+    static final String SQL_EVENT_EXISTS_UP_TO_POSITION = "SELECT 1 FROM event_log WHERE stream_id=? AND position_in_stream<=? LIMIT 1";
     static final String SQL_FIND_NEXT_EVENT_IN_THE_STREAM_AFTER_POSITION = """
             SELECT id, stream_id, position_in_stream, name, payload, metadata, date_created, event_number, previous_event_number
             FROM event_log
@@ -51,11 +76,20 @@ public class EventJdbcRepository {
             AND position_in_stream > ?
             ORDER BY position_in_stream ASC
             LIMIT 1""";
+    static final String SQL_FIND_NEXT_EVENTS_IN_THE_STREAM_AFTER_POSITION = """
+            SELECT id, stream_id, position_in_stream, name, payload, metadata, date_created, event_number, previous_event_number
+            FROM event_log
+            WHERE stream_id = ?
+            AND position_in_stream > ?
+            AND position_in_stream <= ?
+            ORDER BY position_in_stream ASC
+            LIMIT ?""";
     static final String SQL_FIND_LATEST_POSITION = "SELECT MAX(position_in_stream) FROM event_log WHERE stream_id=?";
     static final String SQL_DISTINCT_STREAM_ID = "SELECT DISTINCT stream_id FROM event_log";
     static final String SQL_DELETE_STREAM = "DELETE FROM event_log t WHERE t.stream_id=?";
 
     private static final long NO_EXISTING_VERSION = 0L;
+    private static final long BEFORE_FIRST_POSITION = 0L;
 
     @Inject
     private EventInsertionStrategy eventInsertionStrategy;
@@ -69,6 +103,9 @@ public class EventJdbcRepository {
     @Inject
     private EventStoreDataSourceProvider eventStoreDataSourceProvider;
 
+    @Inject
+    private EventStreamReadConfig eventStreamReadConfig;
+
     @Inject
     private Logger logger;
 
@@ -91,6 +128,32 @@ public class EventJdbcRepository {
         }
     }
 
+    /**
+     * Insert all of the given events into the event log in a single JDBC batch, using one
+     * round trip to the database rather than one per event.
+     *
+     * @param events the events to insert, in stream position order
+     * @throws InvalidPositionException if any of the events has a null position
+     */
+    public void insertBatch(final List<Event> events) throws InvalidPositionException {
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(eventInsertionStrategy.insertStatement())) {
+            eventInsertionStrategy.insertBatch(preparedStatement, events);
+        } catch (final SQLException e) {
+            final Event firstEvent = events.get(0);
+            logger.error("Error persisting batch of events to the database", e);
+            throw new JdbcRepositoryException(format("Exception while storing batch of %d events from sequence %s of stream %s",
+                    events.size(), firstEvent.getPositionInStream(), firstEvent.getStreamId()), e);
+        }
+    }
+
     public Optional<Event> findById(final UUID id) {
 
         final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
@@ -133,11 +196,26 @@ public class EventJdbcRepository {
     /**
      * Returns a Stream of {@link Event} for the given stream streamId.
      *
+     * If 'event.stream.read.page.size' is set the events are read lazily in pages keyed on
+     * position_in_stream, otherwise if 'event.stream.read.fetch.size' is set they are streamed
+     * from one query with that fetch size, so that only a page or a fetch of events is held in
+     * memory however long the stream.
+     *
      * @param streamId streamId of the stream.
      * @return a stream of {@link Event}. Never returns null.
      */
     public Stream<Event> findByStreamIdOrderByPositionAsc(final UUID streamId) {
 
+        final int pageSize = eventStreamReadConfig.getPageSize();
+        if (pageSize > 0) {
+            return findByStreamIdInPagesAfterPositionOrderByPositionAsc(streamId, BEFORE_FIRST_POSITION, pageSize);
+        }
+
+        final int fetchSize = eventStreamReadConfig.getFetchSize();
+        if (fetchSize > 0) {
+            return streamByStreamIdAfterPositionOrderByPositionAsc(streamId, BEFORE_FIRST_POSITION, fetchSize);
+        }
+
         final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
 
         try {
@@ -151,9 +229,73 @@ public class EventJdbcRepository {
         }
     }
 
+    private Stream<Event> findByStreamIdInPagesAfterPositionOrderByPositionAsc(final UUID streamId, final long position, final int pageSize) {
+        return Stream.iterate(
+                        findPageByStreamIdAfterPosition(streamId, position, pageSize),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < pageSize ? List.of() : findPageByStreamIdAfterPosition(streamId, page.get(page.size() - 1).getPositionInStream(), pageSize))
+                .flatMap(List::stream);
+    }
+
+    private List<Event> findPageByStreamIdAfterPosition(final UUID streamId, final long position, final int pageSize) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SQL_FIND_PAGE_BY_STREAM_ID_AFTER_POSITION)) {
+
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setLong(2, position);
+            preparedStatement.setInt(3, pageSize);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                final List<Event> events = new ArrayList<>(pageSize);
+                while (resultSet.next()) {
+                    events.add(asEvent().apply(resultSet));
+                }
+
+                return events;
+            }
+        } catch (final SQLException e) {
+            logger.warn("Failed to read stream {}", streamId, e);
+            throw new JdbcRepositoryException(format("Exception while reading stream %s after position %d", streamId, position), e);
+        }
+    }
+
+    private Stream<Event> streamByStreamIdAfterPositionOrderByPositionAsc(final UUID streamId, final long position, final int fetchSize) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            final PreparedStatement preparedStatement = connection.prepareStatement(SQL_STREAM_BY_STREAM_ID_AFTER_POSITION);
+            preparedStatement.setFetchSize(fetchSize);
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setLong(2, position);
+
+            return new ResultSetSpliterator<>(connection, preparedStatement.executeQuery(), asEvent()).stream();
+        } catch (final SQLException e) {
+            closeQuietly(connection);
+            logger.warn("Failed to read stream {}", streamId, e);
+            throw new JdbcRepositoryException(format("Exception while reading stream %s", streamId), e);
+        }
+    }
+
+    private void closeQuietly(final Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (final SQLException e) {
+                logger.warn("Failed to close connection", e);
+            }
+        }
+    }
+
     /**
      * Returns a Stream of {@link Event} for the given stream streamId starting from the given
-     * version.
+     * version, read in pages or with a fetch size as {@link #findByStreamIdOrderByPositionAsc(UUID)}
+     * does.
      *
      * @param streamId streamId of the stream.
      * @param position the position to read from.
@@ -162,6 +304,16 @@ public class EventJdbcRepository {
     public Stream<Event> findByStreamIdFromPositionOrderByPositionAsc(final UUID streamId,
                                                                       final Long position) {
 
+        final int pageSize = eventStreamReadConfig.getPageSize();
+        if (pageSize > 0) {
+            return findByStreamIdInPagesAfterPositionOrderByPositionAsc(streamId, position - 1, pageSize);
+        }
+
+        final int fetchSize = eventStreamReadConfig.getFetchSize();
+        if (fetchSize > 0) {
+            return streamByStreamIdAfterPositionOrderByPositionAsc(streamId, position - 1, fetchSize);
+        }
+
         final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
 
         try {
@@ -195,6 +347,97 @@ public class EventJdbcRepository {
         }
     }
 
+    /**
+     * Returns the last pageSize events of the given stream with positions no higher than the given
+     * position, in position order. Reads backwards along the stream_id, position_in_stream index, so
+     * the cost does not depend on the length of the stream.
+     *
+     * @param streamId streamId of the stream.
+     * @param versionTo the highest position to read.
+     * @param pageSize the maximum number of events to read.
+     * @return the events found, in position order.
+     */
+    public List<Event> findByStreamIdUpToPositionOrderByPositionAsc(final UUID streamId,
+                                                                    final Long versionTo,
+                                                                    final Integer pageSize) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SQL_FIND_BY_STREAM_ID_UP_TO_POSITION_BY_PAGE)) {
+
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setLong(2, versionTo);
+            preparedStatement.setInt(3, pageSize);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                final List<Event> events = new ArrayList<>();
+                while (resultSet.next()) {
+                    events.add(asEvent().apply(resultSet));
+                }
+                reverse(events);
+
+                return events;
+            }
+        } catch (final SQLException e) {
+            logger.error("Failed to read stream {}", streamId, e);
+            throw new JdbcRepositoryException(format("Exception while reading stream %s", streamId), e);
+        }
+    }
+
+    /**
+     * Checks whether the stream has an event at exactly the given position.
+     *
+     * @param streamId streamId of the stream.
+     * @param position the position to check.
+     * @return true if there is an event at the position.
+     */
+    public boolean eventExistsAtPosition(final UUID streamId, final Long position) {
+        return eventExists(SQL_EVENT_EXISTS_AT_POSITION, streamId, position);
+    }
+
+    /**
+     * Checks whether the stream has any event at or after the given position. Positions may have
+     * gaps, so this is not the same as checking for an event at the position itself.
+     *
+     * @param streamId streamId of the stream.
+     * @param position the lowest position to check.
+     * @return true if there is an event at or after the position.
+     */
+    public boolean eventExistsFromPosition(final UUID streamId, final Long position) {
+        return eventExists(SQL_EVENT_EXISTS_FROM_POSITION, streamId, position);
+    }
+
+    /**
+     * Checks whether the stream has any event at or before the given position. Positions may have
+     * gaps, so this is not the same as checking for an event at the position itself.
+     *
+     * @param streamId streamId of the stream.
+     * @param position the highest position to check.
+     * @return true if there is an event at or before the position.
+     */
+    public boolean eventExistsUpToPosition(final UUID streamId, final Long position) {
+        return eventExists(SQL_EVENT_EXISTS_UP_TO_POSITION, streamId, position);
+    }
+
+    private boolean eventExists(final String sql, final UUID streamId, final Long position) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setLong(2, position);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (final SQLException e) {
+            throw new JdbcRepositoryException(format("Exception while checking for events around position %d of stream %s", position, streamId), e);
+        }
+    }
+
     /**
      * Returns a Stream of {@link Event}
      *
@@ -317,6 +560,43 @@ public class EventJdbcRepository {
         return empty();
     }
 
+    /**
+     * Finds up to maxEvents events of a stream with positions after the given position and no
+     * further than upToPosition, in position order, with one query
+     *
+     * @param streamId the id of the stream
+     * @param position the position to read after
+     * @param upToPosition the highest position to read
+     * @param maxEvents the maximum number of events to read
+     * @return the events found, in position order
+     */
+    public List<LinkedEvent> findNextEventsInTheStreamAfterPosition(final UUID streamId, final Long position, final Long upToPosition, final int maxEvents) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SQL_FIND_NEXT_EVENTS_IN_THE_STREAM_AFTER_POSITION)) {
+
+            preparedStatement.setObject(1, streamId);
+            preparedStatement.setLong(2, position);
+            preparedStatement.setLong(3, upToPosition);
+            preparedStatement.setInt(4, maxEvents);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                final List<LinkedEvent> events = new ArrayList<>();
+                while (resultSet.next()) {
+                    events.add(asLinkedEvent().apply(resultSet));
+                }
+
+                return events;
+            }
+        } catch (final SQLException e) {
+            final String message = format("Failed to find next %d events in stream '%s' after position %d", maxEvents, streamId, position);
+            logger.error(message, e);
+            throw new JdbcRepositoryException(message, e);
+        }
+    }
+
     private Function<ResultSet, Event> asEvent() {
         return resultSet -> {
             try {
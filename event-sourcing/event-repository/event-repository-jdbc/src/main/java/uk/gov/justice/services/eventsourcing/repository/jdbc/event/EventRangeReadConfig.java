@@ -0,0 +1,36 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import javax.inject.Inject;
+
+public class EventRangeReadConfig {
+
+    @Inject
+    @Value(key = "event.range.read.fetch.size", defaultValue = "0")
+    private String fetchSize;
+
+    @Inject
+    @Value(key = "event.range.read.window.size", defaultValue = "0")
+    private String windowSize;
+
+    /**
+     * The number of rows the driver fetches at a time when reading a range of events by
+     * event_number, or 0 to leave it to the driver. Postgres only honours the fetch size when the
+     * read runs in a transaction.
+     */
+    public int getFetchSize() {
+        return parseInt(fetchSize);
+    }
+
+    /**
+     * The number of event numbers read by each query when reading a range of events by
+     * event_number, or 0 to read the range with one query.
+     */
+    public long getWindowSize() {
+        return parseLong(windowSize);
+    }
+}
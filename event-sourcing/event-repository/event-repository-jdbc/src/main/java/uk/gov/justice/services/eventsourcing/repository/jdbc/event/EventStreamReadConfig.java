@@ -0,0 +1,35 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static java.lang.Integer.parseInt;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import javax.inject.Inject;
+
+public class EventStreamReadConfig {
+
+    @Inject
+    @Value(key = "event.stream.read.fetch.size", defaultValue = "0")
+    private String fetchSize;
+
+    @Inject
+    @Value(key = "event.stream.read.page.size", defaultValue = "0")
+    private String pageSize;
+
+    /**
+     * The number of rows the driver fetches at a time when reading all the events of a stream, or 0
+     * to leave it to the driver, which for Postgres reads the whole stream into memory. Postgres only
+     * honours the fetch size when the read runs in a transaction.
+     */
+    public int getFetchSize() {
+        return parseInt(fetchSize);
+    }
+
+    /**
+     * The number of events read by each query when reading all the events of a stream in pages
+     * keyed on position_in_stream, or 0 to read the stream with one query.
+     */
+    public int getPageSize() {
+        return parseInt(pageSize);
+    }
+}
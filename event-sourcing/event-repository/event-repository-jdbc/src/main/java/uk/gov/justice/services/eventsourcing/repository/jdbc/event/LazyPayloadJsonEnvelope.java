@@ -0,0 +1,88 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.Metadata;
+
+import java.util.function.Supplier;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * A {@link JsonEnvelope} of an event read from the event store whose payload is only parsed the
+ * first time it is asked for, so that readers which only look at the metadata of an event, or skip
+ * it, never pay for parsing its payload.
+ */
+class LazyPayloadJsonEnvelope implements JsonEnvelope {
+
+    private final Metadata metadata;
+    private final Supplier<JsonEnvelope> envelopeSupplier;
+
+    private volatile JsonEnvelope envelope;
+
+    LazyPayloadJsonEnvelope(final Metadata metadata, final Supplier<JsonEnvelope> envelopeSupplier) {
+        this.metadata = metadata;
+        this.envelopeSupplier = envelopeSupplier;
+    }
+
+    @Override
+    public Metadata metadata() {
+        return metadata;
+    }
+
+    @Override
+    public JsonValue payload() {
+        return envelope().payload();
+    }
+
+    @Override
+    public JsonObject payloadAsJsonObject() {
+        return envelope().payloadAsJsonObject();
+    }
+
+    @Override
+    public JsonArray payloadAsJsonArray() {
+        return envelope().payloadAsJsonArray();
+    }
+
+    @Override
+    public JsonNumber payloadAsJsonNumber() {
+        return envelope().payloadAsJsonNumber();
+    }
+
+    @Override
+    public JsonString payloadAsJsonString() {
+        return envelope().payloadAsJsonString();
+    }
+
+    @Override
+    public JsonObject asJsonObject() {
+        return envelope().asJsonObject();
+    }
+
+    @Override
+    public String toDebugStringPrettyPrint() {
+        return envelope().toDebugStringPrettyPrint();
+    }
+
+    @Override
+    public String toObfuscatedDebugString() {
+        return envelope().toObfuscatedDebugString();
+    }
+
+    @Override
+    public String toString() {
+        return envelope().toString();
+    }
+
+    private JsonEnvelope envelope() {
+        if (envelope == null) {
+            envelope = envelopeSupplier.get();
+        }
+
+        return envelope;
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -17,8 +18,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
@@ -32,6 +35,18 @@ public class MultipleDataSourceEventRepository {
             FROM event_log
             ORDER BY event_number DESC
             LIMIT 1""";
+    private static final String SQL_FROM_RANGE = """
+            FROM event_log e
+            WHERE e.event_number >= ?
+            AND e.event_number < ?
+            AND e.event_status = 'HEALTHY'
+            AND EXISTS (
+                SELECT 1
+                FROM event_stream
+                WHERE event_stream.stream_id = e.stream_id
+                AND event_stream.active = TRUE)
+            ORDER BY e.event_number
+            """;
     private static final String SQL_FIND_RANGE = """
             SELECT
                 e.id,
@@ -42,21 +57,21 @@ public class MultipleDataSourceEventRepository {
                 e.metadata,
                 e.date_created,
                 e.event_number,
-                COALESCE(
-                    previous_event_number,
-                    LAG(e.event_number) OVER (ORDER BY e.event_number),
-                    (SELECT MAX(event_number)
-                    FROM event_log
-                    WHERE event_number < e.event_number)
-                ) AS previous_event_number
-            FROM event_log e, event_stream event_stream
-            WHERE e.event_number >= ?
-            AND e.event_number < ?
-            AND e.event_status = 'HEALTHY'
-            AND e.stream_id = event_stream.stream_id
-            AND event_stream.active = TRUE
-            ORDER BY e.event_number;
-            """;
+                e.previous_event_number
+            """ + SQL_FROM_RANGE;
+    private static final String SQL_FIND_RANGE_WITH_PAYLOADS_OF_NAMES = """
+            SELECT
+                e.id,
+                e.stream_id,
+                e.position_in_stream,
+                e.name,
+                CASE WHEN e.name = ANY(?) THEN e.payload ELSE '{}' END AS payload,
+                e.metadata,
+                e.date_created,
+                e.event_number,
+                e.previous_event_number
+            """ + SQL_FROM_RANGE;
+    private static final String SQL_FIND_PREVIOUS_EVENT_NUMBER = "SELECT MAX(event_number) FROM event_log WHERE event_number < ?";
 
     private static final String ID = "id";
     private static final String STREAM_ID = "stream_id";
@@ -68,17 +83,35 @@ public class MultipleDataSourceEventRepository {
     private static final String EVENT_NUMBER = "event_number";
     private static final String PREVIOUS_EVENT_NUMBER = "previous_event_number";
 
+    private static final Set<String> ALL_PAYLOADS = null;
+
+    private static final int NO_FETCH_SIZE = 0;
+    private static final long NO_WINDOW_SIZE = 0L;
+
     private final JdbcResultSetStreamer jdbcResultSetStreamer;
     private final PreparedStatementWrapperFactory preparedStatementWrapperFactory;
     private final DataSource dataSource;
+    private final int rangeFetchSize;
+    private final long rangeWindowSize;
 
     public MultipleDataSourceEventRepository(
             final JdbcResultSetStreamer jdbcResultSetStreamer,
             final PreparedStatementWrapperFactory preparedStatementWrapperFactory,
             final DataSource dataSource) {
+        this(jdbcResultSetStreamer, preparedStatementWrapperFactory, dataSource, NO_FETCH_SIZE, NO_WINDOW_SIZE);
+    }
+
+    public MultipleDataSourceEventRepository(
+            final JdbcResultSetStreamer jdbcResultSetStreamer,
+            final PreparedStatementWrapperFactory preparedStatementWrapperFactory,
+            final DataSource dataSource,
+            final int rangeFetchSize,
+            final long rangeWindowSize) {
         this.jdbcResultSetStreamer = jdbcResultSetStreamer;
         this.preparedStatementWrapperFactory = preparedStatementWrapperFactory;
         this.dataSource = dataSource;
+        this.rangeFetchSize = rangeFetchSize;
+        this.rangeWindowSize = rangeWindowSize;
     }
 
     /**
@@ -103,26 +136,125 @@ public class MultipleDataSourceEventRepository {
     /**
      * Returns a Stream of LinkedEvent for a given range of events numbers.
      *
+     * The range is read in windows of 'rangeWindowSize' event numbers, each with its own query, or
+     * with one query if no window size is set. Any previous_event_number that is not set is taken
+     * from the event read before it, or for the first event read from the highest event_number
+     * below it.
+     *
      * @param fromEventNumber - inclusive start of range of event numbers
      * @param toEventNumber   - exclusive end of range of event numbers
      * @return a Stream of LinkedEvent
      */
     public Stream<LinkedEvent> findEventRange(final long fromEventNumber, final long toEventNumber) {
+        return findEventRange(fromEventNumber, toEventNumber, ALL_PAYLOADS);
+    }
+
+    /**
+     * Returns a Stream of LinkedEvent for a given range of events numbers, as
+     * {@link #findEventRange(long, long)}, but with the payload of only the events with one of the
+     * given names. All other events are returned with an empty payload, which is never read from
+     * the event_log, as a component still needs those events to keep its stream positions and
+     * processed events in step.
+     *
+     * @param fromEventNumber   - inclusive start of range of event numbers
+     * @param toEventNumber     - exclusive end of range of event numbers
+     * @param payloadEventNames - the names of the events to return with their payload
+     * @return a Stream of LinkedEvent
+     */
+    public Stream<LinkedEvent> findEventRange(final long fromEventNumber, final long toEventNumber, final Set<String> payloadEventNames) {
+
+        final PreviousEventNumbers previousEventNumbers = new PreviousEventNumbers();
+
+        if (rangeWindowSize <= NO_WINDOW_SIZE) {
+            return findEventWindow(fromEventNumber, toEventNumber, payloadEventNames, previousEventNumbers);
+        }
+
+        return LongStream.iterate(fromEventNumber, windowFrom -> windowFrom < toEventNumber, windowFrom -> windowFrom + rangeWindowSize)
+                .boxed()
+                .flatMap(windowFrom -> findEventWindow(windowFrom, min(windowFrom + rangeWindowSize, toEventNumber), payloadEventNames, previousEventNumbers));
+    }
+
+    private Stream<LinkedEvent> findEventWindow(
+            final long fromEventNumber,
+            final long toEventNumber,
+            final Set<String> payloadEventNames,
+            final PreviousEventNumbers previousEventNumbers) {
+
+        if (rangeFetchSize > NO_FETCH_SIZE) {
+            return streamEventWindow(fromEventNumber, toEventNumber, payloadEventNames, previousEventNumbers);
+        }
 
         try {
             final PreparedStatementWrapper psWrapper = preparedStatementWrapperFactory.preparedStatementWrapperOf(
                     dataSource,
-                    SQL_FIND_RANGE);
+                    payloadEventNames == ALL_PAYLOADS ? SQL_FIND_RANGE : SQL_FIND_RANGE_WITH_PAYLOADS_OF_NAMES);
 
-            psWrapper.setLong(1, fromEventNumber);
-            psWrapper.setLong(2, toEventNumber);
+            int parameterIndex = 1;
+            if (payloadEventNames != ALL_PAYLOADS) {
+                psWrapper.setObject(parameterIndex++, payloadEventNames.toArray(new String[0]));
+            }
+            psWrapper.setLong(parameterIndex++, fromEventNumber);
+            psWrapper.setLong(parameterIndex, toEventNumber);
 
-            return jdbcResultSetStreamer.streamOf(psWrapper, asEvent());
+            return jdbcResultSetStreamer.streamOf(psWrapper, asEvent().andThen(previousEventNumbers::resolve));
         } catch (final SQLException e) {
             throw new JdbcRepositoryException(format("Failed to find events from event_number %d to %d", fromEventNumber, toEventNumber), e);
         }
     }
 
+    private Stream<LinkedEvent> streamEventWindow(
+            final long fromEventNumber,
+            final long toEventNumber,
+            final Set<String> payloadEventNames,
+            final PreviousEventNumbers previousEventNumbers) {
+
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            final PreparedStatement preparedStatement = connection.prepareStatement(
+                    payloadEventNames == ALL_PAYLOADS ? SQL_FIND_RANGE : SQL_FIND_RANGE_WITH_PAYLOADS_OF_NAMES);
+            preparedStatement.setFetchSize(rangeFetchSize);
+
+            int parameterIndex = 1;
+            if (payloadEventNames != ALL_PAYLOADS) {
+                preparedStatement.setArray(parameterIndex++, connection.createArrayOf("text", payloadEventNames.toArray()));
+            }
+            preparedStatement.setLong(parameterIndex++, fromEventNumber);
+            preparedStatement.setLong(parameterIndex, toEventNumber);
+
+            return new ResultSetSpliterator<>(connection, preparedStatement.executeQuery(), asEvent().andThen(previousEventNumbers::resolve)).stream();
+        } catch (final SQLException e) {
+            closeQuietly(connection);
+            throw new JdbcRepositoryException(format("Failed to find events from event_number %d to %d", fromEventNumber, toEventNumber), e);
+        }
+    }
+
+    private Long findPreviousEventNumber(final long eventNumber) {
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SQL_FIND_PREVIOUS_EVENT_NUMBER)) {
+
+            preparedStatement.setLong(1, eventNumber);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getObject(1, Long.class);
+            }
+        } catch (final SQLException e) {
+            throw new JdbcRepositoryException(format("Failed to find previous event number of event_number %d", eventNumber), e);
+        }
+    }
+
+    private void closeQuietly(final Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (final SQLException ignored) {
+                // the original exception is the one worth reporting
+            }
+        }
+    }
+
     /**
      * Returns Optional of LinkedEvent for a given event id.
      *
@@ -204,4 +336,35 @@ public class MultipleDataSourceEventRepository {
             }
         };
     }
+
+    /**
+     * Fills in the previous_event_number of the events of a range as they are read, in one pass
+     */
+    private class PreviousEventNumbers {
+
+        private Long lastEventNumber;
+
+        LinkedEvent resolve(final LinkedEvent linkedEvent) {
+
+            final Long eventNumber = linkedEvent.getEventNumber().orElse(null);
+
+            LinkedEvent resolvedEvent = linkedEvent;
+            if (linkedEvent.getPreviousEventNumber() == null && eventNumber != null) {
+                final Long previousEventNumber = lastEventNumber != null ? lastEventNumber : findPreviousEventNumber(eventNumber);
+                resolvedEvent = new LinkedEvent(
+                        linkedEvent.getId(),
+                        linkedEvent.getStreamId(),
+                        linkedEvent.getPositionInStream(),
+                        linkedEvent.getName(),
+                        linkedEvent.getMetadata(),
+                        linkedEvent.getPayload(),
+                        linkedEvent.getCreatedAt(),
+                        eventNumber,
+                        previousEventNumber);
+            }
+
+            lastEventNumber = eventNumber;
+            return resolvedEvent;
+        }
+    }
 }
@@ -14,10 +14,15 @@ public class MultipleDataSourcePublishedEventRepositoryFactory {
     @Inject
     private PreparedStatementWrapperFactory preparedStatementWrapperFactory;
 
+    @Inject
+    private EventRangeReadConfig eventRangeReadConfig;
+
     public MultipleDataSourceEventRepository create(final DataSource dataSource) {
         return new MultipleDataSourceEventRepository(
                 jdbcResultSetStreamer,
                 preparedStatementWrapperFactory,
-                dataSource);
+                dataSource,
+                eventRangeReadConfig.getFetchSize(),
+                eventRangeReadConfig.getWindowSize());
     }
 }
@@ -0,0 +1,83 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+
+import uk.gov.justice.services.jdbc.persistence.JdbcRepositoryException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the rows of an open result set, reading them from the driver only as the stream is
+ * consumed. The result set, its statement and the connection are closed once the last row has been
+ * read, when reading or mapping a row fails, or when the stream is closed, whichever comes first.
+ */
+class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final Connection connection;
+    private final ResultSet resultSet;
+    private final Function<ResultSet, T> mapper;
+
+    private boolean closed = false;
+
+    ResultSetSpliterator(final Connection connection, final ResultSet resultSet, final Function<ResultSet, T> mapper) {
+        super(Long.MAX_VALUE, ORDERED | NONNULL);
+        this.connection = connection;
+        this.resultSet = resultSet;
+        this.mapper = mapper;
+    }
+
+    Stream<T> stream() {
+        return StreamSupport.stream(this, false).onClose(this::close);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+
+        try {
+            if (resultSet.next()) {
+                action.accept(mapper.apply(resultSet));
+                return true;
+            }
+        } catch (final SQLException e) {
+            throw closeAfter(new JdbcRepositoryException("Exception while reading result set", e));
+        } catch (final RuntimeException e) {
+            throw closeAfter(e);
+        }
+
+        close();
+        return false;
+    }
+
+    private RuntimeException closeAfter(final RuntimeException failure) {
+        try {
+            close();
+        } catch (final RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+
+        return failure;
+    }
+
+    private void close() {
+        if (!closed) {
+            closed = true;
+            try (connection; final Statement statement = resultSet.getStatement(); resultSet) {
+                // closed in reverse order: result set, statement, then connection
+            } catch (final SQLException e) {
+                throw new JdbcRepositoryException("Exception while closing connection", e);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.justice.services.eventsourcing.repository.jdbc.eventstream;
 
 import static java.lang.String.format;
+import static java.util.Collections.reverse;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.fromSqlTimestamp;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
 
@@ -15,6 +16,8 @@ import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -25,6 +28,9 @@ import javax.sql.DataSource;
 public class EventStreamJdbcRepository {
 
     private static final String SQL_FIND_BY_POSITION = "SELECT * FROM event_stream WHERE position_in_stream>=? ORDER BY position_in_stream ASC";
+    private static final String SQL_FIND_BY_POSITION_BY_PAGE = "SELECT * FROM event_stream WHERE position_in_stream>=? ORDER BY position_in_stream ASC LIMIT ?";
+    private static final String SQL_FIND_UP_TO_POSITION_BY_PAGE = "SELECT * FROM event_stream WHERE position_in_stream<=? ORDER BY position_in_stream DESC LIMIT ?";
+    private static final String SQL_EVENT_STREAM_EXISTS_AT_POSITION = "SELECT 1 FROM event_stream WHERE position_in_stream=?";
     private static final String SQL_FIND_POSITION_BY_STREAM = "SELECT position_in_stream FROM event_stream s WHERE s.stream_id=?";
     private static final String SQL_FIND_EVENT_STREAM = "SELECT * FROM event_stream s WHERE s.stream_id=?";
     private static final String SQL_INSERT_EVENT_STREAM = "INSERT INTO event_stream (stream_id, date_created, active) values (?, ?, ?) ON CONFLICT DO NOTHING";
@@ -143,6 +149,63 @@ public class EventStreamJdbcRepository {
         }
     }
 
+    public List<EventStream> findEventStreamsWithPositionFrom(final long position, final int pageSize) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final PreparedStatementWrapper preparedStatementWrapper = preparedStatementWrapperFactory.preparedStatementWrapperOf(dataSource, SQL_FIND_BY_POSITION_BY_PAGE)) {
+            preparedStatementWrapper.setLong(1, position);
+            preparedStatementWrapper.setInt(2, pageSize);
+
+            final List<EventStream> eventStreams = new ArrayList<>();
+            final ResultSet resultSet = preparedStatementWrapper.executeQuery();
+            while (resultSet.next()) {
+                eventStreams.add(entityFromFunction().apply(resultSet));
+            }
+
+            return eventStreams;
+        } catch (final SQLException e) {
+            throw new JdbcRepositoryException(READING_STREAM_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * Returns the last pageSize event streams with positions no higher than the given position, in
+     * position order, reading backwards along the position_in_stream index
+     */
+    public List<EventStream> findEventStreamsWithPositionUpTo(final long position, final int pageSize) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final PreparedStatementWrapper preparedStatementWrapper = preparedStatementWrapperFactory.preparedStatementWrapperOf(dataSource, SQL_FIND_UP_TO_POSITION_BY_PAGE)) {
+            preparedStatementWrapper.setLong(1, position);
+            preparedStatementWrapper.setInt(2, pageSize);
+
+            final List<EventStream> eventStreams = new ArrayList<>();
+            final ResultSet resultSet = preparedStatementWrapper.executeQuery();
+            while (resultSet.next()) {
+                eventStreams.add(entityFromFunction().apply(resultSet));
+            }
+            reverse(eventStreams);
+
+            return eventStreams;
+        } catch (final SQLException e) {
+            throw new JdbcRepositoryException(READING_STREAM_EXCEPTION, e);
+        }
+    }
+
+    public boolean eventStreamExistsAtPosition(final long position) {
+
+        final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
+
+        try (final PreparedStatementWrapper preparedStatementWrapper = preparedStatementWrapperFactory.preparedStatementWrapperOf(dataSource, SQL_EVENT_STREAM_EXISTS_AT_POSITION)) {
+            preparedStatementWrapper.setLong(1, position);
+            return preparedStatementWrapper.executeQuery().next();
+        } catch (final SQLException e) {
+            throw new JdbcRepositoryException(READING_STREAM_EXCEPTION, e);
+        }
+    }
+
     private boolean isExistingStream(final UUID streamId) {
 
         final DataSource dataSource = eventStoreDataSourceProvider.getDefaultDataSource();
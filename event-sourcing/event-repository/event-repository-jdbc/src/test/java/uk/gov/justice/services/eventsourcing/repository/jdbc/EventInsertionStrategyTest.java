@@ -7,6 +7,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
@@ -17,8 +18,10 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPo
 import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapper;
 
+import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -160,4 +163,66 @@ public class EventInsertionStrategyTest {
         verify(preparedStatementWrapper, never()).close();
 
     }
+
+    @Test
+    public void shouldInsertAllEventsUsingOneBatchOnThePreparedStatement() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final ZonedDateTime createdAt = new UtcClock().now();
+
+        final Event event1 = new Event(randomUUID(), streamId, 23L, "some-event-name-1", "some-metadata-json-1", "some-payload-json-1", createdAt);
+        final Event event2 = new Event(randomUUID(), streamId, 24L, "some-event-name-2", "some-metadata-json-2", "some-payload-json-2", createdAt);
+
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+
+        eventInsertionStrategy.insertBatch(preparedStatement, List.of(event1, event2));
+
+        verify(preparedStatement).setObject(1, event1.getId());
+        verify(preparedStatement).setObject(1, event2.getId());
+        verify(preparedStatement, times(2)).setObject(2, streamId);
+        verify(preparedStatement).setLong(3, 23L);
+        verify(preparedStatement).setLong(3, 24L);
+        verify(preparedStatement).setString(4, "some-event-name-1");
+        verify(preparedStatement).setString(4, "some-event-name-2");
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).close();
+    }
+
+    @Test
+    public void shouldThrowOptimisticLockingRetryExceptionIfAnyRowOfTheBatchConflicts() throws Exception {
+
+        final UUID streamId = fromString("fefc7af0-a93f-4019-983e-cec3fc7a816a");
+        final ZonedDateTime createdAt = new UtcClock().now();
+
+        final Event event1 = new Event(randomUUID(), streamId, 23L, "some-event-name-1", "some-metadata-json-1", "some-payload-json-1", createdAt);
+        final Event event2 = new Event(randomUUID(), streamId, 24L, "some-event-name-2", "some-metadata-json-2", "some-payload-json-2", createdAt);
+
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 0});
+
+        final OptimisticLockingRetryException optimisticLockingRetryException = assertThrows(
+                OptimisticLockingRetryException.class,
+                () -> eventInsertionStrategy.insertBatch(preparedStatement, List.of(event1, event2)));
+
+        assertThat(optimisticLockingRetryException.getMessage(), is("OptimisticLockingRetryException while storing positionInStream '24' of stream 'fefc7af0-a93f-4019-983e-cec3fc7a816a'"));
+    }
+
+    @Test
+    public void shouldThrowInvalidPositionExceptionBeforeExecutingBatchIfAnyEventHasNoPositionInStream() throws Exception {
+
+        final Event event = mock(Event.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        when(event.getPositionInStream()).thenReturn(null);
+
+        assertThrows(
+                InvalidPositionException.class,
+                () -> eventInsertionStrategy.insertBatch(preparedStatement, List.of(event)));
+
+        verify(preparedStatement, never()).executeBatch();
+    }
 }
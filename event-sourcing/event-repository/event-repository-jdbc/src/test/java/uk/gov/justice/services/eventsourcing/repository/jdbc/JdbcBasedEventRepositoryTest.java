@@ -319,6 +319,32 @@ public class JdbcBasedEventRepositoryTest {
         assertThrows(StoreEventRequestFailedException.class, () -> jdbcBasedEventRepository.storeEvent(envelope));
     }
 
+    @Test
+    public void shouldStoreAllEventEnvelopesInOneBatch() throws Exception {
+        final JsonEnvelope envelope2 = mock(JsonEnvelope.class);
+        final Event event2 = mock(Event.class);
+        when(eventConverter.eventOf(envelope)).thenReturn(event);
+        when(eventConverter.eventOf(envelope2)).thenReturn(event2);
+
+        jdbcBasedEventRepository.storeEvents(List.of(envelope, envelope2));
+
+        verify(eventJdbcRepository).insertBatch(List.of(event, event2));
+        verify(logger).trace("Storing batch of {} events", 2);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfStoringBatchOfEventsFails() throws Exception {
+        when(eventConverter.eventOf(envelope)).thenReturn(event);
+
+        doThrow(InvalidPositionException.class).when(eventJdbcRepository).insertBatch(List.of(event));
+
+        final StoreEventRequestFailedException storeEventRequestFailedException = assertThrows(
+                StoreEventRequestFailedException.class,
+                () -> jdbcBasedEventRepository.storeEvents(List.of(envelope)));
+
+        assertThat(storeEventRequestFailedException.getMessage(), is("Could not store batch of 1 events"));
+    }
+
     @Test
     public void shouldReturnCurrentEventPosition() {
         when(eventJdbcRepository.getStreamSize(STREAM_ID)).thenReturn(POSITION);
@@ -326,6 +352,13 @@ public class JdbcBasedEventRepositoryTest {
         assertThat(jdbcBasedEventRepository.getStreamSize(STREAM_ID), equalTo(POSITION));
     }
 
+    @Test
+    public void shouldCheckWhetherEventExistsAtPosition() {
+        when(eventJdbcRepository.eventExistsAtPosition(STREAM_ID, POSITION)).thenReturn(true);
+
+        assertThat(jdbcBasedEventRepository.eventExistsAtPosition(STREAM_ID, POSITION), is(true));
+    }
+
     @Test
     public void shouldDeleteStream() {
         jdbcBasedEventRepository.clearEventsForStream(STREAM_ID);
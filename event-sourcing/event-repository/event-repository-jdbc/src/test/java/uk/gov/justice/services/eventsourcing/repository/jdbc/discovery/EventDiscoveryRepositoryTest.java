@@ -11,6 +11,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventDiscoveryRepository.GET_HIGHEST_POSITION_IN_STREAM_FOR_EACH_STREAM_BETWEEN_EVENT_NUMBERS_SQL;
+import static uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventDiscoveryRepository.STREAM_POSITIONS_FETCH_SIZE;
 
 import uk.gov.justice.services.eventsourcing.source.core.EventStoreDataSourceProvider;
 
@@ -77,6 +78,7 @@ public class EventDiscoveryRepositoryTest {
         final InOrder inOrder = inOrder(connection, preparedStatement, resultSet);
         inOrder.verify(preparedStatement).setLong(1, firstEventNumber);
         inOrder.verify(preparedStatement).setLong(2, lastEventNumber);
+        inOrder.verify(preparedStatement).setFetchSize(STREAM_POSITIONS_FETCH_SIZE);
         inOrder.verify(preparedStatement).executeQuery();
         inOrder.verify(resultSet).close();
         inOrder.verify(preparedStatement).close();
@@ -96,6 +96,15 @@ public class EventConverterTest {
         assertEquals(PAYLOAD_JSON, actualPayload, false);
     }
 
+    @Test
+    public void shouldNotParseThePayloadOfTheEnvelopeUntilItIsAskedFor() throws Exception {
+        final JsonEnvelope actualEnvelope = eventConverter.envelopeOf(new Event(ID, STREAM_ID, SEQUENCE_ID, NAME, METADATA_JSON, "not json", new UtcClock().now()));
+
+        assertThat(actualEnvelope.metadata().id(), equalTo(ID));
+        assertThat(actualEnvelope.metadata().name(), equalTo(NAME));
+        assertThrows(RuntimeException.class, actualEnvelope::payloadAsJsonObject);
+    }
+
     @Test
     public void shouldConvertToAndFromJsonEnvelope() throws Exception {
 
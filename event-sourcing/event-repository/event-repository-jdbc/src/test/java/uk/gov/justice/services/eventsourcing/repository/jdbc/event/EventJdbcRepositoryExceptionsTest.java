@@ -11,12 +11,14 @@ import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository.SQL_FIND_BY_STREAM_ID;
 import static uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository.SQL_FIND_BY_STREAM_ID_AND_POSITION;
 import static uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository.SQL_FIND_BY_STREAM_ID_AND_POSITION_BY_PAGE;
+import static uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository.SQL_STREAM_BY_STREAM_ID_AFTER_POSITION;
 
 import uk.gov.justice.services.eventsourcing.repository.jdbc.EventInsertionStrategy;
 import uk.gov.justice.services.eventsourcing.source.core.EventStoreDataSourceProvider;
 import uk.gov.justice.services.jdbc.persistence.JdbcRepositoryException;
 import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.UUID;
 
@@ -44,6 +46,9 @@ public class EventJdbcRepositoryExceptionsTest {
     @Mock
     private EventStoreDataSourceProvider eventStoreDataSourceProvider;
 
+    @Mock
+    private EventStreamReadConfig eventStreamReadConfig;
+
     @Mock
     private Logger logger;
 
@@ -116,6 +121,51 @@ public class EventJdbcRepositoryExceptionsTest {
         }
     }
 
+    @Test
+    public void shouldLogAndThrowExceptionIfSqlExceptionIsThrownInFindByStreamIdOrderByPositionAscInPages() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final SQLException sqlException = new SQLException();
+
+        final DataSource dataSource = mock(DataSource.class);
+
+        when(eventStreamReadConfig.getPageSize()).thenReturn(100);
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenThrow(sqlException);
+
+        try {
+            eventJdbcRepository.findByStreamIdOrderByPositionAsc(streamId);
+            fail();
+        } catch (final JdbcRepositoryException e) {
+            assertThat(e.getMessage(), is("Exception while reading stream " + streamId + " after position 0"));
+            verify(logger).warn("Failed to read stream {}", streamId, sqlException);
+        }
+    }
+
+    @Test
+    public void shouldLogAndThrowExceptionIfSqlExceptionIsThrownInFindByStreamIdOrderByPositionAscWithFetchSize() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final SQLException sqlException = new SQLException();
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+
+        when(eventStreamReadConfig.getFetchSize()).thenReturn(100);
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL_STREAM_BY_STREAM_ID_AFTER_POSITION)).thenThrow(sqlException);
+
+        try {
+            eventJdbcRepository.findByStreamIdOrderByPositionAsc(streamId);
+            fail();
+        } catch (final JdbcRepositoryException e) {
+            assertThat(e.getMessage(), is("Exception while reading stream " + streamId));
+            verify(logger).warn("Failed to read stream {}", streamId, sqlException);
+            verify(connection).close();
+        }
+    }
+
     @Test
     public void shouldLogAndThrowExceptionIfSqlExceptionIsThrownInFindByStreamIdFromPositionOrderByPositionAsc() throws Exception {
 
@@ -137,6 +187,31 @@ public class EventJdbcRepositoryExceptionsTest {
         }
     }
 
+    @Test
+    public void shouldLogAndThrowExceptionIfSqlExceptionIsThrownInFindByStreamIdFromPositionOrderByPositionAscWithFetchSize() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final long position = 2L;
+        final SQLException sqlException = new SQLException();
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+
+        when(eventStreamReadConfig.getFetchSize()).thenReturn(100);
+        when(eventStoreDataSourceProvider.getDefaultDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL_STREAM_BY_STREAM_ID_AFTER_POSITION)).thenThrow(sqlException);
+
+        try {
+            eventJdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(streamId, position);
+            fail();
+        } catch (final JdbcRepositoryException e) {
+            assertThat(e.getMessage(), is("Exception while reading stream " + streamId));
+            verify(logger).warn("Failed to read stream {}", streamId, sqlException);
+            verify(connection).close();
+        }
+    }
+
     @Test
     public void shouldLogAndThrowExceptionIfSqlExceptionIsThrownInFindByStreamIdFromPositionOrderByPositionAscWithPage() throws Exception {
 
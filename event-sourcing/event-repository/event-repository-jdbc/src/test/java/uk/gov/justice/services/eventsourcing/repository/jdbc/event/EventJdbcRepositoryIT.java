@@ -8,12 +8,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.test.utils.events.EventBuilder.eventBuilder;
 
 import uk.gov.justice.services.eventsourcing.repository.jdbc.EventInsertionStrategy;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPositionException;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.OptimisticLockingRetryException;
 import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
 import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
 import uk.gov.justice.services.test.utils.persistence.DatabaseCleaner;
@@ -66,6 +69,9 @@ public class EventJdbcRepositoryIT {
     @Spy
     private SettableEventStoreDataSourceProvider eventStoreDDataSourceProvider = new SettableEventStoreDataSourceProvider();
 
+    @Mock
+    private EventStreamReadConfig eventStreamReadConfig;
+
     @SuppressWarnings("unused")
     @Mock
     private Logger logger;
@@ -106,6 +112,33 @@ public class EventJdbcRepositoryIT {
         assertThat(latestSequenceId, equalTo(7L));
     }
 
+    @Test
+    public void shouldStoreEventsUsingBatchInsert() throws InvalidPositionException {
+
+        jdbcRepository.insertBatch(List.of(
+                eventBuilder().withStreamId(STREAM_ID).withPositionInStream(SEQUENCE_ID).build(),
+                eventBuilder().withStreamId(STREAM_ID).withPositionInStream(SEQUENCE_ID + 1).build(),
+                eventBuilder().withStreamId(STREAM_ID).withPositionInStream(SEQUENCE_ID + 2).build()));
+
+        final Stream<Event> events = jdbcRepository.findByStreamIdOrderByPositionAsc(STREAM_ID);
+        final Long latestSequenceId = jdbcRepository.getStreamSize(STREAM_ID);
+
+        assertThat(events.count(), equalTo(3L));
+        assertThat(latestSequenceId, equalTo(7L));
+    }
+
+    @Test
+    public void shouldThrowOptimisticLockingRetryExceptionIfAnyEventOfBatchInsertAlreadyExistsAtThatPosition() throws InvalidPositionException {
+
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(SEQUENCE_ID + 1).build());
+
+        final List<Event> events = List.of(
+                eventBuilder().withStreamId(STREAM_ID).withPositionInStream(SEQUENCE_ID).build(),
+                eventBuilder().withStreamId(STREAM_ID).withPositionInStream(SEQUENCE_ID + 1).build());
+
+        assertThrows(OptimisticLockingRetryException.class, () -> jdbcRepository.insertBatch(events));
+    }
+
     @Test
     public void shouldAlwaysSetIsPublishedFalseWhenEventIsInsertedIntoEventLog() throws Exception {
 
@@ -162,6 +195,44 @@ public class EventJdbcRepositoryIT {
         }
     }
 
+    @Test
+    public void shouldReturnEventsByStreamIdOrderedBySequenceIdInPages() throws InvalidPositionException {
+
+        when(eventStreamReadConfig.getPageSize()).thenReturn(2);
+
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(1L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(9L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(7L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(4L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(3L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(2L).build());
+
+        try (final Stream<Event> events = jdbcRepository.findByStreamIdOrderByPositionAsc(STREAM_ID)) {
+            final List<Long> positions = events.map(Event::getPositionInStream).collect(toList());
+            assertThat(positions, is(List.of(2L, 3L, 4L, 7L, 9L)));
+        }
+    }
+
+    @Test
+    public void shouldReturnEventsByStreamIdOrderedBySequenceIdWithFetchSize() throws InvalidPositionException {
+
+        when(eventStreamReadConfig.getFetchSize()).thenReturn(2);
+
+        final Event event = eventBuilder().withStreamId(STREAM_ID).withPositionInStream(1L).build();
+        jdbcRepository.insert(event);
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(1L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(3L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(2L).build());
+
+        try (final Stream<Event> events = jdbcRepository.findByStreamIdOrderByPositionAsc(STREAM_ID)) {
+            final List<Event> eventList = events.collect(toList());
+            assertThat(eventList, hasSize(3));
+            assertThat(eventList.get(0), is(event));
+            assertThat(eventList.get(1).getPositionInStream(), is(2L));
+            assertThat(eventList.get(2).getPositionInStream(), is(3L));
+        }
+    }
+
     @Test
     public void shouldStoreAndReturnDateCreated() throws InvalidPositionException {
 
@@ -190,6 +261,43 @@ public class EventJdbcRepositoryIT {
         assertThat(eventList.get(1).getPositionInStream(), is(7L));
     }
 
+    @Test
+    public void shouldReturnEventsByStreamIdFromSequenceIdOrderBySequenceIdInPages() throws InvalidPositionException {
+
+        when(eventStreamReadConfig.getPageSize()).thenReturn(2);
+
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(5L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(9L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(7L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(5L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(4L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(3L).build());
+
+        try (final Stream<Event> events = jdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(STREAM_ID, 4L)) {
+            final List<Long> positions = events.map(Event::getPositionInStream).collect(toList());
+            assertThat(positions, is(List.of(4L, 5L, 7L, 9L)));
+        }
+    }
+
+    @Test
+    public void shouldReturnEventsByStreamIdFromSequenceIdOrderBySequenceIdWithFetchSize() throws InvalidPositionException {
+
+        when(eventStreamReadConfig.getFetchSize()).thenReturn(2);
+
+        final Event event = eventBuilder().withStreamId(STREAM_ID).withPositionInStream(4L).build();
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(5L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(7L).build());
+        jdbcRepository.insert(event);
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(3L).build());
+
+        try (final Stream<Event> events = jdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(STREAM_ID, 4L)) {
+            final List<Event> eventList = events.collect(toList());
+            assertThat(eventList, hasSize(2));
+            assertThat(eventList.get(0), is(event));
+            assertThat(eventList.get(1).getPositionInStream(), is(7L));
+        }
+    }
+
     @Test
     public void shouldReturnEventsByStreamIdFromPositionOrderByPositionByPage() throws InvalidPositionException {
 
@@ -206,6 +314,57 @@ public class EventJdbcRepositoryIT {
         assertThat(eventList.get(1).getPositionInStream(), is(4L));
     }
 
+    @Test
+    public void shouldReturnLastPageOfEventsByStreamIdUpToPositionOrderByPosition() throws InvalidPositionException {
+
+        final int pageSize = 2;
+
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(6L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(7L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(5L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(4L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(3L).build());
+
+        final List<Event> upToPosition = jdbcRepository.findByStreamIdUpToPositionOrderByPositionAsc(STREAM_ID, 5L, pageSize);
+        assertThat(upToPosition, hasSize(2));
+        assertThat(upToPosition.get(0).getPositionInStream(), is(4L));
+        assertThat(upToPosition.get(1).getPositionInStream(), is(5L));
+
+        final List<Event> head = jdbcRepository.findByStreamIdUpToPositionOrderByPositionAsc(STREAM_ID, Long.MAX_VALUE, pageSize);
+        assertThat(head, hasSize(2));
+        assertThat(head.get(0).getPositionInStream(), is(5L));
+        assertThat(head.get(1).getPositionInStream(), is(7L));
+    }
+
+    @Test
+    public void shouldCheckWhetherEventExistsAtPositionInStream() throws InvalidPositionException {
+
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(3L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(4L).build());
+
+        assertTrue(jdbcRepository.eventExistsAtPosition(STREAM_ID, 3L));
+        assertFalse(jdbcRepository.eventExistsAtPosition(STREAM_ID, 4L));
+    }
+
+    @Test
+    public void shouldCheckWhetherEventsExistAtOrAfterAndAtOrBeforePositionInGappedStream() throws InvalidPositionException {
+
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(2L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(STREAM_ID).withPositionInStream(5L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(9L).build());
+        jdbcRepository.insert(eventBuilder().withStreamId(randomUUID()).withPositionInStream(1L).build());
+
+        assertFalse(jdbcRepository.eventExistsAtPosition(STREAM_ID, 3L));
+
+        assertTrue(jdbcRepository.eventExistsFromPosition(STREAM_ID, 3L));
+        assertTrue(jdbcRepository.eventExistsFromPosition(STREAM_ID, 5L));
+        assertFalse(jdbcRepository.eventExistsFromPosition(STREAM_ID, 6L));
+
+        assertTrue(jdbcRepository.eventExistsUpToPosition(STREAM_ID, 4L));
+        assertTrue(jdbcRepository.eventExistsUpToPosition(STREAM_ID, 2L));
+        assertFalse(jdbcRepository.eventExistsUpToPosition(STREAM_ID, 1L));
+    }
+
     @Test
     public void shouldReturnAllEventsOrderedBySequenceId() throws InvalidPositionException {
 
@@ -324,4 +483,51 @@ public class EventJdbcRepositoryIT {
         }
     }
 
+    @Nested
+    class FindNextEventsInTheStreamAfterPositionTest {
+
+        @Test
+        public void shouldReturnEventsAfterGivenPositionUpToPositionInPositionOrder() throws Exception {
+            final UUID streamId1 = randomUUID();
+            final UUID streamId2 = randomUUID();
+
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId1).withPositionInStream(1L).build());
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId1).withPositionInStream(2L).build());
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId1).withPositionInStream(3L).build());
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId1).withPositionInStream(4L).build());
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId2).withPositionInStream(2L).build());
+
+            final List<LinkedEvent> nextEvents = jdbcRepository.findNextEventsInTheStreamAfterPosition(streamId1, 1L, 3L, 10);
+
+            assertThat(nextEvents.size(), is(2));
+            assertThat(nextEvents.get(0).getStreamId(), is(streamId1));
+            assertThat(nextEvents.get(0).getPositionInStream(), is(2L));
+            assertThat(nextEvents.get(1).getStreamId(), is(streamId1));
+            assertThat(nextEvents.get(1).getPositionInStream(), is(3L));
+        }
+
+        @Test
+        public void shouldReturnNoMoreThanMaxEvents() throws Exception {
+            final UUID streamId = randomUUID();
+
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId).withPositionInStream(1L).build());
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId).withPositionInStream(2L).build());
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId).withPositionInStream(3L).build());
+
+            final List<LinkedEvent> nextEvents = jdbcRepository.findNextEventsInTheStreamAfterPosition(streamId, 0L, 3L, 2);
+
+            assertThat(nextEvents.size(), is(2));
+            assertThat(nextEvents.get(0).getPositionInStream(), is(1L));
+            assertThat(nextEvents.get(1).getPositionInStream(), is(2L));
+        }
+
+        @Test
+        public void shouldReturnEmptyListWhenNoEventsFoundAfterPosition() throws Exception {
+            final UUID streamId = randomUUID();
+
+            jdbcRepository.insert(eventBuilder().withStreamId(streamId).withPositionInStream(1L).build());
+
+            assertThat(jdbcRepository.findNextEventsInTheStreamAfterPosition(streamId, 1L, 5L, 10).isEmpty(), is(true));
+        }
+    }
 }
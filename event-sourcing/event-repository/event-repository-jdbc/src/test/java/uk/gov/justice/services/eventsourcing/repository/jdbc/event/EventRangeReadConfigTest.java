@@ -0,0 +1,33 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class EventRangeReadConfigTest {
+
+    @InjectMocks
+    private EventRangeReadConfig eventRangeReadConfig;
+
+    @Test
+    public void shouldGetTheFetchSize() {
+
+        setField(eventRangeReadConfig, "fetchSize", "500");
+
+        assertThat(eventRangeReadConfig.getFetchSize(), is(500));
+    }
+
+    @Test
+    public void shouldGetTheWindowSize() {
+
+        setField(eventRangeReadConfig, "windowSize", "10000");
+
+        assertThat(eventRangeReadConfig.getWindowSize(), is(10_000L));
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class EventStreamReadConfigTest {
+
+    @InjectMocks
+    private EventStreamReadConfig eventStreamReadConfig;
+
+    @Test
+    public void shouldGetTheFetchSize() {
+
+        setField(eventStreamReadConfig, "fetchSize", "500");
+
+        assertThat(eventStreamReadConfig.getFetchSize(), is(500));
+    }
+
+    @Test
+    public void shouldGetThePageSize() {
+
+        setField(eventStreamReadConfig, "pageSize", "1000");
+
+        assertThat(eventStreamReadConfig.getPageSize(), is(1000));
+    }
+}
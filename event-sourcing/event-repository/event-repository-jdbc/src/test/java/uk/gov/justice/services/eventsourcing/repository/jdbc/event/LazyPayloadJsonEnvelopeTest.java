@@ -0,0 +1,61 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.Metadata;
+
+import java.util.function.Supplier;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LazyPayloadJsonEnvelopeTest {
+
+    @Mock
+    private Supplier<JsonEnvelope> envelopeSupplier;
+
+    @Test
+    public void shouldReturnTheMetadataWithoutCreatingTheEnvelope() throws Exception {
+
+        final Metadata metadata = mock(Metadata.class);
+
+        final LazyPayloadJsonEnvelope lazyPayloadJsonEnvelope = new LazyPayloadJsonEnvelope(metadata, envelopeSupplier);
+
+        assertThat(lazyPayloadJsonEnvelope.metadata(), is(metadata));
+
+        verifyNoInteractions(envelopeSupplier);
+    }
+
+    @Test
+    public void shouldCreateTheEnvelopeOnceWhenThePayloadIsFirstAskedFor() throws Exception {
+
+        final Metadata metadata = mock(Metadata.class);
+        final JsonEnvelope envelope = mock(JsonEnvelope.class);
+        final JsonObject payload = mock(JsonObject.class);
+        final JsonObject envelopeJson = mock(JsonObject.class);
+
+        when(envelopeSupplier.get()).thenReturn(envelope);
+        when(envelope.payloadAsJsonObject()).thenReturn(payload);
+        when(envelope.asJsonObject()).thenReturn(envelopeJson);
+
+        final LazyPayloadJsonEnvelope lazyPayloadJsonEnvelope = new LazyPayloadJsonEnvelope(metadata, envelopeSupplier);
+
+        assertThat(lazyPayloadJsonEnvelope.payloadAsJsonObject(), is(payload));
+        assertThat(lazyPayloadJsonEnvelope.payloadAsJsonObject(), is(payload));
+        assertThat(lazyPayloadJsonEnvelope.asJsonObject(), is(envelopeJson));
+
+        verify(envelopeSupplier, times(1)).get();
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.getValueOfField;
 
 import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
@@ -25,6 +26,9 @@ public class MultipleDataSourceLinkedEventRepositoryFactoryTest {
     @Mock
     private PreparedStatementWrapperFactory preparedStatementWrapperFactory;
 
+    @Mock
+    private EventRangeReadConfig eventRangeReadConfig;
+
     @InjectMocks
     private MultipleDataSourcePublishedEventRepositoryFactory multipleDataSourcePublishedEventRepositoryFactory;
 
@@ -33,10 +37,15 @@ public class MultipleDataSourceLinkedEventRepositoryFactoryTest {
 
         final DataSource dataSource = mock(DataSource.class);
 
+        when(eventRangeReadConfig.getFetchSize()).thenReturn(500);
+        when(eventRangeReadConfig.getWindowSize()).thenReturn(10_000L);
+
         final MultipleDataSourceEventRepository multipleDataSourceEventRepository = multipleDataSourcePublishedEventRepositoryFactory.create(dataSource);
 
         assertThat(getValueOfField(multipleDataSourceEventRepository, "jdbcResultSetStreamer", JdbcResultSetStreamer.class), is(jdbcResultSetStreamer));
         assertThat(getValueOfField(multipleDataSourceEventRepository, "preparedStatementWrapperFactory", PreparedStatementWrapperFactory.class), is(preparedStatementWrapperFactory));
         assertThat(getValueOfField(multipleDataSourceEventRepository, "dataSource", DataSource.class), is(dataSource));
+        assertThat(getValueOfField(multipleDataSourceEventRepository, "rangeFetchSize", Integer.class), is(500));
+        assertThat(getValueOfField(multipleDataSourceEventRepository, "rangeWindowSize", Long.class), is(10_000L));
     }
 }
@@ -24,6 +24,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.sql.DataSource;
@@ -224,6 +225,105 @@ public class MultipleDataSourceLinkedEventRepositoryIT {
         assertThat(linkedEvents.get(3).getPreviousEventNumber(), is(7L));
     }
 
+    @Test
+    public void shouldHandleMissingPreviousEventNumbersWhenGettingEventRangeInWindowsWithFetchSize() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final UUID inactiveStreamId = randomUUID();
+
+        final Connection connection = dataSource.getConnection();
+
+        for (long eventNumber = 1; eventNumber <= 9; eventNumber++) {
+            final UUID eventStreamId = eventNumber == 6 ? inactiveStreamId : streamId;
+            insertLinkedEvent(linkedEventBuilder().withPreviousEventNumber(-1L).withEventNumber(eventNumber).withStreamId(eventStreamId).withPositionInStream(eventNumber).build(), connection);
+        }
+
+        updateEventStream(streamId, true, 23L, connection);
+        updateEventStream(inactiveStreamId, false, 1L, connection);
+
+        setPreviousEventNumbersToNull(connection);
+
+        final MultipleDataSourceEventRepository windowedEventRepository = new MultipleDataSourceEventRepository(
+                new JdbcResultSetStreamer(),
+                new PreparedStatementWrapperFactory(),
+                dataSource,
+                2,
+                2L);
+
+        final List<LinkedEvent> linkedEvents = windowedEventRepository
+                .findEventRange(3, 10)
+                .toList();
+
+        assertThat(linkedEvents.stream().map(linkedEvent -> linkedEvent.getEventNumber().orElseThrow()).toList(), is(List.of(3L, 4L, 5L, 7L, 8L, 9L)));
+        assertThat(linkedEvents.stream().map(LinkedEvent::getPreviousEventNumber).toList(), is(List.of(2L, 3L, 4L, 5L, 7L, 8L)));
+    }
+
+    @Test
+    public void shouldOnlyReadThePayloadsOfEventsWithTheGivenNamesWhenGettingEventRange() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        final Connection connection = dataSource.getConnection();
+
+        for (long eventNumber = 1; eventNumber <= 4; eventNumber++) {
+            final String name = eventNumber % 2 == 0 ? "subscribed.event" : "other.event";
+            insertLinkedEvent(linkedEventBuilder()
+                    .withPreviousEventNumber(eventNumber - 1)
+                    .withEventNumber(eventNumber)
+                    .withStreamId(streamId)
+                    .withPositionInStream(eventNumber)
+                    .withName(name)
+                    .withPayloadJSON("{\"eventNumber\":" + eventNumber + "}")
+                    .build(), connection);
+        }
+
+        updateEventStream(streamId, true, 4L, connection);
+
+        final List<LinkedEvent> linkedEvents = multipleDataSourceEventRepository
+                .findEventRange(1, 5, Set.of("subscribed.event"))
+                .toList();
+
+        assertThat(linkedEvents.stream().map(linkedEvent -> linkedEvent.getEventNumber().orElseThrow()).toList(), is(List.of(1L, 2L, 3L, 4L)));
+        assertThat(linkedEvents.stream().map(LinkedEvent::getPositionInStream).toList(), is(List.of(1L, 2L, 3L, 4L)));
+        assertThat(linkedEvents.stream().map(LinkedEvent::getPayload).toList(), is(List.of("{}", "{\"eventNumber\":2}", "{}", "{\"eventNumber\":4}")));
+    }
+
+    @Test
+    public void shouldOnlyReadThePayloadsOfEventsWithTheGivenNamesWhenGettingEventRangeInWindowsWithFetchSize() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        final Connection connection = dataSource.getConnection();
+
+        for (long eventNumber = 1; eventNumber <= 4; eventNumber++) {
+            final String name = eventNumber % 2 == 0 ? "subscribed.event" : "other.event";
+            insertLinkedEvent(linkedEventBuilder()
+                    .withPreviousEventNumber(eventNumber - 1)
+                    .withEventNumber(eventNumber)
+                    .withStreamId(streamId)
+                    .withPositionInStream(eventNumber)
+                    .withName(name)
+                    .withPayloadJSON("{\"eventNumber\":" + eventNumber + "}")
+                    .build(), connection);
+        }
+
+        updateEventStream(streamId, true, 4L, connection);
+
+        final MultipleDataSourceEventRepository windowedEventRepository = new MultipleDataSourceEventRepository(
+                new JdbcResultSetStreamer(),
+                new PreparedStatementWrapperFactory(),
+                dataSource,
+                2,
+                2L);
+
+        final List<LinkedEvent> linkedEvents = windowedEventRepository
+                .findEventRange(1, 5, Set.of("subscribed.event"))
+                .toList();
+
+        assertThat(linkedEvents.stream().map(linkedEvent -> linkedEvent.getEventNumber().orElseThrow()).toList(), is(List.of(1L, 2L, 3L, 4L)));
+        assertThat(linkedEvents.stream().map(LinkedEvent::getPayload).toList(), is(List.of("{}", "{\"eventNumber\":2}", "{}", "{\"eventNumber\":4}")));
+    }
+
     @Test
     public void shouldIgnoreEventsOnInactiveStreamsWheGettingEventRange() throws Exception {
 
@@ -0,0 +1,99 @@
+package uk.gov.justice.services.eventsourcing.repository.jdbc.event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.jdbc.persistence.JdbcRepositoryException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ResultSetSpliteratorTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    public void shouldStreamTheRowsAndCloseTheResultSetStatementAndConnectionAfterTheLastRow() throws Exception {
+
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("name")).thenReturn("first", "second");
+        when(resultSet.getStatement()).thenReturn(statement);
+
+        final List<String> names = new ResultSetSpliterator<>(connection, resultSet, this::nameOf).stream().toList();
+
+        assertThat(names, is(List.of("first", "second")));
+
+        final InOrder inOrder = inOrder(resultSet, statement, connection);
+        inOrder.verify(resultSet).close();
+        inOrder.verify(statement).close();
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    public void shouldCloseTheResultSetStatementAndConnectionIfMappingARowFails() throws Exception {
+
+        final RuntimeException mappingFailure = new RuntimeException("Ooops");
+
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getStatement()).thenReturn(statement);
+
+        try (final Stream<String> names = new ResultSetSpliterator<String>(connection, resultSet, row -> {
+            throw mappingFailure;
+        }).stream()) {
+            assertThat(assertThrows(RuntimeException.class, names::toList), is(mappingFailure));
+        }
+
+        final InOrder inOrder = inOrder(resultSet, statement, connection);
+        inOrder.verify(resultSet).close();
+        inOrder.verify(statement).close();
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    public void shouldCloseTheConnectionAndThrowJdbcRepositoryExceptionIfReadingARowFails() throws Exception {
+
+        final SQLException sqlException = new SQLException("Ooops");
+        final SQLException closeFailure = new SQLException("Failed to close");
+
+        when(resultSet.next()).thenThrow(sqlException);
+        when(resultSet.getStatement()).thenReturn(statement);
+        doThrow(closeFailure).when(connection).close();
+
+        final JdbcRepositoryException jdbcRepositoryException = assertThrows(
+                JdbcRepositoryException.class,
+                () -> new ResultSetSpliterator<>(connection, resultSet, this::nameOf).stream().toList());
+
+        assertThat(jdbcRepositoryException.getCause(), is(sqlException));
+        assertThat(jdbcRepositoryException.getSuppressed()[0].getCause(), is(closeFailure));
+    }
+
+    private String nameOf(final ResultSet resultSet) {
+        try {
+            return resultSet.getString("name");
+        } catch (final SQLException e) {
+            throw new JdbcRepositoryException(e);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import uk.gov.justice.services.test.utils.persistence.FrameworkTestDataSourceFac
 import uk.gov.justice.services.test.utils.persistence.SettableEventStoreDataSourceProvider;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -140,4 +141,30 @@ public class EventStreamJdbcRepositoryIT {
         assertTrue(eventStream.isPresent());
         assertFalse(eventStream.get().isActive());
     }
+
+    @Test
+    public void shouldFindPagesOfEventStreamsForwardsAndBackwardsFromPosition() {
+        for (int index = 0; index < 5; index++) {
+            jdbcRepository.insert(randomUUID());
+        }
+
+        final List<Long> positions = jdbcRepository.findAll().map(EventStream::getPosition).toList();
+
+        assertThat(jdbcRepository.findEventStreamsWithPositionFrom(positions.get(1), 2).stream().map(EventStream::getPosition).toList(),
+                is(List.of(positions.get(1), positions.get(2))));
+        assertThat(jdbcRepository.findEventStreamsWithPositionUpTo(positions.get(3), 2).stream().map(EventStream::getPosition).toList(),
+                is(List.of(positions.get(2), positions.get(3))));
+        assertThat(jdbcRepository.findEventStreamsWithPositionUpTo(Long.MAX_VALUE, 2).stream().map(EventStream::getPosition).toList(),
+                is(List.of(positions.get(3), positions.get(4))));
+    }
+
+    @Test
+    public void shouldCheckWhetherEventStreamExistsAtPosition() {
+        jdbcRepository.insert(randomUUID());
+
+        final Long position = jdbcRepository.findAll().findFirst().get().getPosition();
+
+        assertTrue(jdbcRepository.eventStreamExistsAtPosition(position));
+        assertFalse(jdbcRepository.eventStreamExistsAtPosition(position + 1));
+    }
 }
@@ -0,0 +1,3 @@
+-- Roll back liquibase script '028-create-event-number-counter-table.changelog.xml'
+
+DROP TABLE IF EXISTS event_number_counter;
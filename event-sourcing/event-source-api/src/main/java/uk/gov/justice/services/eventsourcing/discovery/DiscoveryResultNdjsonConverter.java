@@ -0,0 +1,134 @@
+package uk.gov.justice.services.eventsourcing.discovery;
+
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static java.lang.String.format;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Writes and reads a DiscoveryResult as newline delimited json, served by '/events-discovery'
+ * to clients that accept 'application/x-ndjson'.
+ *
+ * Each stream position is one line of the form {"streamId":"...","positionInStream":n},
+ * followed by a line of the form {"latestKnownEventId":"..."} if there is one. Each line is
+ * written to the response as its stream position is read from the event_log, and read back one
+ * at a time from the response stream, so neither side buffers the whole batch. A response with
+ * stream positions but no latestKnownEventId line was cut short, and is rejected when read.
+ */
+@ApplicationScoped
+public class DiscoveryResultNdjsonConverter {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final String STREAM_ID = "streamId";
+    private static final String POSITION_IN_STREAM = "positionInStream";
+    private static final String LATEST_KNOWN_EVENT_ID = "latestKnownEventId";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public void write(final DiscoveryResult discoveryResult, final OutputStream outputStream) throws IOException {
+        write(streamPositionWriter -> {
+            discoveryResult.streamPositions().forEach(streamPositionWriter);
+            return discoveryResult.latestKnownEventId();
+        }, outputStream);
+    }
+
+    /**
+     * Writes the stream positions as the discovery passes them to its consumer, followed by the
+     * latest known event id the discovery returns
+     *
+     * @param discovery    discovers new events, passing each stream position to the given consumer
+     *                     and returning the id of the latest event discovered
+     * @param outputStream the stream to write to, left open
+     */
+    public void write(final Function<Consumer<StreamPosition>, Optional<UUID>> discovery, final OutputStream outputStream) throws IOException {
+
+        try (final JsonGenerator jsonGenerator = jsonFactory.createGenerator(outputStream)) {
+            jsonGenerator.disable(AUTO_CLOSE_TARGET);
+            jsonGenerator.setRootValueSeparator(null);
+
+            final Optional<UUID> latestKnownEventId = discovery.apply(streamPosition -> writeStreamPosition(jsonGenerator, streamPosition));
+
+            if (latestKnownEventId.isPresent()) {
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeStringField(LATEST_KNOWN_EVENT_ID, latestKnownEventId.get().toString());
+                jsonGenerator.writeEndObject();
+                jsonGenerator.writeRaw('\n');
+            }
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public DiscoveryResult read(final InputStream inputStream) throws IOException {
+
+        final List<StreamPosition> streamPositions = new ArrayList<>();
+        Optional<UUID> latestKnownEventId = empty();
+
+        try (final JsonParser jsonParser = jsonFactory.createParser(inputStream)) {
+            JsonToken jsonToken;
+            while ((jsonToken = jsonParser.nextToken()) != null) {
+                if (jsonToken != START_OBJECT) {
+                    throw new IOException(format("Expected a json object on each line of discovery result but found '%s'", jsonToken));
+                }
+
+                UUID streamId = null;
+                Long positionInStream = null;
+                while (jsonParser.nextToken() == FIELD_NAME) {
+                    final String fieldName = jsonParser.getCurrentName();
+                    jsonParser.nextToken();
+                    switch (fieldName) {
+                        case STREAM_ID -> streamId = UUID.fromString(jsonParser.getText());
+                        case POSITION_IN_STREAM -> positionInStream = jsonParser.getLongValue();
+                        case LATEST_KNOWN_EVENT_ID -> latestKnownEventId = of(UUID.fromString(jsonParser.getText()));
+                        default -> jsonParser.skipChildren();
+                    }
+                }
+
+                if (streamId != null && positionInStream != null) {
+                    streamPositions.add(new StreamPosition(streamId, positionInStream));
+                }
+            }
+        }
+
+        if (!streamPositions.isEmpty() && latestKnownEventId.isEmpty()) {
+            throw new IOException(format("Discovery result of %d stream positions ended without its latestKnownEventId line", streamPositions.size()));
+        }
+
+        return new DiscoveryResult(streamPositions, latestKnownEventId);
+    }
+
+    private void writeStreamPosition(final JsonGenerator jsonGenerator, final StreamPosition streamPosition) {
+        try {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField(STREAM_ID, streamPosition.streamId().toString());
+            jsonGenerator.writeNumberField(POSITION_IN_STREAM, streamPosition.positionInStream());
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
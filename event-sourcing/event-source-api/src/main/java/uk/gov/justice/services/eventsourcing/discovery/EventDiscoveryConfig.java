@@ -19,6 +19,10 @@ public class EventDiscoveryConfig {
     @Value(key = "pull.mechanism.access.event.store.via.rest", defaultValue = "false")
     private String accessEventStoreViaRest;
 
+    @Inject
+    @Value(key = "event.discovery.rest.ndjson.enabled", defaultValue = "false")
+    private String ndjsonDiscoveryEnabled;
+
     public int getBatchSize() {
         try {
             return parseInt(batchSize);
@@ -30,4 +34,13 @@ public class EventDiscoveryConfig {
     public boolean accessEventStoreViaRest() {
         return parseBoolean(accessEventStoreViaRest);
     }
+
+    /**
+     * Whether to ask the event store for discovery results as newline delimited json when
+     * accessing it via rest. Only to be enabled once every event store being discovered from
+     * serves 'application/x-ndjson' from '/events-discovery'.
+     */
+    public boolean isNdjsonDiscoveryEnabled() {
+        return parseBoolean(ndjsonDiscoveryEnabled);
+    }
 }
@@ -1,9 +1,30 @@
 package uk.gov.justice.services.eventsourcing.discovery;
 
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
+
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface EventSubscriptionDiscoverer {
 
     DiscoveryResult discoverNewEvents(Optional<UUID> latestKnownEventId, int batchSize, String source);
+
+    /**
+     * Discovers new events as {@link #discoverNewEvents(Optional, int, String)} does, passing each
+     * stream position to the consumer rather than returning them all in a DiscoveryResult
+     *
+     * @return the id of the latest event discovered, or empty if there are no new events
+     */
+    default Optional<UUID> discoverNewEvents(
+            final Optional<UUID> latestKnownEventId,
+            final int batchSize,
+            final String source,
+            final Consumer<StreamPosition> streamPositionConsumer) {
+
+        final DiscoveryResult discoveryResult = discoverNewEvents(latestKnownEventId, batchSize, source);
+        discoveryResult.streamPositions().forEach(streamPositionConsumer);
+
+        return discoveryResult.latestKnownEventId();
+    }
 }
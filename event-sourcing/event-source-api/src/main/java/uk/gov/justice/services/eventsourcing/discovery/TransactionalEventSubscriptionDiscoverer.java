@@ -6,11 +6,12 @@ import static javax.ejb.TransactionManagementType.CONTAINER;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventDiscoveryRepository;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
@@ -31,6 +32,20 @@ public class TransactionalEventSubscriptionDiscoverer implements EventSubscripti
     @Override
     public DiscoveryResult discoverNewEvents(final Optional<UUID> latestKnownEventId, final int batchSize, final String source) {
 
+        final List<StreamPosition> streamPositions = new ArrayList<>();
+        final Optional<UUID> newLatestEventId = discoverNewEvents(latestKnownEventId, batchSize, source, streamPositions::add);
+
+        return new DiscoveryResult(streamPositions, newLatestEventId);
+    }
+
+    @TransactionAttribute(REQUIRES_NEW)
+    @Override
+    public Optional<UUID> discoverNewEvents(
+            final Optional<UUID> latestKnownEventId,
+            final int batchSize,
+            final String source,
+            final Consumer<StreamPosition> streamPositionConsumer) {
+
         final long firstEventNumber = latestKnownEventId
                 .map(eventDiscoveryRepository::getEventNumberFor)
                 .orElse(ZEROTH_EVENT_NUMBER);
@@ -38,11 +53,11 @@ public class TransactionalEventSubscriptionDiscoverer implements EventSubscripti
         return eventDiscoveryRepository.getLatestEventIdAndNumberAtOffset(firstEventNumber, batchSize)
                 .filter(newLatestEvent -> !Objects.equals(newLatestEvent.id(), latestKnownEventId.orElse(null)))
                 .map(newLatestEvent -> {
-                    final List<StreamPosition> streamPositions = eventDiscoveryRepository.getLatestStreamPositionsBetween(
+                    eventDiscoveryRepository.forEachLatestStreamPositionBetween(
                             firstEventNumber,
-                            newLatestEvent.eventNumber());
-                    return new DiscoveryResult(streamPositions, Optional.of(newLatestEvent.id()));
-                })
-                .orElseGet(() -> new DiscoveryResult(Collections.emptyList(), Optional.empty()));
+                            newLatestEvent.eventNumber(),
+                            streamPositionConsumer);
+                    return newLatestEvent.id();
+                });
     }
 }
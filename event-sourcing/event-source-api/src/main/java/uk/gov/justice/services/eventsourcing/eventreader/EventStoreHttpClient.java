@@ -2,18 +2,24 @@ package uk.gov.justice.services.eventsourcing.eventreader;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static javax.json.Json.createReader;
 
 import uk.gov.justice.services.clients.core.HttpCaller;
 import uk.gov.justice.services.clients.core.HttpCallerResponse;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.JsonObjectEnvelopeConverter;
 
+import java.io.StringReader;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
 
 @ApplicationScoped
 public class EventStoreHttpClient {
@@ -21,6 +27,12 @@ public class EventStoreHttpClient {
     @Inject
     private HttpCaller defaultHttpCaller;
 
+    @Inject
+    private KeepAliveHttpCaller keepAliveHttpCaller;
+
+    @Inject
+    private EventStoreRestReaderConfig eventStoreRestReaderConfig;
+
     @Inject
     private JsonObjectEnvelopeConverter jsonObjectEnvelopeConverter;
 
@@ -28,7 +40,7 @@ public class EventStoreHttpClient {
 
         final String url = restUri + "/event/" + streamId + "?afterPosition=" + afterPosition;
 
-        final HttpCallerResponse response = defaultHttpCaller.get(url, Map.of("Accept", "application/json"));
+        final HttpCallerResponse response = get(url);
 
         if (response.getStatusCode() == 204) {
             return empty();
@@ -42,4 +54,46 @@ public class EventStoreHttpClient {
 
         return of(jsonObjectEnvelopeConverter.asEnvelope(response.getBody()));
     }
+
+    public List<JsonEnvelope> getNextEvents(
+            final String restUri,
+            final UUID streamId,
+            final Long afterPosition,
+            final Long upToPosition,
+            final int maxEvents) {
+
+        final String url = restUri + "/event/" + streamId + "/next?afterPosition=" + afterPosition +
+                "&upToPosition=" + upToPosition +
+                "&maxEvents=" + maxEvents;
+
+        final HttpCallerResponse response = get(url);
+
+        if (response.getStatusCode() != 200) {
+            throw new RestNextEventReaderException(
+                    "Failed to read next events from event store. Status: " + response.getStatusCode() +
+                    ", streamId: " + streamId + ", afterPosition: " + afterPosition +
+                    ", upToPosition: " + upToPosition + ", maxEvents: " + maxEvents);
+        }
+
+        try (final JsonReader jsonReader = createReader(new StringReader(response.getBody()))) {
+            return jsonReader.readArray().getValuesAs(JsonObject.class).stream()
+                    .map(jsonObjectEnvelopeConverter::asEnvelope)
+                    .toList();
+        } catch (final JsonException | ClassCastException e) {
+            throw new RestNextEventReaderException(
+                    "Failed to parse next events from event store: " + e.getMessage() +
+                    ", streamId: " + streamId + ", afterPosition: " + afterPosition, e);
+        }
+    }
+
+    private HttpCallerResponse get(final String url) {
+
+        final Map<String, String> headers = Map.of("Accept", "application/json");
+
+        if (eventStoreRestReaderConfig.isKeepAliveEnabled()) {
+            return keepAliveHttpCaller.get(url, headers);
+        }
+
+        return defaultHttpCaller.get(url, headers);
+    }
 }
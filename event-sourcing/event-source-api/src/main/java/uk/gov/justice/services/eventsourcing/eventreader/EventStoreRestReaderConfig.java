@@ -0,0 +1,61 @@
+package uk.gov.justice.services.eventsourcing.eventreader;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Long.parseLong;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.time.Duration;
+
+import javax.inject.Inject;
+
+public class EventStoreRestReaderConfig {
+
+    @Inject
+    @Value(key = "pull.mechanism.rest.range.read.enabled", defaultValue = "false")
+    private String rangeReadEnabled;
+
+    @Inject
+    @Value(key = "pull.mechanism.rest.keep.alive.enabled", defaultValue = "false")
+    private String keepAliveEnabled;
+
+    @Inject
+    @Value(key = "pull.mechanism.rest.keep.alive.connect.timeout.milliseconds", defaultValue = "5000")
+    private String keepAliveConnectTimeoutMilliseconds;
+
+    @Inject
+    @Value(key = "pull.mechanism.rest.keep.alive.request.timeout.milliseconds", defaultValue = "30000")
+    private String keepAliveRequestTimeoutMilliseconds;
+
+    /**
+     * Whether to read the following events of a stream from the event store with one request to
+     * '/event/{streamId}/next' rather than one request per event. Only to be enabled once every
+     * event store being read from serves that endpoint.
+     */
+    public boolean isRangeReadEnabled() {
+        return parseBoolean(rangeReadEnabled);
+    }
+
+    /**
+     * Whether to read events from the event store over pooled keep-alive connections rather than
+     * with the DefaultHttpCaller.
+     */
+    public boolean isKeepAliveEnabled() {
+        return parseBoolean(keepAliveEnabled);
+    }
+
+    /**
+     * How long the KeepAliveHttpCaller waits to connect to an event store
+     */
+    public Duration getKeepAliveConnectTimeout() {
+        return Duration.ofMillis(parseLong(keepAliveConnectTimeoutMilliseconds));
+    }
+
+    /**
+     * How long the KeepAliveHttpCaller waits for the response headers of a request before
+     * failing it, so that an event store that stops answering cannot hold a worker forever
+     */
+    public Duration getKeepAliveRequestTimeout() {
+        return Duration.ofMillis(parseLong(keepAliveRequestTimeoutMilliseconds));
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.justice.services.eventsourcing.eventreader;
+
+import static java.net.http.HttpClient.Version.HTTP_1_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import uk.gov.justice.services.clients.core.HttpCallerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * Makes GET requests to the event store through one shared HttpClient, which keeps its
+ * connections to each event store open between requests and reuses them, rather than setting up
+ * a new connection for every event read. Used by the EventStoreHttpClient when
+ * 'pull.mechanism.rest.keep.alive.enabled' is true.
+ *
+ * How long idle connections are kept open is set with the jdk.httpclient.keepalive.timeout
+ * system property. Connecting and waiting for a response are bounded by
+ * 'pull.mechanism.rest.keep.alive.connect.timeout.milliseconds' and
+ * 'pull.mechanism.rest.keep.alive.request.timeout.milliseconds', a request that times out failing
+ * with a RestNextEventReaderException.
+ */
+@ApplicationScoped
+public class KeepAliveHttpCaller {
+
+    @Inject
+    private EventStoreRestReaderConfig eventStoreRestReaderConfig;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    public void createHttpClient() {
+        httpClient = HttpClient.newBuilder()
+                .version(HTTP_1_1)
+                .connectTimeout(eventStoreRestReaderConfig.getKeepAliveConnectTimeout())
+                .build();
+    }
+
+    public HttpCallerResponse get(final String url, final Map<String, String> headers) {
+
+        final HttpResponse<String> httpResponse = send(url, headers, BodyHandlers.ofString(UTF_8));
+        return new HttpCallerResponse(httpResponse.statusCode(), httpResponse.body());
+    }
+
+    /**
+     * Returns as soon as the response headers have been received, so that the body can be read
+     * as it arrives. The caller is responsible for closing the body's InputStream
+     */
+    public HttpResponse<InputStream> getInputStream(final String url, final Map<String, String> headers) {
+        return send(url, headers, BodyHandlers.ofInputStream());
+    }
+
+    private <T> HttpResponse<T> send(final String url, final Map<String, String> headers, final BodyHandler<T> bodyHandler) {
+
+        final HttpRequest.Builder httpRequest = HttpRequest.newBuilder(URI.create(url))
+                .timeout(eventStoreRestReaderConfig.getKeepAliveRequestTimeout())
+                .GET();
+        headers.forEach(httpRequest::header);
+
+        try {
+            return httpClient.send(httpRequest.build(), bodyHandler);
+        } catch (final IOException e) {
+            throw new RestNextEventReaderException("Failed to make GET request to event store: " + url, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestNextEventReaderException("Interrupted making GET request to event store: " + url, e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import uk.gov.justice.services.eventsourcing.source.api.service.core.NextEventRe
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.subscription.registry.EventSourceDefinitionRegistry;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +19,9 @@ public class RestNextEventReader implements NextEventReader {
     @Inject
     private EventStoreHttpClient eventStoreHttpClient;
 
+    @Inject
+    private EventStoreRestReaderConfig eventStoreRestReaderConfig;
+
     @Override
     public Optional<JsonEnvelope> read(final UUID streamId, final Long position, final String source) {
 
@@ -25,4 +29,16 @@ public class RestNextEventReader implements NextEventReader {
 
         return eventStoreHttpClient.getNextEvent(baseRestUri, streamId, position);
     }
+
+    @Override
+    public List<JsonEnvelope> readNextEvents(final UUID streamId, final Long position, final Long upToPosition, final int maxEvents, final String source) {
+
+        if (!eventStoreRestReaderConfig.isRangeReadEnabled()) {
+            return NextEventReader.super.readNextEvents(streamId, position, upToPosition, maxEvents, source);
+        }
+
+        final String baseRestUri = eventSourceDefinitionRegistry.getRestUri(source);
+
+        return eventStoreHttpClient.getNextEvents(baseRestUri, streamId, position, upToPosition, maxEvents);
+    }
 }
@@ -7,6 +7,7 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepo
 import uk.gov.justice.services.eventsourcing.source.api.service.core.NextEventReader;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,4 +29,12 @@ public class TransactionalNextEventReader implements NextEventReader {
         return eventJdbcRepository.findNextEventInTheStreamAfterPosition(streamId, position)
                 .map(eventConverter::envelopeOf);
     }
+
+    @Transactional(REQUIRES_NEW)
+    @Override
+    public List<JsonEnvelope> readNextEvents(final UUID streamId, final Long position, final Long upToPosition, final int maxEvents, final String source) {
+        return eventJdbcRepository.findNextEventsInTheStreamAfterPosition(streamId, position, upToPosition, maxEvents).stream()
+                .map(eventConverter::envelopeOf)
+                .toList();
+    }
 }
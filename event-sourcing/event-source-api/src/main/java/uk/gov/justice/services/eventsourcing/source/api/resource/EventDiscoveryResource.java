@@ -3,9 +3,11 @@ package uk.gov.justice.services.eventsourcing.source.api.resource;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.ok;
 import static javax.ws.rs.core.Response.status;
+import static uk.gov.justice.services.eventsourcing.discovery.DiscoveryResultNdjsonConverter.APPLICATION_NDJSON;
 
 import uk.gov.justice.services.common.converter.ObjectToJsonValueConverter;
 import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResult;
+import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResultNdjsonConverter;
 import uk.gov.justice.services.eventsourcing.discovery.EventSubscriptionDiscoverer;
 import uk.gov.justice.services.eventsourcing.discovery.TransactionalDiscoverer;
 
@@ -19,8 +21,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.slf4j.Logger;
 
@@ -34,6 +38,9 @@ public class EventDiscoveryResource {
     @Inject
     private ObjectToJsonValueConverter converter;
 
+    @Inject
+    private DiscoveryResultNdjsonConverter discoveryResultNdjsonConverter;
+
     @Inject
     private Logger logger;
 
@@ -49,8 +56,40 @@ public class EventDiscoveryResource {
 
             return ok(converter.convert(discoveryResult)).build();
         } catch (final Exception e) {
-            logger.error(format("Failed to discover events: afterEventId '%s', batchSize '%d'", afterEventId, batchSize), e);
-            return status(INTERNAL_SERVER_ERROR).build();
+            return discoveryFailed(afterEventId, batchSize, e);
         }
     }
+
+    /**
+     * Discovery runs as the response is written, each stream position being written as it is read
+     * from the event_log. A failure before anything has been sent still gives a 500; a failure
+     * after that cuts the response short, which the client detects as it has no
+     * latestKnownEventId line.
+     */
+    @GET
+    @Produces(APPLICATION_NDJSON)
+    public Response discoverEventsAsNdjson(@QueryParam("afterEventId") final UUID afterEventId,
+                                           @QueryParam("batchSize") final int batchSize) {
+
+        final StreamingOutput streamingOutput = outputStream -> {
+            try {
+                discoveryResultNdjsonConverter.write(
+                        streamPositionWriter -> eventSubscriptionDiscoverer.discoverNewEvents(
+                                Optional.ofNullable(afterEventId),
+                                batchSize,
+                                null,
+                                streamPositionWriter),
+                        outputStream);
+            } catch (final Exception e) {
+                throw new WebApplicationException(e, discoveryFailed(afterEventId, batchSize, e));
+            }
+        };
+
+        return ok(streamingOutput, APPLICATION_NDJSON).build();
+    }
+
+    private Response discoveryFailed(final UUID afterEventId, final int batchSize, final Exception e) {
+        logger.error(format("Failed to discover events: afterEventId '%s', batchSize '%d'", afterEventId, batchSize), e);
+        return status(INTERNAL_SERVER_ERROR).build();
+    }
 }
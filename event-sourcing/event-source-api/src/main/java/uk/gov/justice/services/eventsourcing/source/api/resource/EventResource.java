@@ -1,5 +1,6 @@
 package uk.gov.justice.services.eventsourcing.source.api.resource;
 
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.noContent;
 import static javax.ws.rs.core.Response.ok;
@@ -9,11 +10,14 @@ import uk.gov.justice.services.eventsourcing.eventreader.TransactionalReader;
 import uk.gov.justice.services.eventsourcing.source.api.service.core.NextEventReader;
 import uk.gov.justice.services.messaging.JsonObjectEnvelopeConverter;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
+import static javax.json.Json.createArrayBuilder;
 
 import java.util.UUID;
 
 import javax.inject.Inject;
+import javax.json.JsonArrayBuilder;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -34,6 +38,9 @@ public class EventResource {
     @Inject
     private JsonObjectEnvelopeConverter jsonObjectEnvelopeConverter;
 
+    @Inject
+    private NextEventsConfig nextEventsConfig;
+
     @Inject
     private Logger logger;
 
@@ -52,4 +59,32 @@ public class EventResource {
             return status(INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * Returns at most maxEvents events, no more than 'event.source.rest.next.events.max.events'
+     * however many are asked for
+     */
+    @GET
+    @Path("/{streamId}/next")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response nextEvents(@PathParam("streamId") final UUID streamId,
+                               @QueryParam("afterPosition") final long afterPosition,
+                               @QueryParam("upToPosition") final long upToPosition,
+                               @QueryParam("maxEvents") final int maxEvents) {
+
+        if (maxEvents <= 0) {
+            return status(BAD_REQUEST).entity(format("maxEvents must be greater than 0. Was %d", maxEvents)).build();
+        }
+
+        try {
+            final JsonArrayBuilder events = createArrayBuilder();
+            nextEventReader.readNextEvents(streamId, afterPosition, upToPosition, min(maxEvents, nextEventsConfig.getMaxEvents()), null)
+                    .forEach(jsonEnvelope -> events.add(jsonObjectEnvelopeConverter.fromEnvelope(jsonEnvelope)));
+
+            return ok(events.build()).build();
+        } catch (final Exception e) {
+            logger.error(format("Failed to read next events: streamId '%s', afterPosition '%d', upToPosition '%d', maxEvents '%d'", streamId, afterPosition, upToPosition, maxEvents), e);
+            return status(INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package uk.gov.justice.services.eventsourcing.source.api.resource;
+
+import static java.lang.Integer.parseInt;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import javax.inject.Inject;
+
+public class NextEventsConfig {
+
+    @Inject
+    @Value(key = "event.source.rest.next.events.max.events", defaultValue = "1000")
+    private String maxEvents;
+
+    /**
+     * The most events '/event/{streamId}/next' returns in one response, whatever maxEvents the
+     * caller asks for
+     */
+    public int getMaxEvents() {
+        return parseInt(maxEvents);
+    }
+}
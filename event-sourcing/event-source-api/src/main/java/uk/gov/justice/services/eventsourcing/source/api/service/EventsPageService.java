@@ -87,7 +87,7 @@ public class EventsPageService {
                                           final UriInfo uriInfo,
                                           final List<EventEntry> entries) throws MalformedURLException {
         final long minSequenceId = min(entries);
-        final boolean olderEventsAvailable = !position.isFirst() && eventsService.eventExists(streamId, minSequenceId - 1);
+        final boolean olderEventsAvailable = !position.isFirst() && eventsService.eventExistsUpTo(streamId, minSequenceId - 1);
 
         return olderEventsAvailable ?
                 Optional.of(urlLinkFactory.createEventsUrlLink(position(minSequenceId - 1), BACKWARD, pageSize, uriInfo)) :
@@ -1,81 +1,77 @@
 package uk.gov.justice.services.eventsourcing.source.api.service.core;
 
+import static java.lang.Long.MAX_VALUE;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.empty;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.BACKWARD;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.FORWARD;
 
-import uk.gov.justice.services.eventsourcing.source.core.EventSource;
-import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.eventstream.EventStream;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.eventstream.EventStreamJdbcRepository;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+/**
+ * Pages of event streams in position order. Each page is read with one query using the
+ * position_in_stream index, reading backwards from the position for HEAD and BACKWARD pages, so
+ * the cost of a page does not grow with the number of streams.
+ */
 @ApplicationScoped
 public class EventStreamService {
 
+    private static final long FIRST_POSITION = 1L;
+
     @Inject
-    private EventSource eventSource;
+    private EventStreamJdbcRepository eventStreamJdbcRepository;
 
     public List<EventStreamEntry> eventStreams(final Position position,
                                                final Direction direction,
                                                final long pageSize) {
 
-        return convertToEntriesAndLimitSize(
-                getEventStreams(position, direction, pageSize),
-                pageSize);
-
+        return convertToEntries(getEventStreams(position, direction, (int) pageSize));
     }
 
-    private Stream<EventStream> getEventStreams(final Position position,
-                                                final Direction direction,
-                                                final long pageSize) {
+    private List<EventStream> getEventStreams(final Position position,
+                                              final Direction direction,
+                                              final int pageSize) {
 
         if (position.isHead()) {
-            final Stream<EventStream> eventStreamsFromFirst = eventSource.getStreamsFrom(1);
-            final long fromPosition = eventStreamsFromFirst.count() - pageSize + 1L;
-            return eventSource.getStreamsFrom(fromPosition);
+            return eventStreamJdbcRepository.findEventStreamsWithPositionUpTo(MAX_VALUE, pageSize);
         }
 
         if (position.isFirst()) {
-            return eventSource.getStreamsFrom(1);
+            return eventStreamJdbcRepository.findEventStreamsWithPositionFrom(FIRST_POSITION, pageSize);
         }
 
         if (FORWARD.equals(direction)) {
-            return eventSource.getStreamsFrom(position.getPosition());
+            return eventStreamJdbcRepository.findEventStreamsWithPositionFrom(position.getPosition(), pageSize);
         }
 
         if (BACKWARD.equals(direction)) {
-            final long sequenceNumber = position.getPosition() - pageSize + 1L;
-            return eventSource.getStreamsFrom(sequenceNumber);
+            return eventStreamJdbcRepository.findEventStreamsWithPositionUpTo(position.getPosition(), pageSize);
         }
 
-        return empty();
+        return emptyList();
     }
 
-    private List<EventStreamEntry> convertToEntriesAndLimitSize(
-            final Stream<EventStream> eventStreams,
-            final long pageSize) {
+    private List<EventStreamEntry> convertToEntries(final List<EventStream> eventStreams) {
 
-        return eventStreams
+        return eventStreams.stream()
                 .map(this::convertToEventStreamEntry)
-                .limit(pageSize)
                 .collect(toList());
     }
 
     private EventStreamEntry convertToEventStreamEntry(final EventStream eventStream) {
 
         return new EventStreamEntry(
-                eventStream.getId().toString(),
+                eventStream.getStreamId().toString(),
                 eventStream.getPosition());
     }
 
     public boolean eventStreamExists(final long position) {
-
-        return eventSource.getStreamsFrom(1)
-                .anyMatch(eventStream -> eventStream.getPosition() == position);
+        return eventStreamJdbcRepository.eventStreamExistsAtPosition(position);
     }
 }
@@ -1,13 +1,15 @@
 package uk.gov.justice.services.eventsourcing.source.api.service.core;
 
+import static java.lang.Long.MAX_VALUE;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.BACKWARD;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.FORWARD;
 
 import uk.gov.justice.services.common.converter.ZonedDateTimes;
-import uk.gov.justice.services.eventsourcing.source.core.EventSource;
-import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.Event;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventConverter;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
 import java.time.ZonedDateTime;
@@ -19,55 +21,69 @@ import java.util.stream.Stream;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+/**
+ * Pages of the events of a stream in position order. Each page is read with one query using the
+ * stream_id, position_in_stream index, reading backwards from the position for HEAD and BACKWARD
+ * pages, so the cost of a page does not grow with the length of the stream.
+ */
 @ApplicationScoped
 public class EventsService {
 
+    private static final long FIRST_POSITION = 1L;
+
+    @Inject
+    private EventJdbcRepository eventJdbcRepository;
+
     @Inject
-    private EventSource eventSource;
+    private EventConverter eventConverter;
 
     public List<EventEntry> events(final UUID streamId,
                                    final Position position,
                                    final Direction direction,
                                    final long pageSize) {
 
-        final EventStream eventStream = eventSource.getStreamById(streamId);
+        final int limit = (int) pageSize;
 
         if (position.isHead()) {
-            final long versionHead = eventStream.size() - pageSize + 1;
-            final Stream<JsonEnvelope> events = eventStream.readFrom(versionHead).limit(pageSize);
-            return eventEntries(events);
+            return eventEntries(eventJdbcRepository.findByStreamIdUpToPositionOrderByPositionAsc(streamId, MAX_VALUE, limit).stream());
         }
 
         if (position.isFirst()) {
-            final int versionFirst = 1;
-            final Stream<JsonEnvelope> events = eventStream.readFrom(versionFirst).limit(pageSize);
-            return eventEntries(events);
+            try (final Stream<Event> events = eventJdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(streamId, FIRST_POSITION, limit)) {
+                return eventEntries(events);
+            }
         }
 
         if (FORWARD.equals(direction)) {
-            final long version = position.getPosition();
-            final Stream<JsonEnvelope> events = eventStream.readFrom(version).limit(pageSize);
-
-            return eventEntries(events);
+            try (final Stream<Event> events = eventJdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(streamId, position.getPosition(), limit)) {
+                return eventEntries(events);
+            }
         }
 
         if (BACKWARD.equals(direction)) {
-            final long version = position.getPosition() - pageSize + 1;
-            final Stream<JsonEnvelope> events = eventStream.readFrom(version).limit(pageSize);
-            return eventEntries(events);
+            return eventEntries(eventJdbcRepository.findByStreamIdUpToPositionOrderByPositionAsc(streamId, position.getPosition(), limit).stream());
         }
+
         return emptyList();
     }
 
+    /**
+     * @return true if the stream has any event at or after the given version
+     */
     public boolean eventExists(final UUID streamId, final long version) {
-        final EventStream eventStream = eventSource.getStreamById(streamId);
-        final Stream<JsonEnvelope> event = eventStream.readFrom(version);
+        return eventJdbcRepository.eventExistsFromPosition(streamId, version);
+    }
 
-        return event.findAny().isPresent();
+    /**
+     * @return true if the stream has any event at or before the given version
+     */
+    public boolean eventExistsUpTo(final UUID streamId, final long version) {
+        return eventJdbcRepository.eventExistsUpToPosition(streamId, version);
     }
 
-    private List<EventEntry> eventEntries(final Stream<JsonEnvelope> events) {
+    private List<EventEntry> eventEntries(final Stream<Event> events) {
         return events
+                .map(eventConverter::envelopeOf)
                 .map(toEventEntry())
                 .collect(toList());
     }
@@ -4,6 +4,7 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRange;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -23,6 +24,19 @@ public interface LinkedEventSource {
 
     Stream<LinkedEvent> findEventRange(final MissingEventRange missingEventRange);
 
+    /**
+     * returns a (Java) stream of the events in the missing event range, as
+     * {@link #findEventRange(MissingEventRange)}, where only the events with one of the given names
+     * need have their payload. Events with any other name may be returned with an empty payload.
+     *
+     * @param missingEventRange the range of event numbers to find
+     * @param payloadEventNames the names of the events whose payloads are needed
+     * @return a Java Stream of Events
+     */
+    default Stream<LinkedEvent> findEventRange(final MissingEventRange missingEventRange, final Set<String> payloadEventNames) {
+        return findEventRange(missingEventRange);
+    }
+
     Optional<LinkedEvent> findByEventId(final UUID id);
 
     Long getHighestPublishedEventNumber();
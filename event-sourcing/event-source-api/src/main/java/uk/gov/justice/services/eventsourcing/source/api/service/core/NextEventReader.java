@@ -2,10 +2,46 @@ package uk.gov.justice.services.eventsourcing.source.api.service.core;
 
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface NextEventReader {
 
     Optional<JsonEnvelope> read(UUID streamId, Long position, String source);
+
+    /**
+     * Reads up to maxEvents events of a stream after the given position and no further than
+     * upToPosition, in position order. By default reads the events one at a time; implementations
+     * that can read a range of events at once should override this.
+     *
+     * @param streamId the id of the stream
+     * @param position the position to read after
+     * @param upToPosition the highest position to read
+     * @param maxEvents the maximum number of events to read
+     * @param source the event source to read from
+     * @return the events read, in position order
+     */
+    default List<JsonEnvelope> readNextEvents(final UUID streamId, final Long position, final Long upToPosition, final int maxEvents, final String source) {
+
+        final List<JsonEnvelope> events = new ArrayList<>();
+        long currentPosition = position;
+        while (events.size() < maxEvents && currentPosition < upToPosition) {
+            final Optional<JsonEnvelope> event = read(streamId, currentPosition, source);
+            if (event.isEmpty()) {
+                break;
+            }
+
+            final Optional<Long> eventPosition = event.get().metadata().position();
+            if (eventPosition.isEmpty() || eventPosition.get() > upToPosition) {
+                break;
+            }
+
+            events.add(event.get());
+            currentPosition = eventPosition.get();
+        }
+
+        return events;
+    }
 }
@@ -0,0 +1,129 @@
+package uk.gov.justice.services.eventsourcing.discovery;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.fromString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class DiscoveryResultNdjsonConverterTest {
+
+    private final DiscoveryResultNdjsonConverter discoveryResultNdjsonConverter = new DiscoveryResultNdjsonConverter();
+
+    @Test
+    public void shouldWriteOneLinePerStreamPositionFollowedByLatestKnownEventId() throws Exception {
+
+        final UUID streamId_1 = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001");
+        final UUID streamId_2 = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0002");
+        final UUID latestKnownEventId = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0003");
+        final DiscoveryResult discoveryResult = new DiscoveryResult(
+                List.of(new StreamPosition(streamId_1, 23L), new StreamPosition(streamId_2, 5L)),
+                of(latestKnownEventId));
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        discoveryResultNdjsonConverter.write(discoveryResult, outputStream);
+
+        assertThat(outputStream.toString(UTF_8), is("""
+                {"streamId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001","positionInStream":23}
+                {"streamId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0002","positionInStream":5}
+                {"latestKnownEventId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0003"}
+                """));
+    }
+
+    @Test
+    public void shouldReadBackWhatWasWritten() throws Exception {
+
+        final DiscoveryResult discoveryResult = new DiscoveryResult(
+                List.of(new StreamPosition(UUID.randomUUID(), 1L), new StreamPosition(UUID.randomUUID(), 2L)),
+                of(UUID.randomUUID()));
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        discoveryResultNdjsonConverter.write(discoveryResult, outputStream);
+
+        assertThat(discoveryResultNdjsonConverter.read(new ByteArrayInputStream(outputStream.toByteArray())), is(discoveryResult));
+    }
+
+    @Test
+    public void shouldReadEmptyDiscoveryResult() throws Exception {
+
+        final DiscoveryResult discoveryResult = discoveryResultNdjsonConverter.read(new ByteArrayInputStream(new byte[0]));
+
+        assertThat(discoveryResult, is(new DiscoveryResult(List.of(), empty())));
+    }
+
+    @Test
+    public void shouldThrowIfLineIsNotAJsonObject() {
+
+        assertThrows(IOException.class, () -> discoveryResultNdjsonConverter.read(inputStreamOf("[1, 2]\n")));
+    }
+
+    @Test
+    public void shouldThrowIfStreamPositionsAreNotFollowedByLatestKnownEventId() {
+
+        final IOException ioException = assertThrows(IOException.class, () -> discoveryResultNdjsonConverter.read(inputStreamOf("""
+                {"streamId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001","positionInStream":23}
+                """)));
+
+        assertThat(ioException.getMessage(), is("Discovery result of 1 stream positions ended without its latestKnownEventId line"));
+    }
+
+    @Test
+    public void shouldWriteStreamPositionsAsTheDiscoveryPassesThemOn() throws Exception {
+
+        final UUID streamId = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001");
+        final UUID latestKnownEventId = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0003");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        discoveryResultNdjsonConverter.write(streamPositionWriter -> {
+            streamPositionWriter.accept(new StreamPosition(streamId, 23L));
+            return of(latestKnownEventId);
+        }, outputStream);
+
+        assertThat(outputStream.toString(UTF_8), is("""
+                {"streamId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001","positionInStream":23}
+                {"latestKnownEventId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0003"}
+                """));
+    }
+
+    @Test
+    public void shouldRethrowIOExceptionsOfTheOutputStream() {
+
+        final IOException ioException = new IOException("Broken pipe");
+        final OutputStream outputStream = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw ioException;
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                throw ioException;
+            }
+        };
+
+        final IOException thrown = assertThrows(IOException.class, () -> discoveryResultNdjsonConverter.write(streamPositionWriter -> {
+            streamPositionWriter.accept(new StreamPosition(UUID.randomUUID(), 1L));
+            return of(UUID.randomUUID());
+        }, outputStream));
+
+        assertThat(thrown, is(ioException));
+    }
+
+    private InputStream inputStreamOf(final String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(UTF_8));
+    }
+}
@@ -56,4 +56,14 @@ public class EventDiscoveryConfigTest {
 
         assertThat(eventDiscoveryConfig.accessEventStoreViaRest(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetWhetherNdjsonDiscoveryIsEnabled() {
+
+        setField(eventDiscoveryConfig, "ndjsonDiscoveryEnabled", "true");
+        assertThat(eventDiscoveryConfig.isNdjsonDiscoveryEnabled(), is(true));
+
+        setField(eventDiscoveryConfig, "ndjsonDiscoveryEnabled", "false");
+        assertThat(eventDiscoveryConfig.isNdjsonDiscoveryEnabled(), is(false));
+    }
+}
@@ -1,19 +1,27 @@
 package uk.gov.justice.services.eventsourcing.discovery;
 
-import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventDiscoveryRepository;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventIdNumber;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,11 +54,12 @@ public class TransactionalEventSubscriptionDiscovererTest {
         when(eventDiscoveryRepository.getLatestEventIdAndNumberAtOffset(firstEventNumber, batchSize))
                 .thenReturn(of(new EventIdNumber(newLatestEventId, lastEventNumber)));
 
-        when(eventDiscoveryRepository.getLatestStreamPositionsBetween(firstEventNumber, lastEventNumber))
-                .thenReturn(asList(
-                        streamPosition_1,
-                        streamPosition_2)
-                );
+        doAnswer(invocationOnMock -> {
+            final Consumer<StreamPosition> streamPositionConsumer = invocationOnMock.getArgument(2);
+            streamPositionConsumer.accept(streamPosition_1);
+            streamPositionConsumer.accept(streamPosition_2);
+            return null;
+        }).when(eventDiscoveryRepository).forEachLatestStreamPositionBetween(eq(firstEventNumber), eq(lastEventNumber), any());
 
         final DiscoveryResult discoveryResult = transactionalEventSubscriptionDiscoverer.discoverNewEvents(of(latestKnownEventId), batchSize, "some-source");
 
@@ -74,11 +83,12 @@ public class TransactionalEventSubscriptionDiscovererTest {
         when(eventDiscoveryRepository.getLatestEventIdAndNumberAtOffset(firstEventNumber, batchSize))
                 .thenReturn(of(new EventIdNumber(newLatestEventId, lastEventNumber)));
 
-        when(eventDiscoveryRepository.getLatestStreamPositionsBetween(firstEventNumber, lastEventNumber))
-                .thenReturn(asList(
-                        streamPosition_1,
-                        streamPosition_2)
-                );
+        doAnswer(invocationOnMock -> {
+            final Consumer<StreamPosition> streamPositionConsumer = invocationOnMock.getArgument(2);
+            streamPositionConsumer.accept(streamPosition_1);
+            streamPositionConsumer.accept(streamPosition_2);
+            return null;
+        }).when(eventDiscoveryRepository).forEachLatestStreamPositionBetween(eq(firstEventNumber), eq(lastEventNumber), any());
 
         final DiscoveryResult discoveryResult = transactionalEventSubscriptionDiscoverer.discoverNewEvents(empty(), batchSize, "some-source");
 
@@ -104,4 +114,61 @@ public class TransactionalEventSubscriptionDiscovererTest {
         assertThat(discoveryResult.streamPositions().isEmpty(), is(true));
         assertThat(discoveryResult.latestKnownEventId(), is(empty()));
     }
+
+    @Test
+    public void shouldPassEachDiscoveredStreamPositionToTheConsumerAndReturnTheNewLatestEventId() throws Exception {
+
+        final UUID latestKnownEventId = randomUUID();
+        final long firstEventNumber = 10L;
+        final int batchSize = 23;
+        final long lastEventNumber = 20L;
+
+        final StreamPosition streamPosition_1 = mock(StreamPosition.class);
+        final StreamPosition streamPosition_2 = mock(StreamPosition.class);
+        final UUID newLatestEventId = randomUUID();
+        final List<StreamPosition> consumedStreamPositions = new ArrayList<>();
+
+        when(eventDiscoveryRepository.getEventNumberFor(latestKnownEventId)).thenReturn(firstEventNumber);
+        when(eventDiscoveryRepository.getLatestEventIdAndNumberAtOffset(firstEventNumber, batchSize))
+                .thenReturn(of(new EventIdNumber(newLatestEventId, lastEventNumber)));
+        doAnswer(invocationOnMock -> {
+            final Consumer<StreamPosition> streamPositionConsumer = invocationOnMock.getArgument(2);
+            streamPositionConsumer.accept(streamPosition_1);
+            streamPositionConsumer.accept(streamPosition_2);
+            return null;
+        }).when(eventDiscoveryRepository).forEachLatestStreamPositionBetween(eq(firstEventNumber), eq(lastEventNumber), any());
+
+        final Optional<UUID> discoveredLatestEventId = transactionalEventSubscriptionDiscoverer.discoverNewEvents(
+                of(latestKnownEventId),
+                batchSize,
+                "some-source",
+                consumedStreamPositions::add);
+
+        assertThat(discoveredLatestEventId, is(of(newLatestEventId)));
+        assertThat(consumedStreamPositions, is(List.of(streamPosition_1, streamPosition_2)));
+    }
+
+    @Test
+    public void shouldNotReadStreamPositionsIfNoNewEventsFound() throws Exception {
+
+        final UUID latestKnownEventId = randomUUID();
+        final long firstEventNumber = 10L;
+        final int batchSize = 23;
+
+        when(eventDiscoveryRepository.getEventNumberFor(latestKnownEventId)).thenReturn(firstEventNumber);
+        when(eventDiscoveryRepository.getLatestEventIdAndNumberAtOffset(firstEventNumber, batchSize))
+                .thenReturn(of(new EventIdNumber(latestKnownEventId, firstEventNumber)));
+
+        final Optional<UUID> discoveredLatestEventId = transactionalEventSubscriptionDiscoverer.discoverNewEvents(
+                of(latestKnownEventId),
+                batchSize,
+                "some-source",
+                streamPosition -> {
+                });
+
+        assertThat(discoveredLatestEventId, is(empty()));
+        verify(eventDiscoveryRepository).getEventNumberFor(latestKnownEventId);
+        verify(eventDiscoveryRepository).getLatestEventIdAndNumberAtOffset(firstEventNumber, batchSize);
+        verifyNoMoreInteractions(eventDiscoveryRepository);
+    }
 }
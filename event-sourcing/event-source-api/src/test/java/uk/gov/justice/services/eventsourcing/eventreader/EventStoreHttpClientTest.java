@@ -4,6 +4,7 @@ import static java.util.Optional.of;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static javax.json.Json.createObjectBuilder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -15,10 +16,13 @@ import uk.gov.justice.services.eventsourcing.eventreader.RestNextEventReaderExce
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.JsonObjectEnvelopeConverter;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.json.JsonObject;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,6 +37,12 @@ public class EventStoreHttpClientTest {
     @Mock
     private HttpCaller defaultHttpCaller;
 
+    @Mock
+    private KeepAliveHttpCaller keepAliveHttpCaller;
+
+    @Mock
+    private EventStoreRestReaderConfig eventStoreRestReaderConfig;
+
     @Mock
     private JsonObjectEnvelopeConverter jsonObjectEnvelopeConverter;
 
@@ -86,4 +96,67 @@ public class EventStoreHttpClientTest {
                 RestNextEventReaderException.class,
                 () -> eventStoreHttpClient.getNextEvent(REST_URI, streamId, afterPosition));
     }
+
+    @Test
+    public void shouldReadNextEventsOfStreamWithOneRequest() {
+
+        final UUID streamId = randomUUID();
+        final JsonObject event_1 = createObjectBuilder().add("name", "event-1").build();
+        final JsonObject event_2 = createObjectBuilder().add("name", "event-2").build();
+        final JsonEnvelope jsonEnvelope_1 = mock(JsonEnvelope.class);
+        final JsonEnvelope jsonEnvelope_2 = mock(JsonEnvelope.class);
+        final String expectedUrl = REST_URI + "/event/" + streamId + "/next?afterPosition=5&upToPosition=20&maxEvents=10";
+
+        when(defaultHttpCaller.get(expectedUrl, Map.of("Accept", "application/json")))
+                .thenReturn(new HttpCallerResponse(200, "[{\"name\":\"event-1\"},{\"name\":\"event-2\"}]"));
+        when(jsonObjectEnvelopeConverter.asEnvelope(event_1)).thenReturn(jsonEnvelope_1);
+        when(jsonObjectEnvelopeConverter.asEnvelope(event_2)).thenReturn(jsonEnvelope_2);
+
+        final List<JsonEnvelope> result = eventStoreHttpClient.getNextEvents(REST_URI, streamId, 5L, 20L, 10);
+
+        assertThat(result, is(List.of(jsonEnvelope_1, jsonEnvelope_2)));
+    }
+
+    @Test
+    public void shouldReturnNoEventsIfNoneFollowPosition() {
+
+        final UUID streamId = randomUUID();
+        final String expectedUrl = REST_URI + "/event/" + streamId + "/next?afterPosition=5&upToPosition=20&maxEvents=10";
+
+        when(defaultHttpCaller.get(expectedUrl, Map.of("Accept", "application/json")))
+                .thenReturn(new HttpCallerResponse(200, "[]"));
+
+        assertThat(eventStoreHttpClient.getNextEvents(REST_URI, streamId, 5L, 20L, 10), is(List.of()));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenReadingNextEventsIsNotSuccessful() {
+
+        final UUID streamId = randomUUID();
+        final String expectedUrl = REST_URI + "/event/" + streamId + "/next?afterPosition=5&upToPosition=20&maxEvents=10";
+
+        when(defaultHttpCaller.get(expectedUrl, Map.of("Accept", "application/json")))
+                .thenReturn(new HttpCallerResponse(404, null));
+
+        assertThrows(
+                RestNextEventReaderException.class,
+                () -> eventStoreHttpClient.getNextEvents(REST_URI, streamId, 5L, 20L, 10));
+    }
+
+    @Test
+    public void shouldUseKeepAliveHttpCallerIfEnabled() {
+
+        final UUID streamId = randomUUID();
+        final Long afterPosition = 5L;
+        final String responseBody = "some-json";
+        final JsonEnvelope jsonEnvelope = mock(JsonEnvelope.class);
+        final String expectedUrl = REST_URI + "/event/" + streamId + "?afterPosition=" + afterPosition;
+
+        when(eventStoreRestReaderConfig.isKeepAliveEnabled()).thenReturn(true);
+        when(keepAliveHttpCaller.get(expectedUrl, Map.of("Accept", "application/json")))
+                .thenReturn(new HttpCallerResponse(200, responseBody));
+        when(jsonObjectEnvelopeConverter.asEnvelope(responseBody)).thenReturn(jsonEnvelope);
+
+        assertThat(eventStoreHttpClient.getNextEvent(REST_URI, streamId, afterPosition), is(of(jsonEnvelope)));
+    }
 }
@@ -0,0 +1,54 @@
+package uk.gov.justice.services.eventsourcing.eventreader;
+
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class EventStoreRestReaderConfigTest {
+
+    @InjectMocks
+    private EventStoreRestReaderConfig eventStoreRestReaderConfig;
+
+    @Test
+    public void shouldGetWhetherRangeReadIsEnabled() {
+
+        setField(eventStoreRestReaderConfig, "rangeReadEnabled", "true");
+        assertThat(eventStoreRestReaderConfig.isRangeReadEnabled(), is(true));
+
+        setField(eventStoreRestReaderConfig, "rangeReadEnabled", "false");
+        assertThat(eventStoreRestReaderConfig.isRangeReadEnabled(), is(false));
+    }
+
+    @Test
+    public void shouldGetWhetherKeepAliveIsEnabled() {
+
+        setField(eventStoreRestReaderConfig, "keepAliveEnabled", "true");
+        assertThat(eventStoreRestReaderConfig.isKeepAliveEnabled(), is(true));
+
+        setField(eventStoreRestReaderConfig, "keepAliveEnabled", "false");
+        assertThat(eventStoreRestReaderConfig.isKeepAliveEnabled(), is(false));
+    }
+
+    @Test
+    public void shouldGetKeepAliveConnectTimeout() {
+
+        setField(eventStoreRestReaderConfig, "keepAliveConnectTimeoutMilliseconds", "5000");
+
+        assertThat(eventStoreRestReaderConfig.getKeepAliveConnectTimeout(), is(ofMillis(5000)));
+    }
+
+    @Test
+    public void shouldGetKeepAliveRequestTimeout() {
+
+        setField(eventStoreRestReaderConfig, "keepAliveRequestTimeoutMilliseconds", "30000");
+
+        assertThat(eventStoreRestReaderConfig.getKeepAliveRequestTimeout(), is(ofMillis(30000)));
+    }
+}
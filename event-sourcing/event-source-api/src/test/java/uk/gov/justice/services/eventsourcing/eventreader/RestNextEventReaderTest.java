@@ -15,6 +15,7 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.subscription.registry.EventSourceDefinitionRegistry;
 import uk.gov.justice.subscription.registry.RegistryException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,6 +37,9 @@ public class RestNextEventReaderTest {
     @Mock
     private EventStoreHttpClient eventStoreHttpClient;
 
+    @Mock
+    private EventStoreRestReaderConfig eventStoreRestReaderConfig;
+
     @InjectMocks
     private RestNextEventReader restNextEventReader;
 
@@ -81,4 +85,29 @@ public class RestNextEventReaderTest {
                 RegistryException.class,
                 () -> restNextEventReader.read(streamId, position, SOURCE));
     }
+
+    @Test
+    public void shouldReadNextEventsWithOneRequestIfRangeReadEnabled() {
+
+        final UUID streamId = randomUUID();
+        final List<JsonEnvelope> jsonEnvelopes = List.of(mock(JsonEnvelope.class), mock(JsonEnvelope.class));
+
+        when(eventStoreRestReaderConfig.isRangeReadEnabled()).thenReturn(true);
+        when(eventSourceDefinitionRegistry.getRestUri(SOURCE)).thenReturn(REST_URI);
+        when(eventStoreHttpClient.getNextEvents(REST_URI, streamId, 5L, 20L, 10)).thenReturn(jsonEnvelopes);
+
+        assertThat(restNextEventReader.readNextEvents(streamId, 5L, 20L, 10, SOURCE), is(jsonEnvelopes));
+    }
+
+    @Test
+    public void shouldReadNextEventsOneAtATimeIfRangeReadNotEnabled() {
+
+        final UUID streamId = randomUUID();
+
+        when(eventStoreRestReaderConfig.isRangeReadEnabled()).thenReturn(false);
+        when(eventSourceDefinitionRegistry.getRestUri(SOURCE)).thenReturn(REST_URI);
+        when(eventStoreHttpClient.getNextEvent(REST_URI, streamId, 5L)).thenReturn(empty());
+
+        assertThat(restNextEventReader.readNextEvents(streamId, 5L, 20L, 10, SOURCE), is(List.of()));
+    }
 }
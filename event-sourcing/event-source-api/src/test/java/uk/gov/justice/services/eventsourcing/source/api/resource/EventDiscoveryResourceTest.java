@@ -1,31 +1,46 @@
 package uk.gov.justice.services.eventsourcing.source.api.resource;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.Status.OK;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.services.common.converter.ObjectToJsonValueConverter;
 import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResult;
+import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResultNdjsonConverter;
 import uk.gov.justice.services.eventsourcing.discovery.EventSubscriptionDiscoverer;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
 
+import java.io.ByteArrayOutputStream;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import javax.json.JsonValue;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 
@@ -38,6 +53,9 @@ public class EventDiscoveryResourceTest {
     @Mock
     private ObjectToJsonValueConverter converter;
 
+    @Spy
+    private DiscoveryResultNdjsonConverter discoveryResultNdjsonConverter = new DiscoveryResultNdjsonConverter();
+
     @Mock
     private Logger logger;
 
@@ -92,4 +110,56 @@ public class EventDiscoveryResourceTest {
 
         verify(logger).error(format("Failed to discover events: afterEventId '%s', batchSize '%d'", afterEventId, batchSize), exception);
     }
+
+    @Test
+    public void shouldWriteEachStreamPositionAsItIsDiscoveredWhenStreamingNdjson() throws Exception {
+
+        final UUID afterEventId = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0000");
+        final UUID streamId = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001");
+        final UUID latestKnownEventId = fromString("1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0002");
+        final int batchSize = 5000;
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(eventSubscriptionDiscoverer.discoverNewEvents(eq(of(afterEventId)), eq(batchSize), isNull(), any())).thenAnswer(invocationOnMock -> {
+            final Consumer<StreamPosition> streamPositionConsumer = invocationOnMock.getArgument(3);
+            streamPositionConsumer.accept(new StreamPosition(streamId, 23L));
+            return of(latestKnownEventId);
+        });
+
+        try (Response response = eventDiscoveryResource.discoverEventsAsNdjson(afterEventId, batchSize)) {
+            assertThat(response.getStatus(), is(OK.getStatusCode()));
+            assertThat(response.getMediaType().toString(), is("application/x-ndjson"));
+
+            ((StreamingOutput) response.getEntity()).write(outputStream);
+        }
+
+        assertThat(outputStream.toString(UTF_8), is("""
+                {"streamId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0001","positionInStream":23}
+                {"latestKnownEventId":"1c0a3d6e-5c41-4b4b-8c7e-6a7d2f0c0002"}
+                """));
+        verify(eventSubscriptionDiscoverer, never()).discoverNewEvents(any(), anyInt(), any());
+    }
+
+    @Test
+    public void shouldFailWith500WhenNdjsonDiscoveryThrowsException() {
+
+        final UUID afterEventId = randomUUID();
+        final int batchSize = 5000;
+        final RuntimeException exception = new RuntimeException("Discovery failed");
+
+        when(eventSubscriptionDiscoverer.discoverNewEvents(eq(of(afterEventId)), eq(batchSize), isNull(), any())).thenThrow(exception);
+
+        try (Response response = eventDiscoveryResource.discoverEventsAsNdjson(afterEventId, batchSize)) {
+            assertThat(response.getStatus(), is(OK.getStatusCode()));
+
+            final WebApplicationException webApplicationException = assertThrows(
+                    WebApplicationException.class,
+                    () -> ((StreamingOutput) response.getEntity()).write(new ByteArrayOutputStream()));
+
+            assertThat(webApplicationException.getCause(), is(exception));
+            assertThat(webApplicationException.getResponse().getStatus(), is(INTERNAL_SERVER_ERROR.getStatusCode()));
+        }
+
+        verify(logger).error(format("Failed to discover events: afterEventId '%s', batchSize '%d'", afterEventId, batchSize), exception);
+    }
 }
@@ -4,6 +4,7 @@ import static java.lang.String.format;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.UUID.randomUUID;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static javax.ws.rs.core.Response.Status.NO_CONTENT;
 import static javax.ws.rs.core.Response.Status.OK;
@@ -12,14 +13,17 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.services.eventsourcing.source.api.service.core.NextEventReader;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.JsonObjectEnvelopeConverter;
 
+import java.util.List;
 import java.util.UUID;
 
+import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.ws.rs.core.Response;
 
@@ -39,6 +43,9 @@ public class EventResourceTest {
     @Mock
     private JsonObjectEnvelopeConverter jsonObjectEnvelopeConverter;
 
+    @Mock
+    private NextEventsConfig nextEventsConfig;
+
     @Mock
     private Logger logger;
 
@@ -90,4 +97,73 @@ public class EventResourceTest {
         }
         verify(logger).error(format("Failed to read next event: streamId '%s', afterPosition '%d'", streamId, afterPosition), exception);
     }
+
+    @Test
+    public void shouldReturnNextEventsAsJsonArray() {
+
+        final UUID streamId = randomUUID();
+        final JsonEnvelope jsonEnvelope_1 = mock(JsonEnvelope.class);
+        final JsonEnvelope jsonEnvelope_2 = mock(JsonEnvelope.class);
+        final JsonObject jsonObject_1 = mock(JsonObject.class);
+        final JsonObject jsonObject_2 = mock(JsonObject.class);
+
+        when(nextEventsConfig.getMaxEvents()).thenReturn(1000);
+        when(nextEventReader.readNextEvents(streamId, 5L, 20L, 10, null)).thenReturn(List.of(jsonEnvelope_1, jsonEnvelope_2));
+        when(jsonObjectEnvelopeConverter.fromEnvelope(jsonEnvelope_1)).thenReturn(jsonObject_1);
+        when(jsonObjectEnvelopeConverter.fromEnvelope(jsonEnvelope_2)).thenReturn(jsonObject_2);
+
+        try (Response response = eventResource.nextEvents(streamId, 5L, 20L, 10)) {
+            assertThat(response.getStatus(), is(OK.getStatusCode()));
+
+            final JsonArray events = (JsonArray) response.getEntity();
+            assertThat(events.size(), is(2));
+            assertThat(events.get(0), is(jsonObject_1));
+            assertThat(events.get(1), is(jsonObject_2));
+        }
+    }
+
+    @Test
+    public void shouldReturn500WhenReadingNextEventsThrowsException() {
+
+        final UUID streamId = randomUUID();
+        final RuntimeException exception = new RuntimeException("Read failed");
+
+        when(nextEventsConfig.getMaxEvents()).thenReturn(1000);
+        when(nextEventReader.readNextEvents(streamId, 5L, 20L, 10, null)).thenThrow(exception);
+
+        try (Response response = eventResource.nextEvents(streamId, 5L, 20L, 10)) {
+            assertThat(response.getStatus(), is(INTERNAL_SERVER_ERROR.getStatusCode()));
+        }
+        verify(logger).error(format("Failed to read next events: streamId '%s', afterPosition '%d', upToPosition '%d', maxEvents '%d'", streamId, 5L, 20L, 10), exception);
+    }
+
+    @Test
+    public void shouldReadNoMoreThanTheConfiguredMaximumOfNextEvents() {
+
+        final UUID streamId = randomUUID();
+
+        when(nextEventsConfig.getMaxEvents()).thenReturn(1000);
+        when(nextEventReader.readNextEvents(streamId, 5L, 20_000L, 1000, null)).thenReturn(List.of());
+
+        try (Response response = eventResource.nextEvents(streamId, 5L, 20_000L, 1_000_000)) {
+            assertThat(response.getStatus(), is(OK.getStatusCode()));
+        }
+    }
+
+    @Test
+    public void shouldReturn400WhenMaxEventsIsNotGreaterThanZero() {
+
+        final UUID streamId = randomUUID();
+
+        try (Response response = eventResource.nextEvents(streamId, 5L, 20L, 0)) {
+            assertThat(response.getStatus(), is(BAD_REQUEST.getStatusCode()));
+            assertThat(response.getEntity(), is("maxEvents must be greater than 0. Was 0"));
+        }
+
+        try (Response response = eventResource.nextEvents(streamId, 5L, 20L, -1)) {
+            assertThat(response.getStatus(), is(BAD_REQUEST.getStatusCode()));
+        }
+
+        verifyNoInteractions(nextEventReader);
+    }
 }
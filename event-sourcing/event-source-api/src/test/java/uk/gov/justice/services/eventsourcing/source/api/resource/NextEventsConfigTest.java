@@ -0,0 +1,25 @@
+package uk.gov.justice.services.eventsourcing.source.api.resource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class NextEventsConfigTest {
+
+    @InjectMocks
+    private NextEventsConfig nextEventsConfig;
+
+    @Test
+    public void shouldGetMaxEvents() {
+
+        setField(nextEventsConfig, "maxEvents", "1000");
+
+        assertThat(nextEventsConfig.getMaxEvents(), is(1000));
+    }
+}
@@ -73,7 +73,7 @@ public class EventsPageServiceTest {
 
         when(service.eventExists(streamId, 4L)).thenReturn(true);
 
-        when(service.eventExists(streamId, 2L)).thenReturn(false);
+        when(service.eventExistsUpTo(streamId, 2L)).thenReturn(false);
 
         final Position position = position(3L);
         when(positionFactory.createPosition("3")).thenReturn(position);
@@ -133,7 +133,7 @@ public class EventsPageServiceTest {
 
         when(service.eventExists(streamId, 4L)).thenReturn(false);
 
-        when(service.eventExists(streamId, 2L)).thenReturn(true);
+        when(service.eventExistsUpTo(streamId, 2L)).thenReturn(true);
 
         final Position position = position(3L);
         when(positionFactory.createPosition("3")).thenReturn(position);
@@ -183,7 +183,7 @@ public class EventsPageServiceTest {
 
         when(service.eventExists(streamId, 3L)).thenReturn(true);
 
-        when(service.eventExists(streamId, 0L)).thenReturn(false);
+        when(service.eventExistsUpTo(streamId, 0L)).thenReturn(false);
 
         final URL nextUrl = new URL(BASE_URL + EVENT_STREAM_PATH + streamId + "/3/FORWARD/2");
         when(urlLinkFactory.createEventsUrlLink(position(3L), FORWARD, 2, uriInfo)).thenReturn(nextUrl);
@@ -231,7 +231,7 @@ public class EventsPageServiceTest {
 
         when(service.eventExists(streamId, 5L)).thenReturn(false);
 
-        when(service.eventExists(streamId, 2L)).thenReturn(true);
+        when(service.eventExistsUpTo(streamId, 2L)).thenReturn(true);
 
         final Position position = position(4L);
         when(positionFactory.createPosition("4")).thenReturn(position);
@@ -321,7 +321,7 @@ public class EventsPageServiceTest {
         events.add(event3);
         events.add(event2);
 
-        when(service.eventExists(streamId, 1L)).thenReturn(true);
+        when(service.eventExistsUpTo(streamId, 1L)).thenReturn(true);
 
         when(positionFactory.createPosition(HEAD)).thenReturn(head());
         when(service.events(streamId, head(), BACKWARD, 2L)).thenReturn(events);
@@ -1,10 +1,10 @@
 package uk.gov.justice.services.eventsourcing.source.api.service.core;
 
+import static java.time.ZonedDateTime.now;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.BACKWARD;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.FORWARD;
@@ -12,12 +12,11 @@ import static uk.gov.justice.services.eventsourcing.source.api.service.core.Posi
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Position.head;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Position.position;
 
-import uk.gov.justice.services.eventsourcing.source.core.EventSource;
-import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.eventstream.EventStream;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.eventstream.EventStreamJdbcRepository;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,7 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class EventStreamServiceTest {
 
     @Mock
-    private EventSource eventSource;
+    private EventStreamJdbcRepository eventStreamJdbcRepository;
 
     @InjectMocks
     private EventStreamService service;
@@ -39,35 +38,13 @@ public class EventStreamServiceTest {
 
         final long pageSize = 2L;
 
-        final UUID streamId_1 = randomUUID();
-        final UUID streamId_2 = randomUUID();
         final UUID streamId_3 = randomUUID();
         final UUID streamId_4 = randomUUID();
 
-        final EventStream eventStream_1 = mock(EventStream.class);
-        final EventStream eventStream_2 = mock(EventStream.class);
-        final EventStream eventStream_3 = mock(EventStream.class);
-        final EventStream eventStream_4 = mock(EventStream.class);
-
-        when(eventStream_3.getId()).thenReturn(streamId_3);
-        when(eventStream_4.getId()).thenReturn(streamId_4);
-
-        when(eventStream_3.getPosition()).thenReturn(3L);
-        when(eventStream_4.getPosition()).thenReturn(4L);
-
-        final Stream.Builder<EventStream> eventStreamBuilder = Stream.builder();
-
-        eventStreamBuilder.add(eventStream_1);
-        eventStreamBuilder.add(eventStream_2);
-        eventStreamBuilder.add(eventStream_3);
-        eventStreamBuilder.add(eventStream_4);
-
-        final Stream.Builder<EventStream> eventStreamBuilderFrom3 = Stream.builder();
-        eventStreamBuilderFrom3.add(eventStream_3);
-        eventStreamBuilderFrom3.add(eventStream_4);
+        final EventStream eventStream_3 = new EventStream(streamId_3, 3L, true, now());
+        final EventStream eventStream_4 = new EventStream(streamId_4, 4L, true, now());
 
-        when(eventSource.getStreamsFrom(1)).thenReturn(eventStreamBuilder.build());
-        when(eventSource.getStreamsFrom(3)).thenReturn(eventStreamBuilderFrom3.build());
+        when(eventStreamJdbcRepository.findEventStreamsWithPositionUpTo(Long.MAX_VALUE, 2)).thenReturn(List.of(eventStream_3, eventStream_4));
 
         final List<EventStreamEntry> entries = service.eventStreams(head(), BACKWARD, pageSize);
 
@@ -84,28 +61,13 @@ public class EventStreamServiceTest {
     public void shouldReturnFirstEvents() throws Exception {
         final long pageSize = 2L;
 
-        final Stream.Builder<EventStream> eventStreamBuilder = Stream.builder();
-
         final UUID streamId_1 = randomUUID();
         final UUID streamId_2 = randomUUID();
 
-        final EventStream eventStream_1 = mock(EventStream.class);
-        final EventStream eventStream_2 = mock(EventStream.class);
-
-        when(eventStream_1.getId()).thenReturn(streamId_1);
-        when(eventStream_2.getId()).thenReturn(streamId_2);
-
-        when(eventStream_1.getPosition()).thenReturn(1L);
-        when(eventStream_2.getPosition()).thenReturn(2L);
-
-        eventStreamBuilder.add(eventStream_1);
-        eventStreamBuilder.add(eventStream_2);
+        final EventStream eventStream_1 = new EventStream(streamId_1, 1L, true, now());
+        final EventStream eventStream_2 = new EventStream(streamId_2, 2L, true, now());
 
-        final Stream.Builder<EventStream> eventStreamBuilderFrom1 = Stream.builder();
-        eventStreamBuilderFrom1.add(eventStream_1);
-        eventStreamBuilderFrom1.add(eventStream_2);
-
-        when(eventSource.getStreamsFrom(1)).thenReturn(eventStreamBuilder.build());
+        when(eventStreamJdbcRepository.findEventStreamsWithPositionFrom(1L, 2)).thenReturn(List.of(eventStream_1, eventStream_2));
 
         final List<EventStreamEntry> eventStreamEntries = service.eventStreams(first(), FORWARD, pageSize);
 
@@ -126,23 +88,12 @@ public class EventStreamServiceTest {
         final UUID streamId_2 = randomUUID();
         final UUID streamId_3 = randomUUID();
 
-        final Stream.Builder<EventStream> eventStreamBuilder = Stream.builder();
-
-        final EventStream eventStream_2 = mock(EventStream.class);
-        final EventStream eventStream_3 = mock(EventStream.class);
-
-        when(eventStream_2.getId()).thenReturn(streamId_2);
-        when(eventStream_3.getId()).thenReturn(streamId_3);
-
-        when(eventStream_2.getPosition()).thenReturn(2L);
-        when(eventStream_3.getPosition()).thenReturn(3L);
-
-        eventStreamBuilder.add(eventStream_2);
-        eventStreamBuilder.add(eventStream_3);
+        final EventStream eventStream_2 = new EventStream(streamId_2, 2L, true, now());
+        final EventStream eventStream_3 = new EventStream(streamId_3, 3L, true, now());
 
         final long position = 3L;
 
-        when(eventSource.getStreamsFrom(2L)).thenReturn(eventStreamBuilder.build());
+        when(eventStreamJdbcRepository.findEventStreamsWithPositionUpTo(position, 2)).thenReturn(List.of(eventStream_2, eventStream_3));
 
         final List<EventStreamEntry> eventEntries = service.eventStreams(position(position), BACKWARD, pageSize);
 
@@ -160,26 +111,15 @@ public class EventStreamServiceTest {
 
         final long pageSize = 2L;
 
-        final UUID streamId_5 = randomUUID();
         final UUID streamId_4 = randomUUID();
+        final UUID streamId_5 = randomUUID();
 
-        final Stream.Builder<EventStream> eventStreamBuilder = Stream.builder();
-
-        final EventStream eventStream_4 = mock(EventStream.class);
-        final EventStream eventStream_5 = mock(EventStream.class);
-
-        when(eventStream_4.getId()).thenReturn(streamId_4);
-        when(eventStream_5.getId()).thenReturn(streamId_5);
-
-        when(eventStream_4.getPosition()).thenReturn(4L);
-        when(eventStream_5.getPosition()).thenReturn(5L);
-
-        eventStreamBuilder.add(eventStream_4);
-        eventStreamBuilder.add(eventStream_5);
+        final EventStream eventStream_4 = new EventStream(streamId_4, 4L, true, now());
+        final EventStream eventStream_5 = new EventStream(streamId_5, 5L, true, now());
 
         final long position = 3L;
 
-        when(eventSource.getStreamsFrom(position)).thenReturn(eventStreamBuilder.build());
+        when(eventStreamJdbcRepository.findEventStreamsWithPositionFrom(position, 2)).thenReturn(List.of(eventStream_4, eventStream_5));
 
         final List<EventStreamEntry> eventEntries = service.eventStreams(position(position), FORWARD, pageSize);
 
@@ -191,4 +131,14 @@ public class EventStreamServiceTest {
         assertThat(eventEntries.get(1).getStreamId(), is(streamId_5.toString()));
         assertThat(eventEntries.get(1).getSequenceNumber(), is(5L));
     }
+
+    @Test
+    public void shouldCheckWhetherEventStreamExistsAtPosition() throws Exception {
+
+        when(eventStreamJdbcRepository.eventStreamExistsAtPosition(3L)).thenReturn(true);
+        when(eventStreamJdbcRepository.eventStreamExistsAtPosition(4L)).thenReturn(false);
+
+        assertThat(service.eventStreamExists(3L), is(true));
+        assertThat(service.eventStreamExists(4L), is(false));
+    }
 }
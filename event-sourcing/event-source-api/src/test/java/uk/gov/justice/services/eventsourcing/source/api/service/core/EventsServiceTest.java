@@ -6,9 +6,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.BACKWARD;
 import static uk.gov.justice.services.eventsourcing.source.api.service.core.Direction.FORWARD;
@@ -20,8 +20,9 @@ import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
 import static uk.gov.justice.services.messaging.JsonObjects.getJsonBuilderFactory;
 
 import uk.gov.justice.services.common.converter.ZonedDateTimes;
-import uk.gov.justice.services.eventsourcing.source.core.EventSource;
-import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.Event;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventConverter;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
 import java.time.ZonedDateTime;
@@ -42,7 +43,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class EventsServiceTest {
 
     @Mock
-    private EventSource eventSource;
+    private EventJdbcRepository eventJdbcRepository;
+
+    @Mock
+    private EventConverter eventConverter;
 
     @InjectMocks
     private EventsService service;
@@ -80,10 +84,12 @@ public class EventsServiceTest {
                 getJsonBuilderFactory().createObjectBuilder().add("field2", "value2")
         );
 
-        final EventStream eventStream = mock(EventStream.class);
+        final Event storedEvent1 = mock(Event.class);
+        final Event storedEvent2 = mock(Event.class);
 
-        when(eventSource.getStreamById(streamId)).thenReturn(eventStream);
-        when(eventStream.readFrom(eventStream.size() - 1)).thenReturn(Stream.of(event1, event2));
+        when(eventJdbcRepository.findByStreamIdUpToPositionOrderByPositionAsc(streamId, Long.MAX_VALUE, 2)).thenReturn(List.of(storedEvent1, storedEvent2));
+        when(eventConverter.envelopeOf(storedEvent1)).thenReturn(event1);
+        when(eventConverter.envelopeOf(storedEvent2)).thenReturn(event2);
 
         final List<EventEntry> entries = service.events(streamId, head(), BACKWARD, pageSize);
 
@@ -134,10 +140,12 @@ public class EventsServiceTest {
                 getJsonBuilderFactory().createObjectBuilder().add("field2", "value2")
         );
 
-        final EventStream eventStream = mock(EventStream.class);
+        final Event storedEvent1 = mock(Event.class);
+        final Event storedEvent2 = mock(Event.class);
 
-        when(eventSource.getStreamById(streamId)).thenReturn(eventStream);
-        when(eventStream.readFrom(first().getPosition())).thenReturn(Stream.of(event1, event2));
+        when(eventJdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(streamId, 1L, 2)).thenReturn(Stream.of(storedEvent1, storedEvent2));
+        when(eventConverter.envelopeOf(storedEvent1)).thenReturn(event1);
+        when(eventConverter.envelopeOf(storedEvent2)).thenReturn(event2);
 
         final List<EventEntry> eventEntries = service.events(streamId, first(), FORWARD, pageSize);
 
@@ -164,7 +172,6 @@ public class EventsServiceTest {
         final UUID secondEventId = randomUUID();
         final ZonedDateTime event2CreatedAt = now();
         final ZonedDateTime event3CreatedAt = now();
-        final ZonedDateTime event4CreatedAt = now();
         final long pageSize = 2L;
 
         final JsonObject payload3 = getJsonBuilderFactory().createObjectBuilder().add("field3", "value3").build();
@@ -190,22 +197,12 @@ public class EventsServiceTest {
                 getJsonBuilderFactory().createObjectBuilder().add("field3", "value3")
         );
 
-        final JsonEnvelope event4 = envelopeFrom(
-                metadataBuilder()
-                        .withId(streamId)
-                        .withName("Test Name4")
-                        .withVersion(4L)
-                        .withStreamId(streamId)
-                        .createdAt(event4CreatedAt),
-                getJsonBuilderFactory().createObjectBuilder().add("field4", "value4")
-        );
-
-
-        final EventStream eventStream = mock(EventStream.class);
+        final Event storedEvent2 = mock(Event.class);
+        final Event storedEvent3 = mock(Event.class);
 
-        when(eventSource.getStreamById(streamId)).thenReturn(eventStream);
-
-        when(eventStream.readFrom(2L)).thenReturn(Stream.of(event2, event3, event4));
+        when(eventJdbcRepository.findByStreamIdUpToPositionOrderByPositionAsc(streamId, 3L, 2)).thenReturn(List.of(storedEvent2, storedEvent3));
+        when(eventConverter.envelopeOf(storedEvent2)).thenReturn(event2);
+        when(eventConverter.envelopeOf(storedEvent3)).thenReturn(event3);
 
         final List<EventEntry> eventEntries = service.events(streamId, position(3L), BACKWARD, pageSize);
 
@@ -267,12 +264,14 @@ public class EventsServiceTest {
                 getJsonBuilderFactory().createObjectBuilder().add("field3", "value3")
         );
 
-        final EventStream eventStream = mock(EventStream.class);
+        final Event storedEvent3 = mock(Event.class);
+        final Event storedEvent4 = mock(Event.class);
 
         final long positionId = 3L;
 
-        when(eventSource.getStreamById(streamId)).thenReturn(eventStream);
-        when(eventStream.readFrom(positionId)).thenReturn(Stream.of(event3, event4));
+        when(eventJdbcRepository.findByStreamIdFromPositionOrderByPositionAsc(streamId, positionId, 2)).thenReturn(Stream.of(storedEvent3, storedEvent4));
+        when(eventConverter.envelopeOf(storedEvent3)).thenReturn(event3);
+        when(eventConverter.envelopeOf(storedEvent4)).thenReturn(event4);
 
         final List<EventEntry> eventEntries = service.events(streamId, position(positionId), FORWARD, pageSize);
 
@@ -296,25 +295,28 @@ public class EventsServiceTest {
         final UUID streamId = randomUUID();
         final long position = 1L;
 
-        final ZonedDateTime createdAt = now();
+        when(eventJdbcRepository.eventExistsFromPosition(streamId, position)).thenReturn(true);
 
-        final JsonEnvelope event = envelopeFrom(
-                metadataBuilder()
-                        .withId(streamId)
-                        .withName("Test Name1")
-                        .withVersion(position)
-                        .withStreamId(streamId)
-                        .createdAt(createdAt),
-                getJsonBuilderFactory().createObjectBuilder().add("field1", "value1")
-        );
+        assertTrue(service.eventExists(streamId, position));
+    }
+
+    @Test
+    public void shouldReturnEventDoesNotExist() {
+        final UUID streamId = randomUUID();
+        final long position = 2L;
 
-        final EventStream eventStream = mock(EventStream.class);
+        when(eventJdbcRepository.eventExistsFromPosition(streamId, position)).thenReturn(false);
 
-        when(eventSource.getStreamById(streamId)).thenReturn(eventStream);
-        when(eventStream.readFrom(1L)).thenReturn(Stream.of(event));
+        assertFalse(service.eventExists(streamId, position));
+    }
 
-        assertTrue(service.eventExists(streamId, position));
-        verify(eventSource).getStreamById(streamId);
-        verify(eventStream).readFrom(position);
+    @Test
+    public void shouldCheckForEventsUpToVersion() {
+        final UUID streamId = randomUUID();
+        final long position = 2L;
+
+        when(eventJdbcRepository.eventExistsUpToPosition(streamId, position)).thenReturn(true);
+
+        assertTrue(service.eventExistsUpTo(streamId, position));
     }
 }
@@ -0,0 +1,95 @@
+package uk.gov.justice.services.eventsourcing.source.api.service.core;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.Metadata;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class NextEventReaderTest {
+
+    private final NextEventReader nextEventReader = mock(NextEventReader.class, CALLS_REAL_METHODS);
+
+    @Test
+    public void shouldReadEventsOneAtATimeUntilMaxEventsReached() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+        final JsonEnvelope event_2 = eventAtPosition(2L);
+        final JsonEnvelope event_3 = eventAtPosition(3L);
+
+        when(nextEventReader.read(streamId, 1L, source)).thenReturn(of(event_2));
+        when(nextEventReader.read(streamId, 2L, source)).thenReturn(of(event_3));
+
+        final List<JsonEnvelope> events = nextEventReader.readNextEvents(streamId, 1L, 10L, 2, source);
+
+        assertThat(events, is(List.of(event_2, event_3)));
+        verify(nextEventReader, never()).read(streamId, 3L, source);
+    }
+
+    @Test
+    public void shouldStopReadingWhenNoFurtherEventFound() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+        final JsonEnvelope event_2 = eventAtPosition(2L);
+
+        when(nextEventReader.read(streamId, 1L, source)).thenReturn(of(event_2));
+        when(nextEventReader.read(streamId, 2L, source)).thenReturn(empty());
+
+        final List<JsonEnvelope> events = nextEventReader.readNextEvents(streamId, 1L, 10L, 5, source);
+
+        assertThat(events, is(List.of(event_2)));
+    }
+
+    @Test
+    public void shouldNotReturnEventsBeyondUpToPosition() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+        final JsonEnvelope event_2 = eventAtPosition(2L);
+        final JsonEnvelope event_4 = eventAtPosition(4L);
+
+        when(nextEventReader.read(streamId, 1L, source)).thenReturn(of(event_2));
+        when(nextEventReader.read(streamId, 2L, source)).thenReturn(of(event_4));
+
+        final List<JsonEnvelope> events = nextEventReader.readNextEvents(streamId, 1L, 3L, 5, source);
+
+        assertThat(events, is(List.of(event_2)));
+    }
+
+    @Test
+    public void shouldNotReadWhenAlreadyAtUpToPosition() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+
+        final List<JsonEnvelope> events = nextEventReader.readNextEvents(streamId, 3L, 3L, 5, source);
+
+        assertThat(events.isEmpty(), is(true));
+        verify(nextEventReader, never()).read(eq(streamId), anyLong(), eq(source));
+    }
+
+    private JsonEnvelope eventAtPosition(final long position) {
+        final JsonEnvelope event = mock(JsonEnvelope.class);
+        final Metadata metadata = mock(Metadata.class);
+        when(event.metadata()).thenReturn(metadata);
+        when(metadata.position()).thenReturn(of(position));
+        return event;
+    }
+}
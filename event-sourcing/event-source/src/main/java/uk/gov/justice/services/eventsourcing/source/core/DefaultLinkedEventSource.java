@@ -6,6 +6,7 @@ import uk.gov.justice.services.eventsourcing.source.api.service.core.LinkedEvent
 import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRange;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -31,6 +32,15 @@ public class DefaultLinkedEventSource implements LinkedEventSource {
         return multipleDataSourceEventRepository.findEventRange(fromEventNumber, toEventNumber);
     }
 
+    @Override
+    public Stream<LinkedEvent> findEventRange(final MissingEventRange missingEventRange, final Set<String> payloadEventNames) {
+
+        final Long fromEventNumber = missingEventRange.getMissingEventFrom();
+        final Long toEventNumber = missingEventRange.getMissingEventTo();
+
+        return multipleDataSourceEventRepository.findEventRange(fromEventNumber, toEventNumber, payloadEventNames);
+    }
+
     @Override
     public Optional<LinkedEvent> findByEventId(final UUID eventId) {
         return multipleDataSourceEventRepository.findByEventId(eventId);
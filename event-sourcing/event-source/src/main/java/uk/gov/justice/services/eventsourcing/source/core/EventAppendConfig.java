@@ -0,0 +1,18 @@
+package uk.gov.justice.services.eventsourcing.source.core;
+
+import static java.lang.Boolean.parseBoolean;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import javax.inject.Inject;
+
+public class EventAppendConfig {
+
+    @Inject
+    @Value(key = "event.append.batch.enabled", defaultValue = "false")
+    private String batchAppendEnabled;
+
+    public boolean shouldAppendInBatch() {
+        return parseBoolean(batchAppendEnabled);
+    }
+}
@@ -0,0 +1,40 @@
+package uk.gov.justice.services.eventsourcing.source.core;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Fired when all events of a stream have been deleted from the event_log, so that anything
+ * holding state built from those events can drop it.
+ */
+public class EventStreamClearedEvent {
+
+    private final UUID streamId;
+
+    public EventStreamClearedEvent(final UUID streamId) {
+        this.streamId = streamId;
+    }
+
+    public UUID getStreamId() {
+        return streamId;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final EventStreamClearedEvent that)) return false;
+        return Objects.equals(streamId, that.streamId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(streamId);
+    }
+
+    @Override
+    public String toString() {
+        return "EventStreamClearedEvent{" +
+                "streamId=" + streamId +
+                '}';
+    }
+}
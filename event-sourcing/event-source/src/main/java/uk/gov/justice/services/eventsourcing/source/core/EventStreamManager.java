@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import javax.enterprise.event.Event;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 
@@ -53,6 +54,12 @@ public class EventStreamManager {
     @Inject
     private EventAppendTriggerService eventAppendTriggerService;
 
+    @Inject
+    private EventAppendConfig eventAppendConfig;
+
+    @Inject
+    private Event<EventStreamClearedEvent> eventStreamClearedEventFirer;
+
     /**
      * Get the stream of events.
      *
@@ -188,10 +195,11 @@ public class EventStreamManager {
 
     /**
      * Clears the stream, deleting all associated events from the event_log, it does not update the
-     * event_stream.
+     * event_stream. Fires an {@link EventStreamClearedEvent} once the events are deleted.
      */
     public void clear(final UUID id) {
         eventRepository.clearEventsForStream(id);
+        eventStreamClearedEventFirer.fire(new EventStreamClearedEvent(id));
     }
 
     /**
@@ -222,8 +230,13 @@ public class EventStreamManager {
         }
         validateEvents(id, envelopeList);
 
-        for (final JsonEnvelope event : envelopeList) {
-            publishingEventAppender.append(event, id, ++currentPosition, eventSourceNameProvider.getDefaultEventSourceName());
+        if (eventAppendConfig.shouldAppendInBatch() && envelopeList.size() > 1) {
+            publishingEventAppender.appendAll(envelopeList, id, currentPosition + 1, eventSourceNameProvider.getDefaultEventSourceName());
+            currentPosition += envelopeList.size();
+        } else {
+            for (final JsonEnvelope event : envelopeList) {
+                publishingEventAppender.append(event, id, ++currentPosition, eventSourceNameProvider.getDefaultEventSourceName());
+            }
         }
         eventAppendTriggerService.registerTransactionListener();
         return currentPosition;
@@ -1,6 +1,7 @@
 package uk.gov.justice.services.eventsourcing.source.core;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static uk.gov.justice.services.eventsourcing.source.core.EventSourceConstants.INITIAL_EVENT_VERSION;
 
 import uk.gov.justice.services.eventsourcing.repository.jdbc.EventRepository;
@@ -8,7 +9,9 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.StoreEven
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import javax.inject.Inject;
 
@@ -36,4 +39,26 @@ public class PublishingEventAppender implements EventAppender {
             throw new EventStreamException(format("Failed to append event to the event store %s", event.metadata().id()), e);
         }
     }
+
+    /**
+     * Stores all of the events in the event store as a single batch, with consecutive versions
+     * starting from the given first version.
+     *
+     * @param events       - the events to be appended
+     * @param streamId     - id of the stream the events will be part of
+     * @param firstVersion - version id of the first event in the stream
+     */
+    public void appendAll(final List<JsonEnvelope> events, final UUID streamId, final long firstVersion, final String eventSourceName) throws EventStreamException {
+        try {
+            if (firstVersion == INITIAL_EVENT_VERSION) {
+                eventRepository.createEventStream(streamId);
+            }
+            final List<JsonEnvelope> eventsWithStreamIdAndVersion = IntStream.range(0, events.size())
+                    .mapToObj(index -> eventFrom(events.get(index), streamId, firstVersion + index, eventSourceName))
+                    .collect(toList());
+            eventRepository.storeEvents(eventsWithStreamIdAndVersion);
+        } catch (StoreEventRequestFailedException e) {
+            throw new EventStreamException(format("Failed to append batch of %d events to the event store for stream %s", events.size(), streamId), e);
+        }
+    }
 }
@@ -15,6 +15,7 @@ import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRang
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -64,6 +65,23 @@ public class DefaultLinkedEventSourceTest {
         assertThat(eventRange, is(streamOfEvents));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldFindEventRangeWithThePayloadsOfTheGivenEventNamesOnly() throws Exception {
+
+        final long fromEventNumber = 1L;
+        final long toEventNumber = 10L;
+        final Set<String> payloadEventNames = Set.of("some.event", "some.other.event");
+        final MissingEventRange missingEventRange = new MissingEventRange(fromEventNumber, toEventNumber);
+        final Stream streamOfEvents = mock(Stream.class);
+
+        when(multipleDataSourceEventRepository.findEventRange(fromEventNumber, toEventNumber, payloadEventNames)).thenReturn(streamOfEvents);
+
+        final Stream<LinkedEvent> eventRange = defaultPublishedEventSource.findEventRange(missingEventRange, payloadEventNames);
+
+        assertThat(eventRange, is(streamOfEvents));
+    }
+
     @Test
     public void findByEventIdShouldReturnEvent() throws Exception {
 
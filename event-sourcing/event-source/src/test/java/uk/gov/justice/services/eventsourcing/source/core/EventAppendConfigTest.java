@@ -0,0 +1,27 @@
+package uk.gov.justice.services.eventsourcing.source.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class EventAppendConfigTest {
+
+    @InjectMocks
+    private EventAppendConfig eventAppendConfig;
+
+    @Test
+    public void shouldGetWhetherEventsShouldBeAppendedInBatch() throws Exception {
+
+        setField(eventAppendConfig, "batchAppendEnabled", "true");
+        assertThat(eventAppendConfig.shouldAppendInBatch(), is(true));
+
+        setField(eventAppendConfig, "batchAppendEnabled", "false");
+        assertThat(eventAppendConfig.shouldAppendInBatch(), is(false));
+    }
+}
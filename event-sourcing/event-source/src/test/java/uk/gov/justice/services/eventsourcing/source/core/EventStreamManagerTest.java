@@ -33,6 +33,8 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import javax.enterprise.event.Event;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -83,6 +85,12 @@ public class EventStreamManagerTest {
     @Mock
     private EventAppendTriggerService eventAppendTriggerService;
 
+    @Mock
+    private EventAppendConfig eventAppendConfig;
+
+    @Mock
+    private Event<EventStreamClearedEvent> eventStreamClearedEventFirer;
+
     @InjectMocks
     private EventStreamManager eventStreamManager;
 
@@ -107,6 +115,45 @@ public class EventStreamManagerTest {
         verify(eventAppendTriggerService).registerTransactionListener();
     }
 
+    @Test
+    public void shouldAppendAllEventsToStreamInOneBatchIfBatchAppendEnabled() throws Exception {
+
+        when(eventRepository.getStreamSize(STREAM_ID)).thenReturn(CURRENT_VERSION);
+        when(eventAppendConfig.shouldAppendInBatch()).thenReturn(true);
+        when(eventSourceNameProvider.getDefaultEventSourceName()).thenReturn(EVENT_SOURCE_NAME);
+
+        final JsonEnvelope event1 = envelopeFrom(
+                metadataBuilder().withId(randomUUID()).withName("my-event-1"),
+                getJsonBuilderFactory().createObjectBuilder());
+        final JsonEnvelope event2 = envelopeFrom(
+                metadataBuilder().withId(randomUUID()).withName("my-event-2"),
+                getJsonBuilderFactory().createObjectBuilder());
+
+        final long returnedVersion = eventStreamManager.append(STREAM_ID, Stream.of(event1, event2));
+
+        assertThat(returnedVersion, is(CURRENT_VERSION + 2));
+
+        verify(publishingEventAppender).appendAll(List.of(event1, event2), STREAM_ID, CURRENT_VERSION + 1, EVENT_SOURCE_NAME);
+        verify(eventAppendTriggerService).registerTransactionListener();
+        verifyNoMoreInteractions(publishingEventAppender);
+    }
+
+    @Test
+    public void shouldAppendSingleEventWithoutBatchingEvenIfBatchAppendEnabled() throws Exception {
+
+        when(eventAppendConfig.shouldAppendInBatch()).thenReturn(true);
+        when(eventSourceNameProvider.getDefaultEventSourceName()).thenReturn(EVENT_SOURCE_NAME);
+
+        final JsonEnvelope event = envelopeFrom(
+                metadataBuilder().withId(randomUUID()).withName("my-event"),
+                getJsonBuilderFactory().createObjectBuilder());
+
+        eventStreamManager.append(STREAM_ID, Stream.of(event));
+
+        verify(publishingEventAppender).append(event, STREAM_ID, INITIAL_VERSION + 1, EVENT_SOURCE_NAME);
+        verifyNoMoreInteractions(publishingEventAppender);
+    }
+
     @Test
     public void shouldThrowExceptionWhenEnvelopeContainsVersion() throws Exception {
         final JsonEnvelope event = envelopeFrom(
@@ -457,6 +504,7 @@ public class EventStreamManagerTest {
         eventStreamManager.clear(STREAM_ID);
 
         verify(eventRepository).clearEventsForStream(STREAM_ID);
+        verify(eventStreamClearedEventFirer).fire(new EventStreamClearedEvent(STREAM_ID));
         verifyNoMoreInteractions(eventRepository, publishingEventAppender);
     }
 
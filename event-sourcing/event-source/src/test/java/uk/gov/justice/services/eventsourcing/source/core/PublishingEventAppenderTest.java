@@ -3,10 +3,12 @@ package uk.gov.justice.services.eventsourcing.source.core;
 import static co.unruly.matchers.OptionalMatchers.contains;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
@@ -18,6 +20,7 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.StoreEven
 import uk.gov.justice.services.eventsourcing.source.core.exception.EventStreamException;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -131,4 +134,70 @@ public class PublishingEventAppenderTest {
         verify(eventRepository, times(0)).
                 createEventStream(streamId);
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldStoreAllEventsInRepoWithConsecutiveVersions() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        final JsonEnvelope event1 = envelopeFrom(
+                metadataBuilder()
+                        .withName("name123")
+                        .withId(randomUUID()),
+                getJsonBuilderFactory().createObjectBuilder()
+                        .add("somePayloadField", "payloadValue123"));
+        final JsonEnvelope event2 = envelopeFrom(
+                metadataBuilder()
+                        .withName("name456")
+                        .withId(randomUUID()),
+                getJsonBuilderFactory().createObjectBuilder()
+                        .add("somePayloadField", "payloadValue456"));
+
+        eventAppender.appendAll(List.of(event1, event2), streamId, 3L, DEFAULT_EVENT_SOURCE_NAME);
+
+        final ArgumentCaptor<List<JsonEnvelope>> envelopesCaptor = ArgumentCaptor.forClass(List.class);
+
+        verify(eventRepository).storeEvents(envelopesCaptor.capture());
+        verify(eventRepository, never()).createEventStream(streamId);
+
+        final List<JsonEnvelope> storedEnvelopes = envelopesCaptor.getValue();
+        assertThat(storedEnvelopes, hasSize(2));
+        assertThat(storedEnvelopes.get(0).metadata().streamId(), contains(streamId));
+        assertThat(storedEnvelopes.get(0).metadata().position(), contains(3L));
+        assertThat(storedEnvelopes.get(0).metadata().name(), is("name123"));
+        assertThat(storedEnvelopes.get(1).metadata().streamId(), contains(streamId));
+        assertThat(storedEnvelopes.get(1).metadata().position(), contains(4L));
+        assertThat(storedEnvelopes.get(1).metadata().name(), is("name456"));
+        assertThat(storedEnvelopes.get(1).payloadAsJsonObject().getString("somePayloadField"), is("payloadValue456"));
+    }
+
+    @Test
+    public void shouldCreateTheEventStreamWhenAppendingAllEventsToANewStream() throws Exception {
+
+        final UUID streamId = randomUUID();
+
+        final JsonEnvelope event = envelopeFrom(
+                metadataBuilder()
+                        .withName("name123")
+                        .withId(randomUUID()),
+                getJsonBuilderFactory().createObjectBuilder());
+
+        eventAppender.appendAll(List.of(event, event), streamId, 1L, DEFAULT_EVENT_SOURCE_NAME);
+
+        verify(eventRepository).createEventStream(streamId);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenStoreEventsRequestFails() throws Exception {
+        doThrow(StoreEventRequestFailedException.class).when(eventRepository).storeEvents(any());
+
+        final JsonEnvelope jsonEnvelope = envelopeFrom(
+                metadataBuilder()
+                        .withName("name123")
+                        .withId(randomUUID()),
+                getJsonBuilderFactory().createObjectBuilder());
+
+        assertThrows(EventStreamException.class, () -> eventAppender.appendAll(List.of(jsonEnvelope), randomUUID(), 2L, DEFAULT_EVENT_SOURCE_NAME));
+    }
 }
@@ -1,6 +1,6 @@
 package uk.gov.justice.subscription;
 
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import uk.gov.justice.subscription.domain.subscriptiondescriptor.Event;
 import uk.gov.justice.subscription.domain.subscriptiondescriptor.Subscription;
@@ -35,7 +35,11 @@ public class SubscriptionEventNamesProvider {
         return getAcceptedEventNames(source, component).contains(eventName);
     }
 
-    private Set<String> getAcceptedEventNames(final String source, final String component) {
+    /**
+     * @return the names of the events the component subscribes to from the source, or an empty Set
+     * if it has no subscription to the source
+     */
+    public Set<String> getAcceptedEventNames(final String source, final String component) {
         return eventNameMap.getOrDefault(new SourceComponentPair(source, component), Set.of());
     }
 
@@ -52,7 +56,7 @@ public class SubscriptionEventNamesProvider {
 
                 final Set<String> eventNames = subscription.getEvents().stream()
                         .map(Event::getName)
-                        .collect(toSet());
+                        .collect(toUnmodifiableSet());
 
                 eventNameMap.put(key, eventNames);
             }
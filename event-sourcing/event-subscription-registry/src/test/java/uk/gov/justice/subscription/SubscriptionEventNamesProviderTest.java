@@ -14,6 +14,8 @@ import uk.gov.justice.subscription.domain.subscriptiondescriptor.Subscription;
 import uk.gov.justice.subscription.domain.subscriptiondescriptor.SubscriptionsDescriptor;
 import uk.gov.justice.subscription.registry.SubscriptionsDescriptorsRegistry;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -95,6 +97,30 @@ public class SubscriptionEventNamesProviderTest {
         assertThat(subscriptionEventNamesProvider.accepts("example.recipe-added", "unknown-source", "UNKNOWN_COMPONENT"), is(false));
     }
 
+    @Test
+    public void shouldGetTheAcceptedEventNamesOfSourceAndComponent() {
+
+        final String source = "example";
+        final String component = "EVENT_LISTENER";
+
+        final Event event1 = new Event("example.recipe-added", "http://example.com/schema1");
+        final Event event2 = new Event("example.recipe-deleted", "http://example.com/schema2");
+
+        final Subscription subscription = mock(Subscription.class);
+        final SubscriptionsDescriptor descriptor = mock(SubscriptionsDescriptor.class);
+
+        when(subscriptionsDescriptorsRegistry.getAll()).thenReturn(singletonList(descriptor));
+        when(descriptor.getServiceComponent()).thenReturn(component);
+        when(descriptor.getSubscriptions()).thenReturn(singletonList(subscription));
+        when(subscription.getEventSourceName()).thenReturn(source);
+        when(subscription.getEvents()).thenReturn(asList(event1, event2));
+
+        subscriptionEventNamesProvider.init();
+
+        assertThat(subscriptionEventNamesProvider.getAcceptedEventNames(source, component), is(Set.of("example.recipe-added", "example.recipe-deleted")));
+        assertThat(subscriptionEventNamesProvider.getAcceptedEventNames("unknown-source", component), is(Set.of()));
+    }
+
     @Test
     public void shouldBuildEventNameMapOnceAtInitialisation() {
 
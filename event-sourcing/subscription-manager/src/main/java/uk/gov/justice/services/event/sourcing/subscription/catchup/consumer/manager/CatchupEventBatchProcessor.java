@@ -0,0 +1,10 @@
+package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager;
+
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
+
+import java.util.List;
+
+public interface CatchupEventBatchProcessor {
+
+    int processBatchWithEventBuffer(final List<LinkedEvent> events, final String subscriptionName);
+}
@@ -0,0 +1,87 @@
+package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.BATCH_SIZE_TAG;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_EVENTS_CONSUMED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_EVENTS_IN_PROCESS_GAUGE_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_STREAMS_IN_PROGRESS_GAUGE_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_STREAM_QUEUE_DEPTH_SUMMARY_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_TRANSACTION_TIMER_NAME;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Catchup metrics: how many events have been consumed, how many are queued or being processed,
+ * how many streams are being consumed, how deep each stream's queue is when an event is added and
+ * how long each transaction of events takes, tagged by the number of events in it, so that the
+ * throughput of each transaction batch size can be compared. The timer of each batch size is
+ * registered on first use and then reused.
+ */
+@ApplicationScoped
+public class CatchupMetrics {
+
+    @Inject
+    private EventsInProcessCounterProvider eventsInProcessCounterProvider;
+
+    @Inject
+    private EventStreamsInProgressList eventStreamsInProgressList;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private final Map<Integer, Timer> transactionTimers = new ConcurrentHashMap<>();
+
+    private Counter eventsConsumedCounter;
+    private DistributionSummary streamQueueDepthSummary;
+
+    @PostConstruct
+    public void registerMeters() {
+        eventsConsumedCounter = Counter.builder(CATCHUP_EVENTS_CONSUMED_COUNTER_NAME)
+                .description("Number of events consumed by catchup")
+                .register(meterRegistry);
+
+        streamQueueDepthSummary = DistributionSummary.builder(CATCHUP_STREAM_QUEUE_DEPTH_SUMMARY_NAME)
+                .description("Number of events queued on a stream when a catchup event is added to it")
+                .register(meterRegistry);
+
+        Gauge.builder(CATCHUP_EVENTS_IN_PROCESS_GAUGE_NAME, eventsInProcessCounterProvider, provider -> provider.getInstance().getEventsInProcessCount())
+                .description("Number of catchup events queued or being processed")
+                .register(meterRegistry);
+
+        Gauge.builder(CATCHUP_STREAMS_IN_PROGRESS_GAUGE_NAME, eventStreamsInProgressList, EventStreamsInProgressList::size)
+                .description("Number of streams being consumed by catchup")
+                .register(meterRegistry);
+    }
+
+    public void eventConsumed() {
+        eventsConsumedCounter.increment();
+    }
+
+    public void eventQueued(final int streamQueueDepth) {
+        streamQueueDepthSummary.record(streamQueueDepth);
+    }
+
+    public void transactionProcessed(final int numberOfEvents, final long durationNanos) {
+        transactionTimers
+                .computeIfAbsent(numberOfEvents, this::registerTransactionTimer)
+                .record(durationNanos, NANOSECONDS);
+    }
+
+    private Timer registerTransactionTimer(final int numberOfEvents) {
+        return Timer.builder(CATCHUP_TRANSACTION_TIMER_NAME)
+                .description("Time taken to process catchup events in one transaction, by the number of events in it")
+                .tag(BATCH_SIZE_TAG, String.valueOf(numberOfEvents))
+                .register(meterRegistry);
+    }
+}
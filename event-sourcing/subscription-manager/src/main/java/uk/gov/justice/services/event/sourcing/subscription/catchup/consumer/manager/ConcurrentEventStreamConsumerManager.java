@@ -8,8 +8,9 @@ import uk.gov.justice.services.eventstore.management.commands.CatchupCommand;
 
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -18,16 +19,17 @@ import javax.inject.Singleton;
  * A concurrent implementation of EventStreamConsumerManager and EventStreamConsumerListener.
  * <p>
  * This uses the ManagedExecutorService for concurrency and Queues events according to the Stream
- * Id.
+ * Id. Each stream has its own bounded Queue, consumed in order by at most one
+ * ConsumeEventQueueTask at a time.
  * <p>
- * When the add method is called
+ * No global lock is taken: the total number of events in process is limited by the
+ * EventsInProcessCounter, and a stream's Queue is claimed for consumption by adding it to the
+ * EventStreamsInProgressList.
  */
 @Singleton
 public class ConcurrentEventStreamConsumerManager implements EventStreamConsumerManager, EventStreamConsumptionResolver {
 
-    private static final Object EXCLUSIVE_LOCK = new Object();
-
-    private final ConcurrentHashMap<UUID, Queue<LinkedEvent>> allEventStreams = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, BlockingQueue<LinkedEvent>> allEventStreams = new ConcurrentHashMap<>();
 
     @Inject
     private EventsInProcessCounterProvider eventsInProcessCounterProvider;
@@ -38,13 +40,20 @@ public class ConcurrentEventStreamConsumerManager implements EventStreamConsumer
     @Inject
     private ConsumeEventQueueTaskManager consumeEventQueueTaskManager;
 
+    @Inject
+    private EventQueueProcessingConfig eventQueueProcessingConfig;
+
+    @Inject
+    private CatchupMetrics catchupMetrics;
+
     /**
-     * A ConcurrentLinkedQueue is created for each Stream Id and added to a ConcurrentHashMap.  An
-     * event is added to the Queue for a Stream Id.
+     * A bounded LinkedBlockingQueue is created for each Stream Id and added to a
+     * ConcurrentHashMap.  An event is added to the Queue for a Stream Id, blocking while the
+     * maximum number of events are in process or the Queue of the stream is full.
      * <p>
-     * If the Queue is not currently being processed a new ConsumeEventQueueTask is created and
-     * submitted to the ManagedExecutorService.  The Queue is then added to the
-     * eventStreamsInProgress Queue.
+     * If the Queue is not currently being processed it is claimed by adding it to the
+     * eventStreamsInProgress and a new ConsumeEventQueueTask is created and submitted to the
+     * ManagedExecutorService.
      * <p>
      * If the Queue is currently being processed no further action is taken, as the event will be
      * processed by the current ConsumeEventQueueTask.
@@ -62,28 +71,21 @@ public class ConcurrentEventStreamConsumerManager implements EventStreamConsumer
 
         final UUID streamId = linkedEvent.getStreamId();
 
-        final Queue<LinkedEvent> events = allEventStreams.computeIfAbsent(streamId, id -> new ConcurrentLinkedQueue<>());
-
-        final EventsInProcessCounter eventsInProcessCounter = eventsInProcessCounterProvider.getInstance();
-
-        synchronized (EXCLUSIVE_LOCK) {
+        final BlockingQueue<LinkedEvent> events = allEventStreams.computeIfAbsent(
+                streamId,
+                id -> new LinkedBlockingQueue<>(eventQueueProcessingConfig.getMaxEventsInProcessPerStream()));
 
-            while (eventsInProcessCounter.maxNumberOfEventsInProcess()) {
-                try {
-                    EXCLUSIVE_LOCK.wait();
-                } catch (final InterruptedException e) {
-                    currentThread().interrupt();
-                    break;
-                }
-            }
-
-            events.offer(linkedEvent);
+        eventsInProcessCounterProvider.getInstance().incrementEventsInProcessCount();
 
-            if (notInProgress(events)) {
-                createAndSubmitTaskFor(events, subscriptionName, catchupCommand, commandId);
-            }
+        putUninterruptibly(events, linkedEvent);
+        catchupMetrics.eventQueued(events.size());
 
-            eventsInProcessCounter.incrementEventsInProcessCount();
+        if (eventStreamsInProgressList.add(events)) {
+            consumeEventQueueTaskManager.consume(
+                    events,
+                    subscriptionName,
+                    catchupCommand,
+                    commandId);
         }
 
         return 1;
@@ -91,24 +93,27 @@ public class ConcurrentEventStreamConsumerManager implements EventStreamConsumer
 
     /**
      * When a ConsumeEventQueueTask has finished consuming an event Queue, the event Queue is
-     * removed from the eventStreamsInProgress Queue
+     * removed from the eventStreamsInProgress.
+     * <p>
+     * An event added after the Queue was found empty but before it was removed would otherwise
+     * not be consumed, so the Queue is checked again once removed. If it is no longer empty and
+     * has not already been claimed by a new ConsumeEventQueueTask, it is claimed again and the
+     * current task carries on consuming it.
      *
      * @param finishedProcessingMessage - the message containing the Queue that has been consumed.
      */
     @Override
     public boolean isEventConsumptionComplete(final FinishedProcessingMessage finishedProcessingMessage) {
 
-        synchronized (EXCLUSIVE_LOCK) {
-            final Queue<LinkedEvent> finishedProcessingMessageQueue = finishedProcessingMessage.getQueue();
+        final Queue<LinkedEvent> finishedProcessingMessageQueue = finishedProcessingMessage.getQueue();
 
-            final boolean finishedProcessingMessageQueueEmpty = finishedProcessingMessageQueue.isEmpty();
+        if (!finishedProcessingMessageQueue.isEmpty()) {
+            return false;
+        }
 
-            if (finishedProcessingMessageQueueEmpty) {
-                eventStreamsInProgressList.remove(finishedProcessingMessageQueue);
-            }
+        eventStreamsInProgressList.remove(finishedProcessingMessageQueue);
 
-            return finishedProcessingMessageQueueEmpty;
-        }
+        return finishedProcessingMessageQueue.isEmpty() || !eventStreamsInProgressList.add(finishedProcessingMessageQueue);
     }
 
     @Override
@@ -118,41 +123,29 @@ public class ConcurrentEventStreamConsumerManager implements EventStreamConsumer
 
     @Override
     public void decrementEventsInProcessCount() {
-
-        final EventsInProcessCounter eventsInProcessCounter = eventsInProcessCounterProvider.getInstance();
-
-        synchronized (EXCLUSIVE_LOCK) {
-            eventsInProcessCounter.decrementEventsInProcessCount();
-            EXCLUSIVE_LOCK.notify();
-        }
+        eventsInProcessCounterProvider.getInstance().decrementEventsInProcessCount();
+        catchupMetrics.eventConsumed();
     }
 
     @Override
     public void decrementEventsInProcessCountBy(final int count) {
-        final EventsInProcessCounter eventsInProcessCounter = eventsInProcessCounterProvider.getInstance();
-
-        synchronized (EXCLUSIVE_LOCK) {
-            eventsInProcessCounter.decrementEventsInProcessCountBy(count);
-            EXCLUSIVE_LOCK.notify();
-        }
+        eventsInProcessCounterProvider.getInstance().decrementEventsInProcessCountBy(count);
     }
 
-    private boolean notInProgress(final Queue<LinkedEvent> eventStream) {
-        return !eventStreamsInProgressList.contains(eventStream);
-    }
+    private void putUninterruptibly(final BlockingQueue<LinkedEvent> events, final LinkedEvent linkedEvent) {
 
-    private void createAndSubmitTaskFor(
-            final Queue<LinkedEvent> eventStream,
-            final String subscriptionName,
-            final CatchupCommand catchupCommand,
-            final UUID commandId) {
-
-        eventStreamsInProgressList.add(eventStream);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                events.put(linkedEvent);
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
 
-        consumeEventQueueTaskManager.consume(
-                eventStream,
-                subscriptionName,
-                catchupCommand,
-                commandId);
+        if (interrupted) {
+            currentThread().interrupt();
+        }
     }
 }
@@ -3,6 +3,8 @@ package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.man
 import static java.lang.Integer.parseInt;
 
 import uk.gov.justice.services.common.configuration.GlobalValue;
+import uk.gov.justice.services.common.configuration.errors.event.EventErrorHandlingConfiguration;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
 
 import javax.annotation.Priority;
 import javax.enterprise.inject.Alternative;
@@ -16,8 +18,55 @@ public class DefaultEventQueueProcessingConfig implements EventQueueProcessingCo
     @GlobalValue(key = "catchup.event.processing.max.total.events.in.process", defaultValue = "100000")
     private String maxTotalEventsInProcess;
 
+    @Inject
+    @GlobalValue(key = "catchup.event.processing.max.events.in.process.per.stream", defaultValue = "10000")
+    private String maxEventsInProcessPerStream;
+
+    @Inject
+    @GlobalValue(key = "catchup.event.processing.worker.executor", defaultValue = "managed")
+    private String workerExecutorType;
+
+    @Inject
+    @GlobalValue(key = "catchup.event.processing.virtual.thread.max.concurrent.tasks", defaultValue = "200")
+    private String maxConcurrentVirtualTasks;
+
+    @Inject
+    @GlobalValue(key = "catchup.event.processing.transaction.batch.size", defaultValue = "1")
+    private String transactionBatchSize;
+
+    @Inject
+    private EventErrorHandlingConfiguration eventErrorHandlingConfiguration;
+
     @Override
     public int getMaxTotalEventsInProcess() {
         return parseInt(maxTotalEventsInProcess);
     }
+
+    @Override
+    public int getMaxEventsInProcessPerStream() {
+        return parseInt(maxEventsInProcessPerStream);
+    }
+
+    @Override
+    public WorkerExecutorType getWorkerExecutorType() {
+        return WorkerExecutorType.valueOf(workerExecutorType.trim().toUpperCase());
+    }
+
+    @Override
+    public int getMaxConcurrentVirtualTasks() {
+        return parseInt(maxConcurrentVirtualTasks);
+    }
+
+    /**
+     * @return the most consecutive events of a stream to process in one transaction. Always 1 when
+     * event stream self-healing is enabled, as its processor runs each event in its own transactions
+     */
+    @Override
+    public int getTransactionBatchSize() {
+        if (eventErrorHandlingConfiguration.isEventStreamSelfHealingEnabled()) {
+            return 1;
+        }
+
+        return parseInt(transactionBatchSize);
+    }
 }
@@ -7,6 +7,8 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventConverte
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 
@@ -24,4 +26,20 @@ public class DefaultTransactionalEventProcessor {
         catchupEventBufferProcessor.processWithEventBuffer(eventEnvelope, subscriptionName);
         return 1;
     }
+
+    /**
+     * Processes consecutive events of one stream in a single transaction, so that they are
+     * committed, or rolled back, together.
+     *
+     * @return the number of events processed
+     */
+    @Transactional(value = REQUIRES_NEW, rollbackOn = Exception.class)
+    public int processBatchWithEventBuffer(final List<LinkedEvent> linkedEvents, final String subscriptionName) {
+        for (final LinkedEvent linkedEvent : linkedEvents) {
+            final JsonEnvelope eventEnvelope = eventConverter.envelopeOf(linkedEvent);
+            catchupEventBufferProcessor.processWithEventBuffer(eventEnvelope, subscriptionName);
+        }
+
+        return linkedEvents.size();
+    }
 }
@@ -1,5 +1,15 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager;
 
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
+
 public interface EventQueueProcessingConfig {
     int getMaxTotalEventsInProcess();
+
+    int getMaxEventsInProcessPerStream();
+
+    WorkerExecutorType getWorkerExecutorType();
+
+    int getMaxConcurrentVirtualTasks();
+
+    int getTransactionBatchSize();
 }
@@ -4,54 +4,74 @@ import static java.lang.Thread.currentThread;
 
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
-public class EventStreamsInProgressList {
+import javax.enterprise.context.ApplicationScoped;
 
-    private static final Object EXCLUSIVE_LOCK = new Object();
+/**
+ * The event stream Queues currently claimed by a ConsumeEventQueueTask. Adding, removing and
+ * checking a Queue take constant time and do not lock; only waiting for all streams to finish
+ * does. A Lock rather than a monitor is used, so a virtual thread waiting on it does not pin its
+ * carrier thread.
+ */
+@ApplicationScoped
+public class EventStreamsInProgressList {
 
-    private final List<Queue<LinkedEvent>> eventStreamsInProgress = new LinkedList<>();
+    private final Lock emptyLock = new ReentrantLock();
+    private final Condition emptyCondition = emptyLock.newCondition();
 
-    public void add(final Queue<LinkedEvent> eventStream) {
+    private final Set<Queue<LinkedEvent>> eventStreamsInProgress = ConcurrentHashMap.newKeySet();
 
-        synchronized (EXCLUSIVE_LOCK) {
-            eventStreamsInProgress.add(eventStream);
-            EXCLUSIVE_LOCK.notify();
-        }
+    /**
+     * @param eventStream the Queue of the stream
+     * @return true if the Queue was claimed by this call, false if it was already in progress
+     */
+    public boolean add(final Queue<LinkedEvent> eventStream) {
+        return eventStreamsInProgress.add(eventStream);
     }
 
     public void remove(final Queue<LinkedEvent> eventStream) {
-        synchronized (EXCLUSIVE_LOCK) {
-            eventStreamsInProgress.remove(eventStream);
-            EXCLUSIVE_LOCK.notify();
+        if (eventStreamsInProgress.remove(eventStream) && eventStreamsInProgress.isEmpty()) {
+            emptyLock.lock();
+            try {
+                emptyCondition.signalAll();
+            } finally {
+                emptyLock.unlock();
+            }
         }
     }
 
     public boolean isEmpty() {
-        synchronized (EXCLUSIVE_LOCK) {
-            return eventStreamsInProgress.isEmpty();
-        }
+        return eventStreamsInProgress.isEmpty();
+    }
+
+    public int size() {
+        return eventStreamsInProgress.size();
     }
 
     public void blockUntilEmpty() {
 
-        synchronized (EXCLUSIVE_LOCK) {
+        emptyLock.lock();
+        try {
             while (!eventStreamsInProgress.isEmpty()) {
                 try {
-                    EXCLUSIVE_LOCK.wait();
+                    emptyCondition.await();
                 } catch (final InterruptedException e) {
                     currentThread().interrupt();
                     break;
                 }
             }
+        } finally {
+            emptyLock.unlock();
         }
     }
 
     public boolean contains(final Queue<LinkedEvent> eventStream) {
-        synchronized (EXCLUSIVE_LOCK) {
-            return eventStreamsInProgress.contains(eventStream);
-        }
+        return eventStreamsInProgress.contains(eventStream);
     }
 }
@@ -1,29 +1,44 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Limits the total number of catchup events queued or being processed. Each event in process holds
+ * a permit, so adding an event blocks until an earlier event has been processed.
+ */
 public class EventsInProcessCounter {
 
     private final int maxTotalEventsInProcess;
-    private AtomicInteger eventInProcessCount = new AtomicInteger(0);
+    private final Semaphore eventsInProcessPermits;
 
     public EventsInProcessCounter(final int maxTotalEventsInProcess) {
         this.maxTotalEventsInProcess = maxTotalEventsInProcess;
+        this.eventsInProcessPermits = new Semaphore(maxTotalEventsInProcess);
     }
 
-    public synchronized void incrementEventsInProcessCount() {
-        eventInProcessCount.incrementAndGet();
+    /**
+     * Blocks until fewer than the maximum number of events are in process, then counts one more.
+     * Not interruptible, as every event counted here is later decremented once processed.
+     */
+    public void incrementEventsInProcessCount() {
+        eventsInProcessPermits.acquireUninterruptibly();
     }
 
-    public synchronized void decrementEventsInProcessCount() {
-        eventInProcessCount.decrementAndGet();
+    public void decrementEventsInProcessCount() {
+        eventsInProcessPermits.release();
     }
 
-    public synchronized void decrementEventsInProcessCountBy(final int count) {
-        eventInProcessCount.addAndGet(count * -1);
+    public void decrementEventsInProcessCountBy(final int count) {
+        if (count > 0) {
+            eventsInProcessPermits.release(count);
+        }
     }
 
-    public synchronized boolean maxNumberOfEventsInProcess() {
-        return eventInProcessCount.get() >= maxTotalEventsInProcess;
+    public boolean maxNumberOfEventsInProcess() {
+        return eventsInProcessPermits.availablePermits() <= 0;
+    }
+
+    public int getEventsInProcessCount() {
+        return maxTotalEventsInProcess - eventsInProcessPermits.availablePermits();
     }
 }
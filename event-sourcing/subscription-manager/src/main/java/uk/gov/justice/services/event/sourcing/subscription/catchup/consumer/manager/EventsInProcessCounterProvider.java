@@ -2,8 +2,10 @@ package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.man
 
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+@ApplicationScoped
 public class EventsInProcessCounterProvider {
 
     @Inject
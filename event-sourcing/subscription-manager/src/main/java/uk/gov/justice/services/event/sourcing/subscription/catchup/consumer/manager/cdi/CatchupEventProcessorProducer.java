@@ -1,6 +1,7 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.cdi;
 
 import uk.gov.justice.services.common.configuration.errors.event.EventErrorHandlingConfiguration;
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventBatchProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.DefaultTransactionalEventProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.NewSubscriptionAwareEventProcessor;
@@ -29,7 +30,9 @@ public class CatchupEventProcessorProducer {
             return defaultTransactionalEventProcessor::processWithEventBuffer;
         }
     }
-}
-
-
 
+    @Produces
+    public CatchupEventBatchProcessor transactionalEventBatchProcessor() {
+        return defaultTransactionalEventProcessor::processBatchWithEventBuffer;
+    }
+}
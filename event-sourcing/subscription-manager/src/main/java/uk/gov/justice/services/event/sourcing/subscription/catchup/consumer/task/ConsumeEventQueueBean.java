@@ -52,10 +52,18 @@ public class ConsumeEventQueueBean {
                         subscriptionName,
                         catchupCommand);
             } catch (final Exception e) {
-                eventStreamConsumptionResolver.decrementEventsInProcessCountBy(events.size());
-                events.clear();
+                eventStreamConsumptionResolver.decrementEventsInProcessCountBy(clear(events));
                 eventProcessingFailedHandler.handleStreamFailure(e, subscriptionName, catchupCommand, commandId);
             }
         }
     }
+
+    private int clear(final Queue<LinkedEvent> events) {
+        int cleared = 0;
+        while (events.poll() != null) {
+            cleared++;
+        }
+
+        return cleared;
+    }
 }
@@ -1,19 +1,24 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.task;
 
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventQueueProcessingConfig;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutor;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventstore.management.commands.CatchupCommand;
 
 import java.util.Queue;
 import java.util.UUID;
 
-import javax.annotation.Resource;
-import javax.enterprise.concurrent.ManagedExecutorService;
 import javax.inject.Inject;
 
 public class ConsumeEventQueueTaskManager {
 
-    @Resource
-    private ManagedExecutorService managedExecutorService;
+    static final String CATCHUP_WORKER = "catchup";
+
+    @Inject
+    private WorkerExecutor workerExecutor;
+
+    @Inject
+    private EventQueueProcessingConfig eventQueueProcessingConfig;
 
     @Inject
     private ConsumeEventQueueTaskFactory consumeEventQueueTaskFactory;
@@ -32,6 +37,10 @@ public class ConsumeEventQueueTaskManager {
                 commandId
         );
 
-        managedExecutorService.execute(consumeEventQueueTask);
+        workerExecutor.execute(
+                CATCHUP_WORKER,
+                eventQueueProcessingConfig.getWorkerExecutorType(),
+                eventQueueProcessingConfig.getMaxConcurrentVirtualTasks(),
+                consumeEventQueueTask);
     }
 }
@@ -1,21 +1,37 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.task;
 
+import static java.lang.Math.max;
+import static java.lang.String.format;
+
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventBatchProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventProcessor;
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupMetrics;
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventQueueProcessingConfig;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventStreamConsumptionResolver;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.FinishedProcessingMessage;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventstore.management.commands.CatchupCommand;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
 
 import javax.inject.Inject;
 
+import org.slf4j.Logger;
+
 public class EventQueueConsumer {
 
     @Inject
     private CatchupEventProcessor catchupEventProcessor;
 
+    @Inject
+    private CatchupEventBatchProcessor catchupEventBatchProcessor;
+
+    @Inject
+    private EventQueueProcessingConfig eventQueueProcessingConfig;
+
     @Inject
     private EventStreamConsumptionResolver eventStreamConsumptionResolver;
 
@@ -25,25 +41,75 @@ public class EventQueueConsumer {
     @Inject
     private EventProcessingFailedHandler eventProcessingFailedHandler;
 
+    @Inject
+    private CatchupMetrics catchupMetrics;
+
+    @Inject
+    private Logger logger;
+
+    /**
+     * Processes the queued events of a stream, up to 'transaction batch size' consecutive events
+     * at a time in one transaction. If a batch fails its transaction is rolled back and its events
+     * are processed again one per transaction, so that only the failing event is reported.
+     */
     public boolean consumeEventQueue(
             final UUID commandId,
             final Queue<LinkedEvent> events,
             final String subscriptionName,
             final CatchupCommand catchupCommand) {
 
+        final int transactionBatchSize = max(1, eventQueueProcessingConfig.getTransactionBatchSize());
+
         while (!events.isEmpty()) {
 
-            final LinkedEvent linkedEvent = events.poll();
-            try {
-                final LinkedEvent linkedEventWithUpdatedMetadata = linkedEventMetadataUpdater.addEventNumbersToMetadataOf(linkedEvent);
-                catchupEventProcessor.processWithEventBuffer(linkedEventWithUpdatedMetadata, subscriptionName);
-            } catch (final Exception e) {
-                eventProcessingFailedHandler.handleEventFailure(e, linkedEvent, subscriptionName, catchupCommand, commandId);
-            } finally {
-                eventStreamConsumptionResolver.decrementEventsInProcessCount();
+            final List<LinkedEvent> batch = pollBatch(events, transactionBatchSize);
+            if (batch.size() == 1 || !processBatch(batch, subscriptionName)) {
+                batch.forEach(linkedEvent -> process(commandId, linkedEvent, subscriptionName, catchupCommand));
             }
         }
 
         return eventStreamConsumptionResolver.isEventConsumptionComplete(new FinishedProcessingMessage(events));
     }
+
+    private List<LinkedEvent> pollBatch(final Queue<LinkedEvent> events, final int transactionBatchSize) {
+        final List<LinkedEvent> batch = new ArrayList<>();
+
+        LinkedEvent linkedEvent;
+        while (batch.size() < transactionBatchSize && (linkedEvent = events.poll()) != null) {
+            batch.add(linkedEvent);
+        }
+
+        return batch;
+    }
+
+    private boolean processBatch(final List<LinkedEvent> batch, final String subscriptionName) {
+        final long start = System.nanoTime();
+        try {
+            final List<LinkedEvent> linkedEventsWithUpdatedMetadata = batch.stream()
+                    .map(linkedEventMetadataUpdater::addEventNumbersToMetadataOf)
+                    .toList();
+
+            catchupEventBatchProcessor.processBatchWithEventBuffer(linkedEventsWithUpdatedMetadata, subscriptionName);
+        } catch (final Exception e) {
+            logger.warn(format("Failed to process batch of %d events of stream '%s' in one transaction. Processing them one at a time", batch.size(), batch.get(0).getStreamId()), e);
+            return false;
+        }
+
+        catchupMetrics.transactionProcessed(batch.size(), System.nanoTime() - start);
+        batch.forEach(linkedEvent -> eventStreamConsumptionResolver.decrementEventsInProcessCount());
+        return true;
+    }
+
+    private void process(final UUID commandId, final LinkedEvent linkedEvent, final String subscriptionName, final CatchupCommand catchupCommand) {
+        try {
+            final long start = System.nanoTime();
+            final LinkedEvent linkedEventWithUpdatedMetadata = linkedEventMetadataUpdater.addEventNumbersToMetadataOf(linkedEvent);
+            catchupEventProcessor.processWithEventBuffer(linkedEventWithUpdatedMetadata, subscriptionName);
+            catchupMetrics.transactionProcessed(1, System.nanoTime() - start);
+        } catch (final Exception e) {
+            eventProcessingFailedHandler.handleEventFailure(e, linkedEvent, subscriptionName, catchupCommand, commandId);
+        } finally {
+            eventStreamConsumptionResolver.decrementEventsInProcessCount();
+        }
+    }
 }
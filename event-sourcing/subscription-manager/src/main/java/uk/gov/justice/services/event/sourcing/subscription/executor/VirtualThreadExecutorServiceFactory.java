@@ -0,0 +1,23 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates a virtual thread per task ExecutorService when running on a JVM that has virtual
+ * threads. Looked up reflectively, as the code is still compiled for JVMs without them.
+ */
+public class VirtualThreadExecutorServiceFactory {
+
+    private static final String NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+
+    public Optional<ExecutorService> create() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR).invoke(null));
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return Optional.empty();
+        }
+    }
+}
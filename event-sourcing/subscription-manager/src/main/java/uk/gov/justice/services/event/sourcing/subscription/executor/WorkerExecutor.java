@@ -0,0 +1,167 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.MANAGED;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.VIRTUAL;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ContextService;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+/**
+ * Runs stream processing and catchup worker tasks, either on the container
+ * ManagedExecutorService or on virtual threads. See {@link WorkerExecutorType}.
+ *
+ * Virtual thread tasks are wrapped in a contextual proxy of the ContextService, so they run with
+ * the container context of the submitting thread. The number of virtual thread tasks of each
+ * worker in flight at once is limited by a Semaphore, whose permit is taken on the submitting
+ * thread before the virtual thread is started, so that no virtual threads are left waiting for a
+ * permit. {@link #tryExecute} does not run a task over the limit; {@link #execute} waits for a
+ * permit on the submitting thread.
+ */
+@ApplicationScoped
+public class WorkerExecutor {
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    @Resource
+    private ContextService contextService;
+
+    @Inject
+    private VirtualThreadExecutorServiceFactory virtualThreadExecutorServiceFactory;
+
+    @Inject
+    private WorkerExecutorMetrics workerExecutorMetrics;
+
+    @Inject
+    private Logger logger;
+
+    private final ConcurrentHashMap<String, Semaphore> virtualTaskPermits = new ConcurrentHashMap<>();
+    private final AtomicBoolean virtualThreadsUnavailableLogged = new AtomicBoolean(false);
+
+    private Optional<ExecutorService> virtualThreadExecutorService = Optional.empty();
+
+    @PostConstruct
+    public void createVirtualThreadExecutor() {
+        virtualThreadExecutorService = virtualThreadExecutorServiceFactory.create();
+    }
+
+    @PreDestroy
+    public void shutdownVirtualThreadExecutor() {
+        virtualThreadExecutorService.ifPresent(ExecutorService::shutdown);
+    }
+
+    /**
+     * Runs the task asynchronously, waiting on the calling thread while the worker already has the
+     * maximum number of virtual thread tasks in flight
+     *
+     * @param workerName                the name of the worker, used to tag metrics and to share
+     *                                  the virtual thread limit between tasks of the same worker
+     * @param workerExecutorType        whether to run the task on the managed executor or a
+     *                                  virtual thread
+     * @param maxConcurrentVirtualTasks the maximum number of virtual thread tasks of the worker to
+     *                                  run at once
+     * @param task                      the task to run
+     */
+    public void execute(
+            final String workerName,
+            final WorkerExecutorType workerExecutorType,
+            final int maxConcurrentVirtualTasks,
+            final Runnable task) {
+
+        if (runsOnVirtualThreads(workerName, workerExecutorType)) {
+            final Semaphore permits = permitsOf(workerName, maxConcurrentVirtualTasks);
+            permits.acquireUninterruptibly();
+            executeOnVirtualThread(workerName, permits, task);
+            return;
+        }
+
+        executeOnManagedExecutor(workerName, task);
+    }
+
+    /**
+     * Runs the task asynchronously unless the worker already has the maximum number of virtual
+     * thread tasks in flight, in which case the task is not run
+     *
+     * @param workerName                the name of the worker, used to tag metrics and to share
+     *                                  the virtual thread limit between tasks of the same worker
+     * @param workerExecutorType        whether to run the task on the managed executor or a
+     *                                  virtual thread
+     * @param maxConcurrentVirtualTasks the maximum number of virtual thread tasks of the worker to
+     *                                  run at once
+     * @param task                      the task to run
+     * @return true if the task was submitted, false if it was not run
+     */
+    public boolean tryExecute(
+            final String workerName,
+            final WorkerExecutorType workerExecutorType,
+            final int maxConcurrentVirtualTasks,
+            final Runnable task) {
+
+        if (runsOnVirtualThreads(workerName, workerExecutorType)) {
+            final Semaphore permits = permitsOf(workerName, maxConcurrentVirtualTasks);
+            if (!permits.tryAcquire()) {
+                return false;
+            }
+            executeOnVirtualThread(workerName, permits, task);
+            return true;
+        }
+
+        executeOnManagedExecutor(workerName, task);
+        return true;
+    }
+
+    private boolean runsOnVirtualThreads(final String workerName, final WorkerExecutorType workerExecutorType) {
+        if (workerExecutorType != VIRTUAL) {
+            return false;
+        }
+
+        if (virtualThreadExecutorService.isPresent()) {
+            return true;
+        }
+
+        if (virtualThreadsUnavailableLogged.compareAndSet(false, true)) {
+            logger.warn("Virtual threads are not available on this JVM, running {} workers on the managed executor", workerName);
+        }
+
+        return false;
+    }
+
+    private Semaphore permitsOf(final String workerName, final int maxConcurrentVirtualTasks) {
+        return virtualTaskPermits.computeIfAbsent(workerName, name -> new Semaphore(maxConcurrentVirtualTasks));
+    }
+
+    private void executeOnVirtualThread(final String workerName, final Semaphore permits, final Runnable task) {
+        try {
+            final Runnable contextualTask = contextService.createContextualProxy(task, Runnable.class);
+            virtualThreadExecutorService.get().execute(() -> runAndReleasePermit(workerName, permits, contextualTask));
+        } catch (final RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void executeOnManagedExecutor(final String workerName, final Runnable task) {
+        managedExecutorService.execute(() -> workerExecutorMetrics.recordTask(workerName, MANAGED, task));
+    }
+
+    private void runAndReleasePermit(final String workerName, final Semaphore permits, final Runnable task) {
+        try {
+            workerExecutorMetrics.recordTask(workerName, VIRTUAL, task);
+        } finally {
+            permits.release();
+        }
+    }
+}
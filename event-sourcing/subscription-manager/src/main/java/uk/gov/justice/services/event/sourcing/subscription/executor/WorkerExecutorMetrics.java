@@ -0,0 +1,43 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+import static java.util.Locale.ROOT;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.EXECUTOR_TAG;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.WORKER_TAG;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.WORKER_TASK_TIMER_NAME;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Worker task metrics, tagged by worker and by executor type, so that the throughput and task
+ * times of the managed and virtual thread executors can be compared. The timer of each worker and
+ * executor type is registered on first use and then reused.
+ */
+@ApplicationScoped
+public class WorkerExecutorMetrics {
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Map<WorkerExecutorType, Timer>> taskTimers = new ConcurrentHashMap<>();
+
+    public void recordTask(final String workerName, final WorkerExecutorType workerExecutorType, final Runnable task) {
+        taskTimers
+                .computeIfAbsent(workerName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(workerExecutorType, type -> registerTaskTimer(workerName, type))
+                .record(task);
+    }
+
+    private Timer registerTaskTimer(final String workerName, final WorkerExecutorType workerExecutorType) {
+        return Timer.builder(WORKER_TASK_TIMER_NAME)
+                .description("Time taken to run a worker task")
+                .tags(WORKER_TAG, workerName, EXECUTOR_TAG, workerExecutorType.name().toLowerCase(ROOT))
+                .register(meterRegistry);
+    }
+}
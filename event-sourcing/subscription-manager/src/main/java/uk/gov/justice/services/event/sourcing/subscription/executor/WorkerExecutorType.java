@@ -0,0 +1,21 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+/**
+ * Which threads a {@link WorkerExecutor} runs worker tasks on, set by the JNDI properties
+ * 'stream.processing.worker.executor' and 'catchup.event.processing.worker.executor'.
+ */
+public enum WorkerExecutorType {
+
+    /**
+     * The container ManagedExecutorService, so the number of workers running at once is limited by
+     * the size of its thread pool.
+     */
+    MANAGED,
+
+    /**
+     * A new virtual thread per task, running with the container context of the thread that
+     * submitted it. The number of workers running at once is limited by a separate configurable
+     * limit instead. Falls back to MANAGED on a JVM without virtual threads.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,52 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+/**
+ * Idle advisory lock connections kept open between events when running with
+ * {@link AdvisoryLockMode#POOLED}. A connection is only handed back once its session advisory
+ * lock has been released, so every connection in here holds no locks. At most one connection
+ * per concurrently running worker is ever kept.
+ */
+@ApplicationScoped
+public class AdvisoryLockConnectionPool {
+
+    private final Deque<Connection> idleConnections = new ConcurrentLinkedDeque<>();
+
+    @Inject
+    private Logger logger;
+
+    public Optional<Connection> borrow() {
+        return Optional.ofNullable(idleConnections.pollFirst());
+    }
+
+    public void release(final Connection connection) {
+        idleConnections.offerFirst(connection);
+    }
+
+    public int idleCount() {
+        return idleConnections.size();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        Connection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            try {
+                connection.close();
+            } catch (final SQLException e) {
+                logger.warn("Failed to close advisory lock connection: {}", e.getMessage());
+            }
+        }
+    }
+}
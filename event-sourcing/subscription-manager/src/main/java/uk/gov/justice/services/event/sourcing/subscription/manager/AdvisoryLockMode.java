@@ -0,0 +1,28 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+/**
+ * How {@link StreamSessionLockManager} takes the advisory lock on a stream, set by the JNDI
+ * property 'stream.processing.advisory.lock.mode'.
+ */
+public enum AdvisoryLockMode {
+
+    /**
+     * Session advisory lock on a connection taken from the viewstore pool for each event and
+     * closed once the lock is released.
+     */
+    SESSION,
+
+    /**
+     * Session advisory lock on a long-lived lock connection, handed back to an idle pool once the
+     * lock is released rather than closed. The connections are taken from the non-JTA datasource
+     * named by 'stream.processing.advisory.lock.pooled.datasource', as a container managed JTA
+     * connection must not be kept beyond the transaction and thread it was taken on.
+     */
+    POOLED,
+
+    /**
+     * Transaction scoped advisory lock taken on the transactional connection, so no extra
+     * connection is used. The lock is released when the transaction commits or rolls back.
+     */
+    TRANSACTION
+}
@@ -0,0 +1,106 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+import uk.gov.justice.services.event.buffer.core.repository.subscription.LockedStreamStatus;
+import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStreamStatusRepository;
+import uk.gov.justice.subscription.SourceComponentPair;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * Node local queue of streams ready to process, per source and component, used when
+ * 'stream.processing.claim.batch.size' is greater than 1.
+ *
+ * Rather than every worker scanning stream_status for the single oldest stream it can lock, the
+ * ids of up to 'claim batch size' streams ready to process are selected with one query and handed
+ * out to workers from memory. Row locks cannot be passed from one transaction to another, so each
+ * worker then locks its stream by primary key in its own transaction, which checks again that the
+ * stream is still ready to process and skips it if locked by another worker or node.
+ */
+@ApplicationScoped
+public class ClaimedStreamQueue {
+
+    private final Map<SourceComponentPair, Queue<UUID>> claimedStreamIds = new ConcurrentHashMap<>();
+    private final Map<SourceComponentPair, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+
+    @Inject
+    private NewStreamStatusRepository newStreamStatusRepository;
+
+    /**
+     * Locks the next claimed stream of the source and component that is still ready to process,
+     * claiming a new batch of streams from stream_status if none are left.
+     *
+     * @return the locked stream, or empty if there are no streams ready to process
+     */
+    public Optional<LockedStreamStatus> lockNextClaimedStream(
+            final String source,
+            final String component,
+            final Integer maxRetries,
+            final int claimBatchSize) {
+
+        final SourceComponentPair sourceComponentPair = new SourceComponentPair(source, component);
+        final Queue<UUID> streamIds = claimedStreamIds.computeIfAbsent(sourceComponentPair, key -> new ConcurrentLinkedQueue<>());
+
+        final Optional<LockedStreamStatus> lockedStreamStatus = lockNextStream(streamIds, source, component, maxRetries);
+        if (lockedStreamStatus.isPresent()) {
+            return lockedStreamStatus;
+        }
+
+        refill(sourceComponentPair, streamIds, maxRetries, claimBatchSize);
+
+        return lockNextStream(streamIds, source, component, maxRetries);
+    }
+
+    public int size(final String source, final String component) {
+        final Queue<UUID> streamIds = claimedStreamIds.get(new SourceComponentPair(source, component));
+        return streamIds == null ? 0 : streamIds.size();
+    }
+
+    private Optional<LockedStreamStatus> lockNextStream(
+            final Queue<UUID> streamIds,
+            final String source,
+            final String component,
+            final Integer maxRetries) {
+
+        UUID streamId;
+        while ((streamId = streamIds.poll()) != null) {
+            final Optional<LockedStreamStatus> lockedStreamStatus = newStreamStatusRepository.lockStreamToProcess(streamId, source, component, maxRetries);
+            if (lockedStreamStatus.isPresent()) {
+                return lockedStreamStatus;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private void refill(
+            final SourceComponentPair sourceComponentPair,
+            final Queue<UUID> streamIds,
+            final Integer maxRetries,
+            final int claimBatchSize) {
+
+        final ReentrantLock refillLock = refillLocks.computeIfAbsent(sourceComponentPair, key -> new ReentrantLock());
+        refillLock.lock();
+        try {
+            if (streamIds.isEmpty()) {
+                final List<UUID> oldestStreamIds = newStreamStatusRepository.findOldestStreamIdsToProcess(
+                        sourceComponentPair.source(),
+                        sourceComponentPair.component(),
+                        maxRetries,
+                        claimBatchSize);
+                streamIds.addAll(oldestStreamIds);
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import uk.gov.justice.services.eventsourcing.source.api.service.core.NextEventRe
 import uk.gov.justice.services.event.sourcing.subscription.error.StreamProcessingException;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -51,6 +52,27 @@ public class NextEventSelector {
                         format("Unable to find next event to process for streamId: '%s', position: %d, latestKnownPosition: %d", streamId, position, latestKnownPosition)));
     }
 
+    /**
+     * Reads up to maxEvents further events of the locked stream after the given position,
+     * no further than the stream's latest known position
+     */
+    public List<JsonEnvelope> selectFollowingEvents(
+            final String source,
+            final LockedStreamStatus lockedStreamStatus,
+            final long afterPosition,
+            final int maxEvents) {
+
+        final UUID streamId = lockedStreamStatus.streamId();
+        final Long latestKnownPosition = lockedStreamStatus.latestKnownPosition();
+
+        try {
+            return nextEventReader.readNextEvents(streamId, afterPosition, latestKnownPosition, maxEvents, source);
+        } catch (final Exception e) {
+            throw new StreamProcessingException(
+                    format("Failed to pull next %d events to process for streamId: '%s', position: %d, latestKnownPosition: %d", maxEvents, streamId, afterPosition, latestKnownPosition), e);
+        }
+    }
+
     public record PulledEvent(JsonEnvelope jsonEnvelope, LockedStreamStatus lockedStreamStatus) {
     }
 }
\ No newline at end of file
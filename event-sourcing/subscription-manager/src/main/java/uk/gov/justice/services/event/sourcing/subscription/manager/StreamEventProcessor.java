@@ -7,6 +7,7 @@ import static uk.gov.justice.services.event.sourcing.subscription.manager.EventP
 
 import uk.gov.justice.services.event.buffer.core.repository.subscription.LockedStreamStatus;
 import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStreamStatusRepository;
+import uk.gov.justice.services.event.buffer.core.repository.subscription.StreamUpdateContext;
 import uk.gov.justice.services.event.sourcing.subscription.error.MissingPositionInStreamException;
 import uk.gov.justice.services.event.sourcing.subscription.error.StreamErrorStatusHandler;
 import uk.gov.justice.services.event.sourcing.subscription.error.StreamProcessingException;
@@ -16,6 +17,8 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.metrics.micrometer.counters.MicrometerMetricsCounters;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -54,6 +57,9 @@ public class StreamEventProcessor {
     @Inject
     private StreamSessionLockManager streamSessionLockManager;
 
+    @Inject
+    private ClaimedStreamQueue claimedStreamQueue;
+
     @Transactional(value = NOT_SUPPORTED)
     public EventProcessingStatus processSingleEvent(final String source, final String component) {
         micrometerMetricsCounters.incrementEventsProcessedCount(source, component);
@@ -71,7 +77,11 @@ public class StreamEventProcessor {
 
         try (final StreamSessionLockManager.StreamSessionLock lock = streamSessionLockManager.lockStream(streamId, source, component)) {
             if (lock.isAcquired()) {
-                processEventFound(pulledEvent.get(), source, component);
+                if (streamProcessingConfig.getPrefetchWindowSize() > 1) {
+                    processEventWindow(pulledEvent.get(), source, component);
+                } else {
+                    processEventFound(pulledEvent.get(), source, component);
+                }
             }else {
                 transactionHandler.rollback();
             }
@@ -107,10 +117,92 @@ public class StreamEventProcessor {
         }
     }
 
+    /**
+     * Processes the pulled event followed by up to 'stream.processing.prefetch.window.size' - 1
+     * further events of the same stream, read with one query, while the session lock on the stream
+     * is held. The stream position is committed every 'stream.processing.prefetch.commit.batch.size'
+     * events; each following transaction locks the stream_status row again so that other workers
+     * skip the stream. Processing of the window stops at the first failure, which is recorded
+     * against the last committed position.
+     */
+    private void processEventWindow(final PulledEvent pulledEvent, final String source, final String component) {
+        final LockedStreamStatus lockedStreamStatus = pulledEvent.lockedStreamStatus();
+        final UUID streamId = lockedStreamStatus.streamId();
+        final int windowSize = streamProcessingConfig.getPrefetchWindowSize();
+        final int commitBatchSize = streamProcessingConfig.getPrefetchCommitBatchSize();
+
+        long committedPosition = lockedStreamStatus.position();
+        Optional<UUID> streamErrorId = lockedStreamStatus.streamErrorId();
+        JsonEnvelope eventJsonEnvelope = pulledEvent.jsonEnvelope();
+        int uncommittedEvents = 0;
+
+        try {
+            final List<JsonEnvelope> window = new ArrayList<>(windowSize);
+            window.add(eventJsonEnvelope);
+            window.addAll(nextEventSelector.selectFollowingEvents(source, lockedStreamStatus, getEventPosition(eventJsonEnvelope), windowSize - 1));
+
+            for (int index = 0; index < window.size(); index++) {
+                eventJsonEnvelope = window.get(index);
+
+                if (index > 0) {
+                    micrometerMetricsCounters.incrementEventsProcessedCount(source, component);
+                    if (uncommittedEvents == 0 && !relockStream(streamId, source, component, committedPosition, getEventPosition(eventJsonEnvelope))) {
+                        return;
+                    }
+                }
+
+                final long eventPosition = processEventInCurrentTransaction(eventJsonEnvelope, lockedStreamStatus, source, component);
+                uncommittedEvents++;
+
+                if (uncommittedEvents == commitBatchSize || index == window.size() - 1) {
+                    streamErrorStatusHandler.onStreamProcessingSuccess(streamId, source, component, streamErrorId);
+                    transactionHandler.commit();
+
+                    committedPosition = eventPosition;
+                    streamErrorId = Optional.empty();
+                    uncommittedEvents = 0;
+                }
+            }
+        } catch (final Exception e) {
+            transactionHandler.rollback();
+            micrometerMetricsCounters.incrementEventsFailedCount(source, component);
+            streamErrorStatusHandler.onStreamProcessingFailure(
+                    eventJsonEnvelope, e, component, committedPosition, streamErrorId);
+        }
+    }
+
+    private boolean relockStream(final UUID streamId, final String source, final String component, final long committedPosition, final long nextEventPosition) {
+        transactionHandler.begin();
+        final StreamUpdateContext streamUpdateContext = newStreamStatusRepository.lockStreamAndGetStreamUpdateContext(streamId, source, component, nextEventPosition);
+        if (streamUpdateContext.currentStreamPosition() != committedPosition) {
+            transactionHandler.rollback();
+            return false;
+        }
+
+        return true;
+    }
+
+    private long processEventInCurrentTransaction(final JsonEnvelope eventJsonEnvelope, final LockedStreamStatus lockedStreamStatus, final String source, final String component) {
+        try {
+            streamEventLoggerMetadataAdder.addRequestDataToMdc(eventJsonEnvelope, component);
+            streamEventValidator.validate(eventJsonEnvelope, source, component);
+
+            componentEventProcessor.process(eventJsonEnvelope, component);
+
+            final long eventPosition = getEventPosition(eventJsonEnvelope);
+            updateStreamPosition(lockedStreamStatus, source, component, eventPosition);
+
+            micrometerMetricsCounters.incrementEventsSucceededCount(source, component);
+
+            return eventPosition;
+        } finally {
+            streamEventLoggerMetadataAdder.clearMdc();
+        }
+    }
+
     private Optional<PulledEvent> selectEvent(final String source, final String component) {
         try {
-            final Optional<LockedStreamStatus> lockedStreamStatusOpt = newStreamStatusRepository
-                    .findOldestStreamToProcessByAcquiringLock(source, component, streamProcessingConfig.getMaxRetries());
+            final Optional<LockedStreamStatus> lockedStreamStatusOpt = lockStreamToProcess(source, component);
             return nextEventSelector.selectNextEvent(source, lockedStreamStatusOpt);
         } catch (final StreamProcessingException e) {
             transactionHandler.rollback();
@@ -122,6 +214,15 @@ public class StreamEventProcessor {
         }
     }
 
+    private Optional<LockedStreamStatus> lockStreamToProcess(final String source, final String component) {
+        final int claimBatchSize = streamProcessingConfig.getStreamClaimBatchSize();
+        if (claimBatchSize > 1) {
+            return claimedStreamQueue.lockNextClaimedStream(source, component, streamProcessingConfig.getMaxRetries(), claimBatchSize);
+        }
+
+        return newStreamStatusRepository.findOldestStreamToProcessByAcquiringLock(source, component, streamProcessingConfig.getMaxRetries());
+    }
+
     private long getEventPosition(final JsonEnvelope eventJsonEnvelope) {
         final Metadata metadata = eventJsonEnvelope.metadata();
         return metadata.position().orElseThrow(() ->
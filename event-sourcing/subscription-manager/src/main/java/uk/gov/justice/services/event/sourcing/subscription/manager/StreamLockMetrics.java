@@ -0,0 +1,82 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.COMPONENT_TAG;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.IDLE_LOCK_CONNECTIONS_GAUGE_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.LOCK_ACQUIRED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.LOCK_ACQUIRE_TIMER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.LOCK_CONTENDED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.SOURCE_TAG;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Advisory lock metrics for stream processing: how long taking the lock on a stream took,
+ * how often it was acquired and how often another worker already held it. The meters of each
+ * source and component are registered on first use and then reused.
+ */
+@ApplicationScoped
+public class StreamLockMetrics {
+
+    @Inject
+    private AdvisoryLockConnectionPool advisoryLockConnectionPool;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    private final Map<SourceComponent, LockMeters> lockMeters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerMeters() {
+        Gauge.builder(IDLE_LOCK_CONNECTIONS_GAUGE_NAME, advisoryLockConnectionPool, AdvisoryLockConnectionPool::idleCount)
+                .description("Number of idle advisory lock connections kept open between events")
+                .register(meterRegistry);
+    }
+
+    public void lockAttempted(final String source, final String component, final boolean acquired, final long durationNanos) {
+        final LockMeters meters = lockMeters.computeIfAbsent(new SourceComponent(source, component), this::registerLockMeters);
+
+        meters.acquireTimer().record(durationNanos, NANOSECONDS);
+
+        if (acquired) {
+            meters.acquiredCounter().increment();
+        } else {
+            meters.contendedCounter().increment();
+        }
+    }
+
+    private LockMeters registerLockMeters(final SourceComponent sourceComponent) {
+        final String source = sourceComponent.source();
+        final String component = sourceComponent.component();
+
+        return new LockMeters(
+                Timer.builder(LOCK_ACQUIRE_TIMER_NAME)
+                        .description("Time taken to try the advisory lock on a stream")
+                        .tags(SOURCE_TAG, source, COMPONENT_TAG, component)
+                        .register(meterRegistry),
+                Counter.builder(LOCK_ACQUIRED_COUNTER_NAME)
+                        .description("Number of times the advisory lock on a stream was acquired")
+                        .tags(SOURCE_TAG, source, COMPONENT_TAG, component)
+                        .register(meterRegistry),
+                Counter.builder(LOCK_CONTENDED_COUNTER_NAME)
+                        .description("Number of times the advisory lock on a stream was already held by another worker")
+                        .tags(SOURCE_TAG, source, COMPONENT_TAG, component)
+                        .register(meterRegistry));
+    }
+
+    private record SourceComponent(String source, String component) {
+    }
+
+    private record LockMeters(Timer acquireTimer, Counter acquiredCounter, Counter contendedCounter) {
+    }
+}
@@ -2,6 +2,8 @@ package uk.gov.justice.services.event.sourcing.subscription.manager;
 
 import static java.lang.String.format;
 
+import uk.gov.justice.services.event.sourcing.subscription.manager.timer.StreamProcessingConfig;
+import uk.gov.justice.services.jdbc.persistence.JdbcDataSourceProvider;
 import uk.gov.justice.services.jdbc.persistence.ViewStoreJdbcDataSourceProvider;
 
 import java.sql.Connection;
@@ -9,9 +11,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.inject.Inject;
+import javax.sql.DataSource;
 
 import org.slf4j.Logger;
 
@@ -19,21 +23,37 @@ public class StreamSessionLockManager {
 
     static final String TRY_SESSION_ADVISORY_LOCK_SQL = "SELECT pg_try_advisory_lock(?, ?)";
     static final String SESSION_ADVISORY_UNLOCK_SQL = "SELECT pg_advisory_unlock(?, ?)";
+    static final String TRY_TRANSACTION_ADVISORY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?, ?)";
 
     @Inject
     private ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider;
 
+    @Inject
+    private JdbcDataSourceProvider jdbcDataSourceProvider;
+
+    @Inject
+    private StreamProcessingConfig streamProcessingConfig;
+
+    @Inject
+    private AdvisoryLockConnectionPool advisoryLockConnectionPool;
+
+    @Inject
+    private StreamLockMetrics streamLockMetrics;
+
     @Inject
     private Logger logger;
 
     public StreamSessionLock lockStream(final UUID streamId, final String source, final String component) {
-        final Connection connection = getAdvisoryConnection();
+        final AdvisoryLockMode advisoryLockMode = streamProcessingConfig.getAdvisoryLockMode();
+        final Connection connection = getAdvisoryConnection(advisoryLockMode);
 
         StreamSessionLock streamSessionLock = null;
         try {
             final int sourceComponentKey = Objects.hash(source, component);
             final int streamKey = (int) streamId.getLeastSignificantBits();
-            streamSessionLock = tryLockStream(connection, sourceComponentKey, streamKey, streamId);
+            final long start = System.nanoTime();
+            streamSessionLock = tryLockStream(connection, advisoryLockMode, sourceComponentKey, streamKey, streamId);
+            streamLockMetrics.lockAttempted(source, component, streamSessionLock.acquired, System.nanoTime() - start);
             if (!streamSessionLock.acquired) {
                 logger.warn("Advisory lock contention detected for stream '{}', source '{}', component '{}'", streamId, source, component);
             }
@@ -48,22 +68,43 @@ public class StreamSessionLockManager {
         }
     }
 
-    private Connection getAdvisoryConnection() {
+    private Connection getAdvisoryConnection(final AdvisoryLockMode advisoryLockMode) {
+        if (advisoryLockMode == AdvisoryLockMode.POOLED) {
+            final Optional<Connection> idleConnection = advisoryLockConnectionPool.borrow();
+            if (idleConnection.isPresent()) {
+                return idleConnection.get();
+            }
+        }
+
         try {
-            return viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
+            return advisoryLockDataSource(advisoryLockMode).getConnection();
         } catch (final SQLException e) {
             throw new StreamSessionLockException("Failed to get advisory lock connection", e);
         }
     }
 
-    private StreamSessionLock tryLockStream(final Connection connection, final int sourceComponentKey, final int streamKey, final UUID streamId) {
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(TRY_SESSION_ADVISORY_LOCK_SQL)) {
+    private DataSource advisoryLockDataSource(final AdvisoryLockMode advisoryLockMode) {
+        if (advisoryLockMode != AdvisoryLockMode.POOLED) {
+            return viewStoreJdbcDataSourceProvider.getDataSource();
+        }
+
+        final String pooledDataSource = streamProcessingConfig.getAdvisoryLockPooledDataSource();
+        if (pooledDataSource.isEmpty()) {
+            throw new StreamSessionLockException("Advisory lock mode 'pooled' needs the JNDI name of a non-JTA viewstore datasource set in 'stream.processing.advisory.lock.pooled.datasource'");
+        }
+
+        return jdbcDataSourceProvider.getDataSource(pooledDataSource);
+    }
+
+    private StreamSessionLock tryLockStream(final Connection connection, final AdvisoryLockMode advisoryLockMode, final int sourceComponentKey, final int streamKey, final UUID streamId) {
+        final String tryLockSql = advisoryLockMode == AdvisoryLockMode.TRANSACTION ? TRY_TRANSACTION_ADVISORY_LOCK_SQL : TRY_SESSION_ADVISORY_LOCK_SQL;
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(tryLockSql)) {
             preparedStatement.setInt(1, sourceComponentKey);
             preparedStatement.setInt(2, streamKey);
 
             try (final ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    return new StreamSessionLock(connection, sourceComponentKey, streamKey, streamId, resultSet.getBoolean(1));
+                    return new StreamSessionLock(connection, advisoryLockMode, sourceComponentKey, streamKey, streamId, resultSet.getBoolean(1));
                 }
                 throw new StreamSessionLockException(format("No result returned when acquiring advisory lock for sourceComponentKey %d, streamKey %d", sourceComponentKey, streamKey));
             }
@@ -72,7 +113,7 @@ public class StreamSessionLockManager {
         }
     }
 
-    private void unlockStream(final Connection connection, final int sourceComponentKey, final int streamKey, final UUID streamId) {
+    private boolean unlockStream(final Connection connection, final int sourceComponentKey, final int streamKey, final UUID streamId) {
         try (final PreparedStatement preparedStatement = connection.prepareStatement(SESSION_ADVISORY_UNLOCK_SQL)) {
             preparedStatement.setInt(1, sourceComponentKey);
             preparedStatement.setInt(2, streamKey);
@@ -86,8 +127,18 @@ public class StreamSessionLockManager {
                     logger.warn("No result returned when releasing advisory lock for stream '{}'", streamId);
                 }
             }
+            return true;
         } catch (final SQLException e) {
             logger.warn("Failed to release advisory lock for stream '{}': {}", streamId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseConnection(final Connection connection, final AdvisoryLockMode advisoryLockMode, final boolean holdsNoLocks) {
+        if (advisoryLockMode == AdvisoryLockMode.POOLED && holdsNoLocks) {
+            advisoryLockConnectionPool.release(connection);
+        } else {
+            closeQuietly(connection);
         }
     }
 
@@ -104,13 +155,15 @@ public class StreamSessionLockManager {
     public class StreamSessionLock implements AutoCloseable {
 
         private final Connection connection;
+        private final AdvisoryLockMode advisoryLockMode;
         private final int sourceComponentKey;
         private final int streamKey;
         private final UUID streamId;
         private final boolean acquired;
 
-        StreamSessionLock(final Connection connection, final int sourceComponentKey, final int streamKey, final UUID streamId, final boolean acquired) {
+        StreamSessionLock(final Connection connection, final AdvisoryLockMode advisoryLockMode, final int sourceComponentKey, final int streamKey, final UUID streamId, final boolean acquired) {
             this.connection = connection;
+            this.advisoryLockMode = advisoryLockMode;
             this.sourceComponentKey = sourceComponentKey;
             this.streamKey = streamKey;
             this.streamId = streamId;
@@ -121,14 +174,19 @@ public class StreamSessionLockManager {
             return acquired;
         }
 
+        /**
+         * Releases a session advisory lock and hands back the lock connection. A transaction scoped
+         * lock is left for the transaction to release.
+         */
         @Override
         public void close() {
+            boolean holdsNoLocks = true;
             try {
-                if (acquired) {
-                    unlockStream(connection, sourceComponentKey, streamKey, streamId);
+                if (acquired && advisoryLockMode != AdvisoryLockMode.TRANSACTION) {
+                    holdsNoLocks = unlockStream(connection, sourceComponentKey, streamKey, streamId);
                 }
             } finally {
-                closeQuietly(connection);
+                releaseConnection(connection, advisoryLockMode, holdsNoLocks);
             }
         }
     }
@@ -0,0 +1,89 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager.task;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.subscription.SourceComponentPair;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * In memory demand for stream processing workers per source and component, used by the
+ * StreamProcessingCoordinator in place of counting the streams with events to process on every
+ * timer tick when 'stream.processing.demand.reconciliation.interval.milliseconds' is set.
+ *
+ * Demand is added as streams are seen to advance, and taken by the coordinator when it spawns
+ * workers. A worker that completes after demand was added while it was running may have missed
+ * those streams on its last poll, so it hands one unit of demand back. The streams left to
+ * process are counted in the database once every reconciliation interval, which picks up
+ * anything not signalled here, such as failed streams whose retry has become due.
+ */
+@ApplicationScoped
+public class StreamProcessingDemandTracker {
+
+    private static final long NEVER_RECONCILED = -1L;
+
+    private final ConcurrentHashMap<SourceComponentPair, Demand> demandMap = new ConcurrentHashMap<>();
+
+    @Inject
+    private UtcClock clock;
+
+    public void addDemand(final SourceComponentPair pair, final int numberOfStreams) {
+        final Demand demand = demandFor(pair);
+        demand.pendingDemand.accumulateAndGet(numberOfStreams, (current, added) -> (int) Math.min((long) current + added, Integer.MAX_VALUE));
+        demand.signalCount.incrementAndGet();
+    }
+
+    public int takeDemand(final SourceComponentPair pair) {
+        return demandFor(pair).pendingDemand.getAndSet(0);
+    }
+
+    public int getPendingDemand(final SourceComponentPair pair) {
+        return demandFor(pair).pendingDemand.get();
+    }
+
+    /**
+     * @return a marker to hand back to {@link #workerCompleted(SourceComponentPair, long)}
+     */
+    public long workerStarted(final SourceComponentPair pair) {
+        return demandFor(pair).signalCount.get();
+    }
+
+    public void workerCompleted(final SourceComponentPair pair, final long signalCountAtStart) {
+        if (demandFor(pair).signalCount.get() != signalCountAtStart) {
+            addDemand(pair, 1);
+        }
+    }
+
+    public boolean isReconciliationDue(final SourceComponentPair pair, final long reconciliationIntervalMilliseconds) {
+        final long lastReconciledAt = demandFor(pair).lastReconciledAt.get();
+        return lastReconciledAt == NEVER_RECONCILED || nowInMilliseconds() - lastReconciledAt >= reconciliationIntervalMilliseconds;
+    }
+
+    /**
+     * Records that the streams left to process are about to be counted in the database, which
+     * supersedes any demand added up to now. Demand added from here on is kept for the next tick.
+     */
+    public void startReconciliation(final SourceComponentPair pair) {
+        final Demand demand = demandFor(pair);
+        demand.pendingDemand.set(0);
+        demand.lastReconciledAt.set(nowInMilliseconds());
+    }
+
+    private Demand demandFor(final SourceComponentPair pair) {
+        return demandMap.computeIfAbsent(pair, k -> new Demand());
+    }
+
+    private long nowInMilliseconds() {
+        return clock.now().toInstant().toEpochMilli();
+    }
+
+    private static class Demand {
+        private final AtomicInteger pendingDemand = new AtomicInteger(0);
+        private final AtomicLong signalCount = new AtomicLong(0);
+        private final AtomicLong lastReconciledAt = new AtomicLong(NEVER_RECONCILED);
+    }
+}
@@ -12,10 +12,14 @@ public class StreamProcessingWorkerFactory {
     @Inject
     private WorkerActivityTracker workerActivityTracker;
 
+    @Inject
+    private StreamProcessingDemandTracker streamProcessingDemandTracker;
+
     public StreamProcessingWorkerTask createWorkerTask(final SourceComponentPair sourceComponentPair) {
         return new StreamProcessingWorkerTask(
                 streamProcessingWorkerBean,
                 workerActivityTracker,
+                streamProcessingDemandTracker,
                 sourceComponentPair);
     }
 }
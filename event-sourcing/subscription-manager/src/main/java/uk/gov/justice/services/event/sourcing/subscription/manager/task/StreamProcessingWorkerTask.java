@@ -6,26 +6,31 @@ public class StreamProcessingWorkerTask implements Runnable {
 
     private final StreamProcessingWorkerBean streamProcessingWorkerBean;
     private final WorkerActivityTracker workerActivityTracker;
+    private final StreamProcessingDemandTracker streamProcessingDemandTracker;
     private final SourceComponentPair sourceComponentPair;
 
     public StreamProcessingWorkerTask(
             final StreamProcessingWorkerBean streamProcessingWorkerBean,
             final WorkerActivityTracker workerActivityTracker,
+            final StreamProcessingDemandTracker streamProcessingDemandTracker,
             final SourceComponentPair sourceComponentPair) {
         this.streamProcessingWorkerBean = streamProcessingWorkerBean;
         this.workerActivityTracker = workerActivityTracker;
+        this.streamProcessingDemandTracker = streamProcessingDemandTracker;
         this.sourceComponentPair = sourceComponentPair;
     }
 
     @Override
     public void run() {
         workerActivityTracker.incrementActiveCount(sourceComponentPair);
+        final long demandSignalCount = streamProcessingDemandTracker.workerStarted(sourceComponentPair);
         try {
             streamProcessingWorkerBean.processUntilIdle(
                     sourceComponentPair.source(),
                     sourceComponentPair.component());
         } finally {
             workerActivityTracker.decrementActiveCount(sourceComponentPair);
+            streamProcessingDemandTracker.workerCompleted(sourceComponentPair, demandSignalCount);
         }
     }
 }
@@ -6,6 +6,8 @@ import javax.inject.Singleton;
 import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.common.configuration.subscription.pull.EventPullConfiguration;
 import uk.gov.justice.services.common.util.LazyValue;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
+import uk.gov.justice.services.event.sourcing.subscription.manager.AdvisoryLockMode;
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
@@ -25,6 +27,13 @@ public class StreamProcessingConfig {
     private final LazyValue circuitBreakerFailureThresholdLazyValue = new LazyValue();
     private final LazyValue circuitBreakerCoolDownLazyValue = new LazyValue();
     private final LazyValue discoveryNotifiedLazyValue = new LazyValue();
+    private final LazyValue prefetchWindowSizeLazyValue = new LazyValue();
+    private final LazyValue prefetchCommitBatchSizeLazyValue = new LazyValue();
+    private final LazyValue advisoryLockModeLazyValue = new LazyValue();
+    private final LazyValue workerExecutorTypeLazyValue = new LazyValue();
+    private final LazyValue maxConcurrentVirtualWorkersLazyValue = new LazyValue();
+    private final LazyValue streamClaimBatchSizeLazyValue = new LazyValue();
+    private final LazyValue demandReconciliationIntervalLazyValue = new LazyValue();
 
     @Inject
     private EventPullConfiguration eventPullConfiguration;
@@ -73,6 +82,38 @@ public class StreamProcessingConfig {
     @Value(key = "stream.processing.circuit.breaker.cooldown.milliseconds", defaultValue = "30000")
     private String circuitBreakerCoolDownMilliseconds;
 
+    @Inject
+    @Value(key = "stream.processing.prefetch.window.size", defaultValue = "1")
+    private String prefetchWindowSize;
+
+    @Inject
+    @Value(key = "stream.processing.prefetch.commit.batch.size", defaultValue = "1")
+    private String prefetchCommitBatchSize;
+
+    @Inject
+    @Value(key = "stream.processing.advisory.lock.mode", defaultValue = "session")
+    private String advisoryLockMode;
+
+    @Inject
+    @Value(key = "stream.processing.advisory.lock.pooled.datasource", defaultValue = "")
+    private String advisoryLockPooledDataSource;
+
+    @Inject
+    @Value(key = "stream.processing.worker.executor", defaultValue = "managed")
+    private String workerExecutorType;
+
+    @Inject
+    @Value(key = "stream.processing.virtual.thread.max.concurrent.workers", defaultValue = "200")
+    private String maxConcurrentVirtualWorkers;
+
+    @Inject
+    @Value(key = "stream.processing.claim.batch.size", defaultValue = "1")
+    private String streamClaimBatchSize;
+
+    @Inject
+    @Value(key = "stream.processing.demand.reconciliation.interval.milliseconds", defaultValue = "0")
+    private String demandReconciliationIntervalMilliseconds;
+
     public long getTimerStartWaitMilliseconds() {
         return timerStartWaitLazyValue.createIfAbsent(() -> parseLong(timerStartWaitMilliseconds));
     }
@@ -117,4 +158,69 @@ public class StreamProcessingConfig {
         return eventPullConfiguration.shouldProcessEventsByPullMechanism()
                 && discoveryNotifiedLazyValue.createIfAbsent(() -> parseBoolean(discoveryNotified));
     }
+
+    /**
+     * The number of events of a stream a worker processes each time it locks that stream.
+     * The default of 1 processes a single event per lock.
+     */
+    public int getPrefetchWindowSize() {
+        return prefetchWindowSizeLazyValue.createIfAbsent(() -> parseInt(prefetchWindowSize));
+    }
+
+    /**
+     * The number of events of a prefetched window processed in each transaction before
+     * the stream position is committed.
+     */
+    public int getPrefetchCommitBatchSize() {
+        return prefetchCommitBatchSizeLazyValue.createIfAbsent(() -> parseInt(prefetchCommitBatchSize));
+    }
+
+    /**
+     * How the advisory lock on a stream is taken: 'session', 'pooled' or 'transaction'.
+     * See {@link AdvisoryLockMode}.
+     */
+    public AdvisoryLockMode getAdvisoryLockMode() {
+        return advisoryLockModeLazyValue.createIfAbsent(() -> AdvisoryLockMode.valueOf(advisoryLockMode.trim().toUpperCase()));
+    }
+
+    /**
+     * The JNDI name of the non-JTA viewstore datasource that long-lived advisory lock connections
+     * are taken from in 'pooled' mode. Blank if not set.
+     */
+    public String getAdvisoryLockPooledDataSource() {
+        return advisoryLockPooledDataSource.trim();
+    }
+
+    /**
+     * Whether stream processing workers run on the 'managed' executor or on 'virtual' threads.
+     * See {@link WorkerExecutorType}.
+     */
+    public WorkerExecutorType getWorkerExecutorType() {
+        return workerExecutorTypeLazyValue.createIfAbsent(() -> WorkerExecutorType.valueOf(workerExecutorType.trim().toUpperCase()));
+    }
+
+    /**
+     * The maximum number of stream processing workers running on virtual threads at once, across
+     * all sources and components.
+     */
+    public int getMaxConcurrentVirtualWorkers() {
+        return maxConcurrentVirtualWorkersLazyValue.createIfAbsent(() -> parseInt(maxConcurrentVirtualWorkers));
+    }
+
+    /**
+     * The number of streams ready to process selected from stream_status in a single query and
+     * handed out to workers from memory. The default of 1 selects and locks one stream per worker.
+     */
+    public int getStreamClaimBatchSize() {
+        return streamClaimBatchSizeLazyValue.createIfAbsent(() -> parseInt(streamClaimBatchSize));
+    }
+
+    /**
+     * How often the streams having events to process are counted in the database. In between,
+     * workers are spawned from the demand signalled as streams advance. The default of 0 counts
+     * them on every timer tick.
+     */
+    public long getDemandReconciliationIntervalMilliseconds() {
+        return demandReconciliationIntervalLazyValue.createIfAbsent(() -> parseLong(demandReconciliationIntervalMilliseconds));
+    }
 }
@@ -1,8 +1,14 @@
 package uk.gov.justice.services.event.sourcing.subscription.manager.timer;
 
+import static java.lang.Math.min;
+import static javax.enterprise.event.TransactionPhase.AFTER_SUCCESS;
+
 import uk.gov.justice.services.common.configuration.subscription.pull.EventPullConfiguration;
 import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStreamStatusRepository;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutor;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.PollerCircuitBreaker;
+import uk.gov.justice.services.event.sourcing.subscription.manager.task.StreamProcessingDemandTracker;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.StreamProcessingWorkerFactory;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.StreamProcessingWorkerTask;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.WorkerActivityTracker;
@@ -24,7 +30,7 @@ import javax.ejb.TimerConfig;
 import javax.ejb.TimerService;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
-import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.event.Observes;
 import javax.enterprise.event.ObservesAsync;
 import javax.inject.Inject;
 
@@ -35,14 +41,16 @@ import org.slf4j.Logger;
 @ConcurrencyManagement(ConcurrencyManagementType.BEAN)
 public class StreamProcessingCoordinator {
 
+    static final String STREAM_PROCESSING_WORKER = "stream-processing";
+
     @Inject
     private Logger logger;
 
     @Resource
     private TimerService timerService;
 
-    @Resource
-    private ManagedExecutorService managedExecutorService;
+    @Inject
+    private WorkerExecutor workerExecutor;
 
     @Inject
     private StreamProcessingConfig streamProcessingConfig;
@@ -65,6 +73,9 @@ public class StreamProcessingCoordinator {
     @Inject
     private PollerCircuitBreaker pollerCircuitBreaker;
 
+    @Inject
+    private StreamProcessingDemandTracker streamProcessingDemandTracker;
+
     @PostConstruct
     public void startTimerService() {
         if (eventPullConfiguration.shouldProcessEventsByPullMechanism()) {
@@ -100,11 +111,7 @@ public class StreamProcessingCoordinator {
                 return;
             }
 
-            final int demand = newStreamStatusRepository.countStreamsHavingEventsToProcess(
-                    pair.source(),
-                    pair.component(),
-                    streamProcessingConfig.getMaxRetries(),
-                    streamProcessingConfig.getMaxWorkers());
+            final int demand = currentDemand(pair);
             final int active = workerActivityTracker.getActiveCount(pair);
             final int deficit = demand - active;
 
@@ -117,23 +124,71 @@ public class StreamProcessingCoordinator {
         }
     }
 
+    /**
+     * The demand for workers of the pair: the number of streams having events to process, counted
+     * in the database on every tick or, when 'stream.processing.demand.reconciliation.interval.milliseconds'
+     * is set, only once every interval and otherwise taken from the demand signalled in memory.
+     */
+    private int currentDemand(final SourceComponentPair pair) {
+        final long reconciliationIntervalMilliseconds = streamProcessingConfig.getDemandReconciliationIntervalMilliseconds();
+        final int maxWorkers = streamProcessingConfig.getMaxWorkers();
+
+        if (reconciliationIntervalMilliseconds > 0) {
+            if (!streamProcessingDemandTracker.isReconciliationDue(pair, reconciliationIntervalMilliseconds)) {
+                return min(streamProcessingDemandTracker.takeDemand(pair), maxWorkers);
+            }
+            streamProcessingDemandTracker.startReconciliation(pair);
+        }
+
+        return newStreamStatusRepository.countStreamsHavingEventsToProcess(
+                pair.source(),
+                pair.component(),
+                streamProcessingConfig.getMaxRetries(),
+                maxWorkers);
+    }
+
     public void onStreamStatusAdvanced(@ObservesAsync final StreamStatusAdvancedEvent event) {
 
+        final SourceComponentPair pair = new SourceComponentPair(event.source(), event.component());
+        addDemand(pair, event);
+
         if (!streamProcessingConfig.shouldDiscoveryNotified()) {
             return;
         }
 
-        final SourceComponentPair pair = new SourceComponentPair(event.source(), event.component());
-
         if (workerActivityTracker.getActiveCount(pair) == 0) {
             spawnWorkers(pair, 1);
         }
     }
 
+    /**
+     * Streams advanced by timer based event discovery, observed once its transaction commits
+     */
+    public void onStreamStatusDiscovered(@Observes(during = AFTER_SUCCESS) final StreamStatusAdvancedEvent event) {
+        addDemand(new SourceComponentPair(event.source(), event.component()), event);
+    }
+
+    private void addDemand(final SourceComponentPair pair, final StreamStatusAdvancedEvent event) {
+        if (streamProcessingConfig.getDemandReconciliationIntervalMilliseconds() > 0) {
+            streamProcessingDemandTracker.addDemand(pair, event.numberOfStreams());
+        }
+    }
+
+    /**
+     * Spawns up to count workers, stopping once the maximum number of virtual workers are in
+     * flight. Workers not spawned are left to the next tick, rather than queued up waiting.
+     */
     private void spawnWorkers(final SourceComponentPair pair, final int count) {
+        final WorkerExecutorType workerExecutorType = streamProcessingConfig.getWorkerExecutorType();
+        final int maxConcurrentVirtualWorkers = streamProcessingConfig.getMaxConcurrentVirtualWorkers();
+
         for (int i = 0; i < count; i++) {
             final StreamProcessingWorkerTask task = streamProcessingWorkerFactory.createWorkerTask(pair);
-            managedExecutorService.execute(task);
+            if (!workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, workerExecutorType, maxConcurrentVirtualWorkers, task)) {
+                logger.debug("Maximum of {} virtual workers in flight, spawned {} of {} workers for source: {}, component: {}",
+                        maxConcurrentVirtualWorkers, i, count, pair.source(), pair.component());
+                return;
+            }
         }
     }
 }
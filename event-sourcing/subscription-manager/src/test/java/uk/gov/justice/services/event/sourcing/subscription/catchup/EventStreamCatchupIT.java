@@ -8,6 +8,7 @@ import static uk.gov.justice.services.core.postgres.OpenEjbConfigurationBuilder.
 import uk.gov.justice.services.cdi.LoggerProducer;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.DummyEventQueueProcessingConfig;
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupMetrics;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.ConcurrentEventStreamConsumerManager;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventStreamsInProgressList;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventsInProcessCounterProvider;
@@ -19,6 +20,9 @@ import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.task
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.task.LinkedEventMetadataUpdater;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.util.DummyCatchupEventProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.util.TestCatchupBean;
+import uk.gov.justice.services.event.sourcing.subscription.executor.VirtualThreadExecutorServiceFactory;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutor;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorMetrics;
 import uk.gov.justice.services.eventsourcing.publishedevent.prepublish.MetadataEventNumberUpdater;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.messaging.spi.DefaultEnvelopeProvider;
@@ -63,7 +67,12 @@ public class EventStreamCatchupIT {
             EventProcessingFailedHandler.class,
             ConsumeEventQueueTaskManager.class,
             ConsumeEventQueueTaskFactory.class,
+            WorkerExecutor.class,
+            WorkerExecutorMetrics.class,
+            VirtualThreadExecutorServiceFactory.class,
             EventsInProcessCounterProvider.class,
+            CatchupMetrics.class,
+            TestMeterRegistryProducer.class,
             DummyEventQueueProcessingConfig.class,
             EventQueueConsumer.class,
             DummyEventErrorHandlingConfiguration.class,
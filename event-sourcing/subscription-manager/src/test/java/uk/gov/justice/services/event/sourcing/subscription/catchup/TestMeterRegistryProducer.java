@@ -0,0 +1,16 @@
+package uk.gov.justice.services.event.sourcing.subscription.catchup;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TestMeterRegistryProducer {
+
+    @Produces
+    @ApplicationScoped
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
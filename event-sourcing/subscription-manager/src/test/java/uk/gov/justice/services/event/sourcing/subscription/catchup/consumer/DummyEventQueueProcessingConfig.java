@@ -1,6 +1,7 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer;
 
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventQueueProcessingConfig;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
 
 import org.apache.openejb.testing.Default;
 
@@ -11,4 +12,24 @@ public class DummyEventQueueProcessingConfig implements EventQueueProcessingConf
     public int getMaxTotalEventsInProcess() {
         return 100;
     }
+
+    @Override
+    public int getMaxEventsInProcessPerStream() {
+        return 10;
+    }
+
+    @Override
+    public WorkerExecutorType getWorkerExecutorType() {
+        return WorkerExecutorType.MANAGED;
+    }
+
+    @Override
+    public int getMaxConcurrentVirtualTasks() {
+        return 100;
+    }
+
+    @Override
+    public int getTransactionBatchSize() {
+        return 1;
+    }
 }
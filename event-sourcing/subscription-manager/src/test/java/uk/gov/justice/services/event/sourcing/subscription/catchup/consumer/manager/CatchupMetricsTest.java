@@ -0,0 +1,84 @@
+package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.BATCH_SIZE_TAG;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_EVENTS_CONSUMED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_EVENTS_IN_PROCESS_GAUGE_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_STREAMS_IN_PROGRESS_GAUGE_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_STREAM_QUEUE_DEPTH_SUMMARY_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.CATCHUP_TRANSACTION_TIMER_NAME;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CatchupMetricsTest {
+
+    @Mock
+    private EventsInProcessCounterProvider eventsInProcessCounterProvider;
+
+    @Mock
+    private EventStreamsInProgressList eventStreamsInProgressList;
+
+    @InjectMocks
+    private CatchupMetrics catchupMetrics;
+
+    @Test
+    public void shouldCountConsumedEventsAndRecordStreamQueueDepth() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(catchupMetrics, "meterRegistry", meterRegistry);
+        catchupMetrics.registerMeters();
+
+        catchupMetrics.eventQueued(1);
+        catchupMetrics.eventQueued(5);
+        catchupMetrics.eventConsumed();
+        catchupMetrics.eventConsumed();
+
+        assertThat(meterRegistry.get(CATCHUP_EVENTS_CONSUMED_COUNTER_NAME).counter().count(), is(2.0));
+        assertThat(meterRegistry.get(CATCHUP_STREAM_QUEUE_DEPTH_SUMMARY_NAME).summary().count(), is(2L));
+        assertThat(meterRegistry.get(CATCHUP_STREAM_QUEUE_DEPTH_SUMMARY_NAME).summary().max(), is(5.0));
+    }
+
+    @Test
+    public void shouldReportNumberOfEventsInProcessAndStreamsInProgress() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(catchupMetrics, "meterRegistry", meterRegistry);
+        catchupMetrics.registerMeters();
+
+        final EventsInProcessCounter eventsInProcessCounter = new EventsInProcessCounter(10);
+        eventsInProcessCounter.incrementEventsInProcessCount();
+        eventsInProcessCounter.incrementEventsInProcessCount();
+
+        when(eventsInProcessCounterProvider.getInstance()).thenReturn(eventsInProcessCounter);
+        when(eventStreamsInProgressList.size()).thenReturn(3);
+
+        assertThat(meterRegistry.get(CATCHUP_EVENTS_IN_PROCESS_GAUGE_NAME).gauge().value(), is(2.0));
+        assertThat(meterRegistry.get(CATCHUP_STREAMS_IN_PROGRESS_GAUGE_NAME).gauge().value(), is(3.0));
+    }
+
+    @Test
+    public void shouldTimeTransactionsByTheNumberOfEventsInThem() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(catchupMetrics, "meterRegistry", meterRegistry);
+        catchupMetrics.registerMeters();
+
+        catchupMetrics.transactionProcessed(1, 2_000_000L);
+        catchupMetrics.transactionProcessed(50, 10_000_000L);
+        catchupMetrics.transactionProcessed(50, 30_000_000L);
+
+        assertThat(meterRegistry.get(CATCHUP_TRANSACTION_TIMER_NAME).tag(BATCH_SIZE_TAG, "1").timer().count(), is(1L));
+        assertThat(meterRegistry.get(CATCHUP_TRANSACTION_TIMER_NAME).tag(BATCH_SIZE_TAG, "50").timer().count(), is(2L));
+        assertThat(meterRegistry.get(CATCHUP_TRANSACTION_TIMER_NAME).tag(BATCH_SIZE_TAG, "50").timer().totalTime(MILLISECONDS), is(40.0));
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,6 +19,8 @@ import uk.gov.justice.services.eventstore.management.commands.EventCatchupComman
 import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +40,12 @@ public class ConcurrentEventStreamConsumerManagerTest {
     @Mock
     private ConsumeEventQueueTaskManager consumeEventQueueTaskManager;
 
+    @Mock
+    private EventQueueProcessingConfig eventQueueProcessingConfig;
+
+    @Mock
+    private CatchupMetrics catchupMetrics;
+
     @Spy
     private EventStreamsInProgressList eventStreamsInProgressList = new EventStreamsInProgressList();
 
@@ -59,7 +68,7 @@ public class ConcurrentEventStreamConsumerManagerTest {
         final EventsInProcessCounter eventsInProcessCounter = mock(EventsInProcessCounter.class);
 
         when(eventsInProcessCounterProvider.getInstance()).thenReturn(eventsInProcessCounter);
-        when(eventsInProcessCounter.maxNumberOfEventsInProcess()).thenReturn(false);
+        when(eventQueueProcessingConfig.getMaxEventsInProcessPerStream()).thenReturn(10);
         when(linkedEvent.getStreamId()).thenReturn(streamId);
 
         concurrentEventStreamConsumerManager.add(linkedEvent, subscriptionName, catchupCommand, commandId);
@@ -68,9 +77,11 @@ public class ConcurrentEventStreamConsumerManagerTest {
 
         final Queue<LinkedEvent> events = eventQueueCaptor.getValue();
         assertThat(events.size(), is(1));
+        assertThat(((BlockingQueue<LinkedEvent>) events).remainingCapacity(), is(9));
         assertThat(events.poll(), is(linkedEvent));
 
         verify(eventsInProcessCounter).incrementEventsInProcessCount();
+        verify(catchupMetrics).eventQueued(1);
     }
 
     @Test
@@ -87,7 +98,7 @@ public class ConcurrentEventStreamConsumerManagerTest {
         final EventsInProcessCounter eventsInProcessCounter = mock(EventsInProcessCounter.class);
 
         when(eventsInProcessCounterProvider.getInstance()).thenReturn(eventsInProcessCounter);
-        when(eventsInProcessCounter.maxNumberOfEventsInProcess()).thenReturn(false);
+        when(eventQueueProcessingConfig.getMaxEventsInProcessPerStream()).thenReturn(10);
         when(linkedEvent_1.getStreamId()).thenReturn(streamId);
         when(linkedEvent_2.getStreamId()).thenReturn(streamId);
 
@@ -119,7 +130,7 @@ public class ConcurrentEventStreamConsumerManagerTest {
         final EventsInProcessCounter eventsInProcessCounter = mock(EventsInProcessCounter.class);
 
         when(eventsInProcessCounterProvider.getInstance()).thenReturn(eventsInProcessCounter);
-        when(eventsInProcessCounter.maxNumberOfEventsInProcess()).thenReturn(false);
+        when(eventQueueProcessingConfig.getMaxEventsInProcessPerStream()).thenReturn(10);
         when(linkedEvent_1.getStreamId()).thenReturn(streamId_1);
         when(linkedEvent_2.getStreamId()).thenReturn(streamId_2);
 
@@ -156,7 +167,7 @@ public class ConcurrentEventStreamConsumerManagerTest {
         final EventsInProcessCounter eventsInProcessCounter = mock(EventsInProcessCounter.class);
 
         when(eventsInProcessCounterProvider.getInstance()).thenReturn(eventsInProcessCounter);
-        when(eventsInProcessCounter.maxNumberOfEventsInProcess()).thenReturn(false);
+        when(eventQueueProcessingConfig.getMaxEventsInProcessPerStream()).thenReturn(10);
         when(linkedEvent_1.getStreamId()).thenReturn(streamId_1);
         when(linkedEvent_2.getStreamId()).thenReturn(streamId_2);
 
@@ -180,6 +191,40 @@ public class ConcurrentEventStreamConsumerManagerTest {
         verify(eventsInProcessCounter, times(2)).incrementEventsInProcessCount();
     }
 
+    @Test
+    public void shouldNotCompleteConsumptionIfTheQueueIsNotEmpty() throws Exception {
+
+        final Queue<LinkedEvent> events = new LinkedBlockingQueue<>(List.of(mock(LinkedEvent.class)));
+        eventStreamsInProgressList.add(events);
+
+        assertThat(concurrentEventStreamConsumerManager.isEventConsumptionComplete(new FinishedProcessingMessage(events)), is(false));
+        assertThat(eventStreamsInProgressList.contains(events), is(true));
+    }
+
+    @Test
+    public void shouldCarryOnConsumingIfAnEventIsAddedWhileTheQueueIsBeingRemovedFromTheStreamsInProgress() throws Exception {
+
+        final Queue<LinkedEvent> events = mock(Queue.class);
+        eventStreamsInProgressList.add(events);
+
+        when(events.isEmpty()).thenReturn(true, false);
+
+        assertThat(concurrentEventStreamConsumerManager.isEventConsumptionComplete(new FinishedProcessingMessage(events)), is(false));
+        assertThat(eventStreamsInProgressList.contains(events), is(true));
+    }
+
+    @Test
+    public void shouldCompleteConsumptionIfAnEventIsAddedWhileTheQueueIsBeingRemovedButTheQueueIsAlreadyClaimedByANewTask() throws Exception {
+
+        final Queue<LinkedEvent> events = mock(Queue.class);
+
+        when(events.isEmpty()).thenReturn(true, false);
+        doReturn(false).when(eventStreamsInProgressList).add(events);
+
+        assertThat(concurrentEventStreamConsumerManager.isEventConsumptionComplete(new FinishedProcessingMessage(events)), is(true));
+        verify(eventStreamsInProgressList).remove(events);
+    }
+
     @Test
     public void shouldBlockOnTheEventsStreamInProgressListWhenWaitingForCompletion() throws Exception {
 
@@ -198,6 +243,7 @@ public class ConcurrentEventStreamConsumerManagerTest {
         concurrentEventStreamConsumerManager.decrementEventsInProcessCount();
 
         verify(eventsInProcessCounter).decrementEventsInProcessCount();
+        verify(catchupMetrics).eventConsumed();
     }
 
     @Test
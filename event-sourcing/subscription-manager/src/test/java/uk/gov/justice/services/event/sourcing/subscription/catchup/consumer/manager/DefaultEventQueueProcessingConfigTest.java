@@ -2,16 +2,24 @@ package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.man
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 
+import uk.gov.justice.services.common.configuration.errors.event.EventErrorHandlingConfiguration;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultEventQueueProcessingConfigTest {
 
+    @Mock
+    private EventErrorHandlingConfiguration eventErrorHandlingConfiguration;
+
     @InjectMocks
     private DefaultEventQueueProcessingConfig defaultEventQueueProcessingConfig;
 
@@ -22,4 +30,46 @@ public class DefaultEventQueueProcessingConfigTest {
 
         assertThat(defaultEventQueueProcessingConfig.getMaxTotalEventsInProcess(), is(23));
     }
+
+    @Test
+    public void shouldGetTheMaxEventsInProcessPerStream() throws Exception {
+
+        setField(defaultEventQueueProcessingConfig, "maxEventsInProcessPerStream", "42");
+
+        assertThat(defaultEventQueueProcessingConfig.getMaxEventsInProcessPerStream(), is(42));
+    }
+
+    @Test
+    public void shouldGetTheWorkerExecutorTypeIgnoringCase() throws Exception {
+
+        setField(defaultEventQueueProcessingConfig, "workerExecutorType", "VIRTUAL ");
+
+        assertThat(defaultEventQueueProcessingConfig.getWorkerExecutorType(), is(WorkerExecutorType.VIRTUAL));
+    }
+
+    @Test
+    public void shouldGetTheMaxConcurrentVirtualTasks() throws Exception {
+
+        setField(defaultEventQueueProcessingConfig, "maxConcurrentVirtualTasks", "64");
+
+        assertThat(defaultEventQueueProcessingConfig.getMaxConcurrentVirtualTasks(), is(64));
+    }
+
+    @Test
+    public void shouldGetTheTransactionBatchSize() throws Exception {
+
+        setField(defaultEventQueueProcessingConfig, "transactionBatchSize", "50");
+        when(eventErrorHandlingConfiguration.isEventStreamSelfHealingEnabled()).thenReturn(false);
+
+        assertThat(defaultEventQueueProcessingConfig.getTransactionBatchSize(), is(50));
+    }
+
+    @Test
+    public void shouldNotBatchTransactionsIfEventStreamSelfHealingIsEnabled() throws Exception {
+
+        setField(defaultEventQueueProcessingConfig, "transactionBatchSize", "50");
+        when(eventErrorHandlingConfiguration.isEventStreamSelfHealingEnabled()).thenReturn(true);
+
+        assertThat(defaultEventQueueProcessingConfig.getTransactionBatchSize(), is(1));
+    }
 }
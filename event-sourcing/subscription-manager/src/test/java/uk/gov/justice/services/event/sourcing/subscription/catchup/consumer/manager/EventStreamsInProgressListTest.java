@@ -42,4 +42,20 @@ public class EventStreamsInProgressListTest {
 
         assertThat(eventStreamsInProgressList.isEmpty(), is(true));
     }
+
+    @Test
+    public void shouldOnlyClaimAnEventStreamOnceUntilRemoved() throws Exception {
+
+        final Queue<LinkedEvent> eventStream = mock(Queue.class);
+
+        assertThat(eventStreamsInProgressList.add(eventStream), is(true));
+        assertThat(eventStreamsInProgressList.add(eventStream), is(false));
+        assertThat(eventStreamsInProgressList.contains(eventStream), is(true));
+        assertThat(eventStreamsInProgressList.size(), is(1));
+
+        eventStreamsInProgressList.remove(eventStream);
+
+        assertThat(eventStreamsInProgressList.contains(eventStream), is(false));
+        assertThat(eventStreamsInProgressList.add(eventStream), is(true));
+    }
 }
@@ -1,11 +1,11 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
-import uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil;
-
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,32 +15,41 @@ public class EventsInProcessCounterTest {
     public void shouldIncrementAndDecrementEventsInProcessCounterByOne() {
 
         final EventsInProcessCounter eventsInProcessCounter = new EventsInProcessCounter(1);
-        final AtomicInteger eventInProcessCount = ReflectionUtil.getValueOfField(eventsInProcessCounter, "eventInProcessCount", AtomicInteger.class);
 
         eventsInProcessCounter.incrementEventsInProcessCount();
 
-        assertThat(eventInProcessCount.get(), is(1));
+        assertThat(eventsInProcessCounter.getEventsInProcessCount(), is(1));
 
         eventsInProcessCounter.decrementEventsInProcessCount();
 
-        assertThat(eventInProcessCount.get(), is(0));
+        assertThat(eventsInProcessCounter.getEventsInProcessCount(), is(0));
     }
 
     @Test
     public void shouldDecrementEventsInProcessCounterByGivenNumber() {
 
         final EventsInProcessCounter eventsInProcessCounter = new EventsInProcessCounter(3);
-        final AtomicInteger eventInProcessCount = ReflectionUtil.getValueOfField(eventsInProcessCounter, "eventInProcessCount", AtomicInteger.class);
 
         eventsInProcessCounter.incrementEventsInProcessCount();
         eventsInProcessCounter.incrementEventsInProcessCount();
         eventsInProcessCounter.incrementEventsInProcessCount();
 
-        assertThat(eventInProcessCount.get(), is(3));
+        assertThat(eventsInProcessCounter.getEventsInProcessCount(), is(3));
 
         eventsInProcessCounter.decrementEventsInProcessCountBy(3);
 
-        assertThat(eventInProcessCount.get(), is(0));
+        assertThat(eventsInProcessCounter.getEventsInProcessCount(), is(0));
+    }
+
+    @Test
+    public void shouldNotChangeTheCountWhenDecrementingByZero() {
+
+        final EventsInProcessCounter eventsInProcessCounter = new EventsInProcessCounter(3);
+
+        eventsInProcessCounter.incrementEventsInProcessCount();
+        eventsInProcessCounter.decrementEventsInProcessCountBy(0);
+
+        assertThat(eventsInProcessCounter.getEventsInProcessCount(), is(1));
     }
 
     @Test
@@ -50,8 +59,32 @@ public class EventsInProcessCounterTest {
 
         eventsInProcessCounter.incrementEventsInProcessCount();
         eventsInProcessCounter.incrementEventsInProcessCount();
+
+        assertThat(eventsInProcessCounter.maxNumberOfEventsInProcess(), is(false));
+
         eventsInProcessCounter.incrementEventsInProcessCount();
 
         assertThat(eventsInProcessCounter.maxNumberOfEventsInProcess(), is(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldBlockIncrementingUntilAnEventInProcessIsDecremented() throws Exception {
+
+        final EventsInProcessCounter eventsInProcessCounter = new EventsInProcessCounter(1);
+        final CountDownLatch incremented = new CountDownLatch(1);
+
+        eventsInProcessCounter.incrementEventsInProcessCount();
+
+        new Thread(() -> {
+            eventsInProcessCounter.incrementEventsInProcessCount();
+            incremented.countDown();
+        }).start();
+
+        assertThat(incremented.await(100, MILLISECONDS), is(false));
+
+        eventsInProcessCounter.decrementEventsInProcessCount();
+
+        assertThat(incremented.await(5, SECONDS), is(true));
+        assertThat(eventsInProcessCounter.getEventsInProcessCount(), is(1));
+    }
+}
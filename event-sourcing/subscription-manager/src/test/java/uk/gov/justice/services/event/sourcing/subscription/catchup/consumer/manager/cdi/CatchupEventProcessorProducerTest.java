@@ -11,6 +11,8 @@ import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.mana
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.NewSubscriptionAwareEventProcessor;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -63,4 +65,18 @@ class CatchupEventProcessorProducerTest {
         verify(newSubscriptionAwareEventProcessor).processWithEventBuffer(eq(linkedEvent), eq(compName));
         verifyNoMoreInteractions(newSubscriptionAwareEventProcessor, defaultTransactionalEventProcessor);
     }
-}
\ No newline at end of file
+
+    @Test
+    void transactionalEventBatchProcessor() {
+        List<LinkedEvent> linkedEvents = List.of(mock(LinkedEvent.class), mock(LinkedEvent.class));
+        String compName = "compName";
+
+        // run
+        catchupEventProcessorProducer.transactionalEventBatchProcessor()
+                .processBatchWithEventBuffer(linkedEvents, compName);
+
+        // verify
+        verify(defaultTransactionalEventProcessor).processBatchWithEventBuffer(eq(linkedEvents), eq(compName));
+        verifyNoMoreInteractions(newSubscriptionAwareEventProcessor, defaultTransactionalEventProcessor);
+    }
+}
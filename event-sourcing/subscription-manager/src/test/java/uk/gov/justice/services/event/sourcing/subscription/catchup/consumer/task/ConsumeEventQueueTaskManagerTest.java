@@ -4,7 +4,11 @@ import static java.util.UUID.randomUUID;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.task.ConsumeEventQueueTaskManager.CATCHUP_WORKER;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.VIRTUAL;
 
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventQueueProcessingConfig;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutor;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventstore.management.commands.CatchupCommand;
 import uk.gov.justice.services.eventstore.management.commands.EventCatchupCommand;
@@ -12,8 +16,6 @@ import uk.gov.justice.services.eventstore.management.commands.EventCatchupComman
 import java.util.Queue;
 import java.util.UUID;
 
-import javax.enterprise.concurrent.ManagedExecutorService;
-
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -24,7 +26,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class ConsumeEventQueueTaskManagerTest {
 
     @Mock
-    private ManagedExecutorService managedExecutorService;
+    private WorkerExecutor workerExecutor;
+
+    @Mock
+    private EventQueueProcessingConfig eventQueueProcessingConfig;
 
     @Mock
     private ConsumeEventQueueTaskFactory consumeEventQueueTaskFactory;
@@ -49,6 +54,8 @@ public class ConsumeEventQueueTaskManagerTest {
                 catchupCommand,
                 commandId
         )).thenReturn(consumeEventQueueTask);
+        when(eventQueueProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(eventQueueProcessingConfig.getMaxConcurrentVirtualTasks()).thenReturn(50);
 
         consumeEventQueueTaskManager.consume(
                 events,
@@ -57,6 +64,6 @@ public class ConsumeEventQueueTaskManagerTest {
                 commandId
         );
 
-        verify(managedExecutorService).execute(consumeEventQueueTask);
+        verify(workerExecutor).execute(CATCHUP_WORKER, VIRTUAL, 50, consumeEventQueueTask);
     }
 }
@@ -1,20 +1,27 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.task;
 
 import static java.util.UUID.randomUUID;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventBatchProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventProcessor;
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupMetrics;
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventQueueProcessingConfig;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.EventStreamConsumptionResolver;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.FinishedProcessingMessage;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventstore.management.commands.CatchupCommand;
 import uk.gov.justice.services.eventstore.management.commands.EventCatchupCommand;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -25,6 +32,7 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
 
 @ExtendWith(MockitoExtension.class)
 public class EventQueueConsumerTest {
@@ -32,6 +40,12 @@ public class EventQueueConsumerTest {
     @Mock
     private CatchupEventProcessor catchupEventProcessor;
 
+    @Mock
+    private CatchupEventBatchProcessor catchupEventBatchProcessor;
+
+    @Mock
+    private EventQueueProcessingConfig eventQueueProcessingConfig;
+
     @Mock
     private EventStreamConsumptionResolver eventStreamConsumptionResolver;
 
@@ -41,6 +55,12 @@ public class EventQueueConsumerTest {
     @Mock
     private EventProcessingFailedHandler eventProcessingFailedHandler;
 
+    @Mock
+    private CatchupMetrics catchupMetrics;
+
+    @Mock
+    private Logger logger;
+
     @InjectMocks
     private EventQueueConsumer eventQueueConsumer;
 
@@ -116,4 +136,89 @@ public class EventQueueConsumerTest {
 
         verify(eventStreamConsumptionResolver, times(2)).decrementEventsInProcessCount();
     }
+
+    @Test
+    public void shouldProcessConsecutiveEventsInBatchesOfTheTransactionBatchSize() throws Exception {
+
+        final UUID commandId = randomUUID();
+        final CatchupCommand catchupCommand = new EventCatchupCommand();
+
+        final LinkedEvent event_1 = mock(LinkedEvent.class);
+        final LinkedEvent event_2 = mock(LinkedEvent.class);
+        final LinkedEvent event_3 = mock(LinkedEvent.class);
+
+        final LinkedEvent updatedLinkedEvent_1 = mock(LinkedEvent.class);
+        final LinkedEvent updatedLinkedEvent_2 = mock(LinkedEvent.class);
+        final LinkedEvent updatedLinkedEvent_3 = mock(LinkedEvent.class);
+
+        final Queue<LinkedEvent> eventQueue = new ConcurrentLinkedQueue<>();
+
+        when(eventQueueProcessingConfig.getTransactionBatchSize()).thenReturn(2);
+        when(linkedEventMetadataUpdater.addEventNumbersToMetadataOf(event_1)).thenReturn(updatedLinkedEvent_1);
+        when(linkedEventMetadataUpdater.addEventNumbersToMetadataOf(event_2)).thenReturn(updatedLinkedEvent_2);
+        when(linkedEventMetadataUpdater.addEventNumbersToMetadataOf(event_3)).thenReturn(updatedLinkedEvent_3);
+        when(eventStreamConsumptionResolver.isEventConsumptionComplete(new FinishedProcessingMessage(eventQueue))).thenReturn(true);
+
+        eventQueue.add(event_1);
+        eventQueue.add(event_2);
+        eventQueue.add(event_3);
+        final String subscriptionName = "subscriptionName";
+
+        eventQueueConsumer.consumeEventQueue(commandId, eventQueue, subscriptionName, catchupCommand);
+
+        final InOrder inOrder = inOrder(catchupEventBatchProcessor, catchupEventProcessor, catchupMetrics, eventStreamConsumptionResolver);
+
+        inOrder.verify(catchupEventBatchProcessor).processBatchWithEventBuffer(List.of(updatedLinkedEvent_1, updatedLinkedEvent_2), subscriptionName);
+        inOrder.verify(catchupMetrics).transactionProcessed(eq(2), anyLong());
+        inOrder.verify(eventStreamConsumptionResolver, times(2)).decrementEventsInProcessCount();
+        inOrder.verify(catchupEventProcessor).processWithEventBuffer(updatedLinkedEvent_3, subscriptionName);
+        inOrder.verify(catchupMetrics).transactionProcessed(eq(1), anyLong());
+        inOrder.verify(eventStreamConsumptionResolver).decrementEventsInProcessCount();
+
+        verifyNoInteractions(eventProcessingFailedHandler);
+    }
+
+    @Test
+    public void shouldProcessTheEventsOfAFailedBatchOneAtATimeToFindTheFailingEvent() throws Exception {
+
+        final NullPointerException nullPointerException = new NullPointerException("Ooops");
+
+        final UUID commandId = randomUUID();
+        final CatchupCommand catchupCommand = new EventCatchupCommand();
+
+        final LinkedEvent event_1 = mock(LinkedEvent.class);
+        final LinkedEvent event_2 = mock(LinkedEvent.class);
+
+        final LinkedEvent updatedLinkedEvent_1 = mock(LinkedEvent.class);
+        final LinkedEvent updatedLinkedEvent_2 = mock(LinkedEvent.class);
+
+        final Queue<LinkedEvent> eventQueue = new ConcurrentLinkedQueue<>();
+
+        when(eventQueueProcessingConfig.getTransactionBatchSize()).thenReturn(10);
+        when(linkedEventMetadataUpdater.addEventNumbersToMetadataOf(event_1)).thenReturn(updatedLinkedEvent_1);
+        when(linkedEventMetadataUpdater.addEventNumbersToMetadataOf(event_2)).thenReturn(updatedLinkedEvent_2);
+        when(eventStreamConsumptionResolver.isEventConsumptionComplete(new FinishedProcessingMessage(eventQueue))).thenReturn(true);
+
+        eventQueue.add(event_1);
+        eventQueue.add(event_2);
+        final String subscriptionName = "subscriptionName";
+
+        doThrow(nullPointerException).when(catchupEventBatchProcessor).processBatchWithEventBuffer(List.of(updatedLinkedEvent_1, updatedLinkedEvent_2), subscriptionName);
+        doThrow(nullPointerException).when(catchupEventProcessor).processWithEventBuffer(updatedLinkedEvent_2, subscriptionName);
+
+        eventQueueConsumer.consumeEventQueue(commandId, eventQueue, subscriptionName, catchupCommand);
+
+        verify(catchupEventProcessor).processWithEventBuffer(updatedLinkedEvent_1, subscriptionName);
+        verify(catchupMetrics).transactionProcessed(eq(1), anyLong());
+
+        verify(eventProcessingFailedHandler).handleEventFailure(
+                nullPointerException,
+                event_2,
+                subscriptionName,
+                catchupCommand,
+                commandId
+        );
+
+        verify(eventStreamConsumptionResolver, times(2)).decrementEventsInProcessCount();
+    }
 }
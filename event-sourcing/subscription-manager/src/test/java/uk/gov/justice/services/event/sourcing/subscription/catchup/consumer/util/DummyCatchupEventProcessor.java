@@ -1,15 +1,17 @@
 package uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.util;
 
+import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventBatchProcessor;
 import uk.gov.justice.services.event.sourcing.subscription.catchup.consumer.manager.CatchupEventProcessor;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.openejb.testing.Default;
 
 @Default
-public class DummyCatchupEventProcessor implements CatchupEventProcessor {
+public class DummyCatchupEventProcessor implements CatchupEventProcessor, CatchupEventBatchProcessor {
 
     private static final int SLEEP_TIME = 10;
 
@@ -34,6 +36,12 @@ public class DummyCatchupEventProcessor implements CatchupEventProcessor {
         return 1;
     }
 
+    @Override
+    public int processBatchWithEventBuffer(final List<LinkedEvent> events, final String subscriptionName) {
+        events.forEach(event -> processWithEventBuffer(event, subscriptionName));
+        return events.size();
+    }
+
     public Queue<LinkedEvent> getPublishedEvents() {
         return linkedEvents;
     }
@@ -0,0 +1,24 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadExecutorServiceFactoryTest {
+
+    @Test
+    public void shouldOnlyCreateAVirtualThreadExecutorServiceOnAJvmWithVirtualThreads() throws Exception {
+
+        final Optional<ExecutorService> executorService = new VirtualThreadExecutorServiceFactory().create();
+
+        try {
+            assertThat(executorService.isPresent(), is(Runtime.version().feature() >= 21));
+        } finally {
+            executorService.ifPresent(ExecutorService::shutdown);
+        }
+    }
+}
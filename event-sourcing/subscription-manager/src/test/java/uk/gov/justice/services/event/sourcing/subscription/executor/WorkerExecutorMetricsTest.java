@@ -0,0 +1,36 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.MANAGED;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.VIRTUAL;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.WORKER_TASK_TIMER_NAME;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+public class WorkerExecutorMetricsTest {
+
+    private final WorkerExecutorMetrics workerExecutorMetrics = new WorkerExecutorMetrics();
+
+    @Test
+    public void shouldRunTheTaskAndTimeItPerWorkerAndExecutorType() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(workerExecutorMetrics, "meterRegistry", meterRegistry);
+
+        final Runnable task = mock(Runnable.class);
+
+        workerExecutorMetrics.recordTask("stream-processing", MANAGED, task);
+        workerExecutorMetrics.recordTask("stream-processing", VIRTUAL, task);
+        workerExecutorMetrics.recordTask("stream-processing", VIRTUAL, task);
+
+        verify(task, times(3)).run();
+        assertThat(meterRegistry.get(WORKER_TASK_TIMER_NAME).tag("worker", "stream-processing").tag("executor", "managed").timer().count(), is(1L));
+        assertThat(meterRegistry.get(WORKER_TASK_TIMER_NAME).tag("worker", "stream-processing").tag("executor", "virtual").timer().count(), is(2L));
+    }
+}
@@ -0,0 +1,220 @@
+package uk.gov.justice.services.event.sourcing.subscription.executor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.MANAGED;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.VIRTUAL;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.concurrent.ContextService;
+import javax.enterprise.concurrent.ManagedExecutorService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkerExecutorTest {
+
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
+    @Mock
+    private ContextService contextService;
+
+    @Mock
+    private VirtualThreadExecutorServiceFactory virtualThreadExecutorServiceFactory;
+
+    @Mock
+    private WorkerExecutorMetrics workerExecutorMetrics;
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private WorkerExecutor workerExecutor;
+
+    @Test
+    public void shouldRunTasksOnTheManagedExecutorServiceRecordingTheirMetrics() throws Exception {
+
+        final Runnable task = mock(Runnable.class);
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.empty());
+        workerExecutor.createVirtualThreadExecutor();
+
+        workerExecutor.execute("some-worker", MANAGED, 10, task);
+
+        verify(managedExecutorService).execute(runnableCaptor.capture());
+        runnableCaptor.getValue().run();
+
+        verify(workerExecutorMetrics).recordTask("some-worker", MANAGED, task);
+        verifyNoInteractions(contextService);
+    }
+
+    @Test
+    public void shouldRunTasksOnVirtualThreadsWithTheContextOfTheSubmittingThread() throws Exception {
+
+        final Runnable task = mock(Runnable.class);
+        final Runnable contextualTask = mock(Runnable.class);
+        final ExecutorService virtualThreadExecutorService = mock(ExecutorService.class);
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.of(virtualThreadExecutorService));
+        when(contextService.createContextualProxy(task, Runnable.class)).thenReturn(contextualTask);
+        workerExecutor.createVirtualThreadExecutor();
+
+        workerExecutor.execute("some-worker", VIRTUAL, 10, task);
+
+        verify(virtualThreadExecutorService).execute(runnableCaptor.capture());
+        runnableCaptor.getValue().run();
+
+        verify(workerExecutorMetrics).recordTask("some-worker", VIRTUAL, contextualTask);
+        verifyNoInteractions(managedExecutorService);
+    }
+
+    @Test
+    public void shouldLimitTheNumberOfVirtualThreadTasksOfAWorkerRunningAtOnce() throws Exception {
+
+        final ExecutorService executorService = Executors.newCachedThreadPool();
+        final CountDownLatch finishTasks = new CountDownLatch(1);
+        final CountDownLatch allTasksFinished = new CountDownLatch(3);
+        final AtomicInteger runningTasks = new AtomicInteger(0);
+        final AtomicInteger maxRunningTasks = new AtomicInteger(0);
+
+        final Runnable task = () -> {
+            maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+            try {
+                finishTasks.await(5, SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            runningTasks.decrementAndGet();
+            allTasksFinished.countDown();
+        };
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.of(executorService));
+        when(contextService.createContextualProxy(task, Runnable.class)).thenReturn(task);
+        doAnswer(invocationOnMock -> {
+            invocationOnMock.getArgument(2, Runnable.class).run();
+            return null;
+        }).when(workerExecutorMetrics).recordTask(eq("some-worker"), eq(VIRTUAL), any(Runnable.class));
+
+        final ExecutorService submittingThread = Executors.newSingleThreadExecutor();
+
+        try {
+            workerExecutor.createVirtualThreadExecutor();
+
+            workerExecutor.execute("some-worker", VIRTUAL, 2, task);
+            workerExecutor.execute("some-worker", VIRTUAL, 2, task);
+            final Future<?> thirdSubmission = submittingThread.submit(() -> workerExecutor.execute("some-worker", VIRTUAL, 2, task));
+
+            assertThat(allTasksFinished.await(200, MILLISECONDS), is(false));
+            assertThat(runningTasks.get(), is(2));
+            assertThat(thirdSubmission.isDone(), is(false));
+
+            finishTasks.countDown();
+
+            thirdSubmission.get(5, SECONDS);
+            assertThat(allTasksFinished.await(5, SECONDS), is(true));
+            assertThat(maxRunningTasks.get(), is(2));
+        } finally {
+            submittingThread.shutdownNow();
+            workerExecutor.shutdownVirtualThreadExecutor();
+        }
+    }
+
+    @Test
+    public void shouldNotStartVirtualThreadTasksOverTheLimitWhenTryingToExecute() throws Exception {
+
+        final Runnable task = mock(Runnable.class);
+        final ExecutorService virtualThreadExecutorService = mock(ExecutorService.class);
+        final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.of(virtualThreadExecutorService));
+        when(contextService.createContextualProxy(task, Runnable.class)).thenReturn(task);
+        workerExecutor.createVirtualThreadExecutor();
+
+        assertThat(workerExecutor.tryExecute("some-worker", VIRTUAL, 1, task), is(true));
+        assertThat(workerExecutor.tryExecute("some-worker", VIRTUAL, 1, task), is(false));
+        assertThat(workerExecutor.tryExecute("some-worker", VIRTUAL, 1, task), is(false));
+
+        verify(virtualThreadExecutorService, times(1)).execute(runnableCaptor.capture());
+
+        runnableCaptor.getValue().run();
+
+        assertThat(workerExecutor.tryExecute("some-worker", VIRTUAL, 1, task), is(true));
+        verify(virtualThreadExecutorService, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldReleaseThePermitIfTheVirtualThreadTaskCannotBeStarted() throws Exception {
+
+        final Runnable task = mock(Runnable.class);
+        final ExecutorService virtualThreadExecutorService = mock(ExecutorService.class);
+        final RejectedExecutionException rejectedExecutionException = new RejectedExecutionException("Ooops");
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.of(virtualThreadExecutorService));
+        when(contextService.createContextualProxy(task, Runnable.class)).thenReturn(task);
+        doThrow(rejectedExecutionException).doNothing().when(virtualThreadExecutorService).execute(any(Runnable.class));
+        workerExecutor.createVirtualThreadExecutor();
+
+        final RejectedExecutionException thrown = assertThrows(RejectedExecutionException.class, () -> workerExecutor.tryExecute("some-worker", VIRTUAL, 1, task));
+
+        assertThat(thrown, is(rejectedExecutionException));
+        assertThat(workerExecutor.tryExecute("some-worker", VIRTUAL, 1, task), is(true));
+    }
+
+    @Test
+    public void shouldAlwaysSubmitTasksToTheManagedExecutorServiceWhenTryingToExecute() throws Exception {
+
+        final Runnable task = mock(Runnable.class);
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.empty());
+        workerExecutor.createVirtualThreadExecutor();
+
+        assertThat(workerExecutor.tryExecute("some-worker", MANAGED, 1, task), is(true));
+        assertThat(workerExecutor.tryExecute("some-worker", MANAGED, 1, task), is(true));
+
+        verify(managedExecutorService, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldFallBackToTheManagedExecutorServiceAndWarnOnceIfVirtualThreadsAreNotAvailable() throws Exception {
+
+        final Runnable task = mock(Runnable.class);
+
+        when(virtualThreadExecutorServiceFactory.create()).thenReturn(Optional.empty());
+        workerExecutor.createVirtualThreadExecutor();
+
+        workerExecutor.execute("some-worker", VIRTUAL, 10, task);
+        workerExecutor.execute("some-worker", VIRTUAL, 10, task);
+
+        verify(managedExecutorService, times(2)).execute(any(Runnable.class));
+        verify(logger, times(1)).warn("Virtual threads are not available on this JVM, running {} workers on the managed executor", "some-worker");
+        verifyNoInteractions(contextService);
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class AdvisoryLockConnectionPoolTest {
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private AdvisoryLockConnectionPool advisoryLockConnectionPool;
+
+    @Test
+    public void shouldHandBackMostRecentlyReleasedConnectionFirst() throws Exception {
+
+        final Connection connection_1 = mock(Connection.class);
+        final Connection connection_2 = mock(Connection.class);
+
+        assertThat(advisoryLockConnectionPool.borrow(), is(Optional.empty()));
+
+        advisoryLockConnectionPool.release(connection_1);
+        advisoryLockConnectionPool.release(connection_2);
+
+        assertThat(advisoryLockConnectionPool.idleCount(), is(2));
+        assertThat(advisoryLockConnectionPool.borrow(), is(Optional.of(connection_2)));
+        assertThat(advisoryLockConnectionPool.borrow(), is(Optional.of(connection_1)));
+        assertThat(advisoryLockConnectionPool.idleCount(), is(0));
+    }
+
+    @Test
+    public void shouldCloseAllIdleConnectionsEvenIfOneFailsToClose() throws Exception {
+
+        final Connection connection_1 = mock(Connection.class);
+        final Connection connection_2 = mock(Connection.class);
+
+        doThrow(new SQLException("Ooops")).when(connection_2).close();
+
+        advisoryLockConnectionPool.release(connection_1);
+        advisoryLockConnectionPool.release(connection_2);
+
+        advisoryLockConnectionPool.closeAll();
+
+        verify(connection_1).close();
+        verify(connection_2).close();
+        verify(logger).warn("Failed to close advisory lock connection: {}", "Ooops");
+        assertThat(advisoryLockConnectionPool.idleCount(), is(0));
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.event.buffer.core.repository.subscription.LockedStreamStatus;
+import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStreamStatusRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ClaimedStreamQueueTest {
+
+    private static final String SOURCE = "some-source";
+    private static final String COMPONENT = "some-component";
+    private static final Integer MAX_RETRIES = 7;
+
+    @Mock
+    private NewStreamStatusRepository newStreamStatusRepository;
+
+    @InjectMocks
+    private ClaimedStreamQueue claimedStreamQueue;
+
+    @Test
+    public void shouldClaimABatchOfStreamsAndHandThemOutOneAtATime() throws Exception {
+
+        final UUID streamId_1 = randomUUID();
+        final UUID streamId_2 = randomUUID();
+        final LockedStreamStatus lockedStreamStatus_1 = new LockedStreamStatus(streamId_1, 1L, 2L, empty());
+        final LockedStreamStatus lockedStreamStatus_2 = new LockedStreamStatus(streamId_2, 3L, 4L, empty());
+
+        when(newStreamStatusRepository.findOldestStreamIdsToProcess(SOURCE, COMPONENT, MAX_RETRIES, 10)).thenReturn(List.of(streamId_1, streamId_2));
+        when(newStreamStatusRepository.lockStreamToProcess(streamId_1, SOURCE, COMPONENT, MAX_RETRIES)).thenReturn(of(lockedStreamStatus_1));
+        when(newStreamStatusRepository.lockStreamToProcess(streamId_2, SOURCE, COMPONENT, MAX_RETRIES)).thenReturn(of(lockedStreamStatus_2));
+
+        assertThat(claimedStreamQueue.lockNextClaimedStream(SOURCE, COMPONENT, MAX_RETRIES, 10), is(of(lockedStreamStatus_1)));
+        assertThat(claimedStreamQueue.size(SOURCE, COMPONENT), is(1));
+        assertThat(claimedStreamQueue.lockNextClaimedStream(SOURCE, COMPONENT, MAX_RETRIES, 10), is(of(lockedStreamStatus_2)));
+
+        verify(newStreamStatusRepository, times(1)).findOldestStreamIdsToProcess(SOURCE, COMPONENT, MAX_RETRIES, 10);
+    }
+
+    @Test
+    public void shouldSkipClaimedStreamsThatCanNoLongerBeLocked() throws Exception {
+
+        final UUID lockedElsewhereStreamId = randomUUID();
+        final UUID streamId = randomUUID();
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 1L, 2L, empty());
+
+        when(newStreamStatusRepository.findOldestStreamIdsToProcess(SOURCE, COMPONENT, MAX_RETRIES, 10)).thenReturn(List.of(lockedElsewhereStreamId, streamId));
+        when(newStreamStatusRepository.lockStreamToProcess(lockedElsewhereStreamId, SOURCE, COMPONENT, MAX_RETRIES)).thenReturn(empty());
+        when(newStreamStatusRepository.lockStreamToProcess(streamId, SOURCE, COMPONENT, MAX_RETRIES)).thenReturn(of(lockedStreamStatus));
+
+        assertThat(claimedStreamQueue.lockNextClaimedStream(SOURCE, COMPONENT, MAX_RETRIES, 10), is(of(lockedStreamStatus)));
+        assertThat(claimedStreamQueue.size(SOURCE, COMPONENT), is(0));
+    }
+
+    @Test
+    public void shouldReturnEmptyIfNoStreamsReadyToProcess() throws Exception {
+
+        when(newStreamStatusRepository.findOldestStreamIdsToProcess(SOURCE, COMPONENT, MAX_RETRIES, 10)).thenReturn(List.of());
+
+        final Optional<LockedStreamStatus> lockedStreamStatus = claimedStreamQueue.lockNextClaimedStream(SOURCE, COMPONENT, MAX_RETRIES, 10);
+
+        assertThat(lockedStreamStatus, is(empty()));
+        verify(newStreamStatusRepository, never()).lockStreamToProcess(any(UUID.class), eq(SOURCE), eq(COMPONENT), eq(MAX_RETRIES));
+    }
+
+    @Test
+    public void shouldKeepSeparateQueuesPerSourceAndComponent() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 1L, 2L, empty());
+
+        when(newStreamStatusRepository.findOldestStreamIdsToProcess(SOURCE, COMPONENT, MAX_RETRIES, 10)).thenReturn(List.of(streamId, randomUUID()));
+        when(newStreamStatusRepository.lockStreamToProcess(streamId, SOURCE, COMPONENT, MAX_RETRIES)).thenReturn(of(lockedStreamStatus));
+        when(newStreamStatusRepository.findOldestStreamIdsToProcess("other-source", COMPONENT, MAX_RETRIES, 10)).thenReturn(List.of());
+
+        assertThat(claimedStreamQueue.lockNextClaimedStream(SOURCE, COMPONENT, MAX_RETRIES, 10), is(of(lockedStreamStatus)));
+        assertThat(claimedStreamQueue.lockNextClaimedStream("other-source", COMPONENT, MAX_RETRIES, 10), is(empty()));
+        assertThat(claimedStreamQueue.size(SOURCE, COMPONENT), is(1));
+    }
+}
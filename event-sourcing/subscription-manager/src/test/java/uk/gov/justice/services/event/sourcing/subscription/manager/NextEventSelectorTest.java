@@ -15,6 +15,7 @@ import uk.gov.justice.services.event.sourcing.subscription.error.StreamProcessin
 import uk.gov.justice.services.event.sourcing.subscription.manager.NextEventSelector.PulledEvent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -97,4 +98,35 @@ public class NextEventSelectorTest {
 
         assertThat(exception.getMessage(), is("Failed to pull next event to process for streamId: '%s', position: %d, latestKnownPosition: %d".formatted(streamId, currentPosition, latestKnownPosition)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSelectFollowingEventsUpToLatestKnownPosition() {
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 5L, 10L, empty());
+        final List<JsonEnvelope> events = List.of(mock(JsonEnvelope.class), mock(JsonEnvelope.class));
+
+        when(nextEventReader.readNextEvents(streamId, 6L, 10L, 20, source)).thenReturn(events);
+
+        assertThat(nextEventSelector.selectFollowingEvents(source, lockedStreamStatus, 6L, 20), is(events));
+    }
+
+    @Test
+    public void shouldThrowStreamProcessingExceptionWhenSelectingFollowingEventsFails() {
+        final UUID streamId = UUID.fromString("2a4b8f3c-5d6e-4f70-8a91-b2c3d4e5f607");
+        final String source = "some-source";
+        final RuntimeException cause = new RuntimeException("Ooops");
+
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 5L, 10L, empty());
+
+        when(nextEventReader.readNextEvents(streamId, 6L, 10L, 20, source)).thenThrow(cause);
+
+        final StreamProcessingException streamProcessingException = assertThrows(
+                StreamProcessingException.class,
+                () -> nextEventSelector.selectFollowingEvents(source, lockedStreamStatus, 6L, 20));
+
+        assertThat(streamProcessingException.getCause(), is(cause));
+        assertThat(streamProcessingException.getMessage(), is("Failed to pull next 20 events to process for streamId: '2a4b8f3c-5d6e-4f70-8a91-b2c3d4e5f607', position: 6, latestKnownPosition: 10"));
+    }
+}
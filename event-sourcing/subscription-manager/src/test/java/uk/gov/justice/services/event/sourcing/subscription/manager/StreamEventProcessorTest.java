@@ -12,6 +12,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -20,6 +21,7 @@ import static uk.gov.justice.services.event.sourcing.subscription.manager.EventP
 
 import uk.gov.justice.services.event.buffer.core.repository.subscription.LockedStreamStatus;
 import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStreamStatusRepository;
+import uk.gov.justice.services.event.buffer.core.repository.subscription.StreamUpdateContext;
 import uk.gov.justice.services.event.sourcing.subscription.error.MissingPositionInStreamException;
 import uk.gov.justice.services.event.sourcing.subscription.error.StreamErrorStatusHandler;
 import uk.gov.justice.services.event.sourcing.subscription.error.StreamProcessingException;
@@ -29,6 +31,8 @@ import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.justice.services.metrics.micrometer.counters.MicrometerMetricsCounters;
 
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -71,6 +75,9 @@ public class StreamEventProcessorTest {
     @Mock
     private StreamSessionLockManager streamSessionLockManager;
 
+    @Mock
+    private ClaimedStreamQueue claimedStreamQueue;
+
     @InjectMocks
     private StreamEventProcessor streamEventProcessor;
 
@@ -162,6 +169,39 @@ public class StreamEventProcessorTest {
         verify(lock).close();
     }
 
+    @Test
+    public void shouldLockStreamFromClaimedStreamQueueWhenClaimBatchSizeGreaterThanOne() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+        final String component = "some-component";
+        final int maxRetries = 7;
+        final int claimBatchSize = 50;
+        final long eventPositionInStream = 6L;
+
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 5L, 10L, empty());
+        final JsonEnvelope eventJsonEnvelope = mock(JsonEnvelope.class);
+        final Metadata metadata = mock(Metadata.class);
+        final PulledEvent pulledEvent = new PulledEvent(eventJsonEnvelope, lockedStreamStatus);
+        final StreamSessionLockManager.StreamSessionLock lock = mock(StreamSessionLockManager.StreamSessionLock.class);
+
+        when(streamProcessingConfig.getStreamClaimBatchSize()).thenReturn(claimBatchSize);
+        when(streamProcessingConfig.getMaxRetries()).thenReturn(maxRetries);
+        when(claimedStreamQueue.lockNextClaimedStream(source, component, maxRetries, claimBatchSize)).thenReturn(of(lockedStreamStatus));
+        when(nextEventSelector.selectNextEvent(source, of(lockedStreamStatus))).thenReturn(of(pulledEvent));
+        when(streamSessionLockManager.lockStream(streamId, source, component)).thenReturn(lock);
+        when(lock.isAcquired()).thenReturn(true);
+        when(eventJsonEnvelope.metadata()).thenReturn(metadata);
+        when(metadata.position()).thenReturn(of(eventPositionInStream));
+
+        assertThat(streamEventProcessor.processSingleEvent(source, component), is(EVENT_FOUND));
+
+        verify(newStreamStatusRepository, never()).findOldestStreamToProcessByAcquiringLock(eq(source), eq(component), any());
+        verify(newStreamStatusRepository).updateCurrentPosition(streamId, source, component, eventPositionInStream);
+        verify(transactionHandler).commit();
+        verify(lock).close();
+    }
+
     @Test
     public void shouldReturnEventNotFoundWhenNoStreamFound() throws Exception {
 
@@ -439,4 +479,140 @@ public class StreamEventProcessorTest {
         verify(lock).close();
         verify(transactionHandler, never()).rollback();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldProcessPrefetchedWindowOfEventsCommittingStreamPositionInMicroBatches() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+        final String component = "some-component";
+
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 5L, 8L, empty());
+        final JsonEnvelope event_6 = eventAtPosition(6L);
+        final JsonEnvelope event_7 = eventAtPosition(7L);
+        final JsonEnvelope event_8 = eventAtPosition(8L);
+        final PulledEvent pulledEvent = new PulledEvent(event_6, lockedStreamStatus);
+        final StreamSessionLockManager.StreamSessionLock lock = mock(StreamSessionLockManager.StreamSessionLock.class);
+        final StreamUpdateContext streamUpdateContext = new StreamUpdateContext(8L, 7L, 8L, new Timestamp(0L), empty(), empty());
+
+        when(streamProcessingConfig.getPrefetchWindowSize()).thenReturn(10);
+        when(streamProcessingConfig.getPrefetchCommitBatchSize()).thenReturn(2);
+        when(newStreamStatusRepository.findOldestStreamToProcessByAcquiringLock(eq(source), eq(component), any())).thenReturn(of(lockedStreamStatus));
+        when(nextEventSelector.selectNextEvent(source, of(lockedStreamStatus))).thenReturn(of(pulledEvent));
+        when(streamSessionLockManager.lockStream(streamId, source, component)).thenReturn(lock);
+        when(lock.isAcquired()).thenReturn(true);
+        when(nextEventSelector.selectFollowingEvents(source, lockedStreamStatus, 6L, 9)).thenReturn(List.of(event_7, event_8));
+        when(newStreamStatusRepository.lockStreamAndGetStreamUpdateContext(streamId, source, component, 8L)).thenReturn(streamUpdateContext);
+
+        assertThat(streamEventProcessor.processSingleEvent(source, component), is(EVENT_FOUND));
+
+        final InOrder inOrder = inOrder(
+                transactionHandler,
+                newStreamStatusRepository,
+                componentEventProcessor,
+                streamErrorStatusHandler);
+
+        inOrder.verify(transactionHandler).begin();
+        inOrder.verify(componentEventProcessor).process(event_6, component);
+        inOrder.verify(newStreamStatusRepository).updateCurrentPosition(streamId, source, component, 6L);
+        inOrder.verify(componentEventProcessor).process(event_7, component);
+        inOrder.verify(newStreamStatusRepository).updateCurrentPosition(streamId, source, component, 7L);
+        inOrder.verify(streamErrorStatusHandler).onStreamProcessingSuccess(streamId, source, component, empty());
+        inOrder.verify(transactionHandler).commit();
+        inOrder.verify(transactionHandler).begin();
+        inOrder.verify(newStreamStatusRepository).lockStreamAndGetStreamUpdateContext(streamId, source, component, 8L);
+        inOrder.verify(componentEventProcessor).process(event_8, component);
+        inOrder.verify(newStreamStatusRepository).updateCurrentPosition(streamId, source, component, 8L);
+        inOrder.verify(newStreamStatusRepository).setUpToDate(true, streamId, source, component);
+        inOrder.verify(streamErrorStatusHandler).onStreamProcessingSuccess(streamId, source, component, empty());
+        inOrder.verify(transactionHandler).commit();
+
+        verify(micrometerMetricsCounters, times(3)).incrementEventsProcessedCount(source, component);
+        verify(micrometerMetricsCounters, times(3)).incrementEventsSucceededCount(source, component);
+        verify(transactionHandler, never()).rollback();
+        verify(lock).close();
+    }
+
+    @Test
+    public void shouldStopProcessingWindowAtFirstFailureAndRecordErrorAgainstLastCommittedPosition() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final UUID streamErrorId = randomUUID();
+        final String source = "some-source";
+        final String component = "some-component";
+        final RuntimeException processingException = new RuntimeException("Ooops");
+
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 5L, 10L, of(streamErrorId));
+        final JsonEnvelope event_6 = eventAtPosition(6L);
+        final JsonEnvelope event_7 = mock(JsonEnvelope.class);
+        final JsonEnvelope event_8 = mock(JsonEnvelope.class);
+        final PulledEvent pulledEvent = new PulledEvent(event_6, lockedStreamStatus);
+        final StreamSessionLockManager.StreamSessionLock lock = mock(StreamSessionLockManager.StreamSessionLock.class);
+
+        when(streamProcessingConfig.getPrefetchWindowSize()).thenReturn(3);
+        when(streamProcessingConfig.getPrefetchCommitBatchSize()).thenReturn(1);
+        when(newStreamStatusRepository.findOldestStreamToProcessByAcquiringLock(eq(source), eq(component), any())).thenReturn(of(lockedStreamStatus));
+        when(nextEventSelector.selectNextEvent(source, of(lockedStreamStatus))).thenReturn(of(pulledEvent));
+        when(streamSessionLockManager.lockStream(streamId, source, component)).thenReturn(lock);
+        when(lock.isAcquired()).thenReturn(true);
+        when(nextEventSelector.selectFollowingEvents(source, lockedStreamStatus, 6L, 2)).thenReturn(List.of(event_7, event_8));
+        final Metadata metadata_7 = mock(Metadata.class);
+        when(event_7.metadata()).thenReturn(metadata_7);
+        when(metadata_7.position()).thenReturn(of(7L));
+        when(newStreamStatusRepository.lockStreamAndGetStreamUpdateContext(streamId, source, component, 7L))
+                .thenReturn(new StreamUpdateContext(7L, 6L, 10L, new Timestamp(0L), empty(), empty()));
+        doThrow(processingException).when(componentEventProcessor).process(event_7, component);
+
+        assertThat(streamEventProcessor.processSingleEvent(source, component), is(EVENT_FOUND));
+
+        final InOrder inOrder = inOrder(transactionHandler, streamErrorStatusHandler, micrometerMetricsCounters);
+        inOrder.verify(streamErrorStatusHandler).onStreamProcessingSuccess(streamId, source, component, of(streamErrorId));
+        inOrder.verify(transactionHandler).commit();
+        inOrder.verify(transactionHandler).rollback();
+        inOrder.verify(micrometerMetricsCounters).incrementEventsFailedCount(source, component);
+        inOrder.verify(streamErrorStatusHandler).onStreamProcessingFailure(event_7, processingException, component, 6L, empty());
+
+        verify(componentEventProcessor, never()).process(event_8, component);
+        verify(lock).close();
+    }
+
+    @Test
+    public void shouldStopProcessingWindowIfStreamPositionWasMovedByAnotherWorker() throws Exception {
+
+        final UUID streamId = randomUUID();
+        final String source = "some-source";
+        final String component = "some-component";
+
+        final LockedStreamStatus lockedStreamStatus = new LockedStreamStatus(streamId, 5L, 10L, empty());
+        final JsonEnvelope event_6 = eventAtPosition(6L);
+        final JsonEnvelope event_7 = eventAtPosition(7L);
+        final PulledEvent pulledEvent = new PulledEvent(event_6, lockedStreamStatus);
+        final StreamSessionLockManager.StreamSessionLock lock = mock(StreamSessionLockManager.StreamSessionLock.class);
+
+        when(streamProcessingConfig.getPrefetchWindowSize()).thenReturn(2);
+        when(streamProcessingConfig.getPrefetchCommitBatchSize()).thenReturn(1);
+        when(newStreamStatusRepository.findOldestStreamToProcessByAcquiringLock(eq(source), eq(component), any())).thenReturn(of(lockedStreamStatus));
+        when(nextEventSelector.selectNextEvent(source, of(lockedStreamStatus))).thenReturn(of(pulledEvent));
+        when(streamSessionLockManager.lockStream(streamId, source, component)).thenReturn(lock);
+        when(lock.isAcquired()).thenReturn(true);
+        when(nextEventSelector.selectFollowingEvents(source, lockedStreamStatus, 6L, 1)).thenReturn(List.of(event_7));
+        when(newStreamStatusRepository.lockStreamAndGetStreamUpdateContext(streamId, source, component, 7L))
+                .thenReturn(new StreamUpdateContext(7L, 7L, 10L, new Timestamp(0L), empty(), empty()));
+
+        assertThat(streamEventProcessor.processSingleEvent(source, component), is(EVENT_FOUND));
+
+        verify(componentEventProcessor).process(event_6, component);
+        verify(componentEventProcessor, never()).process(event_7, component);
+        verify(transactionHandler).rollback();
+        verify(streamErrorStatusHandler, never()).onStreamProcessingFailure(any(), any(), any(), anyLong(), any());
+        verify(lock).close();
+    }
+
+    private JsonEnvelope eventAtPosition(final long position) {
+        final JsonEnvelope eventJsonEnvelope = mock(JsonEnvelope.class);
+        final Metadata metadata = mock(Metadata.class);
+        when(eventJsonEnvelope.metadata()).thenReturn(metadata);
+        when(metadata.position()).thenReturn(of(position));
+        return eventJsonEnvelope;
+    }
+}
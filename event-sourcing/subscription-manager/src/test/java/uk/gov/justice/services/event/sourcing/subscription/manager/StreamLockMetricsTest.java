@@ -0,0 +1,59 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.IDLE_LOCK_CONNECTIONS_GAUGE_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.LOCK_ACQUIRED_COUNTER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.LOCK_ACQUIRE_TIMER_NAME;
+import static uk.gov.justice.services.eventsourcing.util.metrics.EventStoreMeterNames.LOCK_CONTENDED_COUNTER_NAME;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamLockMetricsTest {
+
+    @Mock
+    private AdvisoryLockConnectionPool advisoryLockConnectionPool;
+
+    @InjectMocks
+    private StreamLockMetrics streamLockMetrics;
+
+    @Test
+    public void shouldRecordLockTimeAndCountAcquiredAndContendedLocksPerSourceAndComponent() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(streamLockMetrics, "meterRegistry", meterRegistry);
+        streamLockMetrics.registerMeters();
+
+        streamLockMetrics.lockAttempted("some-source", "some-component", true, MILLISECONDS.toNanos(2));
+        streamLockMetrics.lockAttempted("some-source", "some-component", true, MILLISECONDS.toNanos(3));
+        streamLockMetrics.lockAttempted("some-source", "some-component", false, MILLISECONDS.toNanos(1));
+        streamLockMetrics.lockAttempted("other-source", "some-component", false, MILLISECONDS.toNanos(1));
+
+        assertThat(meterRegistry.get(LOCK_ACQUIRE_TIMER_NAME).tag("source", "some-source").timer().count(), is(3L));
+        assertThat(meterRegistry.get(LOCK_ACQUIRE_TIMER_NAME).tag("source", "some-source").timer().totalTime(MILLISECONDS), is(6.0));
+        assertThat(meterRegistry.get(LOCK_ACQUIRED_COUNTER_NAME).tag("source", "some-source").counter().count(), is(2.0));
+        assertThat(meterRegistry.get(LOCK_CONTENDED_COUNTER_NAME).tag("source", "some-source").counter().count(), is(1.0));
+        assertThat(meterRegistry.get(LOCK_CONTENDED_COUNTER_NAME).tag("source", "other-source").counter().count(), is(1.0));
+    }
+
+    @Test
+    public void shouldReportNumberOfIdleLockConnections() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        setField(streamLockMetrics, "meterRegistry", meterRegistry);
+        streamLockMetrics.registerMeters();
+
+        when(advisoryLockConnectionPool.idleCount()).thenReturn(4);
+
+        assertThat(meterRegistry.get(IDLE_LOCK_CONNECTIONS_GAUGE_NAME).gauge().value(), is(4.0));
+    }
+}
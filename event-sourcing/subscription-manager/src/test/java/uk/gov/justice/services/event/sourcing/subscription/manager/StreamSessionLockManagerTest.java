@@ -4,12 +4,20 @@ import static java.util.UUID.randomUUID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.event.sourcing.subscription.manager.AdvisoryLockMode.POOLED;
+import static uk.gov.justice.services.event.sourcing.subscription.manager.AdvisoryLockMode.SESSION;
+import static uk.gov.justice.services.event.sourcing.subscription.manager.AdvisoryLockMode.TRANSACTION;
 
+import uk.gov.justice.services.event.sourcing.subscription.manager.timer.StreamProcessingConfig;
+import uk.gov.justice.services.jdbc.persistence.JdbcDataSourceProvider;
 import uk.gov.justice.services.jdbc.persistence.ViewStoreJdbcDataSourceProvider;
 
 import java.util.Objects;
@@ -17,6 +25,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.sql.DataSource;
@@ -37,6 +46,18 @@ public class StreamSessionLockManagerTest {
     @Mock
     private ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider;
 
+    @Mock
+    private JdbcDataSourceProvider jdbcDataSourceProvider;
+
+    @Mock
+    private StreamProcessingConfig streamProcessingConfig;
+
+    @Mock
+    private AdvisoryLockConnectionPool advisoryLockConnectionPool;
+
+    @Mock
+    private StreamLockMetrics streamLockMetrics;
+
     @Mock
     private Logger logger;
 
@@ -61,6 +82,7 @@ public class StreamSessionLockManagerTest {
         assertThat(lock.isAcquired(), is(true));
         verify(preparedStatement).setInt(1, Objects.hash(SOURCE, COMPONENT));
         verify(preparedStatement).setInt(2, (int) streamId.getLeastSignificantBits());
+        verify(streamLockMetrics).lockAttempted(eq(SOURCE), eq(COMPONENT), eq(true), anyLong());
     }
 
     @Test
@@ -80,6 +102,7 @@ public class StreamSessionLockManagerTest {
 
         assertThat(lock.isAcquired(), is(false));
         verify(logger).warn("Advisory lock contention detected for stream '{}', source '{}', component '{}'", streamId, SOURCE, COMPONENT);
+        verify(streamLockMetrics).lockAttempted(eq(SOURCE), eq(COMPONENT), eq(false), anyLong());
     }
 
     @Test
@@ -100,6 +123,7 @@ public class StreamSessionLockManagerTest {
     public void shouldThrowExceptionWhenGetConnectionFails() throws Exception {
         final DataSource dataSource = mock(DataSource.class);
 
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(SESSION);
         when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(dataSource);
         when(dataSource.getConnection()).thenThrow(new SQLException("Connection failed"));
 
@@ -229,8 +253,130 @@ public class StreamSessionLockManagerTest {
         verify(connection).close();
     }
 
+    @Test
+    public void shouldReuseIdleLockConnectionAndHandItBackAfterUnlockingWhenPooled() throws Exception {
+        final UUID streamId = randomUUID();
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement lockStatement = mock(PreparedStatement.class);
+        final ResultSet lockResultSet = mock(ResultSet.class);
+        final PreparedStatement unlockStatement = mock(PreparedStatement.class);
+        final ResultSet unlockResultSet = mock(ResultSet.class);
+
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(POOLED);
+        when(advisoryLockConnectionPool.borrow()).thenReturn(Optional.of(connection));
+        when(connection.prepareStatement(StreamSessionLockManager.TRY_SESSION_ADVISORY_LOCK_SQL)).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResultSet);
+        when(lockResultSet.next()).thenReturn(true);
+        when(lockResultSet.getBoolean(1)).thenReturn(true);
+
+        when(connection.prepareStatement(StreamSessionLockManager.SESSION_ADVISORY_UNLOCK_SQL)).thenReturn(unlockStatement);
+        when(unlockStatement.executeQuery()).thenReturn(unlockResultSet);
+        when(unlockResultSet.next()).thenReturn(true);
+        when(unlockResultSet.getBoolean(1)).thenReturn(true);
+
+        final StreamSessionLockManager.StreamSessionLock lock = streamSessionLockManager.lockStream(streamId, SOURCE, COMPONENT);
+        lock.close();
+
+        verify(advisoryLockConnectionPool).release(connection);
+        verify(connection, never()).close();
+        verifyNoInteractions(viewStoreJdbcDataSourceProvider);
+    }
+
+    @Test
+    public void shouldTakeNewLockConnectionWhenPooledAndNoIdleConnection() throws Exception {
+        final UUID streamId = randomUUID();
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        final DataSource dataSource = mock(DataSource.class);
+
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(POOLED);
+        when(streamProcessingConfig.getAdvisoryLockPooledDataSource()).thenReturn("java:/app/some/DS.viewstore.nonjta");
+        when(advisoryLockConnectionPool.borrow()).thenReturn(Optional.empty());
+        when(jdbcDataSourceProvider.getDataSource("java:/app/some/DS.viewstore.nonjta")).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(StreamSessionLockManager.TRY_SESSION_ADVISORY_LOCK_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(false);
+
+        final StreamSessionLockManager.StreamSessionLock lock = streamSessionLockManager.lockStream(streamId, SOURCE, COMPONENT);
+        lock.close();
+
+        verify(advisoryLockConnectionPool).release(connection);
+        verify(connection, never()).close();
+        verifyNoInteractions(viewStoreJdbcDataSourceProvider);
+    }
+
+    @Test
+    public void shouldNotTakeJtaConnectionsForThePoolWhenNoNonJtaDataSourceIsSet() throws Exception {
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(POOLED);
+        when(streamProcessingConfig.getAdvisoryLockPooledDataSource()).thenReturn("");
+        when(advisoryLockConnectionPool.borrow()).thenReturn(Optional.empty());
+
+        final StreamSessionLockException streamSessionLockException = assertThrows(
+                StreamSessionLockException.class,
+                () -> streamSessionLockManager.lockStream(randomUUID(), SOURCE, COMPONENT));
+
+        assertThat(streamSessionLockException.getMessage(), is("Advisory lock mode 'pooled' needs the JNDI name of a non-JTA viewstore datasource set in 'stream.processing.advisory.lock.pooled.datasource'"));
+        verifyNoInteractions(viewStoreJdbcDataSourceProvider);
+        verifyNoInteractions(jdbcDataSourceProvider);
+    }
+
+    @Test
+    public void shouldCloseRatherThanPoolLockConnectionWhenUnlockFails() throws Exception {
+        final UUID streamId = randomUUID();
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement lockStatement = mock(PreparedStatement.class);
+        final ResultSet lockResultSet = mock(ResultSet.class);
+
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(POOLED);
+        when(advisoryLockConnectionPool.borrow()).thenReturn(Optional.of(connection));
+        when(connection.prepareStatement(StreamSessionLockManager.TRY_SESSION_ADVISORY_LOCK_SQL)).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResultSet);
+        when(lockResultSet.next()).thenReturn(true);
+        when(lockResultSet.getBoolean(1)).thenReturn(true);
+        when(connection.prepareStatement(StreamSessionLockManager.SESSION_ADVISORY_UNLOCK_SQL)).thenThrow(new SQLException("Unlock failed"));
+
+        final StreamSessionLockManager.StreamSessionLock lock = streamSessionLockManager.lockStream(streamId, SOURCE, COMPONENT);
+        lock.close();
+
+        verify(connection).close();
+        verify(advisoryLockConnectionPool, never()).release(connection);
+    }
+
+    @Test
+    public void shouldTakeTransactionScopedLockAndNotUnlockOnCloseWhenTransactionMode() throws Exception {
+        final UUID streamId = randomUUID();
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        final DataSource dataSource = mock(DataSource.class);
+
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(TRANSACTION);
+        when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(StreamSessionLockManager.TRY_TRANSACTION_ADVISORY_LOCK_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+
+        final StreamSessionLockManager.StreamSessionLock lock = streamSessionLockManager.lockStream(streamId, SOURCE, COMPONENT);
+
+        assertThat(lock.isAcquired(), is(true));
+
+        lock.close();
+
+        verify(preparedStatement).setInt(1, Objects.hash(SOURCE, COMPONENT));
+        verify(preparedStatement).setInt(2, (int) streamId.getLeastSignificantBits());
+        verify(connection, never()).prepareStatement(StreamSessionLockManager.SESSION_ADVISORY_UNLOCK_SQL);
+        verify(connection).close();
+        verifyNoInteractions(advisoryLockConnectionPool);
+    }
+
     private void mockConnectionFromDataSource(final Connection connection) throws SQLException {
         final DataSource dataSource = mock(DataSource.class);
+        when(streamProcessingConfig.getAdvisoryLockMode()).thenReturn(SESSION);
         when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(dataSource);
         when(dataSource.getConnection()).thenReturn(connection);
     }
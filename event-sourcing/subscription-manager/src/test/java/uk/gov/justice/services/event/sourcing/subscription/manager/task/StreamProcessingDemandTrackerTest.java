@@ -0,0 +1,105 @@
+package uk.gov.justice.services.event.sourcing.subscription.manager.task;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.subscription.SourceComponentPair;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamProcessingDemandTrackerTest {
+
+    @Mock
+    private UtcClock clock;
+
+    @InjectMocks
+    private StreamProcessingDemandTracker streamProcessingDemandTracker;
+
+    @Test
+    public void shouldAccumulateDemandUntilTaken() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+
+        streamProcessingDemandTracker.addDemand(pair, 3);
+        streamProcessingDemandTracker.addDemand(pair, 2);
+
+        assertThat(streamProcessingDemandTracker.getPendingDemand(pair), is(5));
+        assertThat(streamProcessingDemandTracker.takeDemand(pair), is(5));
+        assertThat(streamProcessingDemandTracker.takeDemand(pair), is(0));
+    }
+
+    @Test
+    public void shouldNotOverflowPendingDemand() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+
+        streamProcessingDemandTracker.addDemand(pair, Integer.MAX_VALUE);
+        streamProcessingDemandTracker.addDemand(pair, 10);
+
+        assertThat(streamProcessingDemandTracker.takeDemand(pair), is(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldTrackDemandSeparatelyForDifferentPairs() {
+        final SourceComponentPair pair1 = new SourceComponentPair("source-1", "component-1");
+        final SourceComponentPair pair2 = new SourceComponentPair("source-2", "component-2");
+
+        streamProcessingDemandTracker.addDemand(pair1, 3);
+
+        assertThat(streamProcessingDemandTracker.getPendingDemand(pair1), is(3));
+        assertThat(streamProcessingDemandTracker.getPendingDemand(pair2), is(0));
+    }
+
+    @Test
+    public void shouldHandBackDemandWhenDemandAddedWhileWorkerWasRunning() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+
+        final long signalCountAtStart = streamProcessingDemandTracker.workerStarted(pair);
+        streamProcessingDemandTracker.addDemand(pair, 4);
+        streamProcessingDemandTracker.takeDemand(pair);
+
+        streamProcessingDemandTracker.workerCompleted(pair, signalCountAtStart);
+
+        assertThat(streamProcessingDemandTracker.getPendingDemand(pair), is(1));
+    }
+
+    @Test
+    public void shouldNotHandBackDemandWhenNoDemandAddedWhileWorkerWasRunning() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+
+        streamProcessingDemandTracker.addDemand(pair, 4);
+        streamProcessingDemandTracker.takeDemand(pair);
+
+        final long signalCountAtStart = streamProcessingDemandTracker.workerStarted(pair);
+        streamProcessingDemandTracker.workerCompleted(pair, signalCountAtStart);
+
+        assertThat(streamProcessingDemandTracker.getPendingDemand(pair), is(0));
+    }
+
+    @Test
+    public void shouldBeDueReconciliationIfNeverReconciledOrIntervalElapsed() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+        final ZonedDateTime now = new UtcClock().now();
+
+        assertThat(streamProcessingDemandTracker.isReconciliationDue(pair, 5000L), is(true));
+
+        when(clock.now()).thenReturn(now);
+        streamProcessingDemandTracker.addDemand(pair, 4);
+        streamProcessingDemandTracker.startReconciliation(pair);
+
+        assertThat(streamProcessingDemandTracker.getPendingDemand(pair), is(0));
+
+        when(clock.now()).thenReturn(now.plusNanos(4_999_000_000L));
+        assertThat(streamProcessingDemandTracker.isReconciliationDue(pair, 5000L), is(false));
+
+        when(clock.now()).thenReturn(now.plusSeconds(5));
+        assertThat(streamProcessingDemandTracker.isReconciliationDue(pair, 5000L), is(true));
+    }
+}
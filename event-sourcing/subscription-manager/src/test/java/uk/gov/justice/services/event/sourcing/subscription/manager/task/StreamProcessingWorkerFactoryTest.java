@@ -21,6 +21,9 @@ public class StreamProcessingWorkerFactoryTest {
     @Mock
     private WorkerActivityTracker workerActivityTracker;
 
+    @Mock
+    private StreamProcessingDemandTracker streamProcessingDemandTracker;
+
     @InjectMocks
     private StreamProcessingWorkerFactory streamProcessingWorkerFactory;
 
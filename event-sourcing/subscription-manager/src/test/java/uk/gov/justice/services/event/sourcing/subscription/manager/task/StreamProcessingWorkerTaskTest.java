@@ -3,6 +3,7 @@ package uk.gov.justice.services.event.sourcing.subscription.manager.task;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import uk.gov.justice.subscription.SourceComponentPair;
 
@@ -21,12 +22,15 @@ public class StreamProcessingWorkerTaskTest {
     @Mock
     private WorkerActivityTracker workerActivityTracker;
 
+    @Mock
+    private StreamProcessingDemandTracker streamProcessingDemandTracker;
+
     @Test
     public void shouldIncrementActiveCountBeforeProcessingAndDecrementAfter() {
         final SourceComponentPair pair = new SourceComponentPair("source", "component");
 
         final StreamProcessingWorkerTask task = new StreamProcessingWorkerTask(
-                streamProcessingWorkerBean, workerActivityTracker, pair);
+                streamProcessingWorkerBean, workerActivityTracker, streamProcessingDemandTracker, pair);
 
         task.run();
 
@@ -44,7 +48,7 @@ public class StreamProcessingWorkerTaskTest {
                 .when(streamProcessingWorkerBean).processUntilIdle("source", "component");
 
         final StreamProcessingWorkerTask task = new StreamProcessingWorkerTask(
-                streamProcessingWorkerBean, workerActivityTracker, pair);
+                streamProcessingWorkerBean, workerActivityTracker, streamProcessingDemandTracker, pair);
 
         try {
             task.run();
@@ -53,4 +57,26 @@ public class StreamProcessingWorkerTaskTest {
 
         verify(workerActivityTracker).decrementActiveCount(pair);
     }
+
+    @Test
+    public void shouldHandDemandSignalCountAtStartBackToDemandTrackerOnCompletion() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+
+        when(streamProcessingDemandTracker.workerStarted(pair)).thenReturn(23L);
+        doThrow(new RuntimeException("Unexpected error"))
+                .when(streamProcessingWorkerBean).processUntilIdle("source", "component");
+
+        final StreamProcessingWorkerTask task = new StreamProcessingWorkerTask(
+                streamProcessingWorkerBean, workerActivityTracker, streamProcessingDemandTracker, pair);
+
+        try {
+            task.run();
+        } catch (final RuntimeException ignored) {
+        }
+
+        final InOrder inOrder = inOrder(streamProcessingDemandTracker, streamProcessingWorkerBean);
+        inOrder.verify(streamProcessingDemandTracker).workerStarted(pair);
+        inOrder.verify(streamProcessingWorkerBean).processUntilIdle("source", "component");
+        inOrder.verify(streamProcessingDemandTracker).workerCompleted(pair, 23L);
+    }
 }
@@ -2,6 +2,9 @@ package uk.gov.justice.services.event.sourcing.subscription.manager.timer;
 
 import java.math.BigDecimal;
 
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType;
+import uk.gov.justice.services.event.sourcing.subscription.manager.AdvisoryLockMode;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -117,4 +120,68 @@ public class StreamProcessingConfigTest {
 
         assertThat(streamProcessingConfig.getCircuitBreakerCoolDownMilliseconds(), is(cooldown));
     }
+
+    @Test
+    public void shouldParsePrefetchWindowSizeAndReturnAsInt() {
+
+        setField(streamProcessingConfig, "prefetchWindowSize", "50");
+
+        assertThat(streamProcessingConfig.getPrefetchWindowSize(), is(50));
+    }
+
+    @Test
+    public void shouldParsePrefetchCommitBatchSizeAndReturnAsInt() {
+
+        setField(streamProcessingConfig, "prefetchCommitBatchSize", "10");
+
+        assertThat(streamProcessingConfig.getPrefetchCommitBatchSize(), is(10));
+    }
+
+    @Test
+    public void shouldParseAdvisoryLockModeIgnoringCase() {
+
+        setField(streamProcessingConfig, "advisoryLockMode", "Pooled");
+
+        assertThat(streamProcessingConfig.getAdvisoryLockMode(), is(AdvisoryLockMode.POOLED));
+    }
+
+    @Test
+    public void shouldGetAdvisoryLockPooledDataSource() {
+
+        setField(streamProcessingConfig, "advisoryLockPooledDataSource", " java:/app/some/DS.viewstore.nonjta ");
+
+        assertThat(streamProcessingConfig.getAdvisoryLockPooledDataSource(), is("java:/app/some/DS.viewstore.nonjta"));
+    }
+
+    @Test
+    public void shouldParseWorkerExecutorTypeIgnoringCase() {
+
+        setField(streamProcessingConfig, "workerExecutorType", "Virtual");
+
+        assertThat(streamProcessingConfig.getWorkerExecutorType(), is(WorkerExecutorType.VIRTUAL));
+    }
+
+    @Test
+    public void shouldGetMaxConcurrentVirtualWorkers() {
+
+        setField(streamProcessingConfig, "maxConcurrentVirtualWorkers", "500");
+
+        assertThat(streamProcessingConfig.getMaxConcurrentVirtualWorkers(), is(500));
+    }
+
+    @Test
+    public void shouldGetStreamClaimBatchSize() {
+
+        setField(streamProcessingConfig, "streamClaimBatchSize", "50");
+
+        assertThat(streamProcessingConfig.getStreamClaimBatchSize(), is(50));
+    }
+
+    @Test
+    public void shouldGetDemandReconciliationIntervalMilliseconds() {
+
+        setField(streamProcessingConfig, "demandReconciliationIntervalMilliseconds", "5000");
+
+        assertThat(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds(), is(5000L));
+    }
 }
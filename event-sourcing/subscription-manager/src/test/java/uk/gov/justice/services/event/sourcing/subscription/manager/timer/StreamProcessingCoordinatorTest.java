@@ -1,17 +1,21 @@
 package uk.gov.justice.services.event.sourcing.subscription.manager.timer;
 
 import static java.util.Arrays.asList;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutorType.VIRTUAL;
+import static uk.gov.justice.services.event.sourcing.subscription.manager.timer.StreamProcessingCoordinator.STREAM_PROCESSING_WORKER;
 
 import uk.gov.justice.services.common.configuration.subscription.pull.EventPullConfiguration;
 import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStreamStatusRepository;
+import uk.gov.justice.services.event.sourcing.subscription.executor.WorkerExecutor;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.PollerCircuitBreaker;
+import uk.gov.justice.services.event.sourcing.subscription.manager.task.StreamProcessingDemandTracker;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.StreamProcessingWorkerFactory;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.StreamProcessingWorkerTask;
 import uk.gov.justice.services.event.sourcing.subscription.manager.task.WorkerActivityTracker;
@@ -24,12 +28,12 @@ import java.util.List;
 import javax.ejb.Timer;
 import javax.ejb.TimerConfig;
 import javax.ejb.TimerService;
-import javax.enterprise.concurrent.ManagedExecutorService;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -45,7 +49,7 @@ public class StreamProcessingCoordinatorTest {
     private TimerService timerService;
 
     @Mock
-    private ManagedExecutorService managedExecutorService;
+    private WorkerExecutor workerExecutor;
 
     @Mock
     private StreamProcessingConfig streamProcessingConfig;
@@ -68,6 +72,9 @@ public class StreamProcessingCoordinatorTest {
     @Mock
     private PollerCircuitBreaker pollerCircuitBreaker;
 
+    @Mock
+    private StreamProcessingDemandTracker streamProcessingDemandTracker;
+
     @Captor
     private ArgumentCaptor<TimerConfig> timerConfigCaptor;
 
@@ -125,10 +132,13 @@ public class StreamProcessingCoordinatorTest {
         when(newStreamStatusRepository.countStreamsHavingEventsToProcess("source", "component", 5, 15)).thenReturn(5);
         when(workerActivityTracker.getActiveCount(pair)).thenReturn(0);
         when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, times(5)).execute(task);
+        verify(workerExecutor, times(5)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
     }
 
     @Test
@@ -143,10 +153,13 @@ public class StreamProcessingCoordinatorTest {
         when(newStreamStatusRepository.countStreamsHavingEventsToProcess("source", "component", 5, 15)).thenReturn(10);
         when(workerActivityTracker.getActiveCount(pair)).thenReturn(3);
         when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, times(7)).execute(task);
+        verify(workerExecutor, times(7)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
     }
 
     @Test
@@ -161,10 +174,36 @@ public class StreamProcessingCoordinatorTest {
         when(newStreamStatusRepository.countStreamsHavingEventsToProcess("source", "component", 5, 15)).thenReturn(15);
         when(workerActivityTracker.getActiveCount(pair)).thenReturn(0);
         when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, times(15)).execute(task);
+        verify(workerExecutor, times(15)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
+    }
+
+    @Test
+    public void shouldStopSpawningOnceTheMaximumNumberOfVirtualWorkersAreInFlight() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+        final Timer timer = mock(Timer.class);
+        final StreamProcessingWorkerTask task = mock(StreamProcessingWorkerTask.class);
+
+        when(timer.getInfo()).thenReturn(pair);
+        when(streamProcessingConfig.getMaxRetries()).thenReturn(5);
+        when(streamProcessingConfig.getMaxWorkers()).thenReturn(15);
+        when(newStreamStatusRepository.countStreamsHavingEventsToProcess("source", "component", 5, 15)).thenReturn(10);
+        when(workerActivityTracker.getActiveCount(pair)).thenReturn(0);
+        when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(2);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 2, task)).thenReturn(true, true, false);
+
+        streamProcessingCoordinator.coordinateWorkers(timer);
+
+        verify(workerExecutor, times(3)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 2, task);
+        verify(logger).debug("Maximum of {} virtual workers in flight, spawned {} of {} workers for source: {}, component: {}",
+                2, 2, 10, "source", "component");
     }
 
     @Test
@@ -180,7 +219,7 @@ public class StreamProcessingCoordinatorTest {
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, never()).execute(any(Runnable.class));
+        verifyNoInteractions(workerExecutor);
     }
 
     @Test
@@ -196,7 +235,7 @@ public class StreamProcessingCoordinatorTest {
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, never()).execute(any(Runnable.class));
+        verifyNoInteractions(workerExecutor);
     }
 
     @Test
@@ -212,7 +251,7 @@ public class StreamProcessingCoordinatorTest {
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, never()).execute(any(Runnable.class));
+        verifyNoInteractions(workerExecutor);
     }
 
     @Test
@@ -242,10 +281,13 @@ public class StreamProcessingCoordinatorTest {
         when(pollerCircuitBreaker.isCircuitTripped("source", "component")).thenReturn(true);
         when(pollerCircuitBreaker.tryTransitionToProbe("source", "component")).thenReturn(true);
         when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, times(1)).execute(task);
+        verify(workerExecutor, times(1)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
         verifyNoInteractions(newStreamStatusRepository);
     }
 
@@ -260,7 +302,7 @@ public class StreamProcessingCoordinatorTest {
 
         streamProcessingCoordinator.coordinateWorkers(timer);
 
-        verify(managedExecutorService, never()).execute(any(Runnable.class));
+        verifyNoInteractions(workerExecutor);
         verifyNoInteractions(newStreamStatusRepository);
     }
 
@@ -272,10 +314,13 @@ public class StreamProcessingCoordinatorTest {
         when(streamProcessingConfig.shouldDiscoveryNotified()).thenReturn(true);
         when(workerActivityTracker.getActiveCount(new SourceComponentPair("source", "component"))).thenReturn(0);
         when(streamProcessingWorkerFactory.createWorkerTask(new SourceComponentPair("source", "component"))).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
 
         streamProcessingCoordinator.onStreamStatusAdvanced(event);
 
-        verify(managedExecutorService, times(1)).execute(task);
+        verify(workerExecutor, times(1)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
     }
 
     @Test
@@ -287,7 +332,7 @@ public class StreamProcessingCoordinatorTest {
 
         streamProcessingCoordinator.onStreamStatusAdvanced(event);
 
-        verify(managedExecutorService, never()).execute(any(Runnable.class));
+        verifyNoInteractions(workerExecutor);
     }
 
     @Test
@@ -298,6 +343,115 @@ public class StreamProcessingCoordinatorTest {
 
         streamProcessingCoordinator.onStreamStatusAdvanced(event);
 
-        verifyNoInteractions(workerActivityTracker, managedExecutorService);
+        verifyNoInteractions(workerActivityTracker, workerExecutor);
+    }
+
+    @Test
+    public void shouldSpawnWorkersFromInMemoryDemandWithoutCountingWhenReconciliationNotDue() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+        final Timer timer = mock(Timer.class);
+        final StreamProcessingWorkerTask task = mock(StreamProcessingWorkerTask.class);
+
+        when(timer.getInfo()).thenReturn(pair);
+        when(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds()).thenReturn(5000L);
+        when(streamProcessingConfig.getMaxWorkers()).thenReturn(15);
+        when(streamProcessingDemandTracker.isReconciliationDue(pair, 5000L)).thenReturn(false);
+        when(streamProcessingDemandTracker.takeDemand(pair)).thenReturn(4);
+        when(workerActivityTracker.getActiveCount(pair)).thenReturn(1);
+        when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
+
+        streamProcessingCoordinator.coordinateWorkers(timer);
+
+        verify(workerExecutor, times(3)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
+        verifyNoInteractions(newStreamStatusRepository);
+    }
+
+    @Test
+    public void shouldLimitInMemoryDemandToMaxWorkers() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+        final Timer timer = mock(Timer.class);
+        final StreamProcessingWorkerTask task = mock(StreamProcessingWorkerTask.class);
+
+        when(timer.getInfo()).thenReturn(pair);
+        when(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds()).thenReturn(5000L);
+        when(streamProcessingConfig.getMaxWorkers()).thenReturn(15);
+        when(streamProcessingDemandTracker.isReconciliationDue(pair, 5000L)).thenReturn(false);
+        when(streamProcessingDemandTracker.takeDemand(pair)).thenReturn(1000);
+        when(workerActivityTracker.getActiveCount(pair)).thenReturn(0);
+        when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
+
+        streamProcessingCoordinator.coordinateWorkers(timer);
+
+        verify(workerExecutor, times(15)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
+    }
+
+    @Test
+    public void shouldCountStreamsHavingEventsToProcessWhenReconciliationDue() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+        final Timer timer = mock(Timer.class);
+        final StreamProcessingWorkerTask task = mock(StreamProcessingWorkerTask.class);
+
+        when(timer.getInfo()).thenReturn(pair);
+        when(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds()).thenReturn(5000L);
+        when(streamProcessingConfig.getMaxRetries()).thenReturn(5);
+        when(streamProcessingConfig.getMaxWorkers()).thenReturn(15);
+        when(streamProcessingDemandTracker.isReconciliationDue(pair, 5000L)).thenReturn(true);
+        when(newStreamStatusRepository.countStreamsHavingEventsToProcess("source", "component", 5, 15)).thenReturn(2);
+        when(workerActivityTracker.getActiveCount(pair)).thenReturn(0);
+        when(streamProcessingWorkerFactory.createWorkerTask(pair)).thenReturn(task);
+        when(streamProcessingConfig.getWorkerExecutorType()).thenReturn(VIRTUAL);
+        when(streamProcessingConfig.getMaxConcurrentVirtualWorkers()).thenReturn(200);
+        when(workerExecutor.tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task)).thenReturn(true);
+
+        streamProcessingCoordinator.coordinateWorkers(timer);
+
+        final InOrder inOrder = inOrder(streamProcessingDemandTracker, newStreamStatusRepository);
+        inOrder.verify(streamProcessingDemandTracker).startReconciliation(pair);
+        inOrder.verify(newStreamStatusRepository).countStreamsHavingEventsToProcess("source", "component", 5, 15);
+        verify(workerExecutor, times(2)).tryExecute(STREAM_PROCESSING_WORKER, VIRTUAL, 200, task);
+        verify(streamProcessingDemandTracker, never()).takeDemand(pair);
+    }
+
+    @Test
+    public void shouldAddDemandForAdvancedStreamsWhenDemandTrackingEnabled() {
+        final SourceComponentPair pair = new SourceComponentPair("source", "component");
+        final StreamStatusAdvancedEvent event = new StreamStatusAdvancedEvent("source", "component", 3);
+
+        when(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds()).thenReturn(5000L);
+        when(streamProcessingConfig.shouldDiscoveryNotified()).thenReturn(true);
+        when(workerActivityTracker.getActiveCount(pair)).thenReturn(2);
+
+        streamProcessingCoordinator.onStreamStatusAdvanced(event);
+
+        verify(streamProcessingDemandTracker).addDemand(pair, 3);
+        verifyNoInteractions(workerExecutor);
+    }
+
+    @Test
+    public void shouldAddDemandForStreamsAdvancedByEventDiscoveryWhenDemandTrackingEnabled() {
+        final StreamStatusAdvancedEvent event = new StreamStatusAdvancedEvent("source", "component", 7);
+
+        when(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds()).thenReturn(5000L);
+
+        streamProcessingCoordinator.onStreamStatusDiscovered(event);
+
+        verify(streamProcessingDemandTracker).addDemand(new SourceComponentPair("source", "component"), 7);
+    }
+
+    @Test
+    public void shouldNotTrackDemandWhenDemandTrackingDisabled() {
+        final StreamStatusAdvancedEvent event = new StreamStatusAdvancedEvent("source", "component", 7);
+
+        when(streamProcessingConfig.getDemandReconciliationIntervalMilliseconds()).thenReturn(0L);
+
+        streamProcessingCoordinator.onStreamStatusDiscovered(event);
+
+        verifyNoInteractions(streamProcessingDemandTracker);
     }
 }
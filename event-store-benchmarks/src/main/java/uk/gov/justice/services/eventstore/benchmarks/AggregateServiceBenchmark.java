@@ -0,0 +1,70 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.gov.justice.services.eventstore.benchmarks.BenchmarkEvents.EVENT_NAME;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.core.aggregate.DefaultAggregateService;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.test.utils.framework.api.JsonObjectConvertersFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rebuilding an aggregate by replaying a stream of events through
+ * {@link DefaultAggregateService#applyEvents}, which converts every payload to its event class
+ * before applying it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregateServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int streamSize;
+
+    private DefaultAggregateService aggregateService;
+    private List<JsonEnvelope> events;
+
+    @Setup
+    public void setup() {
+        final ConcurrentHashMap<String, Class<?>> eventMap = new ConcurrentHashMap<>();
+        eventMap.put(EVENT_NAME, BenchmarkEvent.class);
+
+        aggregateService = new DefaultAggregateService();
+        setField(aggregateService, "logger", LoggerFactory.getLogger(DefaultAggregateService.class));
+        setField(aggregateService, "jsonObjectToObjectConverter", new JsonObjectConvertersFactory().jsonObjectToObjectConverter());
+        setField(aggregateService, "eventMap", eventMap);
+
+        final UUID streamId = randomUUID();
+        events = new ArrayList<>(streamSize);
+        for (int position = 1; position <= streamSize; position++) {
+            events.add(BenchmarkEvents.envelope(streamId, position, 10));
+        }
+    }
+
+    @Benchmark
+    public BenchmarkAggregate applyEvents() {
+        return aggregateService.applyEvents(events.stream(), new BenchmarkAggregate());
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static uk.gov.justice.domain.snapshot.SnapshotSerializers.builtInSnapshotSerializerFor;
+
+import uk.gov.justice.domain.snapshot.AggregateSnapshot;
+import uk.gov.justice.domain.snapshot.DefaultObjectInputStreamStrategy;
+import uk.gov.justice.domain.snapshot.ObjectInputStreamStrategy;
+import uk.gov.justice.domain.snapshot.SnapshotSerializer;
+import uk.gov.justice.services.core.aggregate.exception.AggregateChangeDetectedException;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialising an aggregate into an {@link AggregateSnapshot} and deserialising it back, for
+ * aggregates that have had different numbers of events applied, in each built in snapshot format.
+ * 'java-compressed' and 'jackson' are measured against plain 'java'; the size of the serialized
+ * aggregate in each format is reported as the 'snapshotBytes' secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregateSnapshotBenchmark {
+
+    @Param({"100", "10000"})
+    private int appliedEvents;
+
+    @Param({"java", "java-compressed", "jackson"})
+    private String format;
+
+    private final UUID streamId = randomUUID();
+    private final ObjectInputStreamStrategy objectInputStreamStrategy = new DefaultObjectInputStreamStrategy();
+
+    private SnapshotSerializer snapshotSerializer;
+    private BenchmarkAggregate aggregate;
+    private AggregateSnapshot<BenchmarkAggregate> aggregateSnapshot;
+
+    @Setup
+    public void setup() {
+        snapshotSerializer = builtInSnapshotSerializerFor(format).orElseThrow();
+
+        aggregate = new BenchmarkAggregate();
+        for (int index = 0; index < appliedEvents; index++) {
+            final BenchmarkEvent benchmarkEvent = new BenchmarkEvent();
+            benchmarkEvent.setField0("value of event " + index);
+            aggregate.apply(benchmarkEvent);
+        }
+
+        aggregateSnapshot = new AggregateSnapshot<>(streamId, (long) appliedEvents, aggregate, snapshotSerializer);
+    }
+
+    @Benchmark
+    public AggregateSnapshot<BenchmarkAggregate> serialize(final SnapshotSize snapshotSize) {
+        final AggregateSnapshot<BenchmarkAggregate> serializedSnapshot = new AggregateSnapshot<>(streamId, (long) appliedEvents, aggregate, snapshotSerializer);
+        snapshotSize.snapshotBytes = serializedSnapshot.getAggregateByteRepresentation().length;
+        return serializedSnapshot;
+    }
+
+    @Benchmark
+    public BenchmarkAggregate deserialize() throws AggregateChangeDetectedException {
+        return aggregateSnapshot.getAggregate(snapshotSerializer, objectInputStreamStrategy);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SnapshotSize {
+
+        public long snapshotBytes;
+    }
+}
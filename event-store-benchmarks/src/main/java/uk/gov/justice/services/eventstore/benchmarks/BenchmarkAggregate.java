@@ -0,0 +1,30 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aggregate used by the aggregate benchmarks, keeping a value from each applied event so that
+ * its serialised size grows with the number of events applied.
+ */
+public class BenchmarkAggregate implements Aggregate {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> appliedValues = new ArrayList<>();
+
+    @Override
+    public Object apply(final Object event) {
+        if (event instanceof BenchmarkEvent benchmarkEvent) {
+            appliedValues.add(benchmarkEvent.getField0());
+        }
+
+        return event;
+    }
+
+    public int numberOfAppliedEvents() {
+        return appliedValues.size();
+    }
+}
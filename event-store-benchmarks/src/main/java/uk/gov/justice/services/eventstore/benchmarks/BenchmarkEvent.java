@@ -0,0 +1,21 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Event class the payloads built by {@link BenchmarkEvents} are converted to when applied to a
+ * {@link BenchmarkAggregate}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BenchmarkEvent {
+
+    private String field0;
+
+    public String getField0() {
+        return field0;
+    }
+
+    public void setField0(final String field0) {
+        this.field0 = field0;
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
+import static uk.gov.justice.services.messaging.JsonObjects.getJsonBuilderFactory;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.UUID;
+
+import javax.json.JsonObjectBuilder;
+
+/**
+ * Builds the envelopes used as benchmark input: an event of a given stream and position with
+ * a flat payload of the given number of string fields.
+ */
+public final class BenchmarkEvents {
+
+    public static final String EVENT_NAME = "benchmark.events.something-happened";
+
+    private BenchmarkEvents() {
+    }
+
+    public static JsonEnvelope envelope(final UUID streamId, final long positionInStream, final int payloadFields) {
+        return envelopeFrom(
+                metadataBuilder()
+                        .withId(randomUUID())
+                        .withName(EVENT_NAME)
+                        .withStreamId(streamId)
+                        .withPosition(positionInStream)
+                        .createdAt(new UtcClock().now()),
+                payload(payloadFields));
+    }
+
+    public static JsonObjectBuilder payload(final int payloadFields) {
+        final JsonObjectBuilder payloadBuilder = getJsonBuilderFactory().createObjectBuilder();
+        for (int index = 0; index < payloadFields; index++) {
+            payloadBuilder.add("field" + index, "value of benchmark payload field " + index);
+        }
+
+        return payloadBuilder;
+    }
+}
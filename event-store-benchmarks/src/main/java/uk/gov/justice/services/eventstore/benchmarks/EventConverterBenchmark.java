@@ -0,0 +1,65 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.Event;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventConverter;
+import uk.gov.justice.services.messaging.DefaultJsonObjectEnvelopeConverter;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.spi.DefaultJsonEnvelopeProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converting between the envelopes handled by the framework and the rows stored in event_log.
+ * Every appended event goes through eventOf and every event read back through envelopeOf.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventConverterBenchmark {
+
+    @Param({"10", "100"})
+    private int payloadFields;
+
+    private EventConverter eventConverter;
+    private JsonEnvelope envelope;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        eventConverter = new EventConverter();
+        setField(eventConverter, "stringToJsonObjectConverter", new StringToJsonObjectConverter());
+        setField(eventConverter, "jsonObjectEnvelopeConverter", new DefaultJsonObjectEnvelopeConverter());
+        setField(eventConverter, "defaultJsonEnvelopeProvider", new DefaultJsonEnvelopeProvider());
+
+        envelope = BenchmarkEvents.envelope(randomUUID(), 1L, payloadFields);
+        event = eventConverter.eventOf(envelope);
+    }
+
+    @Benchmark
+    public Event eventOf() {
+        return eventConverter.eventOf(envelope);
+    }
+
+    @Benchmark
+    public JsonEnvelope envelopeOf() {
+        return eventConverter.envelopeOf(event);
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.event.sourcing.subscription.error.ExceptionHashGenerator;
+import uk.gov.justice.services.event.sourcing.subscription.error.HashFromStringGenerator;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hashing the failing stack frame and exception classes of a stream error, which happens for
+ * every event that fails to process.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHashGeneratorBenchmark {
+
+    private ExceptionHashGenerator exceptionHashGenerator;
+    private StackTraceElement stackTraceElement;
+    private final Optional<String> causeClassName = Optional.of(IllegalStateException.class.getName());
+
+    @Setup
+    public void setup() {
+        exceptionHashGenerator = new ExceptionHashGenerator();
+        setField(exceptionHashGenerator, "hashFromStringGenerator", new HashFromStringGenerator());
+
+        stackTraceElement = new RuntimeException().getStackTrace()[0];
+    }
+
+    @Benchmark
+    public String createHashStringFrom() {
+        return exceptionHashGenerator.createHashStringFrom(
+                stackTraceElement,
+                NullPointerException.class.getName(),
+                causeClassName);
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.eventsourcing.eventpublishing.LinkedJsonEnvelopeCreator;
+import uk.gov.justice.services.eventsourcing.publishedevent.prepublish.MetadataEventNumberUpdater;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.spi.DefaultEnvelopeProvider;
+import uk.gov.justice.services.messaging.spi.DefaultJsonEnvelopeProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creating the envelope the event publisher sends to the event topic from a linked event_log row,
+ * which parses the stored metadata and payload and adds the event numbers to the metadata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkedJsonEnvelopeCreatorBenchmark {
+
+    @Param({"10", "100"})
+    private int payloadFields;
+
+    private LinkedJsonEnvelopeCreator linkedJsonEnvelopeCreator;
+    private LinkedEvent linkedEvent;
+
+    @Setup
+    public void setup() {
+        final MetadataEventNumberUpdater metadataEventNumberUpdater = new MetadataEventNumberUpdater();
+        setField(metadataEventNumberUpdater, "defaultEnvelopeProvider", new DefaultEnvelopeProvider());
+
+        linkedJsonEnvelopeCreator = new LinkedJsonEnvelopeCreator();
+        setField(linkedJsonEnvelopeCreator, "newMetadataEventNumberUpdater", metadataEventNumberUpdater);
+        setField(linkedJsonEnvelopeCreator, "defaultJsonEnvelopeProvider", new DefaultJsonEnvelopeProvider());
+        setField(linkedJsonEnvelopeCreator, "stringToJsonObjectConverter", new StringToJsonObjectConverter());
+
+        final JsonEnvelope envelope = BenchmarkEvents.envelope(randomUUID(), 1L, payloadFields);
+        linkedEvent = new LinkedEvent(
+                envelope.metadata().id(),
+                envelope.metadata().streamId().orElseThrow(),
+                1L,
+                envelope.metadata().name(),
+                envelope.metadata().asJsonObject().toString(),
+                envelope.payloadAsJsonObject().toString(),
+                new UtcClock().now(),
+                1001L,
+                1000L);
+    }
+
+    @Benchmark
+    public JsonEnvelope createLinkedJsonEnvelopeFrom() {
+        return linkedJsonEnvelopeCreator.createLinkedJsonEnvelopeFrom(linkedEvent);
+    }
+}
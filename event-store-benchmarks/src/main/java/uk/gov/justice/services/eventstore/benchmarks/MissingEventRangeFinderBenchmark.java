@@ -0,0 +1,129 @@
+package uk.gov.justice.services.eventstore.benchmarks;
+
+import static java.util.Collections.reverse;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRange;
+import uk.gov.justice.services.subscription.MissingEventRangeFinder;
+import uk.gov.justice.services.subscription.ProcessedEvent;
+import uk.gov.justice.services.subscription.ProcessedEventRange;
+import uk.gov.justice.services.subscription.ProcessedEventRangeMerger;
+import uk.gov.justice.services.subscription.ProcessedEventRangeRepository;
+import uk.gov.justice.services.subscription.ProcessedEventRangeTrackingConfiguration;
+import uk.gov.justice.services.subscription.ProcessedEventStreamer;
+import uk.gov.justice.services.subscription.ProcessedEventTrackingRepository;
+import uk.gov.justice.services.subscription.ProcessedEventWatermarkConfiguration;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finding the ranges of missing events from the processed_event table, read here from memory
+ * so that only the range calculation is measured. One in every 'gapEvery' events is missing.
+ * 'getRangesOfMissingEventsFromProcessedRanges' reads the same events as processed_event_range
+ * rows, as when catchup.processed.event.range.tracking.enabled is true.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissingEventRangeFinderBenchmark {
+
+    private static final String SOURCE = "benchmark";
+    private static final String COMPONENT = "EVENT_LISTENER";
+
+    @Param({"100000"})
+    private int highestEventNumber;
+
+    @Param({"10", "1000"})
+    private int gapEvery;
+
+    private MissingEventRangeFinder missingEventRangeFinder;
+    private MissingEventRangeFinder rangeTrackingMissingEventRangeFinder;
+
+    @Setup
+    public void setup() {
+        final List<ProcessedEvent> processedEventsDescending = new ArrayList<>();
+        for (long eventNumber = 1; eventNumber <= highestEventNumber; eventNumber++) {
+            if (eventNumber % gapEvery != 0) {
+                processedEventsDescending.add(new ProcessedEvent(randomUUID(), eventNumber - 1, eventNumber, SOURCE, COMPONENT));
+            }
+        }
+        reverse(processedEventsDescending);
+
+        final ProcessedEvent latestProcessedEvent = processedEventsDescending.get(0);
+
+        missingEventRangeFinder = new MissingEventRangeFinder();
+        setField(missingEventRangeFinder, "processedEventTrackingRepository", new ProcessedEventTrackingRepository() {
+            @Override
+            public Optional<ProcessedEvent> getLatestProcessedEvent(final String source, final String componentName) {
+                return Optional.of(latestProcessedEvent);
+            }
+        });
+        setField(missingEventRangeFinder, "processedEventStreamer", new ProcessedEventStreamer() {
+            @Override
+            public Stream<ProcessedEvent> getProcessedEventStream(final String source, final String component, final Long runFromEventNumber) {
+                return processedEventsDescending.stream();
+            }
+        });
+        setField(missingEventRangeFinder, "processedEventRangeTrackingConfiguration", processedEventRangeTrackingConfiguration("false"));
+        setField(missingEventRangeFinder, "processedEventWatermarkConfiguration", new ProcessedEventWatermarkConfiguration());
+
+        final List<ProcessedEventRange> processedEventRangesAscending = new ArrayList<>();
+        for (int index = processedEventsDescending.size() - 1; index >= 0; index--) {
+            processedEventRangesAscending.add(ProcessedEventRange.rangeOf(processedEventsDescending.get(index)));
+        }
+        final List<ProcessedEventRange> processedEventRangesDescending = new ProcessedEventRangeMerger().merge(processedEventRangesAscending);
+        reverse(processedEventRangesDescending);
+
+        rangeTrackingMissingEventRangeFinder = new MissingEventRangeFinder();
+        setField(rangeTrackingMissingEventRangeFinder, "processedEventRangeRepository", new ProcessedEventRangeRepository() {
+            @Override
+            public Optional<Long> getLatestProcessedEventNumber(final String source, final String componentName) {
+                return Optional.of(latestProcessedEvent.getEventNumber());
+            }
+
+            @Override
+            public Stream<ProcessedEventRange> getProcessedEventRangesInDescendingOrder(final String source, final String componentName, final long runFromEventNumber) {
+                return processedEventRangesDescending.stream();
+            }
+        });
+        setField(rangeTrackingMissingEventRangeFinder, "processedEventRangeTrackingConfiguration", processedEventRangeTrackingConfiguration("true"));
+        setField(rangeTrackingMissingEventRangeFinder, "processedEventWatermarkConfiguration", new ProcessedEventWatermarkConfiguration());
+    }
+
+    @Benchmark
+    public LinkedList<MissingEventRange> getRangesOfMissingEvents() {
+        return missingEventRangeFinder.getRangesOfMissingEvents(SOURCE, COMPONENT, 1L, (long) highestEventNumber);
+    }
+
+    @Benchmark
+    public LinkedList<MissingEventRange> getRangesOfMissingEventsFromProcessedRanges() {
+        return rangeTrackingMissingEventRangeFinder.getRangesOfMissingEvents(SOURCE, COMPONENT, 1L, (long) highestEventNumber);
+    }
+
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration(final String rangeTrackingEnabled) {
+        final ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration = new ProcessedEventRangeTrackingConfiguration();
+        setField(processedEventRangeTrackingConfiguration, "rangeTrackingEnabled", rangeTrackingEnabled);
+        return processedEventRangeTrackingConfiguration;
+    }
+}
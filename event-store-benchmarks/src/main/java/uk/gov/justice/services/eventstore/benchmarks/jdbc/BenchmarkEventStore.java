@@ -0,0 +1,108 @@
+package uk.gov.justice.services.eventstore.benchmarks.jdbc;
+
+import static java.util.UUID.randomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.justice.services.test.utils.events.EventBuilder.eventBuilder;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository;
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.EventInsertionStrategy;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.Event;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventStreamReadConfig;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPositionException;
+import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
+import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
+import uk.gov.justice.services.test.utils.persistence.DatabaseCleaner;
+import uk.gov.justice.services.test.utils.persistence.FrameworkTestDataSourceFactory;
+import uk.gov.justice.services.test.utils.persistence.SettableEventStoreDataSourceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * The event store the JDBC benchmarks run against: the same local 'frameworkeventstore' database
+ * the integration tests use, with the repositories wired up as CDI would.
+ */
+public class BenchmarkEventStore {
+
+    private static final String FRAMEWORK_CONTEXT_NAME = "framework";
+
+    private final DataSource dataSource = new FrameworkTestDataSourceFactory().createEventStoreDataSource();
+    private final SettableEventStoreDataSourceProvider eventStoreDataSourceProvider = new SettableEventStoreDataSourceProvider();
+    private final EventJdbcRepository eventJdbcRepository;
+
+    public BenchmarkEventStore() {
+        eventStoreDataSourceProvider.setDataSource(dataSource);
+        eventJdbcRepository = eventJdbcRepository();
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public void clean() {
+        new DatabaseCleaner().cleanEventStoreTables(FRAMEWORK_CONTEXT_NAME);
+    }
+
+    public EventJdbcRepository eventJdbcRepository() {
+        final EventJdbcRepository eventJdbcRepository = new EventJdbcRepository();
+        setField(eventJdbcRepository, "eventInsertionStrategy", new EventInsertionStrategy());
+        setField(eventJdbcRepository, "jdbcResultSetStreamer", new JdbcResultSetStreamer());
+        setField(eventJdbcRepository, "preparedStatementWrapperFactory", new PreparedStatementWrapperFactory());
+        setField(eventJdbcRepository, "eventStoreDataSourceProvider", eventStoreDataSourceProvider);
+        setField(eventJdbcRepository, "eventStreamReadConfig", eventStreamReadConfig(0, 0));
+        setField(eventJdbcRepository, "logger", LoggerFactory.getLogger(EventJdbcRepository.class));
+        return eventJdbcRepository;
+    }
+
+    private EventStreamReadConfig eventStreamReadConfig(final int fetchSize, final int pageSize) {
+        final EventStreamReadConfig eventStreamReadConfig = new EventStreamReadConfig();
+        setField(eventStreamReadConfig, "fetchSize", String.valueOf(fetchSize));
+        setField(eventStreamReadConfig, "pageSize", String.valueOf(pageSize));
+        return eventStreamReadConfig;
+    }
+
+    public LinkEventsInEventLogDatabaseAccess linkEventsInEventLogDatabaseAccess() {
+        final LinkEventsInEventLogDatabaseAccess linkEventsInEventLogDatabaseAccess = new LinkEventsInEventLogDatabaseAccess();
+        setField(linkEventsInEventLogDatabaseAccess, "eventStoreDataSourceProvider", eventStoreDataSourceProvider);
+        setField(linkEventsInEventLogDatabaseAccess, "logger", LoggerFactory.getLogger(LinkEventsInEventLogDatabaseAccess.class));
+        setField(linkEventsInEventLogDatabaseAccess, "clock", new UtcClock());
+        return linkEventsInEventLogDatabaseAccess;
+    }
+
+    public EventPublishingRepository eventPublishingRepository() {
+        final EventPublishingRepository eventPublishingRepository = new EventPublishingRepository();
+        setField(eventPublishingRepository, "eventStoreDataSourceProvider", eventStoreDataSourceProvider);
+        return eventPublishingRepository;
+    }
+
+    /**
+     * Events at positions 1 to numberOfEvents of a new stream, as appended by one command.
+     */
+    public List<Event> newStreamOfEvents(final int numberOfEvents) {
+        final UUID streamId = randomUUID();
+        final List<Event> events = new ArrayList<>(numberOfEvents);
+        for (long position = 1; position <= numberOfEvents; position++) {
+            events.add(eventBuilder()
+                    .withStreamId(streamId)
+                    .withPositionInStream(position)
+                    .build());
+        }
+
+        return events;
+    }
+
+    /**
+     * Appends numberOfEvents new events, leaving them unlinked for the event linker to pick up.
+     */
+    public void appendUnlinkedEvents(final int numberOfEvents) throws InvalidPositionException {
+        eventJdbcRepository.insertBatch(newStreamOfEvents(numberOfEvents));
+    }
+}
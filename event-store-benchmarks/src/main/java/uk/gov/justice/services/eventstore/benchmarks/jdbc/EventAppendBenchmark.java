@@ -0,0 +1,72 @@
+package uk.gov.justice.services.eventstore.benchmarks.jdbc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.Event;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.EventJdbcRepository;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPositionException;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Appending the events of one command to a new stream in event_log, one insert per event against
+ * the single batched insert used when 'event.append.batch.enabled' is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventAppendBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int eventsPerCommand;
+
+    private BenchmarkEventStore benchmarkEventStore;
+    private EventJdbcRepository eventJdbcRepository;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setupEventStore() {
+        benchmarkEventStore = new BenchmarkEventStore();
+        benchmarkEventStore.clean();
+        eventJdbcRepository = benchmarkEventStore.eventJdbcRepository();
+    }
+
+    @Setup(Level.Invocation)
+    public void createEvents() {
+        events = benchmarkEventStore.newStreamOfEvents(eventsPerCommand);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanEventStore() {
+        benchmarkEventStore.clean();
+    }
+
+    @Benchmark
+    public void insertOneAtATime() throws InvalidPositionException {
+        for (final Event event : events) {
+            eventJdbcRepository.insert(event);
+        }
+    }
+
+    @Benchmark
+    public void insertBatch() throws InvalidPositionException {
+        eventJdbcRepository.insertBatch(events);
+    }
+}
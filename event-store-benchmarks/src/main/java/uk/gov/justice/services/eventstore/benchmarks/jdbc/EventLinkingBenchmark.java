@@ -0,0 +1,111 @@
+package uk.gov.justice.services.eventstore.benchmarks.jdbc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventDetailsToLink;
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess;
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkedEventData;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPositionException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Linking one batch of newly appended events and adding them to the publish_queue in a single
+ * transaction. The separate statements benchmark runs the same sequence of statements as
+ * EventNumberLinker does by default; the single statement benchmark runs the one data modifying
+ * CTE used when 'event.linking.worker.single.statement.enabled' is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventLinkingBenchmark {
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    @Param({"false", "true"})
+    private boolean useEventNumberCounter;
+
+    private BenchmarkEventStore benchmarkEventStore;
+    private LinkEventsInEventLogDatabaseAccess linkEventsInEventLogDatabaseAccess;
+
+    @Setup(Level.Trial)
+    public void setupEventStore() {
+        benchmarkEventStore = new BenchmarkEventStore();
+        benchmarkEventStore.clean();
+        linkEventsInEventLogDatabaseAccess = benchmarkEventStore.linkEventsInEventLogDatabaseAccess();
+    }
+
+    @Setup(Level.Invocation)
+    public void appendEventsToLink() throws InvalidPositionException {
+        benchmarkEventStore.appendUnlinkedEvents(batchSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanEventStore() {
+        benchmarkEventStore.clean();
+    }
+
+    @Benchmark
+    public List<EventDetailsToLink> linkInSeparateStatements() throws SQLException {
+        try (final Connection connection = benchmarkEventStore.getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+
+            final List<EventDetailsToLink> events = linkEventsInEventLogDatabaseAccess.findBatchOfNextEventsToLink(connection, batchSize);
+            long eventNumber = useEventNumberCounter
+                    ? linkEventsInEventLogDatabaseAccess.reserveEventNumbers(connection, events.size()) - events.size()
+                    : linkEventsInEventLogDatabaseAccess.findCurrentHighestEventNumberInEventLogTable(connection);
+
+            final List<UUID> eventIds = new ArrayList<>(events.size());
+            final List<LinkedEventData> linkDataList = new ArrayList<>(events.size());
+            for (final EventDetailsToLink event : events) {
+                final long previousEventNumber = eventNumber;
+                eventNumber = previousEventNumber + 1;
+                linkDataList.add(new LinkedEventData(event.eventId(), eventNumber, previousEventNumber));
+                eventIds.add(event.eventId());
+            }
+
+            linkEventsInEventLogDatabaseAccess.linkEventsBatch(connection, linkDataList);
+            linkEventsInEventLogDatabaseAccess.insertBatchIntoPublishQueue(connection, eventIds);
+            if (!useEventNumberCounter) {
+                linkEventsInEventLogDatabaseAccess.updateEventNumberCounter(connection, eventNumber);
+            }
+
+            connection.commit();
+            return events;
+        }
+    }
+
+    @Benchmark
+    public List<EventDetailsToLink> linkInSingleStatement() throws SQLException {
+        try (final Connection connection = benchmarkEventStore.getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+
+            final List<EventDetailsToLink> events = linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, batchSize, useEventNumberCounter);
+
+            connection.commit();
+            return events;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.justice.services.eventstore.benchmarks.jdbc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.EventPublishingRepository;
+import uk.gov.justice.services.eventsourcing.publishedevent.jdbc.LinkEventsInEventLogDatabaseAccess;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.exception.InvalidPositionException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Taking linked events off the publish_queue, reading them from event_log and marking them as
+ * published: one event at a time against one batch at a time, as set by
+ * 'event.publishing.worker.batch.size'. Sending to the event topic is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventPublishingBenchmark {
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private BenchmarkEventStore benchmarkEventStore;
+    private LinkEventsInEventLogDatabaseAccess linkEventsInEventLogDatabaseAccess;
+    private EventPublishingRepository eventPublishingRepository;
+
+    @Setup(Level.Trial)
+    public void setupEventStore() {
+        benchmarkEventStore = new BenchmarkEventStore();
+        benchmarkEventStore.clean();
+        linkEventsInEventLogDatabaseAccess = benchmarkEventStore.linkEventsInEventLogDatabaseAccess();
+        eventPublishingRepository = benchmarkEventStore.eventPublishingRepository();
+    }
+
+    @Setup(Level.Invocation)
+    public void queueEventsToPublish() throws InvalidPositionException, SQLException {
+        benchmarkEventStore.appendUnlinkedEvents(batchSize);
+        try (final Connection connection = benchmarkEventStore.getDataSource().getConnection()) {
+            linkEventsInEventLogDatabaseAccess.linkAndEnqueueBatchOfEvents(connection, batchSize, false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanEventStore() {
+        benchmarkEventStore.clean();
+    }
+
+    @Benchmark
+    public List<LinkedEvent> publishOneAtATime() {
+        final List<LinkedEvent> publishedEvents = new ArrayList<>(batchSize);
+        for (int index = 0; index < batchSize; index++) {
+            final Optional<UUID> eventId = eventPublishingRepository.popNextEventIdFromPublishQueue();
+            if (eventId.isEmpty()) {
+                break;
+            }
+
+            eventPublishingRepository.findEventFromEventLog(eventId.get()).ifPresent(publishedEvents::add);
+            eventPublishingRepository.setIsPublishedFlag(eventId.get(), true);
+        }
+
+        return publishedEvents;
+    }
+
+    @Benchmark
+    public List<LinkedEvent> publishInBatch() {
+        final List<UUID> eventIds = eventPublishingRepository.popNextEventIdsFromPublishQueue(batchSize);
+        final List<LinkedEvent> publishedEvents = eventPublishingRepository.findEventsFromEventLog(eventIds);
+        eventPublishingRepository.setIsPublishedFlag(eventIds, true);
+
+        return publishedEvents;
+    }
+}
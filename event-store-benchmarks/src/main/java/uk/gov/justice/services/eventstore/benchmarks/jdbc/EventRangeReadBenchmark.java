@@ -0,0 +1,179 @@
+package uk.gov.justice.services.eventstore.benchmarks.jdbc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.MultipleDataSourceEventRepository;
+import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
+import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading a missing range of 'rangeSize' event numbers from the middle of an event_log of
+ * 'numberOfEvents' linked events on 1000 streams, one in ten of them inactive, as catch-up does:
+ * the previous range query, joining event_stream on every row and falling back to a correlated
+ * MAX(event_number) subquery, against MultipleDataSourceEventRepository.findEventRange, with and
+ * without windows and a fetch size, and reading only the payloads of the one in twenty events a
+ * component might subscribe to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EventRangeReadBenchmark {
+
+    private static final int NUMBER_OF_STREAMS = 1000;
+    private static final int FETCH_SIZE = 1000;
+    private static final long WINDOW_SIZE = 10_000L;
+    private static final Set<String> SUBSCRIBED_EVENT_NAMES = Set.of("benchmark.event.0");
+
+    private static final String SEED_EVENT_STREAM_SQL = """
+            INSERT INTO event_stream (stream_id, position_in_stream, active, date_created)
+            SELECT md5(s::text)::uuid, 0, s % 10 <> 0, now()
+            FROM generate_series(1, ?) AS s
+            """;
+    private static final String SEED_EVENT_LOG_SQL = """
+            INSERT INTO event_log (id, stream_id, position_in_stream, name, payload, metadata, date_created, event_status, event_number, previous_event_number)
+            SELECT md5('event' || i::text)::uuid, md5((i % ?)::text)::uuid, i, 'benchmark.event.' || (i % 20), '{"field":"' || repeat('value', 200) || '"}', '{}', now(), 'HEALTHY', i, i - 1
+            FROM generate_series(1, ?) AS i
+            """;
+    private static final String CORRELATED_SUBQUERY_RANGE_SQL = """
+            SELECT
+                e.id,
+                e.stream_id,
+                e.position_in_stream,
+                e.name,
+                e.payload,
+                e.metadata,
+                e.date_created,
+                e.event_number,
+                COALESCE(
+                    previous_event_number,
+                    LAG(e.event_number) OVER (ORDER BY e.event_number),
+                    (SELECT MAX(event_number)
+                    FROM event_log
+                    WHERE event_number < e.event_number)
+                ) AS previous_event_number
+            FROM event_log e, event_stream event_stream
+            WHERE e.event_number >= ?
+            AND e.event_number < ?
+            AND e.event_status = 'HEALTHY'
+            AND e.stream_id = event_stream.stream_id
+            AND event_stream.active = TRUE
+            ORDER BY e.event_number;
+            """;
+
+    @Param({"2000000"})
+    private int numberOfEvents;
+
+    @Param({"100000"})
+    private long rangeSize;
+
+    private final BenchmarkEventStore benchmarkEventStore = new BenchmarkEventStore();
+
+    private DataSource dataSource;
+    private MultipleDataSourceEventRepository eventRepository;
+    private MultipleDataSourceEventRepository windowedEventRepository;
+    private long fromEventNumber;
+
+    @Setup(Level.Trial)
+    public void seedEventLog() throws SQLException {
+        benchmarkEventStore.clean();
+        dataSource = benchmarkEventStore.getDataSource();
+
+        try (final Connection connection = dataSource.getConnection()) {
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(SEED_EVENT_STREAM_SQL)) {
+                preparedStatement.setInt(1, NUMBER_OF_STREAMS);
+                preparedStatement.executeUpdate();
+            }
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(SEED_EVENT_LOG_SQL)) {
+                preparedStatement.setInt(1, NUMBER_OF_STREAMS);
+                preparedStatement.setInt(2, numberOfEvents);
+                preparedStatement.executeUpdate();
+            }
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE event_log");
+                statement.execute("ANALYZE event_stream");
+            }
+        }
+
+        eventRepository = new MultipleDataSourceEventRepository(
+                new JdbcResultSetStreamer(),
+                new PreparedStatementWrapperFactory(),
+                dataSource);
+        windowedEventRepository = new MultipleDataSourceEventRepository(
+                new JdbcResultSetStreamer(),
+                new PreparedStatementWrapperFactory(),
+                dataSource,
+                FETCH_SIZE,
+                WINDOW_SIZE);
+        fromEventNumber = (numberOfEvents - rangeSize) / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanEventLog() {
+        benchmarkEventStore.clean();
+    }
+
+    @Benchmark
+    public void correlatedSubqueryRange(final Blackhole blackhole) throws SQLException {
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(CORRELATED_SUBQUERY_RANGE_SQL)) {
+            preparedStatement.setLong(1, fromEventNumber);
+            preparedStatement.setLong(2, fromEventNumber + rangeSize);
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getString("payload"));
+                    blackhole.consume(resultSet.getLong("previous_event_number"));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void findEventRange(final Blackhole blackhole) {
+        try (final Stream<LinkedEvent> linkedEvents = eventRepository.findEventRange(fromEventNumber, fromEventNumber + rangeSize)) {
+            linkedEvents.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void findEventRangeInWindowsWithFetchSize(final Blackhole blackhole) {
+        try (final Stream<LinkedEvent> linkedEvents = windowedEventRepository.findEventRange(fromEventNumber, fromEventNumber + rangeSize)) {
+            linkedEvents.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void findEventRangeWithSubscribedEventPayloadsOnly(final Blackhole blackhole) {
+        try (final Stream<LinkedEvent> linkedEvents = windowedEventRepository.findEventRange(fromEventNumber, fromEventNumber + rangeSize, SUBSCRIBED_EVENT_NAMES)) {
+            linkedEvents.forEach(blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package uk.gov.justice.services.eventstore.benchmarks.jdbc;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import uk.gov.justice.services.test.utils.persistence.DatabaseCleaner;
+import uk.gov.justice.services.test.utils.persistence.FrameworkTestDataSourceFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Handing out streams ready to process to 'batchSize' workers, each holding its own transaction,
+ * from a stream_status table of 'numberOfStreams' rows of which one in ten is behind: every worker
+ * selecting and locking the oldest stream it can, against the ids of 'batchSize' streams selected
+ * with one query and each then locked by primary key, as with 'stream.processing.claim.batch.size'.
+ * The queries are those run by NewStreamStatusRepository; the worker transactions are rolled back
+ * after each invocation so the table is left as seeded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StreamStatusClaimBenchmark {
+
+    private static final String FRAMEWORK_CONTEXT_NAME = "framework";
+    private static final String SOURCE = "benchmark-source";
+    private static final String COMPONENT = "EVENT_LISTENER";
+    private static final int MAX_RETRIES = 7;
+
+    private static final String SEED_STREAM_STATUS_SQL = """
+            INSERT INTO stream_status (stream_id, position, source, component, discovered_at, latest_known_position, is_up_to_date)
+            SELECT md5(i::text)::uuid, CASE WHEN i % 10 = 0 THEN 0 ELSE 10 END, ?, ?, now() - (i * interval '1 millisecond'), 10, i % 10 <> 0
+            FROM generate_series(1, ?) AS i
+            """;
+    private static final String SELECT_OLDEST_STREAM_SQL = """
+            SELECT ss.stream_id, ss.position, ss.latest_known_position, ss.stream_error_id
+            FROM stream_status ss
+            LEFT JOIN stream_error_retry ser
+                ON ser.stream_id = ss.stream_id AND ser.source = ss.source AND ser.component = ss.component
+            WHERE ss.source = ?
+              AND ss.component = ?
+              AND ss.position < ss.latest_known_position
+              AND (ss.stream_error_id IS NULL OR ser.stream_id IS NULL OR (ser.retry_count < ? AND ser.next_retry_time <= now()))
+            ORDER BY ss.discovered_at ASC
+            LIMIT 1
+            FOR NO KEY UPDATE OF ss SKIP LOCKED
+            """;
+    private static final String SELECT_OLDEST_STREAM_IDS_SQL = """
+            SELECT ss.stream_id
+            FROM stream_status ss
+            LEFT JOIN stream_error_retry ser
+                ON ser.stream_id = ss.stream_id AND ser.source = ss.source AND ser.component = ss.component
+            WHERE ss.source = ?
+              AND ss.component = ?
+              AND ss.position < ss.latest_known_position
+              AND (ss.stream_error_id IS NULL OR ser.stream_id IS NULL OR (ser.retry_count < ? AND ser.next_retry_time <= now()))
+            ORDER BY ss.discovered_at ASC
+            LIMIT ?
+            FOR NO KEY UPDATE OF ss SKIP LOCKED
+            """;
+    private static final String LOCK_STREAM_BY_ID_SQL = """
+            SELECT ss.stream_id, ss.position, ss.latest_known_position, ss.stream_error_id
+            FROM stream_status ss
+            LEFT JOIN stream_error_retry ser
+                ON ser.stream_id = ss.stream_id AND ser.source = ss.source AND ser.component = ss.component
+            WHERE ss.stream_id = ?
+              AND ss.source = ?
+              AND ss.component = ?
+              AND ss.position < ss.latest_known_position
+              AND (ss.stream_error_id IS NULL OR ser.stream_id IS NULL OR (ser.retry_count < ? AND ser.next_retry_time <= now()))
+            FOR NO KEY UPDATE OF ss SKIP LOCKED
+            """;
+
+    @Param({"1000000"})
+    private int numberOfStreams;
+
+    @Param({"10", "50"})
+    private int batchSize;
+
+    private DataSource dataSource;
+    private final List<Connection> workerConnections = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void seedStreamStatus() throws SQLException {
+        dataSource = new FrameworkTestDataSourceFactory().createViewStoreDataSource();
+        new DatabaseCleaner().cleanStreamStatusTable(FRAMEWORK_CONTEXT_NAME);
+
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SEED_STREAM_STATUS_SQL)) {
+            preparedStatement.setString(1, SOURCE);
+            preparedStatement.setString(2, COMPONENT);
+            preparedStatement.setInt(3, numberOfStreams);
+            preparedStatement.executeUpdate();
+        }
+
+        for (int index = 0; index < batchSize; index++) {
+            final Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            workerConnections.add(connection);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseWorkerLocks() throws SQLException {
+        for (final Connection connection : workerConnections) {
+            connection.rollback();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanStreamStatus() throws SQLException {
+        for (final Connection connection : workerConnections) {
+            connection.close();
+        }
+        workerConnections.clear();
+        new DatabaseCleaner().cleanStreamStatusTable(FRAMEWORK_CONTEXT_NAME);
+    }
+
+    @Benchmark
+    public List<UUID> claimOneStreamPerWorker() throws SQLException {
+        final List<UUID> lockedStreamIds = new ArrayList<>(batchSize);
+        for (final Connection workerConnection : workerConnections) {
+            try (final PreparedStatement preparedStatement = workerConnection.prepareStatement(SELECT_OLDEST_STREAM_SQL)) {
+                preparedStatement.setString(1, SOURCE);
+                preparedStatement.setString(2, COMPONENT);
+                preparedStatement.setInt(3, MAX_RETRIES);
+                try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        lockedStreamIds.add((UUID) resultSet.getObject("stream_id"));
+                    }
+                }
+            }
+        }
+
+        return lockedStreamIds;
+    }
+
+    @Benchmark
+    public List<UUID> claimManyStreamsThenLockEachById() throws SQLException {
+        final List<UUID> claimedStreamIds = new ArrayList<>(batchSize);
+        try (final Connection connection = dataSource.getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_OLDEST_STREAM_IDS_SQL)) {
+            preparedStatement.setString(1, SOURCE);
+            preparedStatement.setString(2, COMPONENT);
+            preparedStatement.setInt(3, MAX_RETRIES);
+            preparedStatement.setInt(4, batchSize);
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    claimedStreamIds.add((UUID) resultSet.getObject("stream_id"));
+                }
+            }
+        }
+
+        final List<UUID> lockedStreamIds = new ArrayList<>(batchSize);
+        for (int index = 0; index < claimedStreamIds.size(); index++) {
+            final UUID streamId = claimedStreamIds.get(index);
+            try (final PreparedStatement preparedStatement = workerConnections.get(index).prepareStatement(LOCK_STREAM_BY_ID_SQL)) {
+                preparedStatement.setObject(1, streamId);
+                preparedStatement.setString(2, SOURCE);
+                preparedStatement.setString(3, COMPONENT);
+                preparedStatement.setInt(4, MAX_RETRIES);
+                try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        lockedStreamIds.add(streamId);
+                    }
+                }
+            }
+        }
+
+        return lockedStreamIds;
+    }
+}
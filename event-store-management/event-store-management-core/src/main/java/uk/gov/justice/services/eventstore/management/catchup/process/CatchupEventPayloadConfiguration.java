@@ -0,0 +1,22 @@
+package uk.gov.justice.services.eventstore.management.catchup.process;
+
+import static java.lang.Boolean.parseBoolean;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import javax.inject.Inject;
+
+public class CatchupEventPayloadConfiguration {
+
+    @Inject
+    @Value(key = "catchup.read.subscribed.event.payloads.only", defaultValue = "false")
+    private String readSubscribedEventPayloadsOnly;
+
+    /**
+     * @return true if catch-up should only read the payloads of the events a component subscribes
+     * to, leaving the payloads of all other events in the event store
+     */
+    public boolean shouldReadSubscribedEventPayloadsOnly() {
+        return parseBoolean(readSubscribedEventPayloadsOnly);
+    }
+}
@@ -3,8 +3,11 @@ package uk.gov.justice.services.eventstore.management.catchup.process;
 import uk.gov.justice.services.event.sourcing.subscription.manager.LinkedEventSourceProvider;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventsourcing.source.api.service.core.LinkedEventSource;
+import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRange;
 import uk.gov.justice.services.subscription.ProcessedEventTrackingService;
+import uk.gov.justice.subscription.SubscriptionEventNamesProvider;
 
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -17,6 +20,12 @@ public class MissingEventStreamer {
     @Inject
     private ProcessedEventTrackingService processedEventTrackingService;
 
+    @Inject
+    private SubscriptionEventNamesProvider subscriptionEventNamesProvider;
+
+    @Inject
+    private CatchupEventPayloadConfiguration catchupEventPayloadConfiguration;
+
     public Stream<LinkedEvent> getMissingEvents(
             final String eventSourceName,
             final String componentName,
@@ -25,11 +34,21 @@ public class MissingEventStreamer {
         final LinkedEventSource linkedEventSource = linkedEventSourceProvider.getLinkedEventSource(eventSourceName);
         final Long highestPublishedEventNumber = linkedEventSource.getHighestPublishedEventNumber();
 
-        return processedEventTrackingService.getAllMissingEvents(
-                        eventSourceName,
-                        componentName,
-                        runFromEventNumber,
-                        highestPublishedEventNumber)
-                .flatMap(linkedEventSource::findEventRange);
+        final Stream<MissingEventRange> missingEventRanges = processedEventTrackingService.getAllMissingEvents(
+                eventSourceName,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        if (catchupEventPayloadConfiguration.shouldReadSubscribedEventPayloadsOnly()) {
+
+            // Every event is still read, as the stream positions and processed events of the
+            // component must follow on from each other, but only the subscribed events are ever
+            // dispatched to it so only they need their payloads.
+            final Set<String> subscribedEventNames = subscriptionEventNamesProvider.getAcceptedEventNames(eventSourceName, componentName);
+            return missingEventRanges.flatMap(missingEventRange -> linkedEventSource.findEventRange(missingEventRange, subscribedEventNames));
+        }
+
+        return missingEventRanges.flatMap(linkedEventSource::findEventRange);
     }
 }
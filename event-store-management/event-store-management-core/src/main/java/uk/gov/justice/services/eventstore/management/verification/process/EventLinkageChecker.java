@@ -24,7 +24,7 @@ public class EventLinkageChecker {
             final LinkedEventNumberTable linkedEventNumberTable,
             final DataSource dataSource) {
 
-        final String query = format("SELECT event_number, previous_event_number FROM %s ORDER BY event_number", linkedEventNumberTable.getTableName());
+        final String query = linkedEventNumberTable.getLinkedEventNumbersQuery();
 
         final List<VerificationResult> errors = new ArrayList<>();
 
@@ -49,16 +49,16 @@ public class EventLinkageChecker {
                     errors.add(error(errorMessage));
                 }
 
-                lastEventNumber = eventNumber;
+                lastEventNumber = resultSet.getInt("last_event_number");
                 count++;
             }
 
             if (errors.isEmpty()) {
 
                 final String message = format(
-                        "All %d events in the %s table are correctly linked",
+                        "All %d %s are correctly linked",
                         count,
-                        linkedEventNumberTable.getTableName());
+                        linkedEventNumberTable.getRowsDescription());
 
                 return singletonList(success(message));
             }
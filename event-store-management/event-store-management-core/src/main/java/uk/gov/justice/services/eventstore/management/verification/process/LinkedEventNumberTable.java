@@ -1,17 +1,48 @@
 package uk.gov.justice.services.eventstore.management.verification.process;
 
+/**
+ * The tables whose events are linked by previous_event_number, each with the query returning
+ * its linked rows in event number order. A row is either one event, or for processed_event_range
+ * a range of contiguous events, linked from its first event and ending at last_event_number
+ */
 public enum LinkedEventNumberTable {
 
-    EVENT_LOG("event_log"),
-    PROCESSED_EVENT("processed_event");
+    EVENT_LOG(
+            "event_log",
+            "events in the event_log table",
+            "SELECT event_number, previous_event_number, event_number AS last_event_number FROM event_log ORDER BY event_number"),
+    PROCESSED_EVENT(
+            "processed_event",
+            "processed events and processed event ranges in the processed_event and processed_event_range tables",
+            """
+                    SELECT event_number, previous_event_number, last_event_number
+                    FROM (
+                        SELECT event_number, previous_event_number, event_number AS last_event_number
+                        FROM processed_event
+                        UNION ALL
+                        SELECT from_event_number, from_previous_event_number, to_event_number
+                        FROM processed_event_range) AS processed_event_number
+                    ORDER BY event_number""");
 
     private final String tableName;
+    private final String rowsDescription;
+    private final String linkedEventNumbersQuery;
 
-    LinkedEventNumberTable(final String tableName) {
+    LinkedEventNumberTable(final String tableName, final String rowsDescription, final String linkedEventNumbersQuery) {
         this.tableName = tableName;
+        this.rowsDescription = rowsDescription;
+        this.linkedEventNumbersQuery = linkedEventNumbersQuery;
     }
 
     public String getTableName() {
         return tableName;
     }
+
+    public String getRowsDescription() {
+        return rowsDescription;
+    }
+
+    public String getLinkedEventNumbersQuery() {
+        return linkedEventNumbersQuery;
+    }
 }
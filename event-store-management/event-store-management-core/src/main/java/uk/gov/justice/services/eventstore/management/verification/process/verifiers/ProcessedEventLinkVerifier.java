@@ -27,7 +27,7 @@ public class ProcessedEventLinkVerifier implements Verifier {
     @Override
     public List<VerificationResult> verify() {
 
-        logger.info("Verifying all previous_event_numbers in processed_event point to an existing event...");
+        logger.info("Verifying all previous_event_numbers in processed_event and processed_event_range point to an existing event...");
 
         return eventLinkageChecker.verifyEventNumbersAreLinkedCorrectly(
                 PROCESSED_EVENT,
@@ -0,0 +1,33 @@
+package uk.gov.justice.services.eventstore.management.catchup.process;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CatchupEventPayloadConfigurationTest {
+
+    @InjectMocks
+    private CatchupEventPayloadConfiguration catchupEventPayloadConfiguration;
+
+    @Test
+    public void shouldReadSubscribedEventPayloadsOnlyIfJndiValueIsTrue() throws Exception {
+
+        setField(catchupEventPayloadConfiguration, "readSubscribedEventPayloadsOnly", "true");
+
+        assertThat(catchupEventPayloadConfiguration.shouldReadSubscribedEventPayloadsOnly(), is(true));
+    }
+
+    @Test
+    public void shouldReadAllEventPayloadsIfJndiValueIsFalse() throws Exception {
+
+        setField(catchupEventPayloadConfiguration, "readSubscribedEventPayloadsOnly", "false");
+
+        assertThat(catchupEventPayloadConfiguration.shouldReadSubscribedEventPayloadsOnly(), is(false));
+    }
+}
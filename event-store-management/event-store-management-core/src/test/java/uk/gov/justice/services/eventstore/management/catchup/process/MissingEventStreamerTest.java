@@ -3,6 +3,7 @@ package uk.gov.justice.services.eventstore.management.catchup.process;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.services.event.sourcing.subscription.manager.LinkedEventSourceProvider;
@@ -10,8 +11,10 @@ import uk.gov.justice.services.eventsourcing.repository.jdbc.event.LinkedEvent;
 import uk.gov.justice.services.eventsourcing.source.api.service.core.LinkedEventSource;
 import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRange;
 import uk.gov.justice.services.subscription.ProcessedEventTrackingService;
+import uk.gov.justice.subscription.SubscriptionEventNamesProvider;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,12 @@ public class MissingEventStreamerTest {
     @Mock
     private ProcessedEventTrackingService processedEventTrackingService;
 
+    @Mock
+    private SubscriptionEventNamesProvider subscriptionEventNamesProvider;
+
+    @Mock
+    private CatchupEventPayloadConfiguration catchupEventPayloadConfiguration;
+
     @InjectMocks
     private MissingEventStreamer missingEventStreamer;
 
@@ -60,6 +69,7 @@ public class MissingEventStreamerTest {
         when(linkedEventSourceProvider.getLinkedEventSource(eventSourceName)).thenReturn(linkedEventSource);
         when(linkedEventSource.getHighestPublishedEventNumber()).thenReturn(highestPublishedEventNumber);
         when(processedEventTrackingService.getAllMissingEvents(eventSourceName, componentName, runFromEventNumber, highestPublishedEventNumber)).thenReturn(missingEventRangeStream);
+        when(catchupEventPayloadConfiguration.shouldReadSubscribedEventPayloadsOnly()).thenReturn(false);
         when(linkedEventSource.findEventRange(missingEventRange_1)).thenReturn(publishedEventStream_1);
         when(linkedEventSource.findEventRange(missingEventRange_2)).thenReturn(publishedEventStream_2);
 
@@ -74,5 +84,41 @@ public class MissingEventStreamerTest {
         assertThat(missingEvents.get(1), is(linkedEvent_3));
         assertThat(missingEvents.get(2), is(linkedEvent_7));
         assertThat(missingEvents.get(3), is(linkedEvent_8));
+
+        verifyNoInteractions(subscriptionEventNamesProvider);
+    }
+
+    @Test
+    public void shouldOnlyReadThePayloadsOfSubscribedEventsIfConfigured() throws Exception {
+
+        final String componentName = "EVENT_LISTENER";
+        final String eventSourceName = "event source name";
+        final Long highestPublishedEventNumber = 23L;
+        final Long runFromEventNumber = 4L;
+        final Set<String> subscribedEventNames = Set.of("some.event", "some.other.event");
+
+        final LinkedEventSource linkedEventSource = mock(LinkedEventSource.class);
+
+        final MissingEventRange missingEventRange_1 = mock(MissingEventRange.class);
+        final MissingEventRange missingEventRange_2 = mock(MissingEventRange.class);
+
+        final LinkedEvent linkedEvent_2 = mock(LinkedEvent.class);
+        final LinkedEvent linkedEvent_7 = mock(LinkedEvent.class);
+
+        when(linkedEventSourceProvider.getLinkedEventSource(eventSourceName)).thenReturn(linkedEventSource);
+        when(linkedEventSource.getHighestPublishedEventNumber()).thenReturn(highestPublishedEventNumber);
+        when(processedEventTrackingService.getAllMissingEvents(eventSourceName, componentName, runFromEventNumber, highestPublishedEventNumber)).thenReturn(Stream.of(missingEventRange_1, missingEventRange_2));
+        when(catchupEventPayloadConfiguration.shouldReadSubscribedEventPayloadsOnly()).thenReturn(true);
+        when(subscriptionEventNamesProvider.getAcceptedEventNames(eventSourceName, componentName)).thenReturn(subscribedEventNames);
+        when(linkedEventSource.findEventRange(missingEventRange_1, subscribedEventNames)).thenReturn(Stream.of(linkedEvent_2));
+        when(linkedEventSource.findEventRange(missingEventRange_2, subscribedEventNames)).thenReturn(Stream.of(linkedEvent_7));
+
+        final List<LinkedEvent> missingEvents = missingEventStreamer.getMissingEvents(
+                        eventSourceName,
+                        componentName,
+                        runFromEventNumber)
+                .toList();
+
+        assertThat(missingEvents, is(List.of(linkedEvent_2, linkedEvent_7)));
     }
 }
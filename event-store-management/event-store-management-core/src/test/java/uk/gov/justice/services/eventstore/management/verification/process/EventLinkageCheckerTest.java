@@ -36,7 +36,7 @@ public class EventLinkageCheckerTest {
     @Test
     public void shouldReturnSuccessIfAllEventsAreCorrectlyLinked() throws Exception {
 
-        final String sql = "SELECT event_number, previous_event_number FROM event_log ORDER BY event_number";
+        final String sql = EVENT_LOG.getLinkedEventNumbersQuery();
 
         final DataSource dataSource = mock(DataSource.class);
         final Connection connection = mock(Connection.class);
@@ -50,6 +50,7 @@ public class EventLinkageCheckerTest {
 
         when(resultSet.getInt("previous_event_number")).thenReturn(0, 1, 2);
         when(resultSet.getInt("event_number")).thenReturn(1, 2, 3);
+        when(resultSet.getInt("last_event_number")).thenReturn(1, 2, 3);
 
         final List<VerificationResult> publishedEventsResults = eventLinkageChecker.verifyEventNumbersAreLinkedCorrectly(
                 EVENT_LOG,
@@ -65,7 +66,7 @@ public class EventLinkageCheckerTest {
 
         final String errorMessage = "error message";
 
-        final String sql = "SELECT event_number, previous_event_number FROM event_log ORDER BY event_number";
+        final String sql = EVENT_LOG.getLinkedEventNumbersQuery();
 
         final DataSource dataSource = mock(DataSource.class);
         final Connection connection = mock(Connection.class);
@@ -79,6 +80,7 @@ public class EventLinkageCheckerTest {
 
         when(resultSet.getInt("previous_event_number")).thenReturn(0, 1, 3);
         when(resultSet.getInt("event_number")).thenReturn(1, 2, 4);
+        when(resultSet.getInt("last_event_number")).thenReturn(1, 2, 4);
 
         when(eventLinkageErrorMessageGenerator.generateErrorMessage(3, 4, 2, EVENT_LOG)).thenReturn(errorMessage);
 
@@ -97,7 +99,7 @@ public class EventLinkageCheckerTest {
         final String errorMessage_1 = "error message 1";
         final String errorMessage_2 = "error message 2";
 
-        final String sql = "SELECT event_number, previous_event_number FROM processed_event ORDER BY event_number";
+        final String sql = PROCESSED_EVENT.getLinkedEventNumbersQuery();
 
         final DataSource dataSource = mock(DataSource.class);
         final Connection connection = mock(Connection.class);
@@ -111,6 +113,7 @@ public class EventLinkageCheckerTest {
 
         when(resultSet.getInt("previous_event_number")).thenReturn(0, 2, 4);
         when(resultSet.getInt("event_number")).thenReturn(1, 3, 5);
+        when(resultSet.getInt("last_event_number")).thenReturn(1, 3, 5);
 
         when(eventLinkageErrorMessageGenerator.generateErrorMessage(2, 3, 1, PROCESSED_EVENT)).thenReturn(errorMessage_1);
         when(eventLinkageErrorMessageGenerator.generateErrorMessage(4, 5, 3, PROCESSED_EVENT)).thenReturn(errorMessage_2);
@@ -126,12 +129,68 @@ public class EventLinkageCheckerTest {
         assertThat(publishedEventsResults.get(1).getMessage(), is(errorMessage_2));
     }
 
+    @Test
+    public void shouldFollowTheLinkFromTheLastEventOfEachProcessedEventRange() throws Exception {
+
+        final String errorMessage = "error message";
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(PROCESSED_EVENT.getLinkedEventNumbersQuery())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+
+        when(resultSet.getInt("previous_event_number")).thenReturn(0, 5, 8);
+        when(resultSet.getInt("event_number")).thenReturn(1, 6, 9);
+        when(resultSet.getInt("last_event_number")).thenReturn(5, 6, 12);
+
+        when(eventLinkageErrorMessageGenerator.generateErrorMessage(8, 9, 6, PROCESSED_EVENT)).thenReturn(errorMessage);
+
+        final List<VerificationResult> processedEventsResults = eventLinkageChecker.verifyEventNumbersAreLinkedCorrectly(
+                PROCESSED_EVENT,
+                dataSource);
+
+        assertThat(processedEventsResults.size(), is(1));
+        assertThat(processedEventsResults.get(0).getVerificationResultType(), is(ERROR));
+        assertThat(processedEventsResults.get(0).getMessage(), is(errorMessage));
+    }
+
+    @Test
+    public void shouldReturnSuccessIfAllProcessedEventsAndRangesAreCorrectlyLinked() throws Exception {
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(PROCESSED_EVENT.getLinkedEventNumbersQuery())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        when(resultSet.getInt("previous_event_number")).thenReturn(0, 5);
+        when(resultSet.getInt("event_number")).thenReturn(1, 6);
+        when(resultSet.getInt("last_event_number")).thenReturn(5, 6);
+
+        final List<VerificationResult> processedEventsResults = eventLinkageChecker.verifyEventNumbersAreLinkedCorrectly(
+                PROCESSED_EVENT,
+                dataSource);
+
+        assertThat(processedEventsResults.size(), is(1));
+        assertThat(processedEventsResults.get(0).getVerificationResultType(), is(SUCCESS));
+        assertThat(processedEventsResults.get(0).getMessage(), is("All 2 processed events and processed event ranges in the processed_event and processed_event_range tables are correctly linked"));
+    }
+
     @Test
     public void shouldThrowExceptionIfDataAccessFails() throws Exception {
 
         final SQLException sqlException = new SQLException("Ooops");
 
-        final String sql = "SELECT event_number, previous_event_number FROM event_log ORDER BY event_number";
+        final String sql = EVENT_LOG.getLinkedEventNumbersQuery();
 
         final DataSource dataSource = mock(DataSource.class);
         final Connection connection = mock(Connection.class);
@@ -0,0 +1,38 @@
+package uk.gov.justice.services.eventsourcing.util.metrics;
+
+/**
+ * Names and tags of the micrometer meters registered by the event store itself, alongside those
+ * of the framework's MetricsMeterNames
+ */
+public final class EventStoreMeterNames {
+
+    public static final String SOURCE_TAG = "source";
+    public static final String COMPONENT_TAG = "component";
+    public static final String WORKER_TAG = "worker";
+    public static final String EXECUTOR_TAG = "executor";
+    public static final String BATCH_SIZE_TAG = "batch.size";
+
+    public static final String PUBLISH_BATCH_TIMER_NAME = "event-store.event-publishing.batch.time";
+    public static final String PUBLISH_BATCH_SIZE_SUMMARY_NAME = "event-store.event-publishing.batch.size";
+    public static final String EVENTS_PUBLISHED_COUNTER_NAME = "event-store.event-publishing.events.published";
+
+    public static final String LOCK_ACQUIRE_TIMER_NAME = "event-store.stream-processing.advisory-lock.acquire.time";
+    public static final String LOCK_ACQUIRED_COUNTER_NAME = "event-store.stream-processing.advisory-lock.acquired";
+    public static final String LOCK_CONTENDED_COUNTER_NAME = "event-store.stream-processing.advisory-lock.contended";
+    public static final String IDLE_LOCK_CONNECTIONS_GAUGE_NAME = "event-store.stream-processing.advisory-lock.idle.connections";
+
+    public static final String AGGREGATE_CACHE_HITS_COUNTER_NAME = "event-store.aggregate-cache.hits";
+    public static final String AGGREGATE_CACHE_MISSES_COUNTER_NAME = "event-store.aggregate-cache.misses";
+    public static final String AGGREGATE_CACHE_EVICTIONS_COUNTER_NAME = "event-store.aggregate-cache.evictions";
+
+    public static final String CATCHUP_EVENTS_CONSUMED_COUNTER_NAME = "event-store.catchup.events.consumed";
+    public static final String CATCHUP_EVENTS_IN_PROCESS_GAUGE_NAME = "event-store.catchup.events.in.process";
+    public static final String CATCHUP_STREAMS_IN_PROGRESS_GAUGE_NAME = "event-store.catchup.streams.in.progress";
+    public static final String CATCHUP_STREAM_QUEUE_DEPTH_SUMMARY_NAME = "event-store.catchup.stream.queue.depth";
+    public static final String CATCHUP_TRANSACTION_TIMER_NAME = "event-store.catchup.transaction";
+
+    public static final String WORKER_TASK_TIMER_NAME = "event-store.worker.task.time";
+
+    private EventStoreMeterNames() {
+    }
+}
@@ -1,10 +1,18 @@
 package uk.gov.justice.eventsourcing.discovery;
 
+import static uk.gov.justice.services.eventsourcing.discovery.DiscoveryResultNdjsonConverter.APPLICATION_NDJSON;
+
 import uk.gov.justice.services.clients.core.HttpCallerResponse;
 import uk.gov.justice.services.clients.core.httpclient.DefaultHttpCaller;
 import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResult;
+import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResultNdjsonConverter;
+import uk.gov.justice.services.eventsourcing.discovery.EventDiscoveryConfig;
+import uk.gov.justice.services.eventsourcing.eventreader.KeepAliveHttpCaller;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventStoreEventDiscoveryException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,7 +20,6 @@ import java.util.UUID;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ApplicationScoped
@@ -21,29 +28,64 @@ public class EventDiscoveryHttpClient {
     @Inject
     private DefaultHttpCaller defaultHttpCaller;
 
+    @Inject
+    private KeepAliveHttpCaller keepAliveHttpCaller;
+
     @Inject
     private ObjectMapper objectMapper;
 
+    @Inject
+    private DiscoveryResultNdjsonConverter discoveryResultNdjsonConverter;
+
+    @Inject
+    private EventDiscoveryConfig eventDiscoveryConfig;
+
     public DiscoveryResult discoverEvents(final String restUri, final Optional<UUID> latestKnownEventId, final int batchSize) {
 
         final String url = buildUrl(restUri, latestKnownEventId, batchSize);
-        final HttpCallerResponse response = defaultHttpCaller.get(url, Map.of("Accept", "application/json"));
-
-        if (response.getStatusCode() != 200) {
-            throw new EventStoreEventDiscoveryException(
-                    "Failed to discover events from event store. Status: " + response.getStatusCode() +
-                    ", restUri: " + restUri + ", latestKnownEventId: " + latestKnownEventId + ", batchSize: " + batchSize);
-        }
 
         try {
+            if (eventDiscoveryConfig.isNdjsonDiscoveryEnabled()) {
+                return discoverEventsAsNdjson(url, restUri, latestKnownEventId, batchSize);
+            }
+
+            final HttpCallerResponse response = defaultHttpCaller.get(url, Map.of("Accept", "application/json"));
+            checkStatus(response.getStatusCode(), restUri, latestKnownEventId, batchSize);
+
             return objectMapper.readValue(response.getBody(), DiscoveryResult.class);
-        } catch (final JsonProcessingException e) {
+        } catch (final IOException | IllegalArgumentException e) {
             throw new EventStoreEventDiscoveryException(
                     "Failed to parse discovery result: " + e.getMessage() +
                     ", restUri: " + restUri + ", latestKnownEventId: " + latestKnownEventId + ", batchSize: " + batchSize, e);
         }
     }
 
+    /**
+     * Reads the stream positions from the response body as they arrive rather than buffering the
+     * whole body first
+     */
+    private DiscoveryResult discoverEventsAsNdjson(
+            final String url,
+            final String restUri,
+            final Optional<UUID> latestKnownEventId,
+            final int batchSize) throws IOException {
+
+        final HttpResponse<InputStream> response = keepAliveHttpCaller.getInputStream(url, Map.of("Accept", APPLICATION_NDJSON));
+
+        try (final InputStream body = response.body()) {
+            checkStatus(response.statusCode(), restUri, latestKnownEventId, batchSize);
+            return discoveryResultNdjsonConverter.read(body);
+        }
+    }
+
+    private void checkStatus(final int statusCode, final String restUri, final Optional<UUID> latestKnownEventId, final int batchSize) {
+        if (statusCode != 200) {
+            throw new EventStoreEventDiscoveryException(
+                    "Failed to discover events from event store. Status: " + statusCode +
+                    ", restUri: " + restUri + ", latestKnownEventId: " + latestKnownEventId + ", batchSize: " + batchSize);
+        }
+    }
+
     private String buildUrl(final String restUri, final Optional<UUID> latestKnownEventId, final int batchSize) {
         final StringBuilder url = new StringBuilder(restUri)
                 .append("/events-discovery?batchSize=").append(batchSize);
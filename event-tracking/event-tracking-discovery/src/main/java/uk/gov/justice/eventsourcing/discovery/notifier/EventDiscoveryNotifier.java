@@ -12,9 +12,10 @@ import uk.gov.justice.subscription.SubscriptionSourceComponentFinder;
 import static javax.ejb.ConcurrencyManagementType.BEAN;
 import static javax.ejb.TransactionAttributeType.NOT_SUPPORTED;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.UUID;
 
 import javax.ejb.ConcurrencyManagement;
 import javax.ejb.Singleton;
@@ -54,22 +55,22 @@ public class EventDiscoveryNotifier {
             return;
         }
 
-        final List<SourceComponentPair> pairs = subscriptionSourceComponentFinder.findListenerOrIndexerPairs();
-        final Set<SourceComponentPair> advancedPairs = new HashSet<>();
-
+        final Map<UUID, Long> latestKnownPositions = new HashMap<>();
         for (final StreamPosition streamPosition : eventsLinkedEvent.streamPositions()) {
-            for (final SourceComponentPair pair : pairs) {
-                if (newStreamStatusRepository.upsertLatestKnownPositionIfIncreased(
-                        streamPosition.streamId(), pair.source(), pair.component(), streamPosition.positionInStream(), clock.now())) {
-                    logger.debug("Stream position advanced: stream='{}', source='{}', component='{}', position={}",
-                            streamPosition.streamId(), pair.source(), pair.component(), streamPosition.positionInStream());
-                    advancedPairs.add(pair);
-                }
-            }
+            latestKnownPositions.merge(streamPosition.streamId(), streamPosition.positionInStream(), Math::max);
         }
 
-        for (final SourceComponentPair pair : advancedPairs) {
-            streamStatusAdvancedFirer.fireAsync(new StreamStatusAdvancedEvent(pair.source(), pair.component()));
+        final List<SourceComponentPair> pairs = subscriptionSourceComponentFinder.findListenerOrIndexerPairs();
+
+        for (final SourceComponentPair pair : pairs) {
+            final List<UUID> advancedStreamIds = newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                    latestKnownPositions, pair.source(), pair.component(), clock.now());
+
+            if (!advancedStreamIds.isEmpty()) {
+                logger.debug("Stream positions advanced: source='{}', component='{}', streams={}",
+                        pair.source(), pair.component(), advancedStreamIds.size());
+                streamStatusAdvancedFirer.fireAsync(new StreamStatusAdvancedEvent(pair.source(), pair.component(), advancedStreamIds.size()));
+            }
         }
     }
 }
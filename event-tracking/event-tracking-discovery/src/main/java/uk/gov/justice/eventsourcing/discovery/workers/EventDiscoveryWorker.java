@@ -10,12 +10,15 @@ import uk.gov.justice.services.event.buffer.core.repository.subscription.NewStre
 import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResult;
 import uk.gov.justice.services.eventsourcing.discovery.EventDiscoveryConfig;
 import uk.gov.justice.services.eventsourcing.discovery.EventSubscriptionDiscoverer;
-import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamStatusAdvancedEvent;
 import uk.gov.justice.subscription.SourceComponentPair;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.enterprise.event.Event;
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 
@@ -35,6 +38,9 @@ public class EventDiscoveryWorker {
     @Inject
     private EventDiscoveryConfig eventDiscoveryConfig;
 
+    @Inject
+    private Event<StreamStatusAdvancedEvent> streamStatusAdvancedFirer;
+
     @Inject
     private Logger logger;
 
@@ -59,8 +65,21 @@ public class EventDiscoveryWorker {
 
             final DiscoveryResult discoveryResult = eventSubscriptionDiscoverer.discoverNewEvents(latestKnownEventId, batchSize, source);
 
-            discoveryResult.streamPositions()
-                    .forEach(streamPosition -> runDiscoveryFor(streamPosition, source, component));
+            final Map<UUID, Long> latestKnownPositions = new HashMap<>();
+            discoveryResult.streamPositions().forEach(streamPosition ->
+                    latestKnownPositions.merge(streamPosition.streamId(), streamPosition.positionInStream(), Math::max));
+
+            if (!latestKnownPositions.isEmpty()) {
+                logger.debug(format("Updating latest known positions of %d streams for source '%s' component '%s'", latestKnownPositions.size(), source, component));
+
+                newStreamStatusRepository.upsertLatestKnownPositions(
+                        latestKnownPositions,
+                        source,
+                        component,
+                        clock.now());
+
+                streamStatusAdvancedFirer.fire(new StreamStatusAdvancedEvent(source, component, latestKnownPositions.size()));
+            }
 
             if (discoveryResult.latestKnownEventId().isPresent()) {
                 eventSubscriptionStatusRepository.save(new EventSubscriptionStatus(
@@ -72,20 +91,4 @@ public class EventDiscoveryWorker {
             }
         }
     }
-
-    private void runDiscoveryFor(final StreamPosition streamPosition, final String source, final String component) {
-
-        final UUID streamId = streamPosition.streamId();
-        final Long latestKnownPosition = streamPosition.positionInStream();
-
-        logger.debug(format("Updating latest known position to '%d' for stream id '%s', source '%s' component '%s'", latestKnownPosition, streamId, source, component));
-
-        newStreamStatusRepository.upsertLatestKnownPosition(
-                streamId,
-                source,
-                component,
-                latestKnownPosition,
-                clock.now()
-        );
-    }
 }
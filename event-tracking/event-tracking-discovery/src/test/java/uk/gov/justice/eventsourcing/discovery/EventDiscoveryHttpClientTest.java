@@ -7,13 +7,21 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import uk.gov.justice.services.clients.core.HttpCallerResponse;
 import uk.gov.justice.services.clients.core.httpclient.DefaultHttpCaller;
 import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResult;
+import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResultNdjsonConverter;
+import uk.gov.justice.services.eventsourcing.discovery.EventDiscoveryConfig;
+import uk.gov.justice.services.eventsourcing.eventreader.KeepAliveHttpCaller;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.discovery.EventStoreEventDiscoveryException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
 import java.util.Map;
 import java.util.UUID;
 
@@ -33,9 +41,18 @@ public class EventDiscoveryHttpClientTest {
     @Mock
     private DefaultHttpCaller defaultHttpCaller;
 
+    @Mock
+    private KeepAliveHttpCaller keepAliveHttpCaller;
+
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private DiscoveryResultNdjsonConverter discoveryResultNdjsonConverter;
+
+    @Mock
+    private EventDiscoveryConfig eventDiscoveryConfig;
+
     @InjectMocks
     private EventDiscoveryHttpClient eventDiscoveryHttpClient;
 
@@ -104,4 +121,73 @@ public class EventDiscoveryHttpClientTest {
                 EventStoreEventDiscoveryException.class,
                 () -> eventDiscoveryHttpClient.discoverEvents(REST_URI, empty(), batchSize));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldAskForAndReadNdjsonDiscoveryResultFromResponseStreamIfEnabled() throws Exception {
+
+        final int batchSize = 5000;
+        final InputStream body = mock(InputStream.class);
+        final HttpResponse<InputStream> response = mock(HttpResponse.class);
+        final DiscoveryResult discoveryResult = mock(DiscoveryResult.class);
+        final String expectedUrl = REST_URI + "/events-discovery?batchSize=" + batchSize;
+
+        when(eventDiscoveryConfig.isNdjsonDiscoveryEnabled()).thenReturn(true);
+        when(keepAliveHttpCaller.getInputStream(expectedUrl, Map.of("Accept", "application/x-ndjson"))).thenReturn(response);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(body);
+        when(discoveryResultNdjsonConverter.read(body)).thenReturn(discoveryResult);
+
+        final DiscoveryResult result = eventDiscoveryHttpClient.discoverEvents(REST_URI, empty(), batchSize);
+
+        assertThat(result, is(discoveryResult));
+        verify(body).close();
+        verifyNoInteractions(defaultHttpCaller);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCloseResponseStreamAndThrowExceptionWhenNdjsonResponseIsNotSuccessful() throws Exception {
+
+        final int batchSize = 5000;
+        final InputStream body = mock(InputStream.class);
+        final HttpResponse<InputStream> response = mock(HttpResponse.class);
+        final String expectedUrl = REST_URI + "/events-discovery?batchSize=" + batchSize;
+
+        when(eventDiscoveryConfig.isNdjsonDiscoveryEnabled()).thenReturn(true);
+        when(keepAliveHttpCaller.getInputStream(expectedUrl, Map.of("Accept", "application/x-ndjson"))).thenReturn(response);
+        when(response.statusCode()).thenReturn(500);
+        when(response.body()).thenReturn(body);
+
+        assertThrows(
+                EventStoreEventDiscoveryException.class,
+                () -> eventDiscoveryHttpClient.discoverEvents(REST_URI, empty(), batchSize));
+
+        verify(body).close();
+        verifyNoInteractions(discoveryResultNdjsonConverter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldThrowExceptionWhenNdjsonParsingFails() throws Exception {
+
+        final int batchSize = 5000;
+        final InputStream body = mock(InputStream.class);
+        final HttpResponse<InputStream> response = mock(HttpResponse.class);
+        final String expectedUrl = REST_URI + "/events-discovery?batchSize=" + batchSize;
+
+        when(eventDiscoveryConfig.isNdjsonDiscoveryEnabled()).thenReturn(true);
+        when(keepAliveHttpCaller.getInputStream(expectedUrl, Map.of("Accept", "application/x-ndjson"))).thenReturn(response);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(body);
+        when(discoveryResultNdjsonConverter.read(body)).thenThrow(new IOException("Discovery result of 2 stream positions ended without its latestKnownEventId line"));
+
+        final EventStoreEventDiscoveryException eventStoreEventDiscoveryException = assertThrows(
+                EventStoreEventDiscoveryException.class,
+                () -> eventDiscoveryHttpClient.discoverEvents(REST_URI, empty(), batchSize));
+
+        assertThat(eventStoreEventDiscoveryException.getMessage(), is("Failed to parse discovery result: Discovery result of 2 stream positions ended without its latestKnownEventId line" +
+                ", restUri: " + REST_URI + ", latestKnownEventId: Optional.empty, batchSize: " + batchSize));
+        verify(body).close();
+    }
 }
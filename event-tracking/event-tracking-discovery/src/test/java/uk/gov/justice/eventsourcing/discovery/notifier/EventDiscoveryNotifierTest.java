@@ -20,6 +20,7 @@ import uk.gov.justice.subscription.SubscriptionSourceComponentFinder;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.enterprise.event.Event;
@@ -83,13 +84,13 @@ public class EventDiscoveryNotifierTest {
         when(eventDiscoveryTimerConfig.shouldDiscoveryNotified()).thenReturn(true);
         when(subscriptionSourceComponentFinder.findListenerOrIndexerPairs()).thenReturn(List.of(pair));
         when(clock.now()).thenReturn(now);
-        when(newStreamStatusRepository.upsertLatestKnownPositionIfIncreased(
-                streamId, "MY_SOURCE", "EVENT_LISTENER", position, now))
-                .thenReturn(true);
+        when(newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                Map.of(streamId, position), "MY_SOURCE", "EVENT_LISTENER", now))
+                .thenReturn(List.of(streamId));
 
         eventDiscoveryNotifier.onEventsLinked(event);
 
-        verify(streamStatusAdvancedFirer).fireAsync(any(StreamStatusAdvancedEvent.class));
+        verify(streamStatusAdvancedFirer).fireAsync(new StreamStatusAdvancedEvent("MY_SOURCE", "EVENT_LISTENER", 1));
     }
 
     @Test
@@ -107,9 +108,9 @@ public class EventDiscoveryNotifierTest {
         when(eventDiscoveryTimerConfig.shouldDiscoveryNotified()).thenReturn(true);
         when(subscriptionSourceComponentFinder.findListenerOrIndexerPairs()).thenReturn(List.of(pair));
         when(clock.now()).thenReturn(now);
-        when(newStreamStatusRepository.upsertLatestKnownPositionIfIncreased(
-                streamId, "MY_SOURCE", "EVENT_LISTENER", position, now))
-                .thenReturn(false);
+        when(newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                Map.of(streamId, position), "MY_SOURCE", "EVENT_LISTENER", now))
+                .thenReturn(List.of());
 
         eventDiscoveryNotifier.onEventsLinked(event);
 
@@ -134,12 +135,12 @@ public class EventDiscoveryNotifierTest {
         when(eventDiscoveryTimerConfig.shouldDiscoveryNotified()).thenReturn(true);
         when(subscriptionSourceComponentFinder.findListenerOrIndexerPairs()).thenReturn(List.of(pair1, pair2));
         when(clock.now()).thenReturn(now);
-        when(newStreamStatusRepository.upsertLatestKnownPositionIfIncreased(
-                streamId, "SOURCE_1", "EVENT_LISTENER", position, now))
-                .thenReturn(true);
-        when(newStreamStatusRepository.upsertLatestKnownPositionIfIncreased(
-                streamId, "SOURCE_2", "EVENT_INDEXER", position, now))
-                .thenReturn(false);
+        when(newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                Map.of(streamId, position), "SOURCE_1", "EVENT_LISTENER", now))
+                .thenReturn(List.of(streamId));
+        when(newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                Map.of(streamId, position), "SOURCE_2", "EVENT_INDEXER", now))
+                .thenReturn(List.of());
 
         eventDiscoveryNotifier.onEventsLinked(event);
 
@@ -158,4 +159,29 @@ public class EventDiscoveryNotifierTest {
 
         verify(streamStatusAdvancedFirer, never()).fireAsync(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldUpsertAllStreamsOfTheEventInOneCallPerPairUsingTheHighestPositionOfEachStream() {
+
+        final UUID streamId_1 = randomUUID();
+        final UUID streamId_2 = randomUUID();
+        final ZonedDateTime now = new UtcClock().now();
+
+        final SourceComponentPair pair = new SourceComponentPair("MY_SOURCE", "EVENT_LISTENER");
+        final EventsLinkedEvent event = new EventsLinkedEvent(List.of(
+                new StreamPosition(streamId_1, 4L),
+                new StreamPosition(streamId_2, 1L),
+                new StreamPosition(streamId_1, 5L)));
+
+        when(eventDiscoveryTimerConfig.shouldDiscoveryNotified()).thenReturn(true);
+        when(subscriptionSourceComponentFinder.findListenerOrIndexerPairs()).thenReturn(List.of(pair));
+        when(clock.now()).thenReturn(now);
+        when(newStreamStatusRepository.upsertLatestKnownPositionsIfIncreased(
+                Map.of(streamId_1, 5L, streamId_2, 1L), "MY_SOURCE", "EVENT_LISTENER", now))
+                .thenReturn(List.of(streamId_1, streamId_2));
+
+        eventDiscoveryNotifier.onEventsLinked(event);
+
+        verify(streamStatusAdvancedFirer).fireAsync(new StreamStatusAdvancedEvent("MY_SOURCE", "EVENT_LISTENER", 2));
+    }
+}
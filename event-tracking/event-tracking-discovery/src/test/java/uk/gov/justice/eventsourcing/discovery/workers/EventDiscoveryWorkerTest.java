@@ -5,8 +5,11 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.UUID.fromString;
 import static java.util.UUID.randomUUID;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -19,11 +22,16 @@ import uk.gov.justice.services.eventsourcing.discovery.DiscoveryResult;
 import uk.gov.justice.services.eventsourcing.discovery.EventDiscoveryConfig;
 import uk.gov.justice.services.eventsourcing.discovery.EventSubscriptionDiscoverer;
 import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamPosition;
+import uk.gov.justice.services.eventsourcing.repository.jdbc.event.StreamStatusAdvancedEvent;
 import uk.gov.justice.subscription.SourceComponentPair;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import javax.enterprise.event.Event;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -46,6 +54,9 @@ public class EventDiscoveryWorkerTest {
     @Mock
     private EventDiscoveryConfig eventDiscoveryConfig;
 
+    @Mock
+    private Event<StreamStatusAdvancedEvent> streamStatusAdvancedFirer;
+
     @Mock
     private Logger logger;
 
@@ -94,20 +105,13 @@ public class EventDiscoveryWorkerTest {
         eventDiscoveryWorker.runEventDiscoveryForSourceComponentPair(sourceComponentPair);
 
         verify(logger).debug("Running event discovery for source 'some-source' component 'some-component'");
-        verify(newStreamStatusRepository).upsertLatestKnownPosition(
-                eq(streamId_1),
-                eq(source),
-                eq(component),
-                eq(positionInStream_1),
-                eq(now));
-        verify(logger).debug("Updating latest known position to '111' for stream id '1111ef5f-2b26-42a2-a01c-4591d2911111', source 'some-source' component 'some-component'");
-        verify(newStreamStatusRepository).upsertLatestKnownPosition(
-                eq(streamId_2),
-                eq(source),
-                eq(component),
-                eq(positionInStream_2),
-                eq(now));
-        verify(logger).debug("Updating latest known position to '222' for stream id '2222ef5f-2b26-42a2-a01c-4591d2912222', source 'some-source' component 'some-component'");
+        verify(logger).debug("Updating latest known positions of 2 streams for source 'some-source' component 'some-component'");
+        verify(newStreamStatusRepository).upsertLatestKnownPositions(
+                Map.of(streamId_1, positionInStream_1, streamId_2, positionInStream_2),
+                source,
+                component,
+                now);
+        verify(streamStatusAdvancedFirer).fire(new StreamStatusAdvancedEvent(source, component, 2));
 
         verify(eventSubscriptionStatusRepository).save(new EventSubscriptionStatus(
                 source,
@@ -117,6 +121,52 @@ public class EventDiscoveryWorkerTest {
         ));
     }
 
+    @Test
+    public void shouldUpsertTheHighestDiscoveredPositionOfEachStreamWhetherOrNotItHasIncreased() throws Exception {
+
+        final String source = "some-source";
+        final String component = "some-component";
+        final UUID latestKnownEventId = randomUUID();
+        final UUID streamId = randomUUID();
+        final ZonedDateTime now = ZonedDateTime.now();
+        final int batchSize = 100;
+
+        final EventSubscriptionStatus eventSubscriptionStatus = mock(EventSubscriptionStatus.class);
+
+        when(eventSubscriptionStatusRepository.findBy(source, component)).thenReturn(of(eventSubscriptionStatus));
+        when(eventSubscriptionStatus.latestEventId()).thenReturn(of(latestKnownEventId));
+        when(eventDiscoveryConfig.getBatchSize()).thenReturn(batchSize);
+        when(eventSubscriptionDiscoverer.discoverNewEvents(of(latestKnownEventId), batchSize, source))
+                .thenReturn(new DiscoveryResult(List.of(new StreamPosition(streamId, 2L), new StreamPosition(streamId, 3L)), empty()));
+        when(clock.now()).thenReturn(now);
+
+        eventDiscoveryWorker.runEventDiscoveryForSourceComponentPair(new SourceComponentPair(source, component));
+
+        verify(newStreamStatusRepository).upsertLatestKnownPositions(Map.of(streamId, 3L), source, component, now);
+        verify(newStreamStatusRepository, never()).upsertLatestKnownPositionsIfIncreased(anyMap(), anyString(), anyString(), any(ZonedDateTime.class));
+        verify(streamStatusAdvancedFirer).fire(new StreamStatusAdvancedEvent(source, component, 1));
+    }
+
+    @Test
+    public void shouldNotFireStreamStatusAdvancedEventIfNoNewEventsDiscovered() throws Exception {
+
+        final String source = "some-source";
+        final String component = "some-component";
+        final UUID latestKnownEventId = randomUUID();
+        final int batchSize = 100;
+
+        final EventSubscriptionStatus eventSubscriptionStatus = mock(EventSubscriptionStatus.class);
+
+        when(eventSubscriptionStatusRepository.findBy(source, component)).thenReturn(of(eventSubscriptionStatus));
+        when(eventSubscriptionStatus.latestEventId()).thenReturn(of(latestKnownEventId));
+        when(eventDiscoveryConfig.getBatchSize()).thenReturn(batchSize);
+        when(eventSubscriptionDiscoverer.discoverNewEvents(of(latestKnownEventId), batchSize, source)).thenReturn(new DiscoveryResult(List.of(), empty()));
+
+        eventDiscoveryWorker.runEventDiscoveryForSourceComponentPair(new SourceComponentPair(source, component));
+
+        verifyNoInteractions(streamStatusAdvancedFirer, newStreamStatusRepository);
+    }
+
     @Test
     public void shouldDoNothingNoEventSubscriptionStatusFoundForSourceComponent() throws Exception {
 
@@ -15,6 +15,10 @@ public class EventNumberAccumulator {
         return lastPreviousEventNumber;
     }
 
+    public Long getLastEventNumber() {
+        return lastEventNumber;
+    }
+
     public void set(final Long lastPreviousEventNumber, final Long lastEventNumber) {
         this.lastPreviousEventNumber = lastPreviousEventNumber;
         this.lastEventNumber = lastEventNumber;
@@ -1,5 +1,6 @@
 package uk.gov.justice.services.subscription;
 
+import static java.lang.Math.max;
 import static javax.transaction.Transactional.TxType.NEVER;
 
 import uk.gov.justice.services.eventsourcing.source.api.streams.MissingEventRange;
@@ -19,6 +20,18 @@ public class MissingEventRangeFinder {
     @Inject
     private ProcessedEventStreamer processedEventStreamer;
 
+    @Inject
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    @Inject
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
+    @Inject
+    private ProcessedEventWatermarkRepository processedEventWatermarkRepository;
+
+    @Inject
+    private ProcessedEventWatermarkConfiguration processedEventWatermarkConfiguration;
+
     @Transactional(NEVER)
     public LinkedList<MissingEventRange> getRangesOfMissingEvents(
             final String eventSourceName,
@@ -26,6 +39,16 @@ public class MissingEventRangeFinder {
             final Long runFromEventNumber,
             final Long highestPublishedEventNumber) {
 
+        final Long scanFromEventNumber = scanFromEventNumber(eventSourceName, componentName, runFromEventNumber);
+
+        if (processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()) {
+            return getRangesOfMissingEventsFromProcessedRanges(
+                    eventSourceName,
+                    componentName,
+                    scanFromEventNumber,
+                    highestPublishedEventNumber);
+        }
+
         final EventNumberAccumulator eventNumberAccumulator = new EventNumberAccumulator();
 
         final Optional<ProcessedEvent> latestProcessedEvent = processedEventTrackingRepository.getLatestProcessedEvent(eventSourceName, componentName);
@@ -39,20 +62,76 @@ public class MissingEventRangeFinder {
         try (final Stream<ProcessedEvent> allProcessedEventsStream = processedEventStreamer.getProcessedEventStream(
                 eventSourceName,
                 componentName,
-                runFromEventNumber)) {
+                scanFromEventNumber)) {
             allProcessedEventsStream.forEach(
                     processedEventTrackItem -> findMissingRange(processedEventTrackItem, eventNumberAccumulator)
             );
         }
 
         if (eventNumberAccumulator.isInitialised() &&
-            eventNumberAccumulator.getLastPreviousEventNumber() != runFromEventNumber -1) {
+            eventNumberAccumulator.getLastPreviousEventNumber() != scanFromEventNumber -1) {
+            eventNumberAccumulator.addRangeFrom(scanFromEventNumber - 1);
+        }
+
+        return eventNumberAccumulator.getMissingEventRanges();
+    }
+
+    private LinkedList<MissingEventRange> getRangesOfMissingEventsFromProcessedRanges(
+            final String eventSourceName,
+            final String componentName,
+            final Long runFromEventNumber,
+            final Long highestPublishedEventNumber) {
+
+        final EventNumberAccumulator eventNumberAccumulator = new EventNumberAccumulator();
+
+        final long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+        final Optional<Long> latestProcessedEventNumber = processedEventRangeRepository.getLatestProcessedEventNumber(eventSourceName, componentName);
+
+        if (latestProcessedEventNumber.isPresent()) {
+            eventNumberAccumulator.set(highestExclusiveEventNumber, highestExclusiveEventNumber);
+        } else {
+            eventNumberAccumulator.set(1L, highestExclusiveEventNumber);
+        }
+
+        try (final Stream<ProcessedEventRange> processedEventRanges = processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(
+                eventSourceName,
+                componentName,
+                runFromEventNumber)) {
+            processedEventRanges.forEach(
+                    processedEventRange -> findMissingRange(processedEventRange, eventNumberAccumulator)
+            );
+        }
+
+        // a range may start below runFromEventNumber, in which case nothing from runFromEventNumber is missing
+        if (eventNumberAccumulator.getLastPreviousEventNumber() != runFromEventNumber - 1 &&
+            eventNumberAccumulator.getLastEventNumber() >= runFromEventNumber) {
             eventNumberAccumulator.addRangeFrom(runFromEventNumber - 1);
         }
 
         return eventNumberAccumulator.getMissingEventRanges();
     }
 
+    // no events up to the watermark are missing, so there is no need to look at them
+    private Long scanFromEventNumber(final String eventSourceName, final String componentName, final Long runFromEventNumber) {
+
+        if (processedEventWatermarkConfiguration.isWatermarkEnabled()) {
+            return processedEventWatermarkRepository.findWatermark(eventSourceName, componentName)
+                    .map(watermark -> max(runFromEventNumber, watermark + 1))
+                    .orElse(runFromEventNumber);
+        }
+
+        return runFromEventNumber;
+    }
+
+    private void findMissingRange(final ProcessedEventRange processedEventRange, final EventNumberAccumulator eventNumberAccumulator) {
+
+        if (eventNumberAccumulator.getLastPreviousEventNumber() != processedEventRange.toEventNumber()) {
+            eventNumberAccumulator.addRangeFrom(processedEventRange.toEventNumber());
+        }
+
+        eventNumberAccumulator.set(processedEventRange.fromPreviousEventNumber(), processedEventRange.fromEventNumber());
+    }
+
     private void findMissingRange(final ProcessedEvent processedEvent, final EventNumberAccumulator eventNumberAccumulator) {
 
         final long currentEventNumber = processedEvent.getEventNumber();
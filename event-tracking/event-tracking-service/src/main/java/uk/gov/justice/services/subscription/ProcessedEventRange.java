@@ -0,0 +1,27 @@
+package uk.gov.justice.services.subscription;
+
+/**
+ * A run of processed events from fromEventNumber up to and including toEventNumber, each linked to
+ * the one before it by its previous event number, so with no event missing in between.
+ *
+ * @param fromEventNumber the event number of the first event of the range
+ * @param fromPreviousEventNumber the previous event number of the first event of the range
+ * @param toEventNumber the event number of the last event of the range
+ */
+public record ProcessedEventRange(long fromEventNumber, long fromPreviousEventNumber, long toEventNumber) {
+
+    public static ProcessedEventRange rangeOf(final ProcessedEvent processedEvent) {
+        return new ProcessedEventRange(
+                processedEvent.getEventNumber(),
+                processedEvent.getPreviousEventNumber(),
+                processedEvent.getEventNumber());
+    }
+
+    public boolean isFollowedBy(final ProcessedEventRange nextRange) {
+        return nextRange.fromPreviousEventNumber() == toEventNumber;
+    }
+
+    public ProcessedEventRange extendTo(final ProcessedEventRange nextRange) {
+        return new ProcessedEventRange(fromEventNumber, fromPreviousEventNumber, nextRange.toEventNumber());
+    }
+}
@@ -0,0 +1,95 @@
+package uk.gov.justice.services.subscription;
+
+import static java.lang.String.format;
+import static javax.ejb.TransactionAttributeType.NEVER;
+
+import uk.gov.justice.services.ejb.timer.TimerConfigFactory;
+import uk.gov.justice.subscription.SourceComponentPair;
+import uk.gov.justice.subscription.SubscriptionSourceComponentFinder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.ejb.Timeout;
+import javax.ejb.Timer;
+import javax.ejb.TimerConfig;
+import javax.ejb.TimerService;
+import javax.ejb.TransactionAttribute;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+/**
+ * Compacts the processed events of each source and component in the background when range
+ * tracking is enabled: moves events still in processed_event into ranges a batch at a time, then
+ * merges the ranges which now follow on from each other.
+ */
+@Singleton
+@Startup
+@TransactionAttribute(NEVER)
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+public class ProcessedEventRangeCompactionTimerBean {
+
+    @Resource
+    private TimerService timerService;
+
+    @Inject
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
+    @Inject
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    @Inject
+    private TimerConfigFactory timerConfigFactory;
+
+    @Inject
+    private SubscriptionSourceComponentFinder subscriptionSourceComponentFinder;
+
+    @Inject
+    private Logger logger;
+
+    @PostConstruct
+    public void startTimerService() {
+        if (processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()) {
+            subscriptionSourceComponentFinder
+                    .findListenerOrIndexerPairs()
+                    .forEach(this::startSourceComponentPairTimer);
+        }
+    }
+
+    @Timeout
+    public void compactProcessedEvents(final Timer timer) {
+
+        final SourceComponentPair sourceComponentPair = (SourceComponentPair) timer.getInfo();
+        final String source = sourceComponentPair.source();
+        final String component = sourceComponentPair.component();
+
+        try {
+            final int movedEvents = processedEventRangeRepository.moveProcessedEventsToRanges(
+                    source,
+                    component,
+                    processedEventRangeTrackingConfiguration.getCompactionBatchSize());
+            final int mergedRanges = processedEventRangeRepository.mergeAdjacentRanges(source, component);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug(format("Moved %d processed events into ranges and merged %d processed event ranges for source '%s' and component '%s'", movedEvents, mergedRanges, source, component));
+            }
+        } catch (final Exception e) {
+            logger.warn(format("Failed to compact processed events for source '%s' and component '%s'", source, component), e);
+        }
+    }
+
+    private void startSourceComponentPairTimer(final SourceComponentPair sourceComponentPair) {
+        final TimerConfig timerConfig = timerConfigFactory.createNew();
+        timerConfig.setPersistent(false);
+        timerConfig.setInfo(sourceComponentPair);
+
+        timerService.createIntervalTimer(
+                processedEventRangeTrackingConfiguration.getCompactionTimerStartWaitMilliseconds(),
+                processedEventRangeTrackingConfiguration.getCompactionTimerIntervalMilliseconds(),
+                timerConfig);
+    }
+}
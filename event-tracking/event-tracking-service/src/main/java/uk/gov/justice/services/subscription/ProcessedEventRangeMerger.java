@@ -0,0 +1,36 @@
+package uk.gov.justice.services.subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProcessedEventRangeMerger {
+
+    /**
+     * Merges each run of ranges where every range follows on from the one before it into one range
+     *
+     * @param ascendingRanges the ranges to merge, in ascending order of event number
+     * @return the merged ranges, in ascending order of event number
+     */
+    public List<ProcessedEventRange> merge(final List<ProcessedEventRange> ascendingRanges) {
+
+        final List<ProcessedEventRange> mergedRanges = new ArrayList<>();
+
+        ProcessedEventRange currentRange = null;
+        for (final ProcessedEventRange range : ascendingRanges) {
+            if (currentRange != null && currentRange.isFollowedBy(range)) {
+                currentRange = currentRange.extendTo(range);
+            } else {
+                if (currentRange != null) {
+                    mergedRanges.add(currentRange);
+                }
+                currentRange = range;
+            }
+        }
+
+        if (currentRange != null) {
+            mergedRanges.add(currentRange);
+        }
+
+        return mergedRanges;
+    }
+}
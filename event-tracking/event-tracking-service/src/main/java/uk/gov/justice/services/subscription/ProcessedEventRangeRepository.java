@@ -0,0 +1,393 @@
+package uk.gov.justice.services.subscription;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+import static javax.transaction.Transactional.TxType.REQUIRED;
+import static javax.transaction.Transactional.TxType.REQUIRES_NEW;
+import static uk.gov.justice.services.subscription.ProcessedEventRange.rangeOf;
+
+import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
+import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapper;
+import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
+import uk.gov.justice.services.jdbc.persistence.ViewStoreJdbcDataSourceProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+/**
+ * Tracks processed events as ranges of contiguous event numbers rather than as one row per event.
+ *
+ * Events processed before range tracking was enabled stay in processed_event until they are moved
+ * into ranges by {@link #moveProcessedEventsToRanges}, so the reads here cover both tables.
+ */
+public class ProcessedEventRangeRepository {
+
+    private static final String NOT_ALREADY_PROCESSED_SQL = """
+                    NOT EXISTS (
+                        SELECT 1
+                        FROM processed_event_range
+                        WHERE source = ?
+                        AND component = ?
+                        AND from_event_number <= ?
+                        AND to_event_number >= ?)
+                    AND NOT EXISTS (
+                        SELECT 1
+                        FROM processed_event
+                        WHERE source = ?
+                        AND component = ?
+                        AND event_number = ?)
+            """;
+
+    private static final String EXTEND_RANGE_SQL = """
+                    UPDATE processed_event_range
+                    SET to_event_number = ?
+                    WHERE source = ?
+                    AND component = ?
+                    AND to_event_number = ?
+                    AND
+            """ + NOT_ALREADY_PROCESSED_SQL;
+
+    private static final String INSERT_RANGE_IF_NOT_PROCESSED_SQL = """
+                    INSERT INTO processed_event_range (
+                                     source,
+                                     component,
+                                     from_event_number,
+                                     from_previous_event_number,
+                                     to_event_number)
+                    SELECT ?, ?, ?, ?, ?
+                    WHERE
+            """ + NOT_ALREADY_PROCESSED_SQL + """
+                    ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_RANGE_SQL = """
+                    INSERT INTO processed_event_range (
+                                     source,
+                                     component,
+                                     from_event_number,
+                                     from_previous_event_number,
+                                     to_event_number)
+                    VALUES (?, ?, ?, ?, ?)
+                    ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_RANGES_IN_DESCENDING_ORDER_SQL = """
+                    SELECT from_event_number, from_previous_event_number, to_event_number
+                    FROM processed_event_range
+                    WHERE source = ?
+                    AND component = ?
+                    AND to_event_number >= ?
+                    UNION ALL
+                    SELECT event_number, previous_event_number, event_number
+                    FROM processed_event
+                    WHERE source = ?
+                    AND component = ?
+                    AND event_number >= ?
+                    ORDER BY to_event_number DESC
+            """;
+
+    private static final String SELECT_LATEST_EVENT_NUMBER_SQL = """
+                    SELECT GREATEST(
+                        (SELECT MAX(to_event_number)
+                        FROM processed_event_range
+                        WHERE source = ?
+                        AND component = ?),
+                        (SELECT MAX(event_number)
+                        FROM processed_event
+                        WHERE source = ?
+                        AND component = ?))
+            """;
+
+    private static final String MOVE_PROCESSED_EVENTS_SQL = """
+                    WITH moved_event AS (
+                        DELETE FROM processed_event
+                        WHERE source = ?
+                        AND component = ?
+                        AND event_number IN (
+                            SELECT event_number
+                            FROM processed_event
+                            WHERE source = ?
+                            AND component = ?
+                            ORDER BY event_number
+                            LIMIT ?)
+                        RETURNING event_number, previous_event_number)
+                    SELECT event_number, previous_event_number
+                    FROM moved_event
+                    ORDER BY event_number
+            """;
+
+    private static final String SELECT_RANGES_FOR_UPDATE_SQL = """
+                    SELECT from_event_number, from_previous_event_number, to_event_number
+                    FROM processed_event_range
+                    WHERE source = ?
+                    AND component = ?
+                    ORDER BY from_event_number
+                    FOR UPDATE
+            """;
+
+    private static final String UPDATE_RANGE_SQL = """
+                    UPDATE processed_event_range
+                    SET to_event_number = ?
+                    WHERE source = ?
+                    AND component = ?
+                    AND from_event_number = ?
+            """;
+
+    private static final String DELETE_RANGE_SQL = """
+                    DELETE FROM processed_event_range
+                    WHERE source = ?
+                    AND component = ?
+                    AND from_event_number = ?
+            """;
+
+    @Inject
+    private JdbcResultSetStreamer jdbcResultSetStreamer;
+
+    @Inject
+    private PreparedStatementWrapperFactory preparedStatementWrapperFactory;
+
+    @Inject
+    private ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider;
+
+    @Inject
+    private ProcessedEventRangeMerger processedEventRangeMerger;
+
+    /**
+     * Adds the event to the range ending with its previous event if there is one, otherwise saves
+     * it as a range of its own to be merged later by {@link #mergeAdjacentRanges}.
+     *
+     * @throws ProcessedEventTrackingException if the event has already been processed
+     */
+    @Transactional(REQUIRED)
+    public void save(final ProcessedEvent processedEvent) {
+
+        final String source = processedEvent.getSource();
+        final String componentName = processedEvent.getComponentName();
+        final long eventNumber = processedEvent.getEventNumber();
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection()) {
+
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(EXTEND_RANGE_SQL)) {
+                preparedStatement.setLong(1, eventNumber);
+                preparedStatement.setString(2, source);
+                preparedStatement.setString(3, componentName);
+                preparedStatement.setLong(4, processedEvent.getPreviousEventNumber());
+                setNotAlreadyProcessedParameters(preparedStatement, 5, processedEvent);
+
+                if (preparedStatement.executeUpdate() > 0) {
+                    return;
+                }
+            }
+
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(INSERT_RANGE_IF_NOT_PROCESSED_SQL)) {
+                preparedStatement.setString(1, source);
+                preparedStatement.setString(2, componentName);
+                preparedStatement.setLong(3, eventNumber);
+                preparedStatement.setLong(4, processedEvent.getPreviousEventNumber());
+                preparedStatement.setLong(5, eventNumber);
+                setNotAlreadyProcessedParameters(preparedStatement, 6, processedEvent);
+
+                if (preparedStatement.executeUpdate() == 0) {
+                    throw new ProcessedEventTrackingException(
+                            format("Failed to insert event with id '%s' into processed_event_range table. Event has already been processed: %s",
+                                    processedEvent.getEventId(),
+                                    processedEvent)
+                    );
+                }
+            }
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException("Failed to insert ProcessedEvent into viewstore", e);
+        }
+    }
+
+    /**
+     * Streams the processed ranges ending at or above runFromEventNumber, highest first, with any
+     * events still in processed_event as ranges of one event. Runs in the transaction of the caller,
+     * if any, so that the stream can be read after this method returns.
+     */
+    public Stream<ProcessedEventRange> getProcessedEventRangesInDescendingOrder(
+            final String source,
+            final String componentName,
+            final long runFromEventNumber) {
+
+        try {
+            final PreparedStatementWrapper preparedStatement = preparedStatementWrapperFactory.preparedStatementWrapperOf(
+                    viewStoreJdbcDataSourceProvider.getDataSource(), SELECT_RANGES_IN_DESCENDING_ORDER_SQL);
+
+            preparedStatement.setString(1, source);
+            preparedStatement.setString(2, componentName);
+            preparedStatement.setLong(3, runFromEventNumber);
+            preparedStatement.setString(4, source);
+            preparedStatement.setString(5, componentName);
+            preparedStatement.setLong(6, runFromEventNumber);
+
+            return jdbcResultSetStreamer.streamOf(preparedStatement, asProcessedEventRange());
+
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException("Failed to get processed event ranges from processed_event_range table", e);
+        }
+    }
+
+    @Transactional(REQUIRED)
+    public Optional<Long> getLatestProcessedEventNumber(final String source, final String componentName) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection();
+             final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_LATEST_EVENT_NUMBER_SQL)) {
+
+            preparedStatement.setString(1, source);
+            preparedStatement.setString(2, componentName);
+            preparedStatement.setString(3, source);
+            preparedStatement.setString(4, componentName);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return ofNullable(resultSet.getObject(1, Long.class));
+            }
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException("Failed to get latest processed event number from viewstore", e);
+        }
+    }
+
+    /**
+     * Moves the batchSize lowest events of processed_event into ranges.
+     *
+     * @return the number of events moved
+     */
+    @Transactional(REQUIRES_NEW)
+    public int moveProcessedEventsToRanges(final String source, final String componentName, final long batchSize) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection()) {
+
+            final List<ProcessedEventRange> movedEvents = new ArrayList<>();
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(MOVE_PROCESSED_EVENTS_SQL)) {
+                preparedStatement.setString(1, source);
+                preparedStatement.setString(2, componentName);
+                preparedStatement.setString(3, source);
+                preparedStatement.setString(4, componentName);
+                preparedStatement.setLong(5, batchSize);
+
+                try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        movedEvents.add(rangeOf(new ProcessedEvent(
+                                null,
+                                resultSet.getLong("previous_event_number"),
+                                resultSet.getLong("event_number"),
+                                source,
+                                componentName)));
+                    }
+                }
+            }
+
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(INSERT_RANGE_SQL)) {
+                for (final ProcessedEventRange range : processedEventRangeMerger.merge(movedEvents)) {
+                    preparedStatement.setString(1, source);
+                    preparedStatement.setString(2, componentName);
+                    preparedStatement.setLong(3, range.fromEventNumber());
+                    preparedStatement.setLong(4, range.fromPreviousEventNumber());
+                    preparedStatement.setLong(5, range.toEventNumber());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+
+            return movedEvents.size();
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException(format("Failed to move processed events of source '%s' and component '%s' into ranges", source, componentName), e);
+        }
+    }
+
+    /**
+     * Merges every run of ranges that follow on from each other into one range.
+     *
+     * @return the number of ranges merged into the range before them
+     */
+    @Transactional(REQUIRES_NEW)
+    public int mergeAdjacentRanges(final String source, final String componentName) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection()) {
+
+            final List<ProcessedEventRange> ranges = new ArrayList<>();
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_RANGES_FOR_UPDATE_SQL)) {
+                preparedStatement.setString(1, source);
+                preparedStatement.setString(2, componentName);
+
+                try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                    final Function<ResultSet, ProcessedEventRange> asProcessedEventRange = asProcessedEventRange();
+                    while (resultSet.next()) {
+                        ranges.add(asProcessedEventRange.apply(resultSet));
+                    }
+                }
+            }
+
+            final List<ProcessedEventRange> mergedRanges = processedEventRangeMerger.merge(ranges);
+            if (mergedRanges.size() == ranges.size()) {
+                return 0;
+            }
+
+            final Map<Long, ProcessedEventRange> mergedRangesByFrom = new HashMap<>();
+            mergedRanges.forEach(range -> mergedRangesByFrom.put(range.fromEventNumber(), range));
+
+            try (final PreparedStatement updateStatement = connection.prepareStatement(UPDATE_RANGE_SQL);
+                 final PreparedStatement deleteStatement = connection.prepareStatement(DELETE_RANGE_SQL)) {
+
+                for (final ProcessedEventRange range : ranges) {
+                    final ProcessedEventRange mergedRange = mergedRangesByFrom.get(range.fromEventNumber());
+                    if (mergedRange == null) {
+                        deleteStatement.setString(1, source);
+                        deleteStatement.setString(2, componentName);
+                        deleteStatement.setLong(3, range.fromEventNumber());
+                        deleteStatement.addBatch();
+                    } else if (mergedRange.toEventNumber() != range.toEventNumber()) {
+                        updateStatement.setLong(1, mergedRange.toEventNumber());
+                        updateStatement.setString(2, source);
+                        updateStatement.setString(3, componentName);
+                        updateStatement.setLong(4, range.fromEventNumber());
+                        updateStatement.addBatch();
+                    }
+                }
+
+                deleteStatement.executeBatch();
+                updateStatement.executeBatch();
+            }
+
+            return ranges.size() - mergedRanges.size();
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException(format("Failed to merge processed event ranges of source '%s' and component '%s'", source, componentName), e);
+        }
+    }
+
+    private void setNotAlreadyProcessedParameters(final PreparedStatement preparedStatement, final int firstParameterIndex, final ProcessedEvent processedEvent) throws SQLException {
+        preparedStatement.setString(firstParameterIndex, processedEvent.getSource());
+        preparedStatement.setString(firstParameterIndex + 1, processedEvent.getComponentName());
+        preparedStatement.setLong(firstParameterIndex + 2, processedEvent.getEventNumber());
+        preparedStatement.setLong(firstParameterIndex + 3, processedEvent.getEventNumber());
+        preparedStatement.setString(firstParameterIndex + 4, processedEvent.getSource());
+        preparedStatement.setString(firstParameterIndex + 5, processedEvent.getComponentName());
+        preparedStatement.setLong(firstParameterIndex + 6, processedEvent.getEventNumber());
+    }
+
+    private Function<ResultSet, ProcessedEventRange> asProcessedEventRange() {
+        return resultSet -> {
+            try {
+                return new ProcessedEventRange(
+                        resultSet.getLong("from_event_number"),
+                        resultSet.getLong("from_previous_event_number"),
+                        resultSet.getLong("to_event_number"));
+            } catch (final SQLException e) {
+                throw new ProcessedEventTrackingException("Failed to get row from processed_event_range table", e);
+            }
+        };
+    }
+}
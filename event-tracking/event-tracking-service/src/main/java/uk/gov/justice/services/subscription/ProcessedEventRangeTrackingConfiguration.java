@@ -0,0 +1,49 @@
+package uk.gov.justice.services.subscription;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Long.parseLong;
+
+import uk.gov.justice.services.common.configuration.GlobalValue;
+
+import javax.inject.Inject;
+
+public class ProcessedEventRangeTrackingConfiguration {
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.range.tracking.enabled", defaultValue = "false")
+    private String rangeTrackingEnabled;
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.range.compaction.batch.size", defaultValue = "100000")
+    private String compactionBatchSize;
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.range.compaction.timer.start.wait.milliseconds", defaultValue = "30000")
+    private String compactionTimerStartWaitMilliseconds;
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.range.compaction.timer.interval.milliseconds", defaultValue = "60000")
+    private String compactionTimerIntervalMilliseconds;
+
+    /**
+     * Whether processed events are tracked in processed_event_range. This is one-way: once on,
+     * events are saved as ranges and the compaction timer moves processed_event rows into ranges,
+     * while with it off processed_event alone is read. Switching it off again would leave every
+     * event tracked as a range looking unprocessed, so that catch-up would process it again.
+     */
+    public boolean isRangeTrackingEnabled() {
+        return parseBoolean(rangeTrackingEnabled);
+    }
+
+    public Long getCompactionBatchSize() {
+        return parseLong(compactionBatchSize);
+    }
+
+    public long getCompactionTimerStartWaitMilliseconds() {
+        return parseLong(compactionTimerStartWaitMilliseconds);
+    }
+
+    public long getCompactionTimerIntervalMilliseconds() {
+        return parseLong(compactionTimerIntervalMilliseconds);
+    }
+}
@@ -23,6 +23,12 @@ public class ProcessedEventTrackingService {
     @Inject
     private ProcessedEventTrackingRepository processedEventTrackingRepository;
 
+    @Inject
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    @Inject
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
     @Inject
     private EventSourceNameCalculator eventSourceNameCalculator;
 
@@ -58,7 +64,11 @@ public class ProcessedEventTrackingService {
                 componentName
         );
 
-        processedEventTrackingRepository.save(processedEvent);
+        if (processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()) {
+            processedEventRangeRepository.save(processedEvent);
+        } else {
+            processedEventTrackingRepository.save(processedEvent);
+        }
     }
 
     public Stream<MissingEventRange> getAllMissingEvents(
@@ -88,6 +98,11 @@ public class ProcessedEventTrackingService {
 
     public Long getLatestProcessedEventNumber(final String source, final String componentName) {
 
+        if (processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()) {
+            return processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)
+                    .orElse(FIRST_POSSIBLE_EVENT_NUMBER);
+        }
+
         return processedEventTrackingRepository.getLatestProcessedEvent(source, componentName)
                 .map(ProcessedEvent::getEventNumber)
                 .orElse(FIRST_POSSIBLE_EVENT_NUMBER);
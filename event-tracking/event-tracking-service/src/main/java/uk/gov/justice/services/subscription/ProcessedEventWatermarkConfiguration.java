@@ -0,0 +1,43 @@
+package uk.gov.justice.services.subscription;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Long.parseLong;
+
+import uk.gov.justice.services.common.configuration.GlobalValue;
+
+import javax.inject.Inject;
+
+public class ProcessedEventWatermarkConfiguration {
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.watermark.enabled", defaultValue = "false")
+    private String watermarkEnabled;
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.watermark.batch.size", defaultValue = "100000")
+    private String watermarkBatchSize;
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.watermark.timer.start.wait.milliseconds", defaultValue = "30000")
+    private String watermarkTimerStartWaitMilliseconds;
+
+    @Inject
+    @GlobalValue(key = "catchup.processed.event.watermark.timer.interval.milliseconds", defaultValue = "60000")
+    private String watermarkTimerIntervalMilliseconds;
+
+    public boolean isWatermarkEnabled() {
+        return parseBoolean(watermarkEnabled);
+    }
+
+    public Long getWatermarkBatchSize() {
+        return parseLong(watermarkBatchSize);
+    }
+
+    public long getWatermarkTimerStartWaitMilliseconds() {
+        return parseLong(watermarkTimerStartWaitMilliseconds);
+    }
+
+    public long getWatermarkTimerIntervalMilliseconds() {
+        return parseLong(watermarkTimerIntervalMilliseconds);
+    }
+}
@@ -0,0 +1,166 @@
+package uk.gov.justice.services.subscription;
+
+import static java.lang.String.format;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static javax.transaction.Transactional.TxType.REQUIRED;
+import static javax.transaction.Transactional.TxType.REQUIRES_NEW;
+
+import uk.gov.justice.services.jdbc.persistence.ViewStoreJdbcDataSourceProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+/**
+ * Keeps, for each source and component, the event number up to which every event has been
+ * processed with none missing: the 'contiguous up to' watermark. Catch-up only needs to look for
+ * missing events above it.
+ *
+ * Anything clearing the processed events of a component, e.g. for a rebuild, must clear its
+ * watermark too, as DatabaseCleaner.cleanProcessedEventTable does: once the event the watermark
+ * points at is processed again the watermark would otherwise hide every event still missing below
+ * it. The watermark is also ignored while the event it points at is not tracked, in either
+ * processed_event or processed_event_range.
+ */
+public class ProcessedEventWatermarkRepository {
+
+    private static final String IS_TRACKED_SQL = """
+                    (EXISTS (
+                        SELECT 1
+                        FROM processed_event
+                        WHERE source = w.source
+                        AND component = w.component
+                        AND event_number = w.contiguous_to_event_number)
+                    OR EXISTS (
+                        SELECT 1
+                        FROM processed_event_range
+                        WHERE source = w.source
+                        AND component = w.component
+                        AND from_event_number <= w.contiguous_to_event_number
+                        AND to_event_number >= w.contiguous_to_event_number))
+            """;
+
+    private static final String SELECT_WATERMARK_SQL = """
+                    SELECT w.contiguous_to_event_number
+                    FROM processed_event_watermark w
+                    WHERE w.source = ?
+                    AND w.component = ?
+                    AND
+            """ + IS_TRACKED_SQL;
+
+    private static final String SELECT_PROCESSED_EVENTS_ABOVE_IN_ASCENDING_ORDER_SQL = """
+                    SELECT from_event_number, from_previous_event_number, to_event_number
+                    FROM processed_event_range
+                    WHERE source = ?
+                    AND component = ?
+                    AND to_event_number > ?
+                    UNION ALL
+                    SELECT event_number, previous_event_number, event_number
+                    FROM processed_event
+                    WHERE source = ?
+                    AND component = ?
+                    AND event_number > ?
+                    ORDER BY from_event_number
+                    LIMIT ?
+            """;
+
+    private static final String UPSERT_WATERMARK_SQL = """
+                    INSERT INTO processed_event_watermark (source, component, contiguous_to_event_number)
+                    VALUES (?, ?, ?)
+                    ON CONFLICT (source, component)
+                    DO UPDATE SET contiguous_to_event_number = EXCLUDED.contiguous_to_event_number
+            """;
+
+    private static final long NO_EVENTS_PROCESSED = 0L;
+
+    @Inject
+    private ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider;
+
+    /**
+     * @return the event number up to which all events have been processed, if known and still valid
+     */
+    @Transactional(REQUIRED)
+    public Optional<Long> findWatermark(final String source, final String componentName) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection()) {
+            return findWatermark(connection, source, componentName);
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException(format("Failed to get processed event watermark of source '%s' and component '%s'", source, componentName), e);
+        }
+    }
+
+    /**
+     * Follows the chain of processed events on from the current watermark through at most
+     * batchSize processed events or ranges, stopping at the first missing event, and saves how far
+     * it got.
+     *
+     * @return the new watermark
+     */
+    @Transactional(REQUIRES_NEW)
+    public long advanceWatermark(final String source, final String componentName, final long batchSize) {
+
+        try (final Connection connection = viewStoreJdbcDataSourceProvider.getDataSource().getConnection()) {
+
+            final long currentWatermark = findWatermark(connection, source, componentName).orElse(NO_EVENTS_PROCESSED);
+
+            long watermark = currentWatermark;
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_PROCESSED_EVENTS_ABOVE_IN_ASCENDING_ORDER_SQL)) {
+                preparedStatement.setString(1, source);
+                preparedStatement.setString(2, componentName);
+                preparedStatement.setLong(3, currentWatermark);
+                preparedStatement.setString(4, source);
+                preparedStatement.setString(5, componentName);
+                preparedStatement.setLong(6, currentWatermark);
+                preparedStatement.setLong(7, batchSize);
+
+                try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        final long fromEventNumber = resultSet.getLong("from_event_number");
+                        final long fromPreviousEventNumber = resultSet.getLong("from_previous_event_number");
+
+                        if (fromPreviousEventNumber != watermark && fromEventNumber > watermark) {
+                            break;
+                        }
+
+                        watermark = resultSet.getLong("to_event_number");
+                    }
+                }
+            }
+
+            if (watermark != currentWatermark) {
+                try (final PreparedStatement preparedStatement = connection.prepareStatement(UPSERT_WATERMARK_SQL)) {
+                    preparedStatement.setString(1, source);
+                    preparedStatement.setString(2, componentName);
+                    preparedStatement.setLong(3, watermark);
+                    preparedStatement.executeUpdate();
+                }
+            }
+
+            return watermark;
+        } catch (final SQLException e) {
+            throw new ProcessedEventTrackingException(format("Failed to advance processed event watermark of source '%s' and component '%s'", source, componentName), e);
+        }
+    }
+
+    private Optional<Long> findWatermark(final Connection connection, final String source, final String componentName) throws SQLException {
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(SELECT_WATERMARK_SQL)) {
+            preparedStatement.setString(1, source);
+            preparedStatement.setString(2, componentName);
+
+            try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    return of(resultSet.getLong(1));
+                }
+
+                return empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.justice.services.subscription;
+
+import static java.lang.String.format;
+import static javax.ejb.TransactionAttributeType.NEVER;
+
+import uk.gov.justice.services.ejb.timer.TimerConfigFactory;
+import uk.gov.justice.subscription.SourceComponentPair;
+import uk.gov.justice.subscription.SubscriptionSourceComponentFinder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.ejb.Timeout;
+import javax.ejb.Timer;
+import javax.ejb.TimerConfig;
+import javax.ejb.TimerService;
+import javax.ejb.TransactionAttribute;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+
+/**
+ * Advances the 'contiguous up to' watermark of the processed events of each source and component
+ * in the background when the watermark is enabled.
+ */
+@Singleton
+@Startup
+@TransactionAttribute(NEVER)
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+public class ProcessedEventWatermarkTimerBean {
+
+    @Resource
+    private TimerService timerService;
+
+    @Inject
+    private ProcessedEventWatermarkConfiguration processedEventWatermarkConfiguration;
+
+    @Inject
+    private ProcessedEventWatermarkRepository processedEventWatermarkRepository;
+
+    @Inject
+    private TimerConfigFactory timerConfigFactory;
+
+    @Inject
+    private SubscriptionSourceComponentFinder subscriptionSourceComponentFinder;
+
+    @Inject
+    private Logger logger;
+
+    @PostConstruct
+    public void startTimerService() {
+        if (processedEventWatermarkConfiguration.isWatermarkEnabled()) {
+            subscriptionSourceComponentFinder
+                    .findListenerOrIndexerPairs()
+                    .forEach(this::startSourceComponentPairTimer);
+        }
+    }
+
+    @Timeout
+    public void advanceWatermark(final Timer timer) {
+
+        final SourceComponentPair sourceComponentPair = (SourceComponentPair) timer.getInfo();
+        final String source = sourceComponentPair.source();
+        final String component = sourceComponentPair.component();
+
+        try {
+            final long watermark = processedEventWatermarkRepository.advanceWatermark(
+                    source,
+                    component,
+                    processedEventWatermarkConfiguration.getWatermarkBatchSize());
+
+            if (logger.isDebugEnabled()) {
+                logger.debug(format("All events up to event number %d processed for source '%s' and component '%s'", watermark, source, component));
+            }
+        } catch (final Exception e) {
+            logger.warn(format("Failed to advance processed event watermark for source '%s' and component '%s'", source, component), e);
+        }
+    }
+
+    private void startSourceComponentPairTimer(final SourceComponentPair sourceComponentPair) {
+        final TimerConfig timerConfig = timerConfigFactory.createNew();
+        timerConfig.setPersistent(false);
+        timerConfig.setInfo(sourceComponentPair);
+
+        timerService.createIntervalTimer(
+                processedEventWatermarkConfiguration.getWatermarkTimerStartWaitMilliseconds(),
+                processedEventWatermarkConfiguration.getWatermarkTimerIntervalMilliseconds(),
+                timerConfig);
+    }
+}
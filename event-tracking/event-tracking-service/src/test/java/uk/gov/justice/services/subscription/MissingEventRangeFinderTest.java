@@ -31,6 +31,18 @@ public class MissingEventRangeFinderTest {
     @Mock
     private ProcessedEventStreamer processedEventStreamer;
 
+    @Mock
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    @Mock
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
+    @Mock
+    private ProcessedEventWatermarkRepository processedEventWatermarkRepository;
+
+    @Mock
+    private ProcessedEventWatermarkConfiguration processedEventWatermarkConfiguration;
+
     @InjectMocks
     private MissingEventRangeFinder missingEventRangeFinder;
 
@@ -420,4 +432,231 @@ public class MissingEventRangeFinderTest {
         assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(10L));
         assertThat(missingEventRanges.get(0).getMissingEventTo(), is(highestExclusiveEventNumber));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetTheListOfAllMissingEventsFromProcessedEventRangesIfRangeTrackingEnabled() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 1L;
+        final Long highestPublishedEventNumber = 267L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+
+        final List<ProcessedEventRange> processedEventRanges = asList(
+                new ProcessedEventRange(7L, 6L, 7L),
+                new ProcessedEventRange(1L, 0L, 3L)
+        );
+
+        final StreamCloseSpy streamCloseSpy = new StreamCloseSpy();
+        final Stream<ProcessedEventRange> processedEventRangeStream = processedEventRanges.stream().onClose(streamCloseSpy);
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(of(7L));
+        when(processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(source, componentName, runFromEventNumber)).thenReturn(processedEventRangeStream);
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(2));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(4L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(7L));
+        assertThat(missingEventRanges.get(1).getMissingEventFrom(), is(8L));
+        assertThat(missingEventRanges.get(1).getMissingEventTo(), is(highestExclusiveEventNumber));
+
+        assertThat(streamCloseSpy.streamClosed(), is(true));
+    }
+
+    @Test
+    public void shouldHandleMissingEventsFromTheRunFromEventNumberWithProcessedEventRanges() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 19L;
+        final Long highestPublishedEventNumber = 253L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+
+        final List<ProcessedEventRange> processedEventRanges = asList(
+                new ProcessedEventRange(24L, 23L, 25L),
+                new ProcessedEventRange(20L, 19L, 20L)
+        );
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(of(25L));
+        when(processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(source, componentName, runFromEventNumber)).thenReturn(processedEventRanges.stream());
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(3));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(19L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(20L));
+        assertThat(missingEventRanges.get(1).getMissingEventFrom(), is(21L));
+        assertThat(missingEventRanges.get(1).getMissingEventTo(), is(24L));
+        assertThat(missingEventRanges.get(2).getMissingEventFrom(), is(26L));
+        assertThat(missingEventRanges.get(2).getMissingEventTo(), is(highestExclusiveEventNumber));
+    }
+
+    @Test
+    public void shouldNotReturnMissingEventsBelowTheRunFromEventNumberIfAProcessedEventRangeStartsBelowIt() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 50L;
+        final Long highestPublishedEventNumber = 200L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+
+        final List<ProcessedEventRange> processedEventRanges = singletonList(new ProcessedEventRange(1L, 0L, 100L));
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(of(100L));
+        when(processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(source, componentName, runFromEventNumber)).thenReturn(processedEventRanges.stream());
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(1));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(101L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(highestExclusiveEventNumber));
+    }
+
+    @Test
+    public void shouldReturnRangeFromTheRunFromEventNumberIfNoProcessedEventRangesFound() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 23L;
+        final Long highestPublishedEventNumber = 2134L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(Optional.empty());
+        when(processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(source, componentName, runFromEventNumber)).thenReturn(empty());
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(1));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(23L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(highestExclusiveEventNumber));
+    }
+
+    @Test
+    public void shouldOnlyStreamProcessedEventsAboveTheWatermarkIfWatermarkEnabled() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 1L;
+        final Long highestPublishedEventNumber = 267L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+        final Long watermark = 5L;
+
+        final List<ProcessedEvent> processedEvents = asList(
+                processedEventTrackItem()
+                        .withEventNumber(9)
+                        .withPreviousEventNumber(8)
+                        .withSource(source)
+                        .withComponentName(componentName)
+                        .build(),
+                processedEventTrackItem()
+                        .withEventNumber(6)
+                        .withPreviousEventNumber(5)
+                        .withSource(source)
+                        .withComponentName(componentName)
+                        .build()
+        );
+
+        final ProcessedEvent latestProcessedEvent = processedEventTrackItem()
+                .withEventNumber(9)
+                .withPreviousEventNumber(8)
+                .withSource(source)
+                .withComponentName(componentName)
+                .build();
+
+        when(processedEventWatermarkConfiguration.isWatermarkEnabled()).thenReturn(true);
+        when(processedEventWatermarkRepository.findWatermark(source, componentName)).thenReturn(of(watermark));
+        when(processedEventTrackingRepository.getLatestProcessedEvent(source, componentName)).thenReturn(of(latestProcessedEvent));
+        when(processedEventStreamer.getProcessedEventStream(source, componentName, watermark + 1)).thenReturn(processedEvents.stream());
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(2));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(7L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(9L));
+        assertThat(missingEventRanges.get(1).getMissingEventFrom(), is(10L));
+        assertThat(missingEventRanges.get(1).getMissingEventTo(), is(highestExclusiveEventNumber));
+    }
+
+    @Test
+    public void shouldStreamProcessedEventsFromTheRunFromEventNumberIfAboveTheWatermark() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 23L;
+        final Long highestPublishedEventNumber = 2134L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+
+        when(processedEventWatermarkConfiguration.isWatermarkEnabled()).thenReturn(true);
+        when(processedEventWatermarkRepository.findWatermark(source, componentName)).thenReturn(of(5L));
+        when(processedEventTrackingRepository.getLatestProcessedEvent(source, componentName)).thenReturn(Optional.empty());
+        when(processedEventStreamer.getProcessedEventStream(source, componentName, runFromEventNumber)).thenReturn(empty());
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(1));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(23L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(highestExclusiveEventNumber));
+    }
+
+    @Test
+    public void shouldReadProcessedEventRangesAboveTheWatermarkIfBothEnabled() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long runFromEventNumber = 1L;
+        final Long highestPublishedEventNumber = 100L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+
+        when(processedEventWatermarkConfiguration.isWatermarkEnabled()).thenReturn(true);
+        when(processedEventWatermarkRepository.findWatermark(source, componentName)).thenReturn(of(50L));
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(of(50L));
+        when(processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(source, componentName, 51L)).thenReturn(empty());
+
+        final List<MissingEventRange> missingEventRanges = missingEventRangeFinder.getRangesOfMissingEvents(
+                source,
+                componentName,
+                runFromEventNumber,
+                highestPublishedEventNumber);
+
+        assertThat(missingEventRanges.size(), is(1));
+
+        assertThat(missingEventRanges.get(0).getMissingEventFrom(), is(51L));
+        assertThat(missingEventRanges.get(0).getMissingEventTo(), is(highestExclusiveEventNumber));
+    }
+}
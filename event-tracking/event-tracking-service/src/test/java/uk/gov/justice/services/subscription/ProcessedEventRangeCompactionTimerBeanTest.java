@@ -0,0 +1,128 @@
+package uk.gov.justice.services.subscription;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.ejb.timer.TimerConfigFactory;
+import uk.gov.justice.subscription.SourceComponentPair;
+import uk.gov.justice.subscription.SubscriptionSourceComponentFinder;
+
+import java.util.List;
+
+import javax.ejb.Timer;
+import javax.ejb.TimerConfig;
+import javax.ejb.TimerService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessedEventRangeCompactionTimerBeanTest {
+
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
+    @Mock
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    @Mock
+    private TimerConfigFactory timerConfigFactory;
+
+    @Mock
+    private SubscriptionSourceComponentFinder subscriptionSourceComponentFinder;
+
+    @Mock
+    private Logger logger;
+
+    @InjectMocks
+    private ProcessedEventRangeCompactionTimerBean processedEventRangeCompactionTimerBean;
+
+    @Test
+    public void shouldStartACompactionTimerForEachSourceComponentPairIfRangeTrackingEnabled() throws Exception {
+
+        final long timerStartWaitMilliseconds = 213L;
+        final long timerIntervalMilliseconds = 9872397L;
+
+        final SourceComponentPair sourceComponentPair_1 = new SourceComponentPair("source_1", "EVENT_LISTENER");
+        final SourceComponentPair sourceComponentPair_2 = new SourceComponentPair("source_2", "EVENT_INDEXER");
+
+        final TimerConfig timerConfig_1 = mock(TimerConfig.class);
+        final TimerConfig timerConfig_2 = mock(TimerConfig.class);
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(timerConfigFactory.createNew()).thenReturn(timerConfig_1, timerConfig_2);
+        when(processedEventRangeTrackingConfiguration.getCompactionTimerStartWaitMilliseconds()).thenReturn(timerStartWaitMilliseconds);
+        when(processedEventRangeTrackingConfiguration.getCompactionTimerIntervalMilliseconds()).thenReturn(timerIntervalMilliseconds);
+        when(subscriptionSourceComponentFinder.findListenerOrIndexerPairs()).thenReturn(List.of(sourceComponentPair_1, sourceComponentPair_2));
+
+        processedEventRangeCompactionTimerBean.startTimerService();
+
+        verify(timerConfig_1).setPersistent(false);
+        verify(timerConfig_1).setInfo(sourceComponentPair_1);
+        verify(timerService).createIntervalTimer(
+                timerStartWaitMilliseconds,
+                timerIntervalMilliseconds,
+                timerConfig_1);
+
+        verify(timerConfig_2).setPersistent(false);
+        verify(timerConfig_2).setInfo(sourceComponentPair_2);
+        verify(timerService).createIntervalTimer(
+                timerStartWaitMilliseconds,
+                timerIntervalMilliseconds,
+                timerConfig_2);
+    }
+
+    @Test
+    public void shouldNotStartTimerIfRangeTrackingNotEnabled() throws Exception {
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(false);
+
+        processedEventRangeCompactionTimerBean.startTimerService();
+
+        verifyNoInteractions(subscriptionSourceComponentFinder);
+        verifyNoInteractions(timerConfigFactory);
+        verifyNoInteractions(timerService);
+    }
+
+    @Test
+    public void shouldMoveProcessedEventsToRangesThenMergeAdjacentRangesOnTimeout() throws Exception {
+
+        final Timer timer = mock(Timer.class);
+        final SourceComponentPair sourceComponentPair = new SourceComponentPair("source", "EVENT_LISTENER");
+        final Long batchSize = 100_000L;
+
+        when(timer.getInfo()).thenReturn(sourceComponentPair);
+        when(processedEventRangeTrackingConfiguration.getCompactionBatchSize()).thenReturn(batchSize);
+
+        processedEventRangeCompactionTimerBean.compactProcessedEvents(timer);
+
+        verify(processedEventRangeRepository).moveProcessedEventsToRanges("source", "EVENT_LISTENER", batchSize);
+        verify(processedEventRangeRepository).mergeAdjacentRanges("source", "EVENT_LISTENER");
+    }
+
+    @Test
+    public void shouldLogAndNotRethrowIfCompactionFails() throws Exception {
+
+        final Timer timer = mock(Timer.class);
+        final SourceComponentPair sourceComponentPair = new SourceComponentPair("source", "EVENT_LISTENER");
+        final Long batchSize = 100_000L;
+        final ProcessedEventTrackingException processedEventTrackingException = new ProcessedEventTrackingException("Ooops");
+
+        when(timer.getInfo()).thenReturn(sourceComponentPair);
+        when(processedEventRangeTrackingConfiguration.getCompactionBatchSize()).thenReturn(batchSize);
+        when(processedEventRangeRepository.moveProcessedEventsToRanges("source", "EVENT_LISTENER", batchSize)).thenThrow(processedEventTrackingException);
+
+        processedEventRangeCompactionTimerBean.compactProcessedEvents(timer);
+
+        verify(logger).warn("Failed to compact processed events for source 'source' and component 'EVENT_LISTENER'", processedEventTrackingException);
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.justice.services.subscription;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessedEventRangeMergerTest {
+
+    @InjectMocks
+    private ProcessedEventRangeMerger processedEventRangeMerger;
+
+    @Test
+    public void shouldMergeRangesThatFollowOnFromEachOther() throws Exception {
+
+        final List<ProcessedEventRange> ranges = List.of(
+                new ProcessedEventRange(1L, 0L, 1L),
+                new ProcessedEventRange(2L, 1L, 5L),
+                new ProcessedEventRange(6L, 5L, 6L),
+                new ProcessedEventRange(8L, 7L, 8L),
+                new ProcessedEventRange(11L, 8L, 12L)
+        );
+
+        final List<ProcessedEventRange> mergedRanges = processedEventRangeMerger.merge(ranges);
+
+        assertThat(mergedRanges, is(List.of(
+                new ProcessedEventRange(1L, 0L, 6L),
+                new ProcessedEventRange(8L, 7L, 12L)
+        )));
+    }
+
+    @Test
+    public void shouldNotMergeRangesWithMissingEventsBetweenThem() throws Exception {
+
+        final List<ProcessedEventRange> ranges = List.of(
+                new ProcessedEventRange(1L, 0L, 3L),
+                new ProcessedEventRange(5L, 4L, 5L),
+                new ProcessedEventRange(9L, 7L, 10L)
+        );
+
+        assertThat(processedEventRangeMerger.merge(ranges), is(ranges));
+    }
+
+    @Test
+    public void shouldReturnEmptyListIfNoRanges() throws Exception {
+
+        assertThat(processedEventRangeMerger.merge(emptyList()), is(emptyList()));
+    }
+}
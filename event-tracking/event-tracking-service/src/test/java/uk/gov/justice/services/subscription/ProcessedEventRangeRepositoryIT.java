@@ -0,0 +1,188 @@
+package uk.gov.justice.services.subscription;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
+import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
+import uk.gov.justice.services.jdbc.persistence.ViewStoreJdbcDataSourceProvider;
+import uk.gov.justice.services.test.utils.persistence.DatabaseCleaner;
+import uk.gov.justice.services.test.utils.persistence.FrameworkTestDataSourceFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessedEventRangeRepositoryIT {
+
+    private static final String SOURCE = "example-context";
+    private static final String COMPONENT_NAME = "EVENT_LISTENER";
+
+    private final DataSource viewStoreDataSource = new FrameworkTestDataSourceFactory().createViewStoreDataSource();
+
+    @Mock
+    private ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider;
+
+    @SuppressWarnings("unused")
+    @Spy
+    private JdbcResultSetStreamer jdbcResultSetStreamer = new JdbcResultSetStreamer();
+
+    @SuppressWarnings("unused")
+    @Spy
+    private PreparedStatementWrapperFactory preparedStatementWrapperFactory = new PreparedStatementWrapperFactory();
+
+    @SuppressWarnings("unused")
+    @Spy
+    private ProcessedEventRangeMerger processedEventRangeMerger = new ProcessedEventRangeMerger();
+
+    @InjectMocks
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    private final ProcessedEventTrackingRepository processedEventTrackingRepository = new ProcessedEventTrackingRepository();
+
+    @BeforeEach
+    public void ensureOurDatasourceProviderReturnsOurTestDataSource() {
+        when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+        setField(processedEventTrackingRepository, "jdbcResultSetStreamer", jdbcResultSetStreamer);
+        setField(processedEventTrackingRepository, "preparedStatementWrapperFactory", preparedStatementWrapperFactory);
+        setField(processedEventTrackingRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
+    }
+
+    @BeforeEach
+    public void cleanTables() {
+        new DatabaseCleaner().cleanViewStoreTables("framework", "processed_event_range", "processed_event");
+    }
+
+    @Test
+    public void shouldExtendTheRangeEndingWithThePreviousEventOfEachSavedEvent() throws Exception {
+
+        save(0, 1);
+        save(1, 2);
+        save(2, 3);
+        save(4, 5);
+        save(5, 6);
+
+        assertThat(rangesInDescendingOrder(1L), is(List.of(
+                new ProcessedEventRange(5L, 4L, 6L),
+                new ProcessedEventRange(1L, 0L, 3L)
+        )));
+    }
+
+    @Test
+    public void shouldIncludeProcessedEventsNotYetMovedIntoRangesAsRangesOfOneEvent() throws Exception {
+
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 0, 1, SOURCE, COMPONENT_NAME));
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 1, 2, SOURCE, COMPONENT_NAME));
+        save(2, 3);
+        save(3, 4);
+
+        assertThat(rangesInDescendingOrder(1L), is(List.of(
+                new ProcessedEventRange(3L, 2L, 4L),
+                new ProcessedEventRange(2L, 1L, 2L),
+                new ProcessedEventRange(1L, 0L, 1L)
+        )));
+        assertThat(rangesInDescendingOrder(2L), is(List.of(
+                new ProcessedEventRange(3L, 2L, 4L),
+                new ProcessedEventRange(2L, 1L, 2L)
+        )));
+    }
+
+    @Test
+    public void shouldFailToSaveAnEventThatHasAlreadyBeenProcessed() throws Exception {
+
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 0, 1, SOURCE, COMPONENT_NAME));
+        save(1, 2);
+        save(2, 3);
+
+        final ProcessedEventTrackingException alreadyInRange = assertThrows(ProcessedEventTrackingException.class, () -> save(1, 2));
+        final ProcessedEventTrackingException alreadyInProcessedEvent = assertThrows(ProcessedEventTrackingException.class, () -> save(0, 1));
+
+        assertThat(alreadyInRange.getMessage(), startsWith("Failed to insert event with id"));
+        assertThat(alreadyInProcessedEvent.getMessage(), startsWith("Failed to insert event with id"));
+        assertThat(rangesInDescendingOrder(1L), is(List.of(
+                new ProcessedEventRange(2L, 1L, 3L),
+                new ProcessedEventRange(1L, 0L, 1L)
+        )));
+    }
+
+    @Test
+    public void shouldGetTheLatestProcessedEventNumberFromRangesAndProcessedEvents() throws Exception {
+
+        assertThat(processedEventRangeRepository.getLatestProcessedEventNumber(SOURCE, COMPONENT_NAME), is(Optional.empty()));
+
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 0, 1, SOURCE, COMPONENT_NAME));
+        assertThat(processedEventRangeRepository.getLatestProcessedEventNumber(SOURCE, COMPONENT_NAME), is(Optional.of(1L)));
+
+        save(1, 2);
+        save(2, 3);
+        assertThat(processedEventRangeRepository.getLatestProcessedEventNumber(SOURCE, COMPONENT_NAME), is(Optional.of(3L)));
+        assertThat(processedEventRangeRepository.getLatestProcessedEventNumber(SOURCE, "EVENT_INDEXER"), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldMoveTheLowestProcessedEventsIntoRangesInBatches() throws Exception {
+
+        for (int eventNumber = 1; eventNumber <= 6; eventNumber++) {
+            if (eventNumber != 4) {
+                processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), eventNumber - 1, eventNumber, SOURCE, COMPONENT_NAME));
+            }
+        }
+
+        assertThat(processedEventRangeRepository.moveProcessedEventsToRanges(SOURCE, COMPONENT_NAME, 4L), is(4));
+
+        assertThat(rangesInDescendingOrder(1L), is(List.of(
+                new ProcessedEventRange(6L, 5L, 6L),
+                new ProcessedEventRange(5L, 4L, 5L),
+                new ProcessedEventRange(1L, 0L, 3L)
+        )));
+
+        assertThat(processedEventRangeRepository.moveProcessedEventsToRanges(SOURCE, COMPONENT_NAME, 4L), is(1));
+        assertThat(processedEventRangeRepository.moveProcessedEventsToRanges(SOURCE, COMPONENT_NAME, 4L), is(0));
+        assertThat(processedEventTrackingRepository.getLatestProcessedEvent(SOURCE, COMPONENT_NAME), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldMergeRangesWhichFollowOnFromEachOther() throws Exception {
+
+        save(0, 1);
+        save(2, 3);
+        save(3, 4);
+        save(1, 2);
+        save(6, 7);
+
+        assertThat(processedEventRangeRepository.mergeAdjacentRanges(SOURCE, COMPONENT_NAME), is(1));
+        assertThat(processedEventRangeRepository.mergeAdjacentRanges(SOURCE, COMPONENT_NAME), is(0));
+
+        assertThat(rangesInDescendingOrder(1L), is(List.of(
+                new ProcessedEventRange(7L, 6L, 7L),
+                new ProcessedEventRange(1L, 0L, 4L)
+        )));
+    }
+
+    private void save(final long previousEventNumber, final long eventNumber) {
+        processedEventRangeRepository.save(new ProcessedEvent(randomUUID(), previousEventNumber, eventNumber, SOURCE, COMPONENT_NAME));
+    }
+
+    private List<ProcessedEventRange> rangesInDescendingOrder(final long runFromEventNumber) {
+        try (final Stream<ProcessedEventRange> ranges = processedEventRangeRepository.getProcessedEventRangesInDescendingOrder(SOURCE, COMPONENT_NAME, runFromEventNumber)) {
+            return ranges.toList();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.justice.services.subscription;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessedEventRangeTrackingConfigurationTest {
+
+    @InjectMocks
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
+    @Test
+    public void shouldGetWhetherRangeTrackingIsEnabled() throws Exception {
+
+        setField(processedEventRangeTrackingConfiguration, "rangeTrackingEnabled", "true");
+        assertThat(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled(), is(true));
+
+        setField(processedEventRangeTrackingConfiguration, "rangeTrackingEnabled", "false");
+        assertThat(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled(), is(false));
+    }
+
+    @Test
+    public void shouldGetTheCompactionBatchSize() throws Exception {
+
+        final Long value = 50_000L;
+
+        setField(processedEventRangeTrackingConfiguration, "compactionBatchSize", "" + value);
+
+        assertThat(processedEventRangeTrackingConfiguration.getCompactionBatchSize(), is(value));
+    }
+
+    @Test
+    public void shouldGetTheCompactionTimerStartWaitAndInterval() throws Exception {
+
+        setField(processedEventRangeTrackingConfiguration, "compactionTimerStartWaitMilliseconds", "30000");
+        setField(processedEventRangeTrackingConfiguration, "compactionTimerIntervalMilliseconds", "60000");
+
+        assertThat(processedEventRangeTrackingConfiguration.getCompactionTimerStartWaitMilliseconds(), is(30_000L));
+        assertThat(processedEventRangeTrackingConfiguration.getCompactionTimerIntervalMilliseconds(), is(60_000L));
+    }
+}
@@ -34,6 +34,8 @@ public class ProcessedEventTrackingServiceIT {
     private final PreparedStatementWrapperFactory preparedStatementWrapperFactory = new PreparedStatementWrapperFactory();
     private final ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider = new TestViewStoreJdbcDataSourceProvider(viewStoreDataSource);
     private final ProcessedEventTrackingRepository processedEventTrackingRepository = new ProcessedEventTrackingRepository();
+    private final ProcessedEventRangeRepository processedEventRangeRepository = new ProcessedEventRangeRepository();
+    private final ProcessedEventWatermarkRepository processedEventWatermarkRepository = new ProcessedEventWatermarkRepository();
     private final EventSourceNameCalculator eventSourceNameCalculator = new EventSourceNameCalculator();
     private final MissingEventRangeFinder missingEventRangeFinder = new MissingEventRangeFinder();
     private final EventRangeNormalizer eventRangeNormalizer = new EventRangeNormalizer();
@@ -50,6 +52,12 @@ public class ProcessedEventTrackingServiceIT {
     @Mock
     private ProcessedEventStreamerConfiguration processedEventStreamerConfiguration;
 
+    @Mock
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
+    @Mock
+    private ProcessedEventWatermarkConfiguration processedEventWatermarkConfiguration;
+
     private final DatabaseCleaner databaseCleaner = new DatabaseCleaner();
 
     @BeforeEach
@@ -58,6 +66,13 @@ public class ProcessedEventTrackingServiceIT {
         setField(processedEventTrackingRepository, "preparedStatementWrapperFactory", preparedStatementWrapperFactory);
         setField(processedEventTrackingRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
 
+        setField(processedEventRangeRepository, "jdbcResultSetStreamer", jdbcResultSetStreamer);
+        setField(processedEventRangeRepository, "preparedStatementWrapperFactory", preparedStatementWrapperFactory);
+        setField(processedEventRangeRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
+        setField(processedEventRangeRepository, "processedEventRangeMerger", new ProcessedEventRangeMerger());
+
+        setField(processedEventWatermarkRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
+
         setField(processedEventStreamer, "processedEventStreamSpliteratorFactory", processedEventStreamSpliteratorFactory);
         setField(processedEventStreamer, "processedEventStreamerConfiguration", processedEventStreamerConfiguration);
         setField(processedEventStreamer, "spliteratorStreamFactory", spliteratorStreamFactory);
@@ -66,12 +81,18 @@ public class ProcessedEventTrackingServiceIT {
 
         setField(missingEventRangeFinder, "processedEventTrackingRepository", processedEventTrackingRepository);
         setField(missingEventRangeFinder, "processedEventStreamer", processedEventStreamer);
+        setField(missingEventRangeFinder, "processedEventRangeRepository", processedEventRangeRepository);
+        setField(missingEventRangeFinder, "processedEventRangeTrackingConfiguration", processedEventRangeTrackingConfiguration);
+        setField(missingEventRangeFinder, "processedEventWatermarkRepository", processedEventWatermarkRepository);
+        setField(missingEventRangeFinder, "processedEventWatermarkConfiguration", processedEventWatermarkConfiguration);
 
         setField(publishedEventReadConfiguration, "rangeNormalizationMaxSize", "1000");
         setField(eventRangeNormalizer, "publishedEventReadConfiguration", publishedEventReadConfiguration);
         setField(eventRangeNormalizer, "rangeNormalizationCalculator", rangeNormalizationCalculator);
 
         setField(processedEventTrackingService, "processedEventTrackingRepository", processedEventTrackingRepository);
+        setField(processedEventTrackingService, "processedEventRangeRepository", processedEventRangeRepository);
+        setField(processedEventTrackingService, "processedEventRangeTrackingConfiguration", processedEventRangeTrackingConfiguration);
         setField(processedEventTrackingService, "eventSourceNameCalculator", eventSourceNameCalculator);
         setField(processedEventTrackingService, "missingEventRangeFinder", missingEventRangeFinder);
         setField(processedEventTrackingService, "eventRangeNormalizer", eventRangeNormalizer);
@@ -106,6 +127,105 @@ public class ProcessedEventTrackingServiceIT {
         assertThat(missingEventRanges.get(2), is(new MissingEventRange(11L, highestExclusiveEventNumber)));
     }
 
+    @Test
+    public void shouldFindRangesOfMissingEventsFromProcessedEventRangesAndProcessedEventsTrackedBeforeRangeTrackingWasEnabled() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long highestPublishedEventNumber = 23L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+        final long runFromEventNumber = 1L;
+
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 0, 1, source, componentName));
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 1, 2, source, componentName));
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+
+        // track events 3, 5, 6 and 10 as ranges, missing event 4 and events 7, 8 and 9
+        processedEventRangeRepository.save(new ProcessedEvent(randomUUID(), 2, 3, source, componentName));
+        processedEventRangeRepository.save(new ProcessedEvent(randomUUID(), 4, 5, source, componentName));
+        processedEventRangeRepository.save(new ProcessedEvent(randomUUID(), 5, 6, source, componentName));
+        processedEventRangeRepository.save(new ProcessedEvent(randomUUID(), 9, 10, source, componentName));
+
+        assertThat(processedEventTrackingService.getLatestProcessedEventNumber(source, componentName), is(10L));
+
+        final List<MissingEventRange> missingEventRanges = processedEventTrackingService
+                .getAllMissingEvents(source, componentName, runFromEventNumber, highestPublishedEventNumber)
+                .toList();
+
+        assertThat(missingEventRanges.size(), is(3));
+
+        assertThat(missingEventRanges.get(0), is(new MissingEventRange(4L, 5L)));
+        assertThat(missingEventRanges.get(1), is(new MissingEventRange(7L, 10L)));
+        assertThat(missingEventRanges.get(2), is(new MissingEventRange(11L, highestExclusiveEventNumber)));
+    }
+
+    @Test
+    public void shouldOnlyLookForMissingEventsAboveTheProcessedEventWatermark() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long highestPublishedEventNumber = 23L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+        final long batchSize = 5L;
+        final long runFromEventNumber = 1L;
+
+        // insert events missing event 4 and events 7, 8 and 9
+        insertEventsWithSomeMissing(source, componentName);
+
+        when(processedEventStreamerConfiguration.getProcessedEventFetchBatchSize()).thenReturn(batchSize);
+        when(processedEventWatermarkConfiguration.isWatermarkEnabled()).thenReturn(true);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(source, componentName, 100L), is(3L));
+
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 3, 4, source, componentName));
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(source, componentName, 100L), is(6L));
+
+        final List<MissingEventRange> missingEventRanges = processedEventTrackingService
+                .getAllMissingEvents(source, componentName, runFromEventNumber, highestPublishedEventNumber)
+                .toList();
+
+        assertThat(missingEventRanges.size(), is(2));
+
+        assertThat(missingEventRanges.get(0), is(new MissingEventRange(7L, 10L)));
+        assertThat(missingEventRanges.get(1), is(new MissingEventRange(11L, highestExclusiveEventNumber)));
+    }
+
+    @Test
+    public void shouldLookForMissingEventsBelowTheOldWatermarkOnceTheProcessedEventsHaveBeenCleared() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+        final Long highestPublishedEventNumber = 23L;
+        final Long highestExclusiveEventNumber = highestPublishedEventNumber + 1;
+        final long batchSize = 5L;
+        final long runFromEventNumber = 1L;
+
+        // insert events missing event 4 and events 7, 8 and 9
+        insertEventsWithSomeMissing(source, componentName);
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 3, 4, source, componentName));
+
+        when(processedEventStreamerConfiguration.getProcessedEventFetchBatchSize()).thenReturn(batchSize);
+        when(processedEventWatermarkConfiguration.isWatermarkEnabled()).thenReturn(true);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(source, componentName, 100L), is(6L));
+
+        databaseCleaner.cleanProcessedEventTable("framework");
+
+        // only the event at the old watermark is processed again
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), 5, 6, source, componentName));
+
+        final List<MissingEventRange> missingEventRanges = processedEventTrackingService
+                .getAllMissingEvents(source, componentName, runFromEventNumber, highestPublishedEventNumber)
+                .toList();
+
+        assertThat(missingEventRanges.size(), is(2));
+
+        assertThat(missingEventRanges.get(0), is(new MissingEventRange(1L, 6L)));
+        assertThat(missingEventRanges.get(1), is(new MissingEventRange(7L, highestExclusiveEventNumber)));
+    }
+
     private void insertEventsWithSomeMissing(final String source, final String componentName) {
 
         final ProcessedEvent processedEvent_1 = new ProcessedEvent(randomUUID(), 0, 1, source, componentName);
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
@@ -36,6 +37,12 @@ public class ProcessedEventTrackingServiceTest {
     @Mock
     private ProcessedEventTrackingRepository processedEventTrackingRepository;
 
+    @Mock
+    private ProcessedEventRangeRepository processedEventRangeRepository;
+
+    @Mock
+    private ProcessedEventRangeTrackingConfiguration processedEventRangeTrackingConfiguration;
+
     @Mock
     private EventSourceNameCalculator eventSourceNameCalculator;
 
@@ -80,6 +87,34 @@ public class ProcessedEventTrackingServiceTest {
         verify(processedEventTrackingRepository).save(new ProcessedEvent(eventId, previousEventNumber, eventNumber, source, componentName));
     }
 
+    @Test
+    public void shouldStoreCurrentEventNumberAsProcessedEventRangeIfRangeTrackingEnabled() throws Exception {
+
+        final long previousEventNumber = 23;
+        final long eventNumber = 24;
+
+        final UUID eventId = randomUUID();
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+
+        final JsonEnvelope event = envelopeFrom(
+                metadataBuilder()
+                        .withId(eventId)
+                        .withName("event-name")
+                        .withPreviousEventNumber(previousEventNumber)
+                        .withEventNumber(eventNumber)
+                        .withSource(source),
+                getJsonBuilderFactory().createObjectBuilder());
+
+        when(eventSourceNameCalculator.getSource(event)).thenReturn(source);
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+
+        processedEventTrackingService.trackProcessedEvent(event, componentName);
+
+        verify(processedEventRangeRepository).save(new ProcessedEvent(eventId, previousEventNumber, eventNumber, source, componentName));
+        verifyNoInteractions(processedEventTrackingRepository);
+    }
+
     @Test
     public void shouldThrowExceptionIfNoPreviousEventNumberFound() throws Exception {
 
@@ -191,4 +226,31 @@ public class ProcessedEventTrackingServiceTest {
 
         assertThat(processedEventTrackingService.getLatestProcessedEventNumber(source, componentName), is(0L));
     }
+
+    @Test
+    public void shouldGetTheEventNumberOfTheLatestProcessedEventFromProcessedEventRangesIfRangeTrackingEnabled() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+
+        final long latestEventNumber = 2384L;
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(of(latestEventNumber));
+
+        assertThat(processedEventTrackingService.getLatestProcessedEventNumber(source, componentName), is(latestEventNumber));
+        verifyNoInteractions(processedEventTrackingRepository);
+    }
+
+    @Test
+    public void shouldReturnZeroAsTheEventNumberOfTheLatestProcessedEventIfNoEventRangesProcessedYet() throws Exception {
+
+        final String source = "example-context";
+        final String componentName = "EVENT_LISTENER";
+
+        when(processedEventRangeTrackingConfiguration.isRangeTrackingEnabled()).thenReturn(true);
+        when(processedEventRangeRepository.getLatestProcessedEventNumber(source, componentName)).thenReturn(Optional.empty());
+
+        assertThat(processedEventTrackingService.getLatestProcessedEventNumber(source, componentName), is(0L));
+    }
 }
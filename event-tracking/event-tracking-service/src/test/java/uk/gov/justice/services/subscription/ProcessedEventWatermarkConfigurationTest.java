@@ -0,0 +1,47 @@
+package uk.gov.justice.services.subscription;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessedEventWatermarkConfigurationTest {
+
+    @InjectMocks
+    private ProcessedEventWatermarkConfiguration processedEventWatermarkConfiguration;
+
+    @Test
+    public void shouldGetWhetherTheWatermarkIsEnabled() throws Exception {
+
+        setField(processedEventWatermarkConfiguration, "watermarkEnabled", "true");
+        assertThat(processedEventWatermarkConfiguration.isWatermarkEnabled(), is(true));
+
+        setField(processedEventWatermarkConfiguration, "watermarkEnabled", "false");
+        assertThat(processedEventWatermarkConfiguration.isWatermarkEnabled(), is(false));
+    }
+
+    @Test
+    public void shouldGetTheWatermarkBatchSize() throws Exception {
+
+        final Long value = 50_000L;
+
+        setField(processedEventWatermarkConfiguration, "watermarkBatchSize", "" + value);
+
+        assertThat(processedEventWatermarkConfiguration.getWatermarkBatchSize(), is(value));
+    }
+
+    @Test
+    public void shouldGetTheWatermarkTimerStartWaitAndInterval() throws Exception {
+
+        setField(processedEventWatermarkConfiguration, "watermarkTimerStartWaitMilliseconds", "30000");
+        setField(processedEventWatermarkConfiguration, "watermarkTimerIntervalMilliseconds", "60000");
+
+        assertThat(processedEventWatermarkConfiguration.getWatermarkTimerStartWaitMilliseconds(), is(30_000L));
+        assertThat(processedEventWatermarkConfiguration.getWatermarkTimerIntervalMilliseconds(), is(60_000L));
+    }
+}
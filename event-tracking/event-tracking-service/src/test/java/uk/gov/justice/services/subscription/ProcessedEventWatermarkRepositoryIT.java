@@ -0,0 +1,137 @@
+package uk.gov.justice.services.subscription;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.jdbc.persistence.JdbcResultSetStreamer;
+import uk.gov.justice.services.jdbc.persistence.PreparedStatementWrapperFactory;
+import uk.gov.justice.services.jdbc.persistence.ViewStoreJdbcDataSourceProvider;
+import uk.gov.justice.services.test.utils.persistence.DatabaseCleaner;
+import uk.gov.justice.services.test.utils.persistence.FrameworkTestDataSourceFactory;
+
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessedEventWatermarkRepositoryIT {
+
+    private static final String SOURCE = "example-context";
+    private static final String COMPONENT_NAME = "EVENT_LISTENER";
+
+    private final DataSource viewStoreDataSource = new FrameworkTestDataSourceFactory().createViewStoreDataSource();
+
+    @Mock
+    private ViewStoreJdbcDataSourceProvider viewStoreJdbcDataSourceProvider;
+
+    @InjectMocks
+    private ProcessedEventWatermarkRepository processedEventWatermarkRepository;
+
+    private final ProcessedEventTrackingRepository processedEventTrackingRepository = new ProcessedEventTrackingRepository();
+    private final ProcessedEventRangeRepository processedEventRangeRepository = new ProcessedEventRangeRepository();
+
+    @BeforeEach
+    public void ensureOurDatasourceProviderReturnsOurTestDataSource() {
+        when(viewStoreJdbcDataSourceProvider.getDataSource()).thenReturn(viewStoreDataSource);
+
+        setField(processedEventTrackingRepository, "jdbcResultSetStreamer", new JdbcResultSetStreamer());
+        setField(processedEventTrackingRepository, "preparedStatementWrapperFactory", new PreparedStatementWrapperFactory());
+        setField(processedEventTrackingRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
+
+        setField(processedEventRangeRepository, "jdbcResultSetStreamer", new JdbcResultSetStreamer());
+        setField(processedEventRangeRepository, "preparedStatementWrapperFactory", new PreparedStatementWrapperFactory());
+        setField(processedEventRangeRepository, "viewStoreJdbcDataSourceProvider", viewStoreJdbcDataSourceProvider);
+        setField(processedEventRangeRepository, "processedEventRangeMerger", new ProcessedEventRangeMerger());
+    }
+
+    @BeforeEach
+    public void cleanTables() {
+        new DatabaseCleaner().cleanViewStoreTables("framework", "processed_event_watermark", "processed_event_range", "processed_event");
+    }
+
+    @Test
+    public void shouldHaveNoWatermarkIfNeverAdvanced() throws Exception {
+
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, COMPONENT_NAME), is(Optional.empty()));
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 10L), is(0L));
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, COMPONENT_NAME), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldAdvanceTheWatermarkUpToTheFirstMissingEvent() throws Exception {
+
+        saveProcessedEvent(0, 1);
+        saveProcessedEvent(1, 2);
+        saveProcessedEvent(2, 3);
+        saveProcessedEvent(4, 5);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 10L), is(3L));
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, COMPONENT_NAME), is(Optional.of(3L)));
+
+        saveProcessedEvent(3, 4);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 10L), is(5L));
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, COMPONENT_NAME), is(Optional.of(5L)));
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, "EVENT_INDEXER"), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldAdvanceTheWatermarkByAtMostBatchSizeEventsAtATime() throws Exception {
+
+        for (int eventNumber = 1; eventNumber <= 7; eventNumber++) {
+            saveProcessedEvent(eventNumber - 1, eventNumber);
+        }
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 3L), is(3L));
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 3L), is(6L));
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 3L), is(7L));
+    }
+
+    @Test
+    public void shouldAdvanceTheWatermarkThroughProcessedEventRanges() throws Exception {
+
+        saveProcessedEvent(0, 1);
+        saveProcessedEventRange(1, 2);
+        saveProcessedEventRange(2, 3);
+        saveProcessedEventRange(3, 4);
+        saveProcessedEventRange(6, 7);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 10L), is(4L));
+    }
+
+    @Test
+    public void shouldIgnoreTheWatermarkOnceItsEventIsNoLongerTracked() throws Exception {
+
+        saveProcessedEvent(0, 1);
+        saveProcessedEvent(1, 2);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 10L), is(2L));
+
+        new DatabaseCleaner().cleanViewStoreTables("framework", "processed_event");
+
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, COMPONENT_NAME), is(Optional.empty()));
+
+        saveProcessedEvent(0, 1);
+
+        assertThat(processedEventWatermarkRepository.advanceWatermark(SOURCE, COMPONENT_NAME, 10L), is(1L));
+        assertThat(processedEventWatermarkRepository.findWatermark(SOURCE, COMPONENT_NAME), is(Optional.of(1L)));
+    }
+
+    private void saveProcessedEvent(final long previousEventNumber, final long eventNumber) {
+        processedEventTrackingRepository.save(new ProcessedEvent(randomUUID(), previousEventNumber, eventNumber, SOURCE, COMPONENT_NAME));
+    }
+
+    private void saveProcessedEventRange(final long previousEventNumber, final long eventNumber) {
+        processedEventRangeRepository.save(new ProcessedEvent(randomUUID(), previousEventNumber, eventNumber, SOURCE, COMPONENT_NAME));
+    }
+}
@@ -85,11 +85,16 @@ import uk.gov.justice.services.messaging.logging.DefaultTraceLogger;
 import uk.gov.justice.services.subscription.EventRangeNormalizer;
 import uk.gov.justice.services.subscription.MissingEventRangeFinder;
 import uk.gov.justice.services.subscription.MissingEventRangeStringifier;
+import uk.gov.justice.services.subscription.ProcessedEventRangeMerger;
+import uk.gov.justice.services.subscription.ProcessedEventRangeRepository;
+import uk.gov.justice.services.subscription.ProcessedEventRangeTrackingConfiguration;
 import uk.gov.justice.services.subscription.ProcessedEventStreamSpliteratorFactory;
 import uk.gov.justice.services.subscription.ProcessedEventStreamer;
 import uk.gov.justice.services.subscription.ProcessedEventStreamerConfiguration;
 import uk.gov.justice.services.subscription.ProcessedEventTrackingRepository;
 import uk.gov.justice.services.subscription.ProcessedEventTrackingService;
+import uk.gov.justice.services.subscription.ProcessedEventWatermarkConfiguration;
+import uk.gov.justice.services.subscription.ProcessedEventWatermarkRepository;
 import uk.gov.justice.services.subscription.PublishedEventReadConfiguration;
 import uk.gov.justice.services.subscription.RangeNormalizationCalculator;
 import uk.gov.justice.services.subscription.SpliteratorStreamFactory;
@@ -228,6 +233,11 @@ public class SubscriptionEventInterceptorIT {
 
             ProcessedEventTrackingService.class,
             ProcessedEventTrackingRepository.class,
+            ProcessedEventRangeRepository.class,
+            ProcessedEventRangeMerger.class,
+            ProcessedEventRangeTrackingConfiguration.class,
+            ProcessedEventWatermarkRepository.class,
+            ProcessedEventWatermarkConfiguration.class,
             ComponentNameExtractor.class,
 
             JndiAppNameProvider.class,
@@ -71,12 +71,14 @@ public class DatabaseCleaner {
     }
 
     /**
-     * Deletes all the data in the 'processed_event' table
+     * Deletes all the data in the 'processed_event' and 'processed_event_range' tables, and the
+     * 'processed_event_watermark' table, as a watermark left behind would hide events missing
+     * below it once they are processed again
      *
      * @param contextName the name of the context whose tables you are cleaning
      */
     public void cleanProcessedEventTable(final String contextName) {
-        cleanViewStoreTables(contextName, "processed_event");
+        cleanViewStoreTables(contextName, "processed_event", "processed_event_range", "processed_event_watermark");
     }
 
     /**
@@ -99,6 +101,7 @@ public class DatabaseCleaner {
             truncateTable("event_log", EVENT_STORE_DATABASE_NAME, connection);
             truncateTable("event_stream", EVENT_STORE_DATABASE_NAME, connection);
             truncateTable("publish_queue", EVENT_STORE_DATABASE_NAME, connection);
+            truncateTable("event_number_counter", EVENT_STORE_DATABASE_NAME, connection);
 
         } catch (SQLException e) {
             throw new DataAccessException("Failed to commit or close database connection", e);
@@ -39,6 +39,7 @@ public class DatabaseCleanerTest {
         final Connection connection = mock(Connection.class);
         final PreparedStatement preparedStatement_1 = mock(PreparedStatement.class);
         final PreparedStatement preparedStatement_2 = mock(PreparedStatement.class);
+        final PreparedStatement preparedStatement_3 = mock(PreparedStatement.class);
 
         when(testJdbcConnectionProvider.getViewStoreConnection(contextName)).thenReturn(connection);
         when(connection.prepareStatement(format(SQL_PATTERN, table_1))).thenReturn(preparedStatement_1);
@@ -48,10 +49,12 @@ public class DatabaseCleanerTest {
 
         verify(preparedStatement_1).executeUpdate();
         verify(preparedStatement_2).executeUpdate();
+        verify(preparedStatement_3).executeUpdate();
 
         verify(connection).close();
         verify(preparedStatement_1).close();
         verify(preparedStatement_2).close();
+        verify(preparedStatement_3).close();
     }
 
     @Test
@@ -66,12 +69,13 @@ public class DatabaseCleanerTest {
         when(connection.prepareStatement(format(SQL_PATTERN, "event_log"))).thenReturn(preparedStatement);
         when(connection.prepareStatement(format(SQL_PATTERN, "event_stream"))).thenReturn(preparedStatement);
         when(connection.prepareStatement(format(SQL_PATTERN, "publish_queue"))).thenReturn(preparedStatement);
+        when(connection.prepareStatement(format(SQL_PATTERN, "event_number_counter"))).thenReturn(preparedStatement);
 
         databaseCleaner.cleanEventStoreTables(contextName);
 
-        verify(preparedStatement, times(3)).executeUpdate();
+        verify(preparedStatement, times(4)).executeUpdate();
         verify(connection).close();
-        verify(preparedStatement, times(3)).close();
+        verify(preparedStatement, times(4)).close();
     }
 
     @Test
@@ -176,22 +180,26 @@ public class DatabaseCleanerTest {
     }
 
     @Test
-    public void shouldCleanTheProcessedEventTable() throws Exception {
+    public void shouldCleanTheProcessedEventProcessedEventRangeAndProcessedEventWatermarkTables() throws Exception {
 
-        final String tableName = "processed_event";
         final String contextName = "my-context";
 
         final Connection connection = mock(Connection.class);
-        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        final PreparedStatement preparedStatement_1 = mock(PreparedStatement.class);
+        final PreparedStatement preparedStatement_2 = mock(PreparedStatement.class);
 
         when(testJdbcConnectionProvider.getViewStoreConnection(contextName)).thenReturn(connection);
-        when(connection.prepareStatement(format(SQL_PATTERN, tableName))).thenReturn(preparedStatement);
+        when(connection.prepareStatement(format(SQL_PATTERN, "processed_event"))).thenReturn(preparedStatement_1);
+        when(connection.prepareStatement(format(SQL_PATTERN, "processed_event_range"))).thenReturn(preparedStatement_2);
+        when(connection.prepareStatement(format(SQL_PATTERN, "processed_event_watermark"))).thenReturn(preparedStatement_3);
 
         databaseCleaner.cleanProcessedEventTable(contextName);
 
-        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement_1).executeUpdate();
+        verify(preparedStatement_2).executeUpdate();
         verify(connection).close();
-        verify(preparedStatement).close();
+        verify(preparedStatement_1).close();
+        verify(preparedStatement_2).close();
     }
 
     @Test